@@ -22,6 +22,18 @@ package org.neo4j.gds.triangle;
 import org.neo4j.gds.annotation.Parameters;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import java.util.Optional;
+
 @Parameters
-public record LocalClusteringCoefficientParameters(Concurrency concurrency, long maxDegree, String seedProperty) {
+public record LocalClusteringCoefficientParameters(
+    Concurrency concurrency,
+    long maxDegree,
+    String seedProperty,
+    double samplingRatio,
+    Optional<Long> randomSeed
+) {
+
+    public LocalClusteringCoefficientParameters(Concurrency concurrency, long maxDegree, String seedProperty) {
+        this(concurrency, maxDegree, seedProperty, 1.0, Optional.empty());
+    }
 }
@@ -26,6 +26,11 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 public interface MetricSimilarityComputer {
     double computeSimilarity(long[] vector1, long[] vector2);
 
+    /**
+     * Computes the similarity of two unweighted vectors from their lengths and the size of their intersection.
+     */
+    double computeSimilarity(long intersection, int length1, int length2);
+
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
     static MetricSimilarityComputerBuilder parse(Object userInput) {
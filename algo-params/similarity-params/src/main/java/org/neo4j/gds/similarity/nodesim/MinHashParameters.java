@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+/**
+ * Parameters of the MinHash candidate generation of Node Similarity.
+ *
+ * @param similarityThreshold the Jaccard similarity from which on pairs should be compared
+ * @param recall              the probability with which a pair at the threshold becomes a candidate
+ */
+public record MinHashParameters(double similarityThreshold, double recall) {
+
+    /**
+     * The largest number of hash functions a MinHash signature may use.
+     */
+    public static final int MAX_HASH_FUNCTIONS = 128;
+
+    /**
+     * The highest recall reachable at the given similarity threshold within {@link #MAX_HASH_FUNCTIONS},
+     * which is obtained by using every hash function as a band of a single row.
+     */
+    public static double maxRecall(double similarityThreshold) {
+        return -Math.expm1(MAX_HASH_FUNCTIONS * Math.log1p(-similarityThreshold));
+    }
+}
@@ -21,14 +21,27 @@ package org.neo4j.gds.similarity.nodesim;
 
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
 public record NodeSimilarityEstimateParameters(
     int normalizedK,
     int normalizedN,
     boolean useComponents,
     boolean runWCC,
-    boolean computeToGraph
+    boolean computeToGraph,
+    Optional<MinHashParameters> minHash
 ) {
+    public NodeSimilarityEstimateParameters(
+        int normalizedK,
+        int normalizedN,
+        boolean useComponents,
+        boolean runWCC,
+        boolean computeToGraph
+    ) {
+        this(normalizedK, normalizedN, useComponents, runWCC, computeToGraph, Optional.empty());
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
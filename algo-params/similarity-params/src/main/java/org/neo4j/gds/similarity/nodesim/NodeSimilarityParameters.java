@@ -22,6 +22,8 @@ package org.neo4j.gds.similarity.nodesim;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.Parameters;
 
+import java.util.Optional;
+
 @Parameters
 public record NodeSimilarityParameters(
     MetricSimilarityComputer similarityComputer,
@@ -32,8 +34,34 @@ public record NodeSimilarityParameters(
     boolean computeToStream,
     boolean hasRelationshipWeightProperty,
     boolean useComponents,
-    @Nullable String componentProperty
+    @Nullable String componentProperty,
+    Optional<MinHashParameters> minHash
 ) {
+    public NodeSimilarityParameters(
+        MetricSimilarityComputer similarityComputer,
+        int degreeCutoff,
+        int upperDegreeCutoff,
+        int normalizedK,
+        int normalizedN,
+        boolean computeToStream,
+        boolean hasRelationshipWeightProperty,
+        boolean useComponents,
+        @Nullable String componentProperty
+    ) {
+        this(
+            similarityComputer,
+            degreeCutoff,
+            upperDegreeCutoff,
+            normalizedK,
+            normalizedN,
+            computeToStream,
+            hasRelationshipWeightProperty,
+            useComponents,
+            componentProperty,
+            Optional.empty()
+        );
+    }
+
     boolean hasTopK() {
         return normalizedK != 0;
     }
@@ -52,7 +80,8 @@ public record NodeSimilarityParameters(
             normalizedN,
             useComponents,
             runWCC(),
-            !computeToStream
+            !computeToStream,
+            minHash
         );
     }
 }
@@ -19,24 +19,16 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.cursor.HugeCursor;
-import org.neo4j.gds.collections.ha.HugeDoubleArray;
-import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
 
@@ -83,30 +75,14 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
     }
 
     final class BCTask implements Runnable {
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
-        private final HugeLongArrayStack backwardNodes;
-        private final HugeDoubleArray delta;
-        private final HugeLongArray sigma;
+        private final ForwardTraverser traverser;
 
         private BCTask() {
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-            this.predecessorsCursor = predecessors.newCursor();
-            this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
-            this.sigma = HugeLongArray.newArray(nodeCount);
-            this.delta = HugeDoubleArray.newArray(nodeCount);
+            this.traverser = traverserFactory.create(graph.concurrentCopy(), terminationFlag);
         }
 
         @Override
         public void run() {
-            var forwardTraversor = traverserFactory.create(
-                graph.concurrentCopy(),
-                predecessors,
-                backwardNodes,
-                sigma,
-                terminationFlag
-            );
-
             for (;;) {
                 long startNodeId = selectionStrategy.next();
                 if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
@@ -116,53 +92,17 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
                 // reset
                 getProgressTracker().logProgress();
 
-                clear();
-                forwardTraversor.clear();
-
-                sigma.addTo(startNodeId, 1);
-
-
-                forwardTraversor.traverse(startNodeId);
+                traverser.clear();
+                traverser.traverse(startNodeId);
 
-                while (!backwardNodes.isEmpty()) {
-                    long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
-
-                    double dependencyNode = delta.get(node);
-                    double sigmaNode = sigma.get(node);
-
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
+                traverser.accumulateDependencies((node, dependency) -> {
                     if (node != startNodeId) {
                         double current;
                         do {
                             current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        } while (!centrality.compareAndSet(node, current, current + dependency / divisor));
                     }
-                }
-            }
-        }
-
-        private void clear() {
-            sigma.fill(0);
-            delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
-                }
+                });
             }
         }
     }
@@ -55,35 +55,32 @@ public class BetweennessCentralityMemoryEstimateDefinition implements MemoryEsti
 
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
-        var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                // Predecessors are represented by LongArrayList which wrap a long[]
-                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                    .build();
-            }))
-            .perNode("backwardNodes", HugeLongArray::memoryEstimation)
-            .perNode("deltas", HugeDoubleArray::memoryEstimation)
-            .perNode("sigmas", HugeLongArray::memoryEstimation);
+        var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class);
 
         if (weighted) {
-            builder.add("ForwardTraverser", MemoryEstimations.setup(
-                    "traverser",
-                    (dimensions, concurrency) -> MemoryEstimations.builder(ForwardTraverser.class)
-                        .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
-                        .perNode("visited", Estimate::sizeOfBitset)
-                        .build()
-                )
+            builder.add("ForwardTraverser", MemoryEstimations.builder(WeightedForwardTraverser.class)
+                .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                    // Predecessors are represented by LongArrayList which wrap a long[]
+                    long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
+                    return MemoryEstimations.builder(HugeObjectArray.class)
+                        .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
+                        .build();
+                }))
+                .perNode("backwardNodes", HugeLongArray::memoryEstimation)
+                .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                .perNode("sigmas", HugeLongArray::memoryEstimation)
+                .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("visited", Estimate::sizeOfBitset)
+                .build()
             );
         } else {
-            builder.add("ForwardTraverser", MemoryEstimations.setup(
-                    "traverser",
-                    (dimensions, concurrency) -> MemoryEstimations.builder(ForwardTraverser.class)
-                        .perNode("distances", HugeIntArray::memoryEstimation)
-                        .perNode("forwardNodes", HugeLongArray::memoryEstimation)
-                        .build()
-                )
+            // predecessors are not stored, they are recomputed from the distances
+            builder.add("ForwardTraverser", MemoryEstimations.builder(UnweightedForwardTraverser.class)
+                .perNode("distances", HugeIntArray::memoryEstimation)
+                .perNode("sigmas", HugeLongArray::memoryEstimation)
+                .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                .perNode("traversalOrder", HugeLongArray::memoryEstimation)
+                .build()
             );
         }
         return builder;
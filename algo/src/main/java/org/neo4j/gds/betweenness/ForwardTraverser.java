@@ -19,27 +19,35 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 
+/**
+ * Computes the shortest paths from a single start node and the dependencies
+ * of all reached nodes on that start node, as described by Brandes.
+ * <p>
+ * A traverser is used by a single thread and owns all per-source state.
+ */
 public interface ForwardTraverser {
 
     void traverse(long startNodeId);
 
+    /**
+     * Computes the dependencies of all nodes reached by the last traversal,
+     * in reverse order of their distance to the start node.
+     * The start node itself is passed to the consumer as well.
+     */
+    void accumulateDependencies(DependencyConsumer consumer);
+
     void clear();
 
+    @FunctionalInterface
+    interface DependencyConsumer {
+        void accept(long nodeId, double dependency);
+    }
+
     interface Factory {
-        ForwardTraverser create(
-            Graph graph,
-            HugeObjectArray<LongArrayList> predecessors,
-            HugeLongArrayStack backwardNodes,
-            HugeLongArray sigma,
-            TerminationFlag terminationFlag
-        );
+        ForwardTraverser create(Graph graph, TerminationFlag terminationFlag);
 
         static Factory weighted() {
             return WeightedForwardTraverser::create;
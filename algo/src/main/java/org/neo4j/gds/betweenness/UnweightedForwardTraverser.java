@@ -19,86 +19,85 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.termination.TerminationFlag;
 
-class UnweightedForwardTraverser implements ForwardTraverser {
+/**
+ * Breadth first traversal for unweighted graphs that does not store any predecessors.
+ * <p>
+ * The predecessors of a node are exactly the nodes one level closer to the start node
+ * that have a relationship to it. Instead of collecting them during the traversal,
+ * the dependency of a node is pulled from its successors, which are found again by
+ * iterating its relationships and comparing distances.
+ * The traversal order is kept in a single array that serves as the BFS queue and,
+ * read backwards, as the order in which dependencies are accumulated.
+ * Only the entries of reached nodes are reset between traversals.
+ */
+final class UnweightedForwardTraverser implements ForwardTraverser {
 
-    static UnweightedForwardTraverser create(
-        Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
-        HugeLongArrayStack backwardNodes,
-        HugeLongArray sigma,
-        TerminationFlag terminationFlag
-    ) {
+    static UnweightedForwardTraverser create(Graph graph, TerminationFlag terminationFlag) {
         var nodeCount = graph.nodeCount();
         var distances = HugeIntArray.newArray(nodeCount);
         distances.fill(-1);
-        var nodeQueue = HugeLongArrayQueue.newQueue(nodeCount);
         return new UnweightedForwardTraverser(
             graph,
-            predecessors,
-            backwardNodes,
-            sigma,
-            nodeQueue,
             distances,
+            HugeLongArray.newArray(nodeCount),
+            HugeDoubleArray.newArray(nodeCount),
+            HugeLongArray.newArray(nodeCount),
             terminationFlag
         );
     }
 
     private final Graph graph;
-    private final HugeObjectArray<LongArrayList> predecessors;
-    private final HugeLongArrayStack backwardNodes;
-    private final HugeLongArray sigma;
-    private final HugeLongArrayQueue nodeQueue;
     private final HugeIntArray distances;
+    private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
+    private final HugeLongArray traversalOrder;
     private final TerminationFlag terminationFlag;
 
-    UnweightedForwardTraverser(
+    private long reachedNodes;
+    private double dependency;
+
+    private UnweightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
-        HugeLongArrayStack backwardNodes,
-        HugeLongArray sigma,
-        HugeLongArrayQueue nodeQueue,
         HugeIntArray distances,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        HugeLongArray traversalOrder,
         TerminationFlag terminationFlag
     ) {
         this.graph = graph;
-        this.predecessors = predecessors;
-        this.backwardNodes = backwardNodes;
-        this.sigma = sigma;
-        this.nodeQueue = nodeQueue;
         this.distances = distances;
+        this.sigma = sigma;
+        this.delta = delta;
+        this.traversalOrder = traversalOrder;
         this.terminationFlag = terminationFlag;
     }
 
     @Override
     public void traverse(long startNodeId) {
-        nodeQueue.add(startNodeId);
+        traversalOrder.set(0, startNodeId);
+        reachedNodes = 1;
         distances.set(startNodeId, 0);
+        sigma.set(startNodeId, 1);
 
-        while (!nodeQueue.isEmpty() && terminationFlag.running()) {
-            long node = nodeQueue.remove();
-            backwardNodes.push(node);
-            int nodeDistance = distances.get(node);
+        for (long head = 0; head < reachedNodes && terminationFlag.running(); head++) {
+            long node = traversalOrder.get(head);
+            int targetDistance = distances.get(node) + 1;
+            long nodeSigma = sigma.get(node);
 
             graph.forEachRelationship(node, (source, target) -> {
-                var targetDistance = nodeDistance + 1;
-                var firstTime = distances.get(target) < 0;
-                if (firstTime) {
-                    nodeQueue.add(target);
+                if (distances.get(target) < 0) {
                     distances.set(target, targetDistance);
+                    traversalOrder.set(reachedNodes++, target);
                 }
 
                 if (distances.get(target) == targetDistance) {
-                    sigma.addTo(target, sigma.get(source));
-                    appendPredecessor(target, source);
+                    sigma.addTo(target, nodeSigma);
                 }
                 return true;
             });
@@ -106,18 +105,33 @@ class UnweightedForwardTraverser implements ForwardTraverser {
     }
 
     @Override
-    public void clear() {
-        distances.fill(-1);
-    }
+    public void accumulateDependencies(DependencyConsumer consumer) {
+        for (long index = reachedNodes - 1; index >= 0; index--) {
+            long node = traversalOrder.get(index);
+            int successorDistance = distances.get(node) + 1;
+            double nodeSigma = sigma.get(node);
 
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
+            dependency = 0.0;
+            graph.forEachRelationship(node, (source, target) -> {
+                if (distances.get(target) == successorDistance) {
+                    dependency += nodeSigma / sigma.get(target) * (delta.get(target) + 1.0);
+                }
+                return true;
+            });
+
+            delta.set(node, dependency);
+            consumer.accept(node, dependency);
         }
-        targetPredecessors.add(node);
     }
 
+    @Override
+    public void clear() {
+        for (long index = 0; index < reachedNodes; index++) {
+            long node = traversalOrder.get(index);
+            distances.set(node, -1);
+            sigma.set(node, 0);
+            delta.set(node, 0.0);
+        }
+        reachedNodes = 0;
+    }
 }
@@ -22,6 +22,8 @@ package org.neo4j.gds.betweenness;
 import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
@@ -30,21 +32,16 @@ import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 
 final class WeightedForwardTraverser implements ForwardTraverser {
 
-    static WeightedForwardTraverser create(
-        Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
-        HugeLongArrayStack backwardNodes,
-        HugeLongArray sigma,
-        TerminationFlag terminationFlag
-    ) {
+    static WeightedForwardTraverser create(Graph graph, TerminationFlag terminationFlag) {
         var nodeCount = graph.nodeCount();
         var nodeQueue = HugeLongPriorityQueue.min(nodeCount);
         var visited = new BitSet(nodeCount);
         return new WeightedForwardTraverser(
             graph,
-            predecessors,
-            backwardNodes,
-            sigma,
+            HugeObjectArray.newArray(LongArrayList.class, nodeCount),
+            HugeLongArrayStack.newStack(nodeCount),
+            HugeLongArray.newArray(nodeCount),
+            HugeDoubleArray.newArray(nodeCount),
             nodeQueue,
             visited,
             terminationFlag
@@ -55,8 +52,10 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     private final TerminationFlag terminationFlag;
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
     private final HugeLongPriorityQueue nodeQueue;
     private final HugeObjectArray<LongArrayList> predecessors;
+    private final HugeCursor<LongArrayList[]> predecessorsCursor;
     private final BitSet visited;
 
     private WeightedForwardTraverser(
@@ -64,14 +63,17 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
+        HugeDoubleArray delta,
         HugeLongPriorityQueue nodeQueue,
         BitSet visited,
         TerminationFlag terminationFlag
     ) {
         this.graph = graph;
         this.predecessors = predecessors;
+        this.predecessorsCursor = predecessors.newCursor();
         this.backwardNodes = backwardNodes;
         this.sigma = sigma;
+        this.delta = delta;
         this.nodeQueue = nodeQueue;
         this.visited = visited;
         this.terminationFlag = terminationFlag;
@@ -79,6 +81,7 @@ final class WeightedForwardTraverser implements ForwardTraverser {
 
     @Override
     public void traverse(long startNodeId) {
+        sigma.addTo(startNodeId, 1);
         nodeQueue.add(startNodeId, 0.0D);
 
         while (!nodeQueue.isEmpty() && terminationFlag.running()) {
@@ -118,9 +121,47 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         }
     }
 
+    @Override
+    public void accumulateDependencies(DependencyConsumer consumer) {
+        while (!backwardNodes.isEmpty()) {
+            long node = backwardNodes.pop();
+            LongArrayList predecessors = this.predecessors.get(node);
+
+            double dependencyNode = delta.get(node);
+            double sigmaNode = sigma.get(node);
+
+            if (null != predecessors) {
+                for (int i = 0; i < predecessors.elementsCount; i++) {
+                    long predecessor = predecessors.buffer[i];
+                    double sigmaPredecessor = sigma.get(predecessor);
+                    double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                    delta.addTo(predecessor, dependency);
+                }
+            }
+
+            consumer.accept(node, dependencyNode);
+        }
+    }
+
     @Override
     public void clear() {
         visited.clear();
+        backwardNodes.clear();
+        sigma.fill(0);
+        delta.fill(0);
+
+        predecessors.initCursor(predecessorsCursor);
+
+        while (predecessorsCursor.next()) {
+            for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
+                if (predecessorsCursor.array[i] != null) {
+                    // We avoid using LongArrayList#clear since it would
+                    // fill the inner array with zeros. We don't need that
+                    // so we just reset the index which is cheaper
+                    predecessorsCursor.array[i].elementsCount = 0;
+                }
+            }
+        }
     }
 
     // append node to the path at target
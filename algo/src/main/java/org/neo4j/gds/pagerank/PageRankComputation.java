@@ -19,7 +19,11 @@
  */
 package org.neo4j.gds.pagerank;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
@@ -44,10 +48,24 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
     private final double tolerance;
     private final double alpha;
 
+    // only set in incremental mode
+    private final @Nullable NodePropertyValues priorScores;
+    private final @Nullable BitSet frontier;
+
     public PageRankComputation(
         C config,
         LongSet sourceNodes,
         LongToDoubleFunction degreeFunction
+    ) {
+        this(config, sourceNodes, degreeFunction, null, null);
+    }
+
+    private PageRankComputation(
+        C config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        @Nullable NodePropertyValues priorScores,
+        @Nullable BitSet frontier
     ) {
         this.dampingFactor = config.dampingFactor();
         this.tolerance = config.tolerance();
@@ -55,6 +73,35 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.priorScores = priorScores;
+        this.frontier = frontier;
+    }
+
+    /**
+     * Creates a computation that refreshes unscaled scores of a previous run after the graph has changed.
+     * <p>
+     * The changed nodes are expected to contain all endpoints of added or removed relationships as well as added nodes.
+     * Only those nodes and their neighbours compute the residual between their prior score and the updated graph.
+     * Residuals above the tolerance are then pushed through the graph until they fade out,
+     * all other nodes keep their prior score.
+     */
+    public static <C extends PageRankConfig> PageRankComputation<C> incremental(
+        Graph graph,
+        C config,
+        LongSet sourceNodes,
+        LongToDoubleFunction degreeFunction,
+        NodePropertyValues priorScores,
+        LongSet changedNodes
+    ) {
+        var frontier = new BitSet(graph.nodeCount());
+        for (var changedNode : changedNodes) {
+            frontier.set(changedNode.value);
+            graph.forEachRelationship(changedNode.value, (source, target) -> {
+                frontier.set(target);
+                return true;
+            });
+        }
+        return new PageRankComputation<>(config, sourceNodes, degreeFunction, priorScores, frontier);
     }
 
     @Override
@@ -64,11 +111,16 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
 
     @Override
     public void init(InitContext<C> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        if (priorScores != null) {
+            double priorScore = priorScores.doubleValue(context.nodeId());
+            context.setNodeValue(PAGE_RANK, Double.isNaN(priorScore) ? 0 : priorScore);
+        } else {
+            context.setNodeValue(PAGE_RANK, teleportValue(context.nodeId()));
+        }
     }
 
-    private double initialValue(InitContext<C> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double teleportValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -76,6 +128,11 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
 
     @Override
     public void compute(ComputeContext<C> context, Messages messages) {
+        if (frontier != null) {
+            computeIncremental(context, messages, frontier);
+            return;
+        }
+
         double rank = context.doubleNodeValue(PAGE_RANK);
         double delta = rank;
 
@@ -98,6 +155,49 @@ public final class PageRankComputation<C extends PageRankConfig> implements Preg
         }
     }
 
+    private void computeIncremental(ComputeContext<C> context, Messages messages, BitSet frontier) {
+        double rank = context.doubleNodeValue(PAGE_RANK);
+        boolean inFrontier = frontier.get(context.nodeId());
+
+        if (context.isInitialSuperstep()) {
+            // every node propagates its prior score once, so that the frontier can compute its residual
+            sendDelta(context, rank);
+            if (!inFrontier) {
+                context.voteToHalt();
+            }
+            return;
+        }
+
+        if (context.superstep() == 1 && !inFrontier) {
+            context.voteToHalt();
+            return;
+        }
+
+        double sum = 0;
+        for (var message : messages) {
+            sum += message;
+        }
+
+        double delta = context.superstep() == 1
+            ? teleportValue(context.nodeId()) + dampingFactor * sum - rank
+            : dampingFactor * sum;
+        context.setNodeValue(PAGE_RANK, rank + delta);
+
+        // residuals may be negative, e.g. when relationships have been removed
+        if (Math.abs(delta) > tolerance) {
+            sendDelta(context, delta);
+        } else {
+            context.voteToHalt();
+        }
+    }
+
+    private void sendDelta(ComputeContext<C> context, double delta) {
+        var degree = degreeFunction.applyAsDouble(context.nodeId());
+        if (degree > 0) {
+            context.sendToNeighbors(delta / degree);
+        }
+    }
+
     @Override
     public Optional<Reducer> reducer() {
         return Optional.of(new Reducer.Sum());
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * The layered proximity graph of an HNSW index.
+ * <p>
+ * Every indexed node stores one neighbour array per layer it was assigned to.
+ * Neighbour arrays are never modified in place, they are replaced by a new copy.
+ * While the graph is under construction, readers and writers synchronize on a
+ * striped lock of the node whose neighbours they access; once frozen, reads are lock-free.
+ */
+final class HnswGraph {
+
+    private static final long[][] NOT_INDEXED = new long[0][];
+    private static final int LOCK_STRIPES = 1 << 10;
+
+    private final HugeObjectArray<long[][]> neighbours;
+    private volatile ReentrantLock[] locks;
+
+    private EntryPoint entryPoint;
+
+    HnswGraph(long nodeCount) {
+        this.neighbours = HugeObjectArray.newArray(long[][].class, nodeCount);
+        this.neighbours.fill(NOT_INDEXED);
+        this.locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+        this.entryPoint = null;
+    }
+
+    long nodeCount() {
+        return neighbours.size();
+    }
+
+    /**
+     * Returns the node from which searches start, or {@code null} if no node has been indexed yet.
+     */
+    synchronized EntryPoint entryPoint() {
+        return entryPoint;
+    }
+
+    /**
+     * Registers a node with the given top layer.
+     * Returns the entry point that was valid before, or {@code null} if the node became the first entry point.
+     */
+    synchronized EntryPoint register(long nodeId, int layer) {
+        neighbours.set(nodeId, emptyLayers(layer));
+        var previousEntryPoint = entryPoint;
+        if (previousEntryPoint == null) {
+            entryPoint = new EntryPoint(nodeId, layer);
+        }
+        return previousEntryPoint;
+    }
+
+    synchronized void promote(long nodeId, int layer) {
+        if (layer > entryPoint.layer()) {
+            entryPoint = new EntryPoint(nodeId, layer);
+        }
+    }
+
+    boolean isIndexed(long nodeId) {
+        return neighbours.get(nodeId).length > 0;
+    }
+
+    long[] neighbours(long nodeId, int layer) {
+        var locks = this.locks;
+        if (locks == null) {
+            return neighbours.get(nodeId)[layer];
+        }
+        var lock = lock(locks, nodeId);
+        lock.lock();
+        try {
+            return neighbours.get(nodeId)[layer];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void setNeighbours(long nodeId, int layer, long[] nodeNeighbours) {
+        var lock = lock(locks, nodeId);
+        lock.lock();
+        try {
+            neighbours.get(nodeId)[layer] = nodeNeighbours;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds {@code neighbour} to the neighbours of {@code nodeId} on the given layer.
+     * If that exceeds the maximum degree of the layer, the neighbour list is pruned again.
+     */
+    void link(long nodeId, long neighbour, int layer, int maxDegree, NodeVectors vectors) {
+        var lock = lock(locks, nodeId);
+        lock.lock();
+        try {
+            var layers = neighbours.get(nodeId);
+            var current = layers[layer];
+            var extended = new long[current.length + 1];
+            System.arraycopy(current, 0, extended, 0, current.length);
+            extended[current.length] = neighbour;
+            if (extended.length <= maxDegree) {
+                layers[layer] = extended;
+                return;
+            }
+
+            var candidates = ScoredNodeHeap.mostSimilarFirst(extended.length);
+            for (long candidate : extended) {
+                candidates.push(candidate, vectors.similarity(nodeId, candidate));
+            }
+            layers[layer] = selectNeighbours(candidates, maxDegree, vectors);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the construction locks; afterwards the graph must not be modified anymore.
+     */
+    void freeze() {
+        this.locks = null;
+    }
+
+    /**
+     * Greedily walks from {@code start} towards the most similar node on each layer
+     * from {@code fromLayer} down to, but excluding, {@code toLayer}.
+     */
+    long descend(LongToDoubleFunction similarity, long start, int fromLayer, int toLayer) {
+        long closest = start;
+        double closestSimilarity = similarity.applyAsDouble(start);
+        for (int layer = fromLayer; layer > toLayer; layer--) {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                for (long neighbour : neighbours(closest, layer)) {
+                    double neighbourSimilarity = similarity.applyAsDouble(neighbour);
+                    if (neighbourSimilarity > closestSimilarity) {
+                        closest = neighbour;
+                        closestSimilarity = neighbourSimilarity;
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Best-first search on a single layer, keeping the {@code ef} most similar nodes seen.
+     * The returned heap has the least similar of those at its head.
+     */
+    ScoredNodeHeap search(LongToDoubleFunction similarity, long start, int ef, int layer) {
+        var visited = new LongHashSet(ef * 4);
+        var candidates = ScoredNodeHeap.mostSimilarFirst(ef);
+        var results = ScoredNodeHeap.leastSimilarFirst(ef + 1);
+
+        double startSimilarity = similarity.applyAsDouble(start);
+        visited.add(start);
+        candidates.push(start, startSimilarity);
+        results.push(start, startSimilarity);
+
+        while (!candidates.isEmpty()) {
+            long candidate = candidates.headNode();
+            double candidateSimilarity = candidates.headScore();
+            candidates.pop();
+            if (results.size() >= ef && candidateSimilarity < results.headScore()) {
+                break;
+            }
+            for (long neighbour : neighbours(candidate, layer)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double neighbourSimilarity = similarity.applyAsDouble(neighbour);
+                if (results.size() < ef || neighbourSimilarity > results.headScore()) {
+                    candidates.push(neighbour, neighbourSimilarity);
+                    results.push(neighbour, neighbourSimilarity);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Picks up to {@code maxDegree} neighbours from the candidates, preferring candidates that are
+     * more similar to the base node than to any neighbour selected so far.
+     * Remaining slots are filled with the most similar of the discarded candidates.
+     * The candidates heap is consumed.
+     */
+    static long[] selectNeighbours(ScoredNodeHeap candidates, int maxDegree, NodeVectors vectors) {
+        var selected = new long[Math.min(maxDegree, candidates.size())];
+        var discarded = new long[candidates.size()];
+        int selectedCount = 0;
+        int discardedCount = 0;
+
+        while (!candidates.isEmpty() && selectedCount < selected.length) {
+            long candidate = candidates.headNode();
+            double candidateSimilarity = candidates.headScore();
+            candidates.pop();
+
+            boolean diverse = true;
+            for (int i = 0; i < selectedCount; i++) {
+                if (vectors.similarity(candidate, selected[i]) > candidateSimilarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[selectedCount++] = candidate;
+            } else {
+                discarded[discardedCount++] = candidate;
+            }
+        }
+
+        for (int i = 0; i < discardedCount && selectedCount < selected.length; i++) {
+            selected[selectedCount++] = discarded[i];
+        }
+        return selected;
+    }
+
+    record EntryPoint(long nodeId, int layer) {}
+
+    private static long[][] emptyLayers(int layer) {
+        var layers = new long[layer + 1][];
+        for (int i = 0; i <= layer; i++) {
+            layers[i] = new long[0];
+        }
+        return layers;
+    }
+
+    private static ReentrantLock lock(ReentrantLock[] locks, long nodeId) {
+        return locks[(int) (nodeId & (LOCK_STRIPES - 1))];
+    }
+}
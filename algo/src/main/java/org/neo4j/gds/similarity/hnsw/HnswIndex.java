@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.GraphStoreIndex;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * An approximate nearest neighbour index over a float or double array node property,
+ * based on Hierarchical Navigable Small World graphs (Malkov and Yashunin, 2016).
+ * <p>
+ * Nodes are inserted concurrently; every node is assigned a random top layer and is linked to
+ * its most similar, yet diverse, neighbours on that layer and all layers below.
+ * Queries descend greedily through the upper layers and run a best-first search on the base layer,
+ * so that only a small fraction of the nodes needs to be compared with the query.
+ * Nodes without a value for the property are not indexed.
+ */
+public final class HnswIndex implements GraphStoreIndex {
+
+    private static final int MAX_LAYER = 16;
+    private static final long NO_NODE = -1L;
+
+    public record Match(long nodeId, double similarity) {}
+
+    private final HnswParameters parameters;
+    private final NodeVectors vectors;
+    private final HnswGraph graph;
+
+    private HnswIndex(HnswParameters parameters, NodeVectors vectors, HnswGraph graph) {
+        this.parameters = parameters;
+        this.vectors = vectors;
+        this.graph = graph;
+    }
+
+    public static HnswIndex build(Graph graph, HnswParameters parameters, ExecutorService executorService) {
+        var vectors = NodeVectors.of(
+            parameters.nodeProperty(),
+            graph.nodeProperties(parameters.nodeProperty()),
+            parameters.similarityMetric()
+        );
+        var hnswGraph = new HnswGraph(graph.nodeCount());
+        var inserter = new Inserter(
+            hnswGraph,
+            vectors,
+            parameters,
+            parameters.randomSeed().orElseGet(() -> ThreadLocalRandom.current().nextLong())
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            parameters.concurrency(),
+            graph.nodeCount(),
+            partition -> (Runnable) () -> partition.consume(inserter::insert),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(parameters.concurrency())
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        hnswGraph.freeze();
+        return new HnswIndex(parameters, vectors, hnswGraph);
+    }
+
+    public HnswParameters parameters() {
+        return parameters;
+    }
+
+    @Override
+    public String indexKey() {
+        return HnswIndexStore.indexKey(parameters.nodeProperty());
+    }
+
+    public long nodeCount() {
+        return graph.nodeCount();
+    }
+
+    /**
+     * Returns up to {@code k} nodes most similar to the given node, excluding the node itself,
+     * ordered by descending similarity. {@code ef} bounds the candidate list of the search;
+     * larger values trade latency for recall.
+     */
+    public List<Match> search(long nodeId, int k, int ef) {
+        if (!graph.isIndexed(nodeId)) {
+            return List.of();
+        }
+        return search(vectors.similarityTo(nodeId), k, ef, nodeId);
+    }
+
+    public List<Match> search(float[] query, int k, int ef) {
+        return search(vectors.similarityTo(query), k, ef, NO_NODE);
+    }
+
+    public List<Match> search(double[] query, int k, int ef) {
+        return search(vectors.similarityTo(query), k, ef, NO_NODE);
+    }
+
+    private List<Match> search(LongToDoubleFunction similarity, int k, int ef, long excludedNode) {
+        var entryPoint = graph.entryPoint();
+        if (entryPoint == null || k < 1) {
+            return List.of();
+        }
+
+        var closest = graph.descend(similarity, entryPoint.nodeId(), entryPoint.layer(), 0);
+        var found = graph.search(similarity, closest, Math.max(ef, k + 1), 0);
+
+        var matches = new ArrayList<Match>(found.size());
+        while (!found.isEmpty()) {
+            if (found.headNode() != excludedNode) {
+                matches.add(new Match(found.headNode(), found.headScore()));
+            }
+            found.pop();
+        }
+        Collections.reverse(matches);
+        return matches.size() > k ? List.copyOf(matches.subList(0, k)) : matches;
+    }
+
+    private static final class Inserter {
+
+        private final HnswGraph graph;
+        private final NodeVectors vectors;
+        private final HnswParameters parameters;
+        private final long randomSeed;
+        private final double levelMultiplier;
+
+        Inserter(HnswGraph graph, NodeVectors vectors, HnswParameters parameters, long randomSeed) {
+            this.graph = graph;
+            this.vectors = vectors;
+            this.parameters = parameters;
+            this.randomSeed = randomSeed;
+            this.levelMultiplier = 1.0 / Math.log(parameters.m());
+        }
+
+        void insert(long nodeId) {
+            if (!vectors.exists(nodeId)) {
+                return;
+            }
+
+            int layer = layer(nodeId);
+            var entryPoint = graph.register(nodeId, layer);
+            if (entryPoint == null) {
+                return;
+            }
+
+            var similarity = vectors.similarityTo(nodeId);
+            long closest = graph.descend(similarity, entryPoint.nodeId(), entryPoint.layer(), layer);
+
+            for (int currentLayer = Math.min(layer, entryPoint.layer()); currentLayer >= 0; currentLayer--) {
+                var found = graph.search(similarity, closest, parameters.efConstruction(), currentLayer);
+                var candidates = ScoredNodeHeap.mostSimilarFirst(found.size());
+                while (!found.isEmpty()) {
+                    if (found.headNode() != nodeId) {
+                        candidates.push(found.headNode(), found.headScore());
+                    }
+                    found.pop();
+                }
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+                closest = candidates.headNode();
+
+                int maxDegree = parameters.maxDegree(currentLayer);
+                var neighbours = HnswGraph.selectNeighbours(candidates, maxDegree, vectors);
+                graph.setNeighbours(nodeId, currentLayer, neighbours);
+                for (long neighbour : neighbours) {
+                    graph.link(neighbour, nodeId, currentLayer, maxDegree, vectors);
+                }
+            }
+
+            if (layer > entryPoint.layer()) {
+                graph.promote(nodeId, layer);
+            }
+        }
+
+        // the random layer is derived from the node id so that it does not depend on the insertion order
+        private int layer(long nodeId) {
+            double uniform = new SplittableRandom(randomSeed + nodeId).nextDouble();
+            return (int) Math.min(Math.floor(-Math.log(1.0 - uniform) * levelMultiplier), MAX_LAYER);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Optional;
+
+/**
+ * Keeps built {@link HnswIndex}es with the catalog entry of the graph they were built from, keyed by node property.
+ * The indexes are listed with the other indexes of the entry, and they are dropped together with the graph
+ * or when its graph store is replaced.
+ */
+public final class HnswIndexStore {
+
+    private static final String INDEX_KEY_PREFIX = "hnsw:";
+
+    private HnswIndexStore() {}
+
+    public static void put(String username, DatabaseId databaseId, String graphName, HnswIndex index) {
+        GraphStoreCatalog.setIndex(username, databaseId, graphName, index);
+    }
+
+    public static Optional<HnswIndex> get(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String nodeProperty
+    ) {
+        return GraphStoreCatalog
+            .getIndex(username, databaseId, graphName, indexKey(nodeProperty))
+            .map(HnswIndex.class::cast);
+    }
+
+    public static Optional<HnswIndex> remove(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String nodeProperty
+    ) {
+        return GraphStoreCatalog
+            .removeIndex(username, databaseId, graphName, indexKey(nodeProperty))
+            .map(HnswIndex.class::cast);
+    }
+
+    static String indexKey(String nodeProperty) {
+        return INDEX_KEY_PREFIX + nodeProperty;
+    }
+}
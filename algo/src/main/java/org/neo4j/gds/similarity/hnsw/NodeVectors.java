@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.function.LongToDoubleFunction;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Scores nodes against each other or against an external query vector,
+ * using the same similarity functions as KNN.
+ */
+abstract class NodeVectors {
+
+    final NodePropertyValues values;
+
+    NodeVectors(NodePropertyValues values) {
+        this.values = values;
+    }
+
+    static NodeVectors of(String propertyKey, NodePropertyValues values, SimilarityMetric metric) {
+        var valueType = values.valueType();
+        if (valueType == ValueType.FLOAT_ARRAY) {
+            return new FloatVectors(values, floatMetric(propertyKey, valueType, metric));
+        }
+        if (valueType == ValueType.DOUBLE_ARRAY) {
+            return new DoubleVectors(values, doubleMetric(propertyKey, valueType, metric));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "The property `%s` has an unsupported type `%s`, expected a float or double array.",
+            propertyKey,
+            valueType
+        ));
+    }
+
+    long nodeCount() {
+        return values.nodeCount();
+    }
+
+    boolean exists(long nodeId) {
+        return values.getObject(nodeId) != null;
+    }
+
+    abstract double similarity(long nodeId, long otherNodeId);
+
+    abstract LongToDoubleFunction similarityTo(long nodeId);
+
+    abstract LongToDoubleFunction similarityTo(float[] query);
+
+    abstract LongToDoubleFunction similarityTo(double[] query);
+
+    private static ToDoubleBiFunction<float[], float[]> floatMetric(
+        String propertyKey,
+        ValueType valueType,
+        SimilarityMetric metric
+    ) {
+        switch (metric) {
+            case COSINE:
+                return Cosine::floatMetric;
+            case EUCLIDEAN:
+                return Euclidean::floatMetric;
+            case PEARSON:
+                return Pearson::floatMetric;
+            default:
+                throw unsupportedMetric(propertyKey, valueType, metric);
+        }
+    }
+
+    private static ToDoubleBiFunction<double[], double[]> doubleMetric(
+        String propertyKey,
+        ValueType valueType,
+        SimilarityMetric metric
+    ) {
+        switch (metric) {
+            case COSINE:
+                return Cosine::doubleMetric;
+            case EUCLIDEAN:
+                return Euclidean::doubleMetric;
+            case PEARSON:
+                return Pearson::doubleMetric;
+            default:
+                throw unsupportedMetric(propertyKey, valueType, metric);
+        }
+    }
+
+    private static IllegalArgumentException unsupportedMetric(
+        String propertyKey,
+        ValueType valueType,
+        SimilarityMetric metric
+    ) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Similarity metric `%s` is not supported for property `%s` of type `%s`.",
+            metric,
+            propertyKey,
+            valueType
+        ));
+    }
+
+    private static final class FloatVectors extends NodeVectors {
+
+        private final ToDoubleBiFunction<float[], float[]> metric;
+
+        FloatVectors(NodePropertyValues values, ToDoubleBiFunction<float[], float[]> metric) {
+            super(values);
+            this.metric = metric;
+        }
+
+        @Override
+        double similarity(long nodeId, long otherNodeId) {
+            return metric.applyAsDouble(values.floatArrayValue(nodeId), values.floatArrayValue(otherNodeId));
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(long nodeId) {
+            return similarityTo(values.floatArrayValue(nodeId));
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(float[] query) {
+            return other -> metric.applyAsDouble(query, values.floatArrayValue(other));
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(double[] query) {
+            var converted = new float[query.length];
+            for (int i = 0; i < query.length; i++) {
+                converted[i] = (float) query[i];
+            }
+            return similarityTo(converted);
+        }
+    }
+
+    private static final class DoubleVectors extends NodeVectors {
+
+        private final ToDoubleBiFunction<double[], double[]> metric;
+
+        DoubleVectors(NodePropertyValues values, ToDoubleBiFunction<double[], double[]> metric) {
+            super(values);
+            this.metric = metric;
+        }
+
+        @Override
+        double similarity(long nodeId, long otherNodeId) {
+            return metric.applyAsDouble(values.doubleArrayValue(nodeId), values.doubleArrayValue(otherNodeId));
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(long nodeId) {
+            return similarityTo(values.doubleArrayValue(nodeId));
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(float[] query) {
+            var converted = new double[query.length];
+            for (int i = 0; i < query.length; i++) {
+                converted[i] = query[i];
+            }
+            return similarityTo(converted);
+        }
+
+        @Override
+        LongToDoubleFunction similarityTo(double[] query) {
+            return other -> metric.applyAsDouble(query, values.doubleArrayValue(other));
+        }
+    }
+}
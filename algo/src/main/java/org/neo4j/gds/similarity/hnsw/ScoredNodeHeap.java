@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary heap of (node, similarity) pairs.
+ * Depending on construction, the head is either the most or the least similar node.
+ */
+final class ScoredNodeHeap {
+
+    private final boolean maxHeap;
+    private long[] nodes;
+    private double[] scores;
+    private int size;
+
+    private ScoredNodeHeap(boolean maxHeap, int initialCapacity) {
+        this.maxHeap = maxHeap;
+        this.nodes = new long[Math.max(initialCapacity, 4)];
+        this.scores = new double[this.nodes.length];
+    }
+
+    static ScoredNodeHeap mostSimilarFirst(int initialCapacity) {
+        return new ScoredNodeHeap(true, initialCapacity);
+    }
+
+    static ScoredNodeHeap leastSimilarFirst(int initialCapacity) {
+        return new ScoredNodeHeap(false, initialCapacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long headNode() {
+        return nodes[0];
+    }
+
+    double headScore() {
+        return scores[0];
+    }
+
+    void push(long node, double score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size << 1);
+            scores = Arrays.copyOf(scores, size << 1);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(score, scores[parent])) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            scores[index] = scores[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        scores[index] = score;
+    }
+
+    void pop() {
+        int last = --size;
+        long node = nodes[last];
+        double score = scores[last];
+        int index = 0;
+        int half = last >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < last && before(scores[right], scores[child])) {
+                child = right;
+            }
+            if (!before(scores[child], score)) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            scores[index] = scores[child];
+            index = child;
+        }
+        nodes[index] = node;
+        scores[index] = score;
+    }
+
+    private boolean before(double score, double other) {
+        return maxHeap ? score > other : score < other;
+    }
+}
@@ -30,11 +30,17 @@ import java.util.function.IntToDoubleFunction;
  *
  * We then normalise this squared distance in order to clamp the number into the range (0,1] so that the metric can be
  * used for comparisons up stream.
+ *
+ * The squared distance is computed with the Vector API when available, see {@link SimilarityKernels#vectorized()}.
  */
 public final class Euclidean {
     private Euclidean() {}
 
     public static double floatMetric(float[] left, float[] right) {
+        var kernels = SimilarityKernels.vectorized();
+        if (kernels != null) {
+            return normalise(kernels.squaredDistance(left, right, Math.min(left.length, right.length)));
+        }
         return compute(
             Math.min(left.length, right.length),
             i -> left[i],
@@ -43,6 +49,10 @@ public final class Euclidean {
     }
 
     public static double doubleMetric(double[] left, double[] right) {
+        var kernels = SimilarityKernels.vectorized();
+        if (kernels != null) {
+            return normalise(kernels.squaredDistance(left, right, Math.min(left.length, right.length)));
+        }
         return compute(
             Math.min(left.length, right.length),
             i -> left[i],
@@ -57,6 +67,10 @@ public final class Euclidean {
             result += delta * delta;
         }
 
-        return 1.0 / (1.0 + Math.sqrt(result));
+        return normalise(result);
+    }
+
+    private static double normalise(double squaredDistance) {
+        return 1.0 / (1.0 + Math.sqrt(squaredDistance));
     }
 }
@@ -28,6 +28,8 @@ package org.neo4j.gds.similarity.knn.metrics;
  * If input arrays are of different length we ignore the longer tail.
  *
  * In the end we turn Pearson's r into a metric moving it to the range 0..1
+ *
+ * Pearson's r is computed with the Vector API when available, see {@link SimilarityKernels#vectorized()}.
  */
 public final class Pearson {
     private Pearson() {}
@@ -35,6 +37,11 @@ public final class Pearson {
     public static double floatMetric(float[] a, float[] b) {
         int n = Math.min(a.length, b.length);
 
+        var kernels = SimilarityKernels.vectorized();
+        if (kernels != null) {
+            return (kernels.pearson(a, b, n) + 1) / 2;
+        }
+
         // compute sample means
         double sumA = 0d;
         double sumB = 0d;
@@ -68,6 +75,11 @@ public final class Pearson {
     public static double doubleMetric(double[] a, double[] b) {
         int n = Math.min(a.length, b.length);
 
+        var kernels = SimilarityKernels.vectorized();
+        if (kernels != null) {
+            return (kernels.pearson(a, b, n) + 1) / 2;
+        }
+
         // compute sample means
         double sumA = 0d;
         double sumB = 0d;
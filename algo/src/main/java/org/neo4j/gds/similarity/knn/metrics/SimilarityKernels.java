@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Raw similarity computations over the common prefix of two embeddings,
+ * used by the float and double array metrics in place of their scalar loops.
+ */
+interface SimilarityKernels {
+
+    /**
+     * @return the cosine of the angle between both vectors, in the range -1..1
+     */
+    double cosine(float[] left, float[] right, int length);
+
+    double cosine(double[] left, double[] right, int length);
+
+    /**
+     * @return the sum of the squared element-wise differences
+     */
+    double squaredDistance(float[] left, float[] right, int length);
+
+    double squaredDistance(double[] left, double[] right, int length);
+
+    /**
+     * @return Pearson's correlation coefficient, in the range -1..1
+     */
+    double pearson(float[] left, float[] right, int length);
+
+    double pearson(double[] left, double[] right, int length);
+
+    /**
+     * Returns the Vector API based kernels if the {@code jdk.incubator.vector} module is available
+     * in the running JVM and {@link GdsFeatureToggles#USE_VECTORIZED_SIMILARITY_METRICS} is enabled.
+     * Otherwise, returns {@code null} and callers fall back to their scalar loops.
+     */
+    static @Nullable SimilarityKernels vectorized() {
+        var vectorized = VectorSupport.VECTORIZED_KERNELS;
+        if (vectorized != null && GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.isEnabled()) {
+            return vectorized;
+        }
+        return null;
+    }
+
+    static boolean isVectorizationSupported() {
+        return VectorSupport.VECTORIZED_KERNELS != null;
+    }
+
+    /**
+     * Resolves the vectorized kernels reflectively, so that the incubator
+     * classes are never touched if the module is not part of the boot layer.
+     */
+    final class VectorSupport {
+
+        private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+        static final SimilarityKernels VECTORIZED_KERNELS = vectorizedKernels();
+
+        private static SimilarityKernels vectorizedKernels() {
+            if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+                return null;
+            }
+            try {
+                return (SimilarityKernels) Class
+                    .forName(SimilarityKernels.class.getPackageName() + ".VectorizedSimilarityKernels")
+                    .getDeclaredMethod("create")
+                    .invoke(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+
+        private VectorSupport() {}
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Generates candidate pairs for Node Similarity using MinHash and locality sensitive hashing.
+ * <p>
+ * The MinHash signature of a node consists of the minimum hash value of its neighbors under each of a number of
+ * hash functions. The signature is split into bands of several rows and nodes whose signatures agree on all rows
+ * of at least one band become candidates. A pair with Jaccard similarity {@code s} thus becomes a candidate with
+ * probability {@code 1 - (1 - s^rows)^bands}. The banding is chosen such that this probability reaches the
+ * requested recall at the similarity threshold, using as many rows per band as the hash function budget allows
+ * to keep the number of dissimilar candidates low. Recalls that cannot be reached within the budget are rejected
+ * rather than silently lowered.
+ * <p>
+ * For every band, the target nodes are stored sorted by their band hash, so that the candidates of a node
+ * are found by binary search. Band hashes are truncated to make room for the node id in the same long, which
+ * may add candidates, but never loses any.
+ */
+final class MinHashCandidates {
+
+    private static final int MAX_HASH_FUNCTIONS = MinHashParameters.MAX_HASH_FUNCTIONS;
+    private static final long SEED = 0x5DEECE66DL;
+
+    @FunctionalInterface
+    interface Neighborhoods {
+        void forEachNeighbor(long nodeId, LongConsumer consumer);
+    }
+
+    record Banding(int bands, int rows) {
+        int hashFunctions() {
+            return bands * rows;
+        }
+    }
+
+    private final Neighborhoods neighborhoods;
+    private final Banding banding;
+    private final long[] seeds;
+    private final long nodeMask;
+    // per band, the target nodes in the lower bits and their truncated band hash in the upper bits, sorted
+    private final HugeLongArray[] buckets;
+
+    static Banding banding(double similarityThreshold, double recall) {
+        if (recall > MinHashParameters.maxRecall(similarityThreshold)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A recall of %s cannot be reached at a similarity threshold of %s with at most %d hash functions.",
+                recall,
+                similarityThreshold,
+                MAX_HASH_FUNCTIONS
+            ));
+        }
+        // single row bands always fit the budget at a feasible recall, up to rounding at the maximum recall
+        var banding = new Banding(Math.min(bandsFor(similarityThreshold, recall, 1), MAX_HASH_FUNCTIONS), 1);
+        for (int rows = 2; rows <= MAX_HASH_FUNCTIONS; rows++) {
+            var bands = bandsFor(similarityThreshold, recall, rows);
+            if ((long) bands * rows > MAX_HASH_FUNCTIONS) {
+                break;
+            }
+            banding = new Banding(bands, rows);
+        }
+        return banding;
+    }
+
+    private static int bandsFor(double similarityThreshold, double recall, int rows) {
+        // the probability that a pair at the threshold agrees on all rows of a band
+        double bandCollision = Math.pow(similarityThreshold, rows);
+        double bands = Math.ceil(Math.log1p(-recall) / Math.log1p(-bandCollision));
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bands));
+    }
+
+    static MinHashCandidates create(
+        MinHashParameters parameters,
+        long nodeCount,
+        BitSet targetNodes,
+        Neighborhoods neighborhoods,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var banding = banding(parameters.similarityThreshold(), parameters.recall());
+        var random = new SplittableRandom(SEED);
+        var seeds = new long[banding.hashFunctions()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+
+        var nodeBits = 64 - Long.numberOfLeadingZeros(Math.max(1, nodeCount - 1));
+        var nodeMask = (1L << nodeBits) - 1;
+
+        var targetCount = targetNodes.cardinality();
+        var targetIds = HugeLongArray.newArray(targetCount);
+        long index = 0;
+        for (long node = targetNodes.nextSetBit(0L); node != -1; node = targetNodes.nextSetBit(node + 1)) {
+            targetIds.set(index++, node);
+        }
+
+        var buckets = new HugeLongArray[banding.bands()];
+        Arrays.setAll(buckets, band -> HugeLongArray.newArray(targetCount));
+        var candidates = new MinHashCandidates(neighborhoods, banding, seeds, nodeMask, buckets);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            targetCount,
+            partition -> (Runnable) () -> {
+                var signature = new Signature(candidates);
+                var end = partition.startNode() + partition.nodeCount();
+                for (long i = partition.startNode(); i < end; i++) {
+                    var node = targetIds.get(i);
+                    var bandHashes = signature.bandHashes(node);
+                    for (int band = 0; band < bandHashes.length; band++) {
+                        buckets[band].set(i, (bandHashes[band] & ~nodeMask) | node);
+                    }
+                }
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        if (targetCount > 1) {
+            for (var bucket : buckets) {
+                HugeMergeSort.sort(bucket, concurrency);
+            }
+        }
+
+        return candidates;
+    }
+
+    private MinHashCandidates(
+        Neighborhoods neighborhoods,
+        Banding banding,
+        long[] seeds,
+        long nodeMask,
+        HugeLongArray[] buckets
+    ) {
+        this.neighborhoods = neighborhoods;
+        this.banding = banding;
+        this.seeds = seeds;
+        this.nodeMask = nodeMask;
+        this.buckets = buckets;
+    }
+
+    Banding banding() {
+        return banding;
+    }
+
+    /**
+     * Returns the sorted target nodes that share at least one band with the given node.
+     * The node itself is included if it is a target node.
+     */
+    LongStream candidates(long nodeId) {
+        var bandHashes = new Signature(this).bandHashes(nodeId);
+        var candidates = new LongArrayList();
+
+        for (int band = 0; band < bandHashes.length; band++) {
+            var bucket = buckets[band];
+            var prefix = bandHashes[band] & ~nodeMask;
+            for (long index = lowerBound(bucket, prefix); index < bucket.size(); index++) {
+                var entry = bucket.get(index);
+                if ((entry & ~nodeMask) != prefix) {
+                    break;
+                }
+                candidates.add(entry & nodeMask);
+            }
+        }
+
+        // a pair can collide in several bands
+        var sorted = candidates.toArray();
+        Arrays.sort(sorted);
+        return LongStream.of(sorted).distinct();
+    }
+
+    private static long lowerBound(HugeLongArray array, long value) {
+        long low = 0;
+        long high = array.size();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (array.get(mid) < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Signature implements LongConsumer {
+
+        private final long[] seeds;
+        private final long[] minima;
+        private final long[] bandHashes;
+        private final Neighborhoods neighborhoods;
+        private final int rows;
+
+        Signature(MinHashCandidates candidates) {
+            this.seeds = candidates.seeds;
+            this.minima = new long[seeds.length];
+            this.bandHashes = new long[candidates.banding.bands()];
+            this.neighborhoods = candidates.neighborhoods;
+            this.rows = candidates.banding.rows();
+        }
+
+        long[] bandHashes(long nodeId) {
+            Arrays.fill(minima, Long.MAX_VALUE);
+            neighborhoods.forEachNeighbor(nodeId, this);
+
+            for (int band = 0; band < bandHashes.length; band++) {
+                long hash = band;
+                for (int row = band * rows; row < (band + 1) * rows; row++) {
+                    hash = BitMixer.mix64(hash * 31 + minima[row]);
+                }
+                bandHashes[band] = hash;
+            }
+            return bandHashes;
+        }
+
+        @Override
+        public void accept(long neighbor) {
+            for (int i = 0; i < seeds.length; i++) {
+                minima[i] = Math.min(minima[i], BitMixer.mix64(neighbor ^ seeds[i]));
+            }
+        }
+    }
+}
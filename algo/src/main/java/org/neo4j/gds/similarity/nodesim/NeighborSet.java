@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A compact, immutable set of neighbor ids that supports fast intersection counting.
+ * <p>
+ * Depending on its density, a set is either stored as a sorted {@code int} array or as a bitmap
+ * that covers the range between its smallest and largest neighbor. Arrays take half the memory
+ * of the {@code long[]} vectors, bitmaps are smaller still for neighborhoods that cover a large
+ * part of their id range, which is common for high degree nodes of bipartite graphs.
+ * <p>
+ * The intersection algorithm is picked per pair of sets:
+ * bitmaps are intersected word by word, array elements are probed against bitmaps,
+ * and arrays of very different sizes are intersected by galloping through the larger one.
+ * <p>
+ * Sets may contain duplicate ids, e.g. for parallel relationships of different types,
+ * in which case intersections are computed as for multisets, like {@link org.neo4j.gds.core.utils.Intersections#intersection3}.
+ * Only duplicate free sets are stored as bitmaps.
+ */
+final class NeighborSet {
+
+    // A bitmap takes less memory than an int array if more than one in 32 ids of its range are neighbors.
+    private static final int BITMAP_DENSITY = 32;
+    // Galloping outperforms a linear merge when one array is this many times larger than the other.
+    private static final int GALLOPING_RATIO = 16;
+
+    private final int size;
+    // sorted neighbor ids, or null if this set is a bitmap
+    private final int[] ids;
+    // bitmap of neighbor ids, or null if this set is an array
+    private final long[] words;
+    // the index of the first bitmap word within the node id space
+    private final int firstWord;
+
+    /**
+     * @param sortedIds the sorted neighbor ids, which must be smaller than {@link Integer#MAX_VALUE}
+     */
+    static NeighborSet of(long[] sortedIds) {
+        int size = sortedIds.length;
+        if (size == 0) {
+            return new NeighborSet(0, new int[0], null, 0);
+        }
+
+        int firstWord = (int) (sortedIds[0] >>> 6);
+        int lastWord = (int) (sortedIds[size - 1] >>> 6);
+        long wordCount = (long) lastWord - firstWord + 1;
+
+        if (wordCount * 64 <= (long) size * BITMAP_DENSITY && isDuplicateFree(sortedIds)) {
+            var words = new long[(int) wordCount];
+            for (long id : sortedIds) {
+                words[(int) (id >>> 6) - firstWord] |= 1L << id;
+            }
+            return new NeighborSet(size, null, words, firstWord);
+        }
+
+        var ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = Math.toIntExact(sortedIds[i]);
+        }
+        return new NeighborSet(size, ids, null, 0);
+    }
+
+    private NeighborSet(int size, int[] ids, long[] words, int firstWord) {
+        this.size = size;
+        this.ids = ids;
+        this.words = words;
+        this.firstWord = firstWord;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isBitmap() {
+        return words != null;
+    }
+
+    void forEach(LongConsumer consumer) {
+        if (isBitmap()) {
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    consumer.accept(((long) (firstWord + word) << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        } else {
+            for (int id : ids) {
+                consumer.accept(id);
+            }
+        }
+    }
+
+    long intersection(NeighborSet other) {
+        if (isBitmap()) {
+            return other.isBitmap()
+                ? intersectBitmaps(this, other)
+                : intersectArrayWithBitmap(other, this);
+        }
+        if (other.isBitmap()) {
+            return intersectArrayWithBitmap(this, other);
+        }
+        return size <= other.size
+            ? intersectArrays(this, other)
+            : intersectArrays(other, this);
+    }
+
+    private boolean contains(int id) {
+        int word = (id >>> 6) - firstWord;
+        return word >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    private static long intersectBitmaps(NeighborSet bitmap1, NeighborSet bitmap2) {
+        int from = Math.max(bitmap1.firstWord, bitmap2.firstWord);
+        int to = Math.min(bitmap1.firstWord + bitmap1.words.length, bitmap2.firstWord + bitmap2.words.length);
+
+        long intersection = 0;
+        for (int word = from; word < to; word++) {
+            intersection += Long.bitCount(bitmap1.words[word - bitmap1.firstWord] & bitmap2.words[word - bitmap2.firstWord]);
+        }
+        return intersection;
+    }
+
+    private static long intersectArrayWithBitmap(NeighborSet array, NeighborSet bitmap) {
+        var ids = array.ids;
+        long intersection = 0;
+        int previous = -1;
+        for (int i = 0; i < array.size; i++) {
+            int id = ids[i];
+            // the bitmap contains every id at most once
+            if (id != previous && bitmap.contains(id)) {
+                intersection++;
+            }
+            previous = id;
+        }
+        return intersection;
+    }
+
+    private static long intersectArrays(NeighborSet smaller, NeighborSet larger) {
+        var ids1 = smaller.ids;
+        var ids2 = larger.ids;
+        int length1 = smaller.size;
+        int length2 = larger.size;
+
+        long intersection = 0;
+        int offset1 = 0;
+        int offset2 = 0;
+
+        if (length2 >= GALLOPING_RATIO * length1) {
+            for (; offset1 < length1; offset1++) {
+                int id = ids1[offset1];
+                offset2 = gallop(ids2, offset2, length2, id);
+                if (offset2 == length2) {
+                    break;
+                }
+                if (ids2[offset2] == id) {
+                    intersection++;
+                    offset2++;
+                }
+            }
+            return intersection;
+        }
+
+        while (offset1 < length1 && offset2 < length2) {
+            int id1 = ids1[offset1];
+            int id2 = ids2[offset2];
+            if (id1 < id2) {
+                offset1++;
+            } else if (id1 > id2) {
+                offset2++;
+            } else {
+                intersection++;
+                offset1++;
+                offset2++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the index of the first element in {@code ids[from, to)} that is greater than or equal to {@code id},
+     * or {@code to} if there is none.
+     */
+    static int gallop(int[] ids, int from, int to, int id) {
+        if (from >= to || ids[from] >= id) {
+            return from;
+        }
+
+        // ids[low] < id and either high == to or ids[high] >= id
+        int low = from;
+        int high = from + 1;
+        long step = 1;
+        while (high < to && ids[high] < id) {
+            low = high;
+            step <<= 1;
+            high = step < to - low ? (int) (low + step) : to;
+        }
+
+        while (low + 1 < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] < id) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private static boolean isDuplicateFree(long[] sortedIds) {
+        for (int i = 1; i < sortedIds.length; i++) {
+            if (sortedIds[i] == sortedIds[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
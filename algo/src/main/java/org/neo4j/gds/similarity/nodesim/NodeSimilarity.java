@@ -47,17 +47,21 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private final Graph graph;
     private final NodeSimilarityParameters parameters;
     private final boolean sortVectors;
     private final boolean weighted;
+    private final boolean useNeighborSets;
 
     private final BitSet sourceNodes;
     private final BitSet targetNodes;
@@ -69,10 +73,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private final MetricSimilarityComputer similarityComputer;
 
     private HugeObjectArray<long[]> neighbors;
+    private HugeObjectArray<NeighborSet> neighborSets;
     private HugeObjectArray<double[]> weights;
     private LongUnaryOperator components;
     private Function<Long, LongStream> sourceNodesStream;
     private BiFunction<Long, Long, LongStream> targetNodesStream;
+    private MinHashCandidates minHashCandidates;
 
     private final WccStub wccStub;
 
@@ -100,6 +106,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         this.targetNodes = new BitSet(graph.nodeCount());
         this.wccStub = wccStub;
         this.weighted = this.parameters.hasRelationshipWeightProperty();
+        // neighbor sets store ids as ints and do not support weights
+        this.useNeighborSets = !weighted && graph.nodeCount() <= Integer.MAX_VALUE;
         this.terminationFlag = terminationFlag;
     }
 
@@ -197,6 +205,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         initNodeSpecificFields();
         sourceNodesStream = initSourceNodesStream();
         targetNodesStream = initTargetNodesStream();
+        parameters.minHash().ifPresent(this::initMinHashCandidates);
     }
 
     private Stream<SimilarityResult> computeSimilarityResultStream() {
@@ -236,7 +245,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private void initNodeSpecificFields() {
-        neighbors = HugeObjectArray.newArray(long[].class, graph.nodeCount());
+        if (useNeighborSets) {
+            neighborSets = HugeObjectArray.newArray(NeighborSet.class, graph.nodeCount());
+        } else {
+            neighbors = HugeObjectArray.newArray(long[].class, graph.nodeCount());
+        }
         if (weighted) {
             weights = HugeObjectArray.newArray(double[].class, graph.nodeCount());
         }
@@ -244,7 +257,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         DegreeComputer degreeComputer = new DegreeComputer();
         VectorComputer vectorComputer = VectorComputer.of(graph, weighted);
         DegreeFilter degreeFilter = new DegreeFilter(parameters.degreeCutoff(), parameters.upperDegreeCutoff());
-        neighbors.setAll(node -> {
+        LongFunction<long[]> neighborsOf = node -> {
             graph.forEachRelationship(node, degreeComputer);
             int degree = degreeComputer.degree;
             degreeComputer.reset();
@@ -271,7 +284,16 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                 return vectorComputer.targetIds.buffer;
             }
             return null;
-        });
+        };
+
+        if (useNeighborSets) {
+            neighborSets.setAll(node -> {
+                var targetIds = neighborsOf.apply(node);
+                return targetIds == null ? null : NeighborSet.of(targetIds);
+            });
+        } else {
+            neighbors.setAll(neighborsOf);
+        }
     }
 
     private Stream<SimilarityResult> computeAll() {
@@ -298,12 +320,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodes(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId,
                             (source, target, similarity) -> {
                                 topKMap.put(source, target, similarity);
@@ -311,7 +333,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         ));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodes(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put));
                 }
@@ -326,7 +348,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         var comparator = parameters.normalizedK() > 0
             ? SimilarityResult.DESCENDING
             : SimilarityResult.ASCENDING;
-        var topKMap = new TopKMap(neighbors.size(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
+        var topKMap = new TopKMap(graph.nodeCount(), sourceNodes, Math.abs(parameters.normalizedK()), comparator);
 
         ParallelUtil.parallelStreamConsume(
             loggableAndTerminableSourceNodeStream(),
@@ -340,7 +362,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodes(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topKMap::put))
                 )
@@ -357,10 +379,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         loggableAndTerminableSourceNodeStream()
             .forEach(sourceNodeId -> {
                 if (sourceNodeFilter.equals(NodeFilter.ALLOW_EVERYTHING)) {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+                    targetNodes(sourceNodeId, sourceNodeId + 1)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 } else {
-                    targetNodesStream.apply(components.applyAsLong(sourceNodeId), 0L)
+                    targetNodes(sourceNodeId, 0L)
                         .filter(targetNodeId -> sourceNodeId != targetNodeId)
                         .forEach(targetNodeId -> computeSimilarityFor(sourceNodeId, targetNodeId, topNList::add));
                 }
@@ -390,12 +412,49 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .longStream(componentNodes.spliterator(componentId, offset), false);
     }
 
+    private void initMinHashCandidates(MinHashParameters minHashParameters) {
+        MinHashCandidates.Neighborhoods neighborhoods = useNeighborSets
+            ? (node, consumer) -> neighborSets.get(node).forEach(consumer)
+            : (node, consumer) -> {
+                for (long neighbor : neighbors.get(node)) {
+                    consumer.accept(neighbor);
+                }
+            };
+        minHashCandidates = MinHashCandidates.create(
+            minHashParameters,
+            graph.nodeCount(),
+            targetNodes,
+            neighborhoods,
+            concurrency,
+            executorService,
+            terminationFlag
+        );
+        var banding = minHashCandidates.banding();
+        progressTracker.logInfo(formatWithLocale(
+            "Comparing MinHash candidates only, using %d bands of %d rows",
+            banding.bands(),
+            banding.rows()
+        ));
+    }
+
+    /**
+     * Returns the target nodes to compare the source node with, starting from the given offset.
+     */
+    private LongStream targetNodes(long sourceNodeId, long offset) {
+        var componentId = components.applyAsLong(sourceNodeId);
+        if (minHashCandidates == null) {
+            return targetNodesStream.apply(componentId, offset);
+        }
+        return minHashCandidates.candidates(sourceNodeId)
+            .filter(targetNodeId -> targetNodeId >= offset && components.applyAsLong(targetNodeId) == componentId);
+    }
+
     private LongStream loggableAndTerminableSourceNodeStream() {
         return checkProgress(sourceNodesStream.apply(0L));
     }
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long sourceNodeId) {
-        return targetNodesStream.apply(components.applyAsLong(sourceNodeId), sourceNodeId + 1)
+        return targetNodes(sourceNodeId, sourceNodeId + 1)
             .mapToObj(targetNodeId -> {
                 var resultHolder = new SimilarityResult[]{null};
                 computeSimilarityFor(
@@ -433,14 +492,17 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private void computeSimilarityFor(long sourceNodeId, long targetNodeId, SimilarityConsumer consumer) {
         double similarity;
-        var sourceNodeNeighbors = neighbors.get(sourceNodeId);
-        var targetNodeNeighbors = neighbors.get(targetNodeId);
-        if (weighted) {
+        if (useNeighborSets) {
+            similarity = computeSimilarity(neighborSets.get(sourceNodeId), neighborSets.get(targetNodeId));
+        } else if (weighted) {
             similarity = computeWeightedSimilarity(
-                sourceNodeNeighbors, targetNodeNeighbors, weights.get(sourceNodeId), weights.get(targetNodeId)
+                neighbors.get(sourceNodeId),
+                neighbors.get(targetNodeId),
+                weights.get(sourceNodeId),
+                weights.get(targetNodeId)
             );
         } else {
-            similarity = computeSimilarity(sourceNodeNeighbors, targetNodeNeighbors);
+            similarity = computeSimilarity(neighbors.get(sourceNodeId), neighbors.get(targetNodeId));
         }
         if (!Double.isNaN(similarity)) {
             consumer.accept(sourceNodeId, targetNodeId, similarity);
@@ -469,6 +531,16 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return similarity;
     }
 
+    private double computeSimilarity(NeighborSet sourceNodeNeighbors, NeighborSet targetNodeNeighbors) {
+        double similarity = similarityComputer.computeSimilarity(
+            sourceNodeNeighbors.intersection(targetNodeNeighbors),
+            sourceNodeNeighbors.size(),
+            targetNodeNeighbors.size()
+        );
+        progressTracker.logProgress();
+        return similarity;
+    }
+
     private LongStream checkProgress(LongStream stream) {
         return stream.peek(node -> {
             if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
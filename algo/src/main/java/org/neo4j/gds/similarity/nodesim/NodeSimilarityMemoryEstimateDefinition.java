@@ -81,6 +81,12 @@ public class NodeSimilarityMemoryEstimateDefinition implements MemoryEstimateDef
                 builder.perNode("component mapping", HugeLongArray::memoryEstimation);
             }
         }
+        parameters.minHash().ifPresent(minHash -> {
+            var bands = MinHashCandidates.banding(minHash.similarityThreshold(), minHash.recall()).bands();
+            builder.perNode("min hash buckets", nodeCount -> bands * HugeLongArray.memoryEstimation(nodeCount));
+            // target node ids, and later the buffer for sorting the buckets of a band
+            builder.perNode("min hash buffer", HugeLongArray::memoryEstimation);
+        });
         if (parameters.computeToGraph() && !parameters.hasTopK()) {
             builder.add(
                 "similarity graph",
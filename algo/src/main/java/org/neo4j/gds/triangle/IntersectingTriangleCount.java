@@ -26,30 +26,42 @@ import org.neo4j.gds.api.RelationshipIntersect;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
+import org.neo4j.gds.triangle.intersect.DegreeOrientedAdjacency;
+import org.neo4j.gds.triangle.intersect.RelationshipIndex;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * TriangleCount counts the number of triangles in the Graph as well
  * as the number of triangles that passes through a node.
  *
  * This impl uses another approach where all the triangles can be calculated
  * using set intersection methods of the graph itself.
+ * The relationships are oriented by node degree beforehand, see {@link DegreeOrientedAdjacency}.
+ *
+ * With a sampling ratio below one, the triangles are counted on a sparsified graph (DOULION)
+ * in which every relationship is kept with probability p. Every triangle survives with probability p^3,
+ * so all counts are scaled by 1 / p^3 to unbiased estimates. The standard error of the global estimate
+ * is derived from the variance given in the DOULION paper, Var = T (1/p^3 - 1) + 2 k (1/p - 1),
+ * where k, the number of triangle pairs sharing a relationship, is estimated from the sample as well.
  *
  * https://epubs.siam.org/doi/pdf/10.1137/1.9781611973198.1
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
  * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
  * http://www.math.cmu.edu/~ctsourak/tsourICDM08.pdf
+ * https://www.cs.cmu.edu/~ukang/papers/DoulionKDD2009.pdf
  */
 @SuppressWarnings("FieldCanBeLocal")
 public final class IntersectingTriangleCount extends Algorithm<TriangleCountResult> {
@@ -57,8 +69,6 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     static final int EXCLUDED_NODE_TRIANGLE_COUNT = -1;
 
     private final Graph graph;
-    private final RelationshipIntersectFactory intersectFactory;
-    private final RelationshipIntersectConfig intersectConfig;
     private final ExecutorService executorService;
     private final AtomicLong queue;
 
@@ -66,7 +76,10 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
     private final HugeAtomicLongArray triangleCounts;
     private final long maxDegree;
     private final Concurrency concurrency;
+    private final double samplingRatio;
+    private final long randomSeed;
     private long globalTriangleCount;
+    private double globalTriangleCountStandardError;
 
     private final LongAdder globalTriangleCounter;
 
@@ -78,29 +91,56 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
-        var factory = RelationshipIntersectFactoryLocator
-            .lookup(graph)
-            .orElseThrow(
-                () -> new IllegalArgumentException("No relationship intersect factory registered for graph: " + graph.getClass())
-            );
-        return new IntersectingTriangleCount(graph, factory, concurrency, maxDegree, executorService, progressTracker, terminationFlag);
+        return create(
+            graph,
+            concurrency,
+            maxDegree,
+            1.0,
+            Optional.empty(),
+            executorService,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    public static IntersectingTriangleCount create(
+        Graph graph,
+        Concurrency concurrency,
+        long maxDegree,
+        double samplingRatio,
+        Optional<Long> randomSeed,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        return new IntersectingTriangleCount(
+            graph,
+            concurrency,
+            maxDegree,
+            samplingRatio,
+            randomSeed.orElseGet(() -> new SplittableRandom().nextLong()),
+            executorService,
+            progressTracker,
+            terminationFlag
+        );
     }
 
     private IntersectingTriangleCount(
         Graph graph,
-        RelationshipIntersectFactory intersectFactory,
         Concurrency concurrency,
         long maxDegree,
+        double samplingRatio,
+        long randomSeed,
         ExecutorService executorService,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
-        this.intersectFactory = intersectFactory;
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
-        this.intersectConfig = ImmutableRelationshipIntersectConfig.of(maxDegree);
+        this.samplingRatio = samplingRatio;
+        this.randomSeed = randomSeed;
         this.triangleCounts = HugeAtomicLongArray.of(graph.nodeCount(), ParalleLongPageCreator.passThrough(concurrency));
         this.executorService = executorService;
         this.globalTriangleCounter = new LongAdder();
@@ -114,29 +154,115 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
         progressTracker.beginSubTask();
         queue.set(0);
         globalTriangleCounter.reset();
+        var sampled = samplingRatio < 1.0;
+        var adjacency = DegreeOrientedAdjacency.create(
+            graph,
+            maxDegree,
+            samplingRatio,
+            randomSeed,
+            concurrency,
+            executorService,
+            terminationFlag
+        );
+        // the triangles per relationship are only needed to estimate the error of a sampled count
+        var relationshipIndex = sampled ? adjacency.relationshipIndex() : null;
+        var relationshipTriangleCounts = sampled
+            ? HugeAtomicLongArray.of(relationshipIndex.relationshipCount(), ParalleLongPageCreator.passThrough(concurrency))
+            : null;
         // create tasks
         final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
             concurrency,
-            () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
+            () -> new IntersectTask(adjacency.intersect(), relationshipIndex, relationshipTriangleCounts)
         );
         // run
         ParallelUtil.run(tasks, executorService);
 
         globalTriangleCount = globalTriangleCounter.longValue();
+        globalTriangleCountStandardError = 0.0;
+
+        if (sampled) {
+            var sampledTriangleCount = globalTriangleCount;
+            var sharingTrianglePairs = countSharingTrianglePairs(relationshipTriangleCounts);
+            scaleLocalTriangleCounts();
+
+            double inverseTriangleRate = 1.0 / (samplingRatio * samplingRatio * samplingRatio);
+            double estimatedTriangles = sampledTriangleCount * inverseTriangleRate;
+            double estimatedSharingPairs = sharingTrianglePairs * inverseTriangleRate / (samplingRatio * samplingRatio);
+            globalTriangleCount = Math.round(estimatedTriangles);
+            globalTriangleCountStandardError = Math.sqrt(
+                estimatedTriangles * (inverseTriangleRate - 1) + 2 * estimatedSharingPairs * (1 / samplingRatio - 1)
+            );
+
+            progressTracker.logInfo(formatWithLocale(
+                "Estimated %d triangles from %d sampled triangles at a sampling ratio of %.4f, standard error %.2f",
+                globalTriangleCount,
+                sampledTriangleCount,
+                samplingRatio,
+                globalTriangleCountStandardError
+            ));
+        }
 
         progressTracker.endSubTask();
         return new TriangleCountResult(
             triangleCounts,
-            globalTriangleCount
+            globalTriangleCount,
+            globalTriangleCountStandardError
         );
     }
 
+    /**
+     * Sums the number of pairs of sampled triangles that share a relationship.
+     */
+    private long countSharingTrianglePairs(HugeAtomicLongArray relationshipTriangleCounts) {
+        var sharingPairs = new LongAdder();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            relationshipTriangleCounts.size(),
+            partition -> (Runnable) () -> {
+                long partitionPairs = 0;
+                for (long relationship = partition.startNode(); relationship < partition.startNode() + partition.nodeCount(); relationship++) {
+                    var triangles = relationshipTriangleCounts.get(relationship);
+                    partitionPairs += triangles * (triangles - 1) / 2;
+                }
+                sharingPairs.add(partitionPairs);
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        return sharingPairs.sum();
+    }
+
+    private void scaleLocalTriangleCounts() {
+        double inverseTriangleRate = 1.0 / (samplingRatio * samplingRatio * samplingRatio);
+        ParallelUtil.parallelForEachNode(graph.nodeCount(), concurrency, terminationFlag, node -> {
+            var triangles = triangleCounts.get(node);
+            if (triangles > 0) {
+                triangleCounts.set(node, Math.round(triangles * inverseTriangleRate));
+            }
+        });
+    }
+
     private class IntersectTask implements Runnable, IntersectionConsumer {
 
         private final RelationshipIntersect intersect;
+        private final RelationshipIndex relationshipIndex;
+        private final HugeAtomicLongArray relationshipTriangleCounts;
 
-        IntersectTask(RelationshipIntersect relationshipIntersect) {
-            intersect = relationshipIntersect;
+        IntersectTask(
+            RelationshipIntersect relationshipIntersect,
+            RelationshipIndex relationshipIndex,
+            HugeAtomicLongArray relationshipTriangleCounts
+        ) {
+            this.intersect = relationshipIntersect;
+            this.relationshipIndex = relationshipIndex;
+            this.relationshipTriangleCounts = relationshipTriangleCounts;
         }
 
         @Override
@@ -158,6 +284,11 @@ public final class IntersectingTriangleCount extends Algorithm<TriangleCountResu
             triangleCounts.getAndAdd(nodeB, 1);
             triangleCounts.getAndAdd(nodeC, 1);
             globalTriangleCounter.increment();
+            if (relationshipIndex != null) {
+                relationshipTriangleCounts.getAndAdd(relationshipIndex.indexOf(nodeA, nodeB), 1);
+                relationshipTriangleCounts.getAndAdd(relationshipIndex.indexOf(nodeA, nodeC), 1);
+                relationshipTriangleCounts.getAndAdd(relationshipIndex.indexOf(nodeB, nodeC), 1);
+            }
         }
     }
 
@@ -43,6 +43,8 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed(),
             DefaultPool.INSTANCE,
             progressTracker,
             TerminationFlag.RUNNING_TRUE
@@ -60,7 +62,7 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
+        return new IntersectingTriangleCountMemoryEstimateDefinition(configuration.samplingRatio()).memoryEstimation();
     }
 
     @Override
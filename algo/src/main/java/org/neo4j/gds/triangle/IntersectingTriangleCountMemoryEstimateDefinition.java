@@ -19,17 +19,58 @@
  */
 package org.neo4j.gds.triangle;
 
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+
+import static org.neo4j.gds.mem.Estimate.sizeOfBitset;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
 
 public class IntersectingTriangleCountMemoryEstimateDefinition implements MemoryEstimateDefinition {
+
+    private final double samplingRatio;
+
+    public IntersectingTriangleCountMemoryEstimateDefinition() {
+        this(1.0);
+    }
+
+    public IntersectingTriangleCountMemoryEstimateDefinition(double samplingRatio) {
+        this.samplingRatio = samplingRatio;
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
             .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perGraphDimension("degree-oriented-adjacency", (dimensions, concurrency) -> {
+                // every undirected relationship is kept in one direction only
+                long orientedRelationships = sampledRelationships(dimensions.relCountUpperBound());
+                return MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(dimensions.nodeCount(), sizeOfLongArray(0)) +
+                    orientedRelationships * Long.BYTES
+                );
+            })
+            .perGraphDimension("anchor-marks", (dimensions, concurrency) ->
+                MemoryRange.of(concurrency.value() * sizeOfBitset(dimensions.nodeCount()))
+            );
+
+        if (samplingRatio < 1.0) {
+            builder
+                .perNode("relationship-offsets", HugeLongArray::memoryEstimation)
+                .perGraphDimension("relationship-triangle-counts", (dimensions, concurrency) ->
+                    MemoryRange.of(HugeAtomicLongArray.memoryEstimation(sampledRelationships(dimensions.relCountUpperBound())))
+                );
+        }
+
+        return builder.build();
+    }
+
+    private long sampledRelationships(long relationshipCount) {
+        return (long) Math.ceil(relationshipCount / 2 * samplingRatio);
     }
 }
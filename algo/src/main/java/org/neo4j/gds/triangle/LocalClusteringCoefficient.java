@@ -40,6 +40,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
     private final Concurrency concurrency;
     private final long maxDegree;
+    private final double samplingRatio;
+    private final Optional<Long> randomSeed;
     private final NodePropertyValues triangleCountProperty;
 
     private final Graph graph;
@@ -55,11 +57,40 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         @Nullable String seedProperty,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
+    ) {
+        this(
+            graph,
+            concurrency,
+            maxDegree,
+            1.0,
+            Optional.empty(),
+            seedProperty,
+            progressTracker,
+            terminationFlag
+        );
+    }
+
+    /**
+     * @param samplingRatio the rate at which relationships are sampled when counting triangles,
+     *                     the coefficients are estimated from the scaled triangle counts if it is below one.
+     *                     Unlike the global triangle count, the estimated coefficients come without an error bound.
+     */
+    public LocalClusteringCoefficient(
+        Graph graph,
+        Concurrency concurrency,
+        long maxDegree,
+        double samplingRatio,
+        Optional<Long> randomSeed,
+        @Nullable String seedProperty,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
     ) {
         super(progressTracker);
         this.graph = graph;
         this.concurrency = concurrency;
         this.maxDegree = maxDegree;
+        this.samplingRatio = samplingRatio;
+        this.randomSeed = randomSeed;
 
         this.triangleCountProperty =
             Optional.ofNullable(seedProperty)
@@ -120,6 +151,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
             graph,
             concurrency,
             maxDegree,
+            samplingRatio,
+            randomSeed,
             DefaultPool.INSTANCE,
             progressTracker,
             TerminationFlag.RUNNING_TRUE
@@ -138,7 +171,9 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         }
 
         // local clustering coefficient C(v) = 2 * triangles(v) / (degree(v) * (degree(v) - 1))
-        return triangles * 2 / (degree * (degree - 1));
+        double coefficient = triangles * 2 / (degree * (degree - 1));
+        // an estimated triangle count can exceed the number of wedges of the node
+        return samplingRatio < 1.0 ? Math.min(1.0, coefficient) : coefficient;
     }
 
 }
@@ -46,6 +46,8 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed(),
             parameters.seedProperty(),
             progressTracker,
             TerminationFlag.RUNNING_TRUE
@@ -63,7 +65,10 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return new LocalClusteringCoefficientMemoryEstimateDefinition(configuration.seedProperty()).memoryEstimation();
+        return new LocalClusteringCoefficientMemoryEstimateDefinition(
+            configuration.seedProperty(),
+            configuration.samplingRatio()
+        ).memoryEstimation();
     }
 
 
@@ -28,9 +28,15 @@ import org.neo4j.gds.mem.MemoryEstimations;
 public class LocalClusteringCoefficientMemoryEstimateDefinition implements MemoryEstimateDefinition {
 
     private final String seedProperty;
+    private final double samplingRatio;
 
     public LocalClusteringCoefficientMemoryEstimateDefinition(@Nullable String seedProperty) {
+        this(seedProperty, 1.0);
+    }
+
+    public LocalClusteringCoefficientMemoryEstimateDefinition(@Nullable String seedProperty, double samplingRatio) {
         this.seedProperty = seedProperty;
+        this.samplingRatio = samplingRatio;
     }
 
     @Override
@@ -42,7 +48,7 @@ public class LocalClusteringCoefficientMemoryEstimateDefinition implements Memor
         if (seedProperty == null) {
             builder.add(
                 "computed-triangle-counts",
-                new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation()
+                new IntersectingTriangleCountMemoryEstimateDefinition(samplingRatio).memoryEstimation()
             );
         }
         return builder.build();
@@ -21,7 +21,17 @@ package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 
+/**
+ * @param globalTrianglesStandardError the standard error of the global triangle count,
+ *                                     which is zero unless the triangles were counted on a sample
+ */
 public record TriangleCountResult(
         HugeAtomicLongArray localTriangles,
-        long globalTriangles
-    ) {}
+        long globalTriangles,
+        double globalTrianglesStandardError
+    ) {
+
+    public TriangleCountResult(HugeAtomicLongArray localTriangles, long globalTriangles) {
+        this(localTriangles, globalTriangles, 0.0);
+    }
+}
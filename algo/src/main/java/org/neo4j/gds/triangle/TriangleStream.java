@@ -28,10 +28,7 @@ import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectConfig;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
-import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
+import org.neo4j.gds.triangle.intersect.DegreeOrientedAdjacency;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -53,8 +50,6 @@ import java.util.stream.StreamSupport;
 public final class TriangleStream extends Algorithm<Stream<TriangleResult>> {
 
     private final Graph graph;
-    private final RelationshipIntersectFactory intersectFactory;
-    private final RelationshipIntersectConfig intersectConfig;
     private final ExecutorService executorService;
     private final AtomicInteger queue;
     private final Concurrency concurrency;
@@ -68,25 +63,17 @@ public final class TriangleStream extends Algorithm<Stream<TriangleResult>> {
         Concurrency concurrency,
         TerminationFlag terminationFlag
     ) {
-        var factory = RelationshipIntersectFactoryLocator
-            .lookup(graph)
-            .orElseThrow(
-                () -> new IllegalArgumentException("No relationship intersect factory registered for graph: " + graph.getClass())
-            );
-        return new TriangleStream(graph, factory, executorService, concurrency, terminationFlag);
+        return new TriangleStream(graph, executorService, concurrency, terminationFlag);
     }
 
     private TriangleStream(
         Graph graph,
-        RelationshipIntersectFactory intersectFactory,
         ExecutorService executorService,
         Concurrency concurrency,
         TerminationFlag terminationFlag
     ) {
         super(ProgressTracker.NULL_TRACKER);
         this.graph = graph;
-        this.intersectFactory = intersectFactory;
-        this.intersectConfig = ImmutableRelationshipIntersectConfig.builder().build();
         this.executorService = executorService;
         this.concurrency = concurrency;
         this.nodeCount = Math.toIntExact(graph.nodeCount());
@@ -123,8 +110,15 @@ public final class TriangleStream extends Algorithm<Stream<TriangleResult>> {
     private void submitTasks() {
         queue.set(0);
         runningThreads.set(0);
+        var adjacency = DegreeOrientedAdjacency.create(
+            graph,
+            Long.MAX_VALUE,
+            concurrency,
+            executorService,
+            terminationFlag
+        );
         final Collection<Runnable> tasks;
-        tasks = ParallelUtil.tasks(concurrency, () -> new IntersectTask(intersectFactory.load(graph, intersectConfig)));
+        tasks = ParallelUtil.tasks(concurrency, () -> new IntersectTask(adjacency.intersect()));
         ParallelUtil.run(tasks, false, executorService, null);
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The adjacency of an undirected graph in which every relationship is only kept in the direction
+ * from the node of lower degree to the node of higher degree, breaking ties by node id.
+ * <p>
+ * Every triangle is thus found exactly once, by intersecting the oriented neighbors of its lowest ranked node
+ * with the oriented neighbors of its second lowest ranked node. High degree nodes only keep their relationships
+ * to other high degree nodes, which bounds the number of oriented neighbors of every node by the square root
+ * of twice the relationship count.
+ * <p>
+ * Self-loops, parallel relationships, and nodes with a degree above the maximum degree are omitted.
+ * <p>
+ * The adjacency can be sparsified by keeping every relationship independently with a given sampling ratio.
+ * The decision is derived from a hash of both end nodes and the random seed,
+ * so it does not depend on the concurrency or on the direction in which the relationship is visited.
+ */
+public final class DegreeOrientedAdjacency {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final HugeObjectArray<long[]> neighbors;
+    private final long nodeCount;
+
+    public static DegreeOrientedAdjacency create(
+        Graph graph,
+        long maxDegree,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        return create(graph, maxDegree, 1.0, 0L, concurrency, executorService, terminationFlag);
+    }
+
+    public static DegreeOrientedAdjacency create(
+        Graph graph,
+        long maxDegree,
+        double samplingRatio,
+        long randomSeed,
+        Concurrency concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var sampled = samplingRatio < 1.0;
+        var nodeCount = graph.nodeCount();
+        var neighbors = HugeObjectArray.newArray(long[].class, nodeCount);
+
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            graph.relationshipCount(),
+            graph::degree,
+            concurrency,
+            executorService,
+            terminationFlag,
+            (start, end) -> {
+                var localGraph = graph.concurrentCopy();
+                var buffer = new LongArrayList();
+                for (long node = start; node < end; node++) {
+                    var source = node;
+                    var sourceDegree = localGraph.degree(source);
+                    if (sourceDegree > maxDegree) {
+                        neighbors.set(source, EMPTY);
+                        continue;
+                    }
+
+                    buffer.clear();
+                    localGraph.forEachRelationship(source, (ignored, target) -> {
+                        var targetDegree = localGraph.degree(target);
+                        if (targetDegree <= maxDegree
+                            && (sourceDegree < targetDegree || (sourceDegree == targetDegree && source < target))
+                            && (!sampled || isSampled(source, target, samplingRatio, randomSeed))) {
+                            buffer.add(target);
+                        }
+                        return true;
+                    });
+                    neighbors.set(source, sortedDistinct(buffer));
+                }
+            }
+        );
+
+        return new DegreeOrientedAdjacency(neighbors, nodeCount);
+    }
+
+    static boolean isSampled(long nodeA, long nodeB, double samplingRatio, long randomSeed) {
+        long hash = BitMixer.mix64(BitMixer.mix64(Math.min(nodeA, nodeB) ^ randomSeed) + Math.max(nodeA, nodeB));
+        // the upper 53 bits of the hash as a uniform double in [0, 1)
+        return (hash >>> 11) * 0x1.0p-53 < samplingRatio;
+    }
+
+    private static long[] sortedDistinct(LongArrayList buffer) {
+        if (buffer.isEmpty()) {
+            return EMPTY;
+        }
+        var targets = buffer.toArray();
+        Arrays.sort(targets);
+        int distinct = 1;
+        for (int i = 1; i < targets.length; i++) {
+            if (targets[i] != targets[distinct - 1]) {
+                targets[distinct++] = targets[i];
+            }
+        }
+        return distinct == targets.length ? targets : Arrays.copyOf(targets, distinct);
+    }
+
+    private DegreeOrientedAdjacency(HugeObjectArray<long[]> neighbors, long nodeCount) {
+        this.neighbors = neighbors;
+        this.nodeCount = nodeCount;
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the sorted oriented neighbors of the node. The returned array must not be modified.
+     */
+    long[] neighbors(long node) {
+        return neighbors.get(node);
+    }
+
+    /**
+     * Creates a dense index over the oriented relationships of this adjacency.
+     */
+    public RelationshipIndex relationshipIndex() {
+        return new RelationshipIndex(this);
+    }
+
+    /**
+     * Creates an intersect over this adjacency, which is meant to be used by a single thread.
+     */
+    public RelationshipIntersect intersect() {
+        return new HybridIntersect(this);
+    }
+}
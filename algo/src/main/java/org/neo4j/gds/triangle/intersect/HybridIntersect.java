@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.IntersectionConsumer;
+import org.neo4j.gds.api.RelationshipIntersect;
+
+/**
+ * Finds the triangles of a node in a {@link DegreeOrientedAdjacency}.
+ * <p>
+ * The oriented neighbors of the node, its anchor, are intersected with the oriented neighbors of each of them.
+ * The intersection algorithm is picked per pair of lists: lists of similar size are merged, and a list that is
+ * much smaller than the other one is searched in it by galloping. Large anchors are instead marked in a bitmap
+ * once, so that the neighbor lists only need to be scanned.
+ * <p>
+ * Triangles are reported with their node ids in ascending order, like {@link GraphIntersect} does.
+ * An instance is not thread-safe, as it owns the bitmap.
+ */
+final class HybridIntersect implements RelationshipIntersect {
+
+    // Anchors with at least this many neighbors are marked in the bitmap instead of being merged.
+    static final int BITMAP_THRESHOLD = 128;
+    // Galloping outperforms a linear merge when one list is this many times larger than the other.
+    static final int GALLOPING_RATIO = 16;
+
+    private final DegreeOrientedAdjacency adjacency;
+    // lazily created, as most graphs have no large anchors
+    private BitSet anchorMarks;
+
+    HybridIntersect(DegreeOrientedAdjacency adjacency) {
+        this.adjacency = adjacency;
+    }
+
+    @Override
+    public void intersectAll(long nodeIdA, IntersectionConsumer consumer) {
+        var anchor = adjacency.neighbors(nodeIdA);
+        if (anchor.length < 2) {
+            return;
+        }
+
+        if (anchor.length >= BITMAP_THRESHOLD) {
+            intersectMarked(nodeIdA, anchor, consumer);
+            return;
+        }
+
+        for (long nodeIdB : anchor) {
+            var neighborsOfB = adjacency.neighbors(nodeIdB);
+            if (neighborsOfB.length == 0) {
+                continue;
+            }
+            if (neighborsOfB.length >= (long) anchor.length * GALLOPING_RATIO) {
+                gallop(nodeIdA, nodeIdB, anchor, neighborsOfB, consumer);
+            } else if (anchor.length >= (long) neighborsOfB.length * GALLOPING_RATIO) {
+                gallop(nodeIdA, nodeIdB, neighborsOfB, anchor, consumer);
+            } else {
+                merge(nodeIdA, nodeIdB, anchor, neighborsOfB, consumer);
+            }
+        }
+    }
+
+    private void intersectMarked(long nodeIdA, long[] anchor, IntersectionConsumer consumer) {
+        if (anchorMarks == null) {
+            anchorMarks = new BitSet(adjacency.nodeCount());
+        }
+        for (long node : anchor) {
+            anchorMarks.set(node);
+        }
+
+        for (long nodeIdB : anchor) {
+            for (long nodeIdC : adjacency.neighbors(nodeIdB)) {
+                if (anchorMarks.get(nodeIdC)) {
+                    emit(nodeIdA, nodeIdB, nodeIdC, consumer);
+                }
+            }
+        }
+
+        for (long node : anchor) {
+            anchorMarks.clear(node);
+        }
+    }
+
+    static void merge(long nodeIdA, long nodeIdB, long[] neighbors1, long[] neighbors2, IntersectionConsumer consumer) {
+        int i = 0;
+        int j = 0;
+        while (i < neighbors1.length && j < neighbors2.length) {
+            long node1 = neighbors1[i];
+            long node2 = neighbors2[j];
+            if (node1 < node2) {
+                i++;
+            } else if (node1 > node2) {
+                j++;
+            } else {
+                emit(nodeIdA, nodeIdB, node1, consumer);
+                i++;
+                j++;
+            }
+        }
+    }
+
+    static void gallop(long nodeIdA, long nodeIdB, long[] smaller, long[] larger, IntersectionConsumer consumer) {
+        int from = 0;
+        for (long node : smaller) {
+            from = gallop(larger, from, node);
+            if (from == larger.length) {
+                return;
+            }
+            if (larger[from] == node) {
+                emit(nodeIdA, nodeIdB, node, consumer);
+                from++;
+            }
+        }
+    }
+
+    /**
+     * Returns the first index at or after {@code from} whose node is not smaller than the given node,
+     * or the length of the array if there is none.
+     */
+    static int gallop(long[] nodes, int from, long node) {
+        int low = from;
+        long high = from;
+        long step = 1;
+        while (high < nodes.length && nodes[(int) high] < node) {
+            low = (int) high + 1;
+            high += step;
+            step <<= 1;
+        }
+
+        int to = (int) Math.min(high, nodes.length);
+        while (low < to) {
+            int mid = (low + to) >>> 1;
+            if (nodes[mid] < node) {
+                low = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void emit(long nodeIdA, long nodeIdB, long nodeIdC, IntersectionConsumer consumer) {
+        long min = Math.min(nodeIdA, Math.min(nodeIdB, nodeIdC));
+        long max = Math.max(nodeIdA, Math.max(nodeIdB, nodeIdC));
+        long mid = nodeIdA ^ nodeIdB ^ nodeIdC ^ min ^ max;
+        consumer.accept(min, mid, max);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.util.Arrays;
+
+/**
+ * Assigns every relationship of a {@link DegreeOrientedAdjacency} a dense index,
+ * so that per-relationship state can be kept in flat arrays.
+ */
+public final class RelationshipIndex {
+
+    private final DegreeOrientedAdjacency adjacency;
+    private final HugeLongArray offsets;
+    private final long relationshipCount;
+
+    RelationshipIndex(DegreeOrientedAdjacency adjacency) {
+        this.adjacency = adjacency;
+        var nodeCount = adjacency.nodeCount();
+        this.offsets = HugeLongArray.newArray(nodeCount);
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.set(node, offset);
+            offset += adjacency.neighbors(node).length;
+        }
+        this.relationshipCount = offset;
+    }
+
+    public long relationshipCount() {
+        return relationshipCount;
+    }
+
+    /**
+     * Returns the index of the relationship between both nodes, regardless of its orientation,
+     * or {@code -1} if the adjacency does not contain it.
+     */
+    public long indexOf(long nodeA, long nodeB) {
+        int position = Arrays.binarySearch(adjacency.neighbors(nodeA), nodeB);
+        if (position >= 0) {
+            return offsets.get(nodeA) + position;
+        }
+        position = Arrays.binarySearch(adjacency.neighbors(nodeB), nodeA);
+        if (position >= 0) {
+            return offsets.get(nodeB) + position;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps the weakly connected components of a graph current while relationships are added to it.
+ * <p>
+ * The disjoint set struct of an initial {@link Wcc} run is attached to the graph store as a node property,
+ * which keeps it alive in the catalog for as long as the graph exists.
+ * Batches of new relationships are applied concurrently as lock-free union operations,
+ * and component ids are resolved against the latest state whenever the property is read.
+ * Removing relationships cannot be expressed as union operations and requires a new {@link Wcc} run.
+ */
+public final class StreamingWcc {
+
+    private final HugeAtomicDisjointSetStruct disjointSetStruct;
+    private final Concurrency concurrency;
+    private final ExecutorService executorService;
+
+    private StreamingWcc(
+        HugeAtomicDisjointSetStruct disjointSetStruct,
+        Concurrency concurrency,
+        ExecutorService executorService
+    ) {
+        this.disjointSetStruct = disjointSetStruct;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Attaches the components of a {@link Wcc} run on the given graph store under the given property key.
+     */
+    public static StreamingWcc attach(
+        GraphStore graphStore,
+        String propertyKey,
+        DisjointSetStruct components,
+        Concurrency concurrency,
+        ExecutorService executorService
+    ) {
+        if (!(components instanceof HugeAtomicDisjointSetStruct)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Streaming WCC requires a concurrent disjoint set struct, but got `%s`.",
+                components.getClass().getSimpleName()
+            ));
+        }
+        if (components.size() != graphStore.nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The components cover %d nodes, but the graph contains %d nodes.",
+                components.size(),
+                graphStore.nodeCount()
+            ));
+        }
+
+        var streamingWcc = new StreamingWcc(
+            (HugeAtomicDisjointSetStruct) components,
+            concurrency,
+            executorService
+        );
+        graphStore.addNodeProperty(graphStore.nodeLabels(), propertyKey, new ComponentIds(streamingWcc));
+        return streamingWcc;
+    }
+
+    /**
+     * Returns the streaming components previously attached to the graph store under the given property key.
+     */
+    public static Optional<StreamingWcc> attached(GraphStore graphStore, String propertyKey) {
+        if (!graphStore.hasNodeProperty(propertyKey)) {
+            return Optional.empty();
+        }
+        var values = graphStore.nodeProperty(propertyKey).values();
+        if (values instanceof ComponentIds) {
+            return Optional.of(((ComponentIds) values).streamingWcc);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Merges the components of the given relationships, identified by their internal source and target node ids.
+     */
+    public void addRelationships(long[] sourceNodes, long[] targetNodes, int length) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            length,
+            partition -> (Runnable) () -> partition.consume(index -> disjointSetStruct.union(
+                sourceNodes[(int) index],
+                targetNodes[(int) index]
+            )),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+    }
+
+    public long componentId(long nodeId) {
+        return disjointSetStruct.setIdOf(nodeId);
+    }
+
+    public long nodeCount() {
+        return disjointSetStruct.size();
+    }
+
+    public NodePropertyValues asNodeProperties() {
+        return new ComponentIds(this);
+    }
+
+    private static final class ComponentIds implements LongNodePropertyValues {
+
+        private final StreamingWcc streamingWcc;
+
+        private ComponentIds(StreamingWcc streamingWcc) {
+            this.streamingWcc = streamingWcc;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return streamingWcc.componentId(nodeId);
+        }
+
+        @Override
+        public long nodeCount() {
+            return streamingWcc.nodeCount();
+        }
+    }
+}
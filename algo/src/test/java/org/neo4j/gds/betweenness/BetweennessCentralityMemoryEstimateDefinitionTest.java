@@ -29,9 +29,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 6_000_376",
-        "4, 21_601_192",
-        "42, 219_211_528"
+        "1, 3_600_344",
+        "4, 12_001_064",
+        "42, 118_410_184"
     })
     void testMemoryEstimation(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(false).memoryEstimation();
@@ -42,9 +42,9 @@ class BetweennessCentralityMemoryEstimateDefinitionTest {
 
     @ParameterizedTest(name = "Concurrency: {0}")
     @CsvSource({
-        "1, 7_213_000",
-        "4, 26_451_688",
-        "42, 270_141_736"
+        "1, 7_213_016",
+        "4, 26_451_752",
+        "42, 270_142_408"
     })
     void testMemoryEstimationWithRelationshipWeight(int concurrency, long expectedBytes) {
         var memoryEstimation = new BetweennessCentralityMemoryEstimateDefinition(true).memoryEstimation();
@@ -19,14 +19,12 @@
  */
 package org.neo4j.gds.betweenness;
 
+import com.carrotsearch.hppc.DoubleArrayList;
 import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
-import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
@@ -63,80 +61,69 @@ class ForwardTraverserTest {
 
     @Test
     void shouldWorkOnUnWeightedGraphs() {
-        var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
-        var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
-        UnweightedForwardTraverser unweightedForwardTraverser = UnweightedForwardTraverser.create(
-            equallyWeightedGraph,
-            predecessors,
-            backwardNodes,
-            sigma,
-            TerminationFlag.RUNNING_TRUE
-        );
-        unweightedForwardTraverser.clear();
-
-        sigma.addTo(0, 1);
-        unweightedForwardTraverser.traverse(0);
+        var traverser = UnweightedForwardTraverser.create(equallyWeightedGraph, TerminationFlag.RUNNING_TRUE);
+        traverser.clear();
+        traverser.traverse(0);
+
+        var backwardNodes = new LongArrayList();
+        var dependencies = new DoubleArrayList();
+        traverser.accumulateDependencies((node, dependency) -> {
+            backwardNodes.add(node);
+            dependencies.add(dependency);
+        });
 
         SoftAssertions softAssertions = new SoftAssertions();
 
-        softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 2, 2});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(3, 4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
+        softAssertions.assertThat(backwardNodes.toArray()).containsExactly(6, 5, 4, 3, 1, 0);
+        // e is reached on two shortest paths, each of c and d lies on one of them
+        softAssertions.assertThat(dependencies.toArray()).containsExactly(0.0, 1.0, 1.0, 1.0, 4.0, 5.0);
+
+        softAssertions.assertAll();
+    }
+
+    @Test
+    void shouldResetReachedNodesOnClear() {
+        var traverser = UnweightedForwardTraverser.create(equallyWeightedGraph, TerminationFlag.RUNNING_TRUE);
+        traverser.traverse(0);
+        traverser.accumulateDependencies((node, dependency) -> {});
+        traverser.clear();
+
+        // a2 does not reach a1, so any leftovers from the first traversal would show up here
+        traverser.traverse(2);
+
+        var backwardNodes = new LongArrayList();
+        var dependencies = new DoubleArrayList();
+        traverser.accumulateDependencies((node, dependency) -> {
+            backwardNodes.add(node);
+            dependencies.add(dependency);
+        });
 
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
+        SoftAssertions softAssertions = new SoftAssertions();
 
-        softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
+        softAssertions.assertThat(backwardNodes.toArray()).containsExactly(6, 5, 4, 3, 1, 2);
+        softAssertions.assertThat(dependencies.toArray()).containsExactly(0.0, 1.0, 1.0, 1.0, 4.0, 5.0);
 
         softAssertions.assertAll();
     }
 
     @Test
     void shouldWorkOnWeightedGraphs() {
-        var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
-        var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
-        WeightedForwardTraverser weightedForwardTraversor = WeightedForwardTraverser.create(
-            weightedGraph,
-            predecessors,
-            backwardNodes,
-            sigma,
-            TerminationFlag.RUNNING_TRUE
-        );
-        weightedForwardTraversor.clear();
-
-        sigma.addTo(0, 1);
-        weightedForwardTraversor.traverse(0);
+        var traverser = WeightedForwardTraverser.create(weightedGraph, TerminationFlag.RUNNING_TRUE);
+        traverser.clear();
+        traverser.traverse(0);
+
+        var backwardNodes = new LongArrayList();
+        var dependencies = new DoubleArrayList();
+        traverser.accumulateDependencies((node, dependency) -> {
+            backwardNodes.add(node);
+            dependencies.add(dependency);
+        });
 
         SoftAssertions softAssertions = new SoftAssertions();
 
-        softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 1, 1});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
-
-        softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
+        softAssertions.assertThat(backwardNodes.toArray()).containsExactly(3, 6, 5, 4, 1, 0);
+        // the only shortest path to e passes d, so c is a leaf of the shortest path tree
+        softAssertions.assertThat(dependencies.toArray()).containsExactly(0.0, 0.0, 1.0, 2.0, 4.0, 5.0);
 
         softAssertions.assertAll();
     }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.pagerank;
 
+import com.carrotsearch.hppc.LongScatterSet;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.assertj.core.data.Offset;
@@ -36,6 +37,7 @@ import org.neo4j.gds.applications.algorithms.machinery.RequestScopedDependencies
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
@@ -653,6 +655,70 @@ class PageRankTest {
         }
     }
 
+    @Nested
+    class Incremental {
+
+        private static final String NODES = "  (a), (b), (c), (d), (e), (x), (y)";
+
+        private static final String BEFORE = NODES +
+            ", (a)-->(b), (b)-->(c), (c)-->(a), (d)-->(a), (e)-->(d)" +
+            ", (x)-->(y), (y)-->(x)";
+
+        // removes (d)-->(a), adds (d)-->(b) and (a)-->(e)
+        private static final String AFTER = NODES +
+            ", (a)-->(b), (b)-->(c), (c)-->(a), (d)-->(b), (e)-->(d), (a)-->(e)" +
+            ", (x)-->(y), (y)-->(x)";
+
+        private final PageRankConfig config = PageRankConfigImpl.builder()
+            .maxIterations(100)
+            .tolerance(1E-10)
+            .concurrency(1)
+            .build();
+
+        @Test
+        void shouldReconvergeFromPriorScores() {
+            var before = TestSupport.fromGdl(BEFORE);
+            var after = TestSupport.fromGdl(AFTER);
+
+            var centralityAlgorithms = new CentralityAlgorithms(null, TerminationFlag.RUNNING_TRUE);
+            var prior = centralityAlgorithms.pageRank(before, config, ProgressTracker.NULL_TRACKER);
+            var expected = centralityAlgorithms.pageRank(after, config, ProgressTracker.NULL_TRACKER);
+
+            var changedNodes = new LongScatterSet();
+            for (var variable : List.of("a", "b", "d", "e")) {
+                changedNodes.add(after.toMappedNodeId(variable));
+            }
+
+            var computation = PageRankComputation.incremental(
+                after,
+                config,
+                new LongScatterSet(),
+                DegreeFunctions.pageRankDegreeFunction(after, false, config.concurrency()),
+                prior.nodePropertyValues(),
+                changedNodes
+            );
+            var result = new PageRankAlgorithm<>(
+                after,
+                config,
+                computation,
+                PageRankVariant.PAGE_RANK,
+                DefaultPool.INSTANCE,
+                ProgressTracker.NULL_TRACKER,
+                TerminationFlag.RUNNING_TRUE
+            ).compute();
+
+            assertThat(result.didConverge()).isTrue();
+            for (long nodeId = 0; nodeId < after.nodeCount(); nodeId++) {
+                assertThat(result.scores().get(nodeId)).isEqualTo(expected.scores().get(nodeId), within(SCORE_PRECISION));
+            }
+            // the untouched component keeps its prior scores
+            for (var variable : List.of("x", "y")) {
+                var nodeId = after.toMappedNodeId(variable);
+                assertThat(result.scores().get(nodeId)).isEqualTo(prior.scores().get(nodeId));
+            }
+        }
+    }
+
     @Test
     void parallelExecution() {
         var graph = RandomGraphGenerator.builder()
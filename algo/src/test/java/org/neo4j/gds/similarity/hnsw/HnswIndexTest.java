@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class HnswIndexTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { vector: [1.0, 0.0, 0.0], id: 1 })" +
+        ", (b { vector: [0.9, 0.1, 0.0], id: 2 })" +
+        ", (c { vector: [0.0, 1.0, 0.0], id: 3 })" +
+        ", (d { vector: [0.0, 0.9, 0.1], id: 4 })" +
+        ", (e { vector: [0.0, 0.0, 1.0], id: 5 })";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldFindNearestNeighboursOfNode() {
+        var index = HnswIndex.build(graph, parameters("vector", 4), DefaultPool.INSTANCE);
+
+        var matches = index.search(graph.toMappedNodeId("a"), 1, 10);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).nodeId()).isEqualTo(graph.toMappedNodeId("b"));
+        assertThat(matches.get(0).similarity()).isCloseTo(
+            Cosine.doubleMetric(new double[]{1.0, 0.0, 0.0}, new double[]{0.9, 0.1, 0.0}),
+            Offset.offset(1e-9)
+        );
+    }
+
+    @Test
+    void shouldFindNearestNeighboursOfVector() {
+        var index = HnswIndex.build(graph, parameters("vector", 4), DefaultPool.INSTANCE);
+
+        var matches = index.search(new float[]{0.0F, 1.0F, 0.05F}, 2, 10);
+
+        assertThat(matches)
+            .extracting(HnswIndex.Match::nodeId)
+            .containsExactly(graph.toMappedNodeId("c"), graph.toMappedNodeId("d"));
+    }
+
+    @Test
+    void shouldRejectScalarProperties() {
+        assertThatThrownBy(() -> HnswIndex.build(graph, parameters("id", 4), DefaultPool.INSTANCE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("expected a float or double array");
+    }
+
+    @Test
+    void shouldHaveHighRecallOnRandomEmbeddings() {
+        int nodeCount = 2_000;
+        int k = 10;
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding("embedding", 16, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+        var embeddings = randomGraph.nodeProperties("embedding");
+
+        var index = HnswIndex.build(randomGraph, parameters("embedding", 4), DefaultPool.INSTANCE);
+
+        int hits = 0;
+        int queries = 0;
+        for (long query = 0; query < nodeCount; query += 40, queries++) {
+            var queryVector = embeddings.floatArrayValue(query);
+            long finalQuery = query;
+            var expected = LongStream.range(0, nodeCount)
+                .filter(other -> other != finalQuery)
+                .boxed()
+                .sorted(Comparator.comparingDouble(other -> -Cosine.floatMetric(
+                    queryVector,
+                    embeddings.floatArrayValue(other)
+                )))
+                .limit(k)
+                .mapToLong(Long::longValue)
+                .toArray();
+            Arrays.sort(expected);
+
+            for (var match : index.search(query, k, 64)) {
+                if (Arrays.binarySearch(expected, match.nodeId()) >= 0) {
+                    hits++;
+                }
+            }
+        }
+
+        assertThat(hits / (double) (queries * k)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void shouldKeepIndexWithCatalogEntry() {
+        var graphStore = GdlFactory.of(DB_CYPHER).build();
+        var config = GraphProjectConfig.emptyWithName("user", "graph");
+        var databaseId = graphStore.databaseInfo().databaseId();
+        GraphStoreCatalog.set(config, graphStore);
+        try {
+            var index = HnswIndex.build(graphStore.getUnion(), parameters("vector", 1), DefaultPool.INSTANCE);
+
+            HnswIndexStore.put("user", databaseId, "graph", index);
+
+            assertThat(HnswIndexStore.get("user", databaseId, "graph", "vector")).containsSame(index);
+            assertThat(HnswIndexStore.get("user", databaseId, "graph", "id")).isEmpty();
+            assertThat(GraphStoreCatalog.getIndexKeys("user", databaseId, "graph")).containsExactly("hnsw:vector");
+            assertThat(HnswIndexStore.remove("user", databaseId, "graph", "vector")).containsSame(index);
+            assertThat(HnswIndexStore.get("user", databaseId, "graph", "vector")).isEmpty();
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    private static HnswParameters parameters(String nodeProperty, int concurrency) {
+        return new HnswParameters(
+            nodeProperty,
+            SimilarityMetric.COSINE,
+            8,
+            64,
+            new Concurrency(concurrency),
+            Optional.of(19L)
+        );
+    }
+}
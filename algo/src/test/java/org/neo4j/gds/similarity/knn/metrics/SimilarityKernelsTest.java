@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimilarityKernelsTest {
+
+    // covers lengths below a single vector and lengths with a scalar tail
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 8, 15, 16, 17, 33, 64, 255, 256, 257})
+    void vectorizedMetricsMatchScalarMetrics(int length) {
+        assumeTrue(SimilarityKernels.isVectorizationSupported(), "jdk.incubator.vector is not available");
+
+        var random = new SplittableRandom(length);
+        for (int run = 0; run < 10; run++) {
+            var leftFloats = new float[length];
+            var rightFloats = new float[length + run];
+            var leftDoubles = new double[length];
+            var rightDoubles = new double[length + run];
+            for (int i = 0; i < length; i++) {
+                leftFloats[i] = (float) random.nextDouble(-1, 1);
+                leftDoubles[i] = random.nextDouble(-1, 1);
+            }
+            for (int i = 0; i < length + run; i++) {
+                rightFloats[i] = (float) random.nextDouble(-1, 1);
+                rightDoubles[i] = random.nextDouble(-1, 1);
+            }
+
+            assertSameFloatMetric(Cosine::floatMetric, leftFloats, rightFloats);
+            assertSameFloatMetric(Euclidean::floatMetric, leftFloats, rightFloats);
+            assertSameDoubleMetric(Cosine::doubleMetric, leftDoubles, rightDoubles);
+            assertSameDoubleMetric(Euclidean::doubleMetric, leftDoubles, rightDoubles);
+            if (length > 1) {
+                assertSameFloatMetric(Pearson::floatMetric, leftFloats, rightFloats);
+                assertSameDoubleMetric(Pearson::doubleMetric, leftDoubles, rightDoubles);
+            }
+        }
+    }
+
+    private static void assertSameFloatMetric(
+        ToDoubleBiFunction<float[], float[]> metric,
+        float[] left,
+        float[] right
+    ) {
+        var expected = new double[1];
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.disableAndRun(
+            () -> expected[0] = metric.applyAsDouble(left, right)
+        );
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.enableAndRun(
+            () -> assertThat(metric.applyAsDouble(left, right)).isCloseTo(expected[0], within(1e-5))
+        );
+    }
+
+    private static void assertSameDoubleMetric(
+        ToDoubleBiFunction<double[], double[]> metric,
+        double[] left,
+        double[] right
+    ) {
+        var expected = new double[1];
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.disableAndRun(
+            () -> expected[0] = metric.applyAsDouble(left, right)
+        );
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.enableAndRun(
+            () -> assertThat(metric.applyAsDouble(left, right)).isCloseTo(expected[0], within(1e-12))
+        );
+    }
+}
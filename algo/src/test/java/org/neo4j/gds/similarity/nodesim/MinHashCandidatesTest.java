@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MinHashCandidatesTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.9, 0.9",
+        "0.5, 0.9",
+        "0.5, 0.99",
+        "0.2, 0.95",
+        "0.05, 0.99",
+        "0.01, 0.5"
+    })
+    void shouldChooseBandingThatReachesRecall(double similarityThreshold, double recall) {
+        var banding = MinHashCandidates.banding(similarityThreshold, recall);
+
+        var candidateProbability = 1 - Math.pow(1 - Math.pow(similarityThreshold, banding.rows()), banding.bands());
+        assertThat(candidateProbability).isGreaterThanOrEqualTo(recall);
+        assertThat(banding.hashFunctions()).isLessThanOrEqualTo(MinHashParameters.MAX_HASH_FUNCTIONS);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.01, 0.99",
+        "0.05, 0.999"
+    })
+    void shouldRejectRecallBeyondHashFunctionBudget(double similarityThreshold, double recall) {
+        assertThat(recall).isGreaterThan(MinHashParameters.maxRecall(similarityThreshold));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> MinHashCandidates.banding(similarityThreshold, recall))
+            .withMessageContaining("with at most 128 hash functions");
+    }
+
+    @Test
+    void shouldReachMaxRecall() {
+        var maxRecall = MinHashParameters.maxRecall(0.05);
+        var banding = MinHashCandidates.banding(0.05, maxRecall);
+
+        assertThat(banding).isEqualTo(new MinHashCandidates.Banding(MinHashParameters.MAX_HASH_FUNCTIONS, 1));
+    }
+
+    @Test
+    void shouldFindSimilarPairsWithRequestedRecall() {
+        int nodeCount = 400;
+        int clusters = 20;
+        int itemCount = 2000;
+        var random = new Random(42);
+
+        // every node picks most of its neighbors from the neighborhood of its cluster
+        var clusterItems = new long[clusters][];
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            clusterItems[cluster] = random.longs(30, 0, itemCount).distinct().toArray();
+        }
+        var neighbors = new long[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            var items = clusterItems[node % clusters];
+            neighbors[node] = LongStream.concat(
+                Arrays.stream(items).filter(item -> random.nextDouble() < 0.8),
+                random.longs(3, 0, itemCount)
+            ).distinct().sorted().toArray();
+        }
+
+        var targetNodes = new BitSet(nodeCount);
+        targetNodes.set(0, nodeCount);
+        double similarityThreshold = 0.5;
+        double recall = 0.9;
+
+        var minHashCandidates = MinHashCandidates.create(
+            new MinHashParameters(similarityThreshold, recall),
+            nodeCount,
+            targetNodes,
+            (node, consumer) -> Arrays.stream(neighbors[(int) node]).forEach(consumer),
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var jaccard = new JaccardSimilarityComputer(similarityThreshold);
+        long similarPairs = 0;
+        long foundPairs = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            var candidates = minHashCandidates.candidates(node).toArray();
+            assertThat(candidates).isSorted().doesNotHaveDuplicates().contains(node);
+
+            for (int other = 0; other < nodeCount; other++) {
+                if (other != node && !Double.isNaN(jaccard.computeSimilarity(neighbors[node], neighbors[other]))) {
+                    similarPairs++;
+                    if (Arrays.binarySearch(candidates, other) >= 0) {
+                        foundPairs++;
+                    }
+                }
+            }
+        }
+
+        assertThat(similarPairs).isPositive();
+        assertThat((double) foundPairs / similarPairs).isGreaterThanOrEqualTo(recall);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.core.utils.Intersections;
+
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NeighborSetTest {
+
+    static Stream<Arguments> densities() {
+        return Stream.of(
+            // sparse arrays of similar size are merged
+            Arguments.of(100, 100_000, 100, 100_000),
+            // sparse arrays of very different size are intersected by galloping
+            Arguments.of(5, 100_000, 1_000, 100_000),
+            // dense sets are bitmaps
+            Arguments.of(500, 1_000, 800, 1_000),
+            // sparse arrays are probed against bitmaps
+            Arguments.of(50, 100_000, 900, 1_000),
+            // bitmaps with partially overlapping ranges
+            Arguments.of(500, 1_000, 500, 2_000)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("densities")
+    void shouldComputeIntersections(int size1, int range1, int size2, int range2) {
+        var random = new SplittableRandom(42);
+        for (int run = 0; run < 10; run++) {
+            var ids1 = randomIds(random, size1, range1);
+            var ids2 = randomIds(random, size2, range2);
+
+            var set1 = NeighborSet.of(ids1);
+            var set2 = NeighborSet.of(ids2);
+
+            var expected = Intersections.intersection3(ids1, ids2);
+            assertThat(set1.size()).isEqualTo(ids1.length);
+            assertThat(set2.size()).isEqualTo(ids2.length);
+            assertThat(set1.intersection(set2)).isEqualTo(expected);
+            assertThat(set2.intersection(set1)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldUseBitmapsForDenseSets() {
+        assertThat(NeighborSet.of(new long[]{1, 5, 1000}).isBitmap()).isFalse();
+        assertThat(NeighborSet.of(new long[]{64, 65, 70, 100}).isBitmap()).isTrue();
+        assertThat(NeighborSet.of(new long[0]).isBitmap()).isFalse();
+    }
+
+    @Test
+    void shouldIntersectDuplicatesLikeMultisets() {
+        var ids1 = new long[]{1, 2, 2, 3, 3, 3, 4};
+        var ids2 = new long[]{2, 2, 2, 3, 4, 5};
+        var dense = new long[]{1, 2, 3, 4, 5};
+
+        var set1 = NeighborSet.of(ids1);
+        var set2 = NeighborSet.of(ids2);
+        var denseSet = NeighborSet.of(dense);
+
+        assertThat(set1.isBitmap()).isFalse();
+        assertThat(denseSet.isBitmap()).isTrue();
+
+        assertThat(set1.intersection(set2)).isEqualTo(Intersections.intersection3(ids1, ids2));
+        assertThat(set1.intersection(denseSet)).isEqualTo(Intersections.intersection3(ids1, dense));
+        assertThat(denseSet.intersection(set2)).isEqualTo(Intersections.intersection3(dense, ids2));
+    }
+
+    @Test
+    void shouldGallop() {
+        var ids = new int[]{1, 3, 5, 7, 9, 11, 13, 15, 17, 19};
+
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 0)).isEqualTo(0);
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 1)).isEqualTo(0);
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 2)).isEqualTo(1);
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 14)).isEqualTo(7);
+        assertThat(NeighborSet.gallop(ids, 3, ids.length, 4)).isEqualTo(3);
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 19)).isEqualTo(9);
+        assertThat(NeighborSet.gallop(ids, 0, ids.length, 20)).isEqualTo(10);
+        assertThat(NeighborSet.gallop(ids, 0, 5, 20)).isEqualTo(5);
+    }
+
+    private static long[] randomIds(SplittableRandom random, int size, int range) {
+        return random.longs(size, 0, range).sorted().distinct().toArray();
+    }
+}
@@ -51,6 +51,7 @@ import org.neo4j.gds.wcc.WccStub;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -511,6 +512,39 @@ final class NodeSimilarityTest {
         );
     }
 
+    @ParameterizedTest(name = "concurrency = {0}")
+    @MethodSource("concurrencies")
+    void shouldOnlyCompareMinHashCandidates(int concurrency) {
+        var parameters = new NodeSimilarityParameters(
+            new JaccardSimilarityComputer(0.1),
+            1,
+            Integer.MAX_VALUE,
+            10,
+            0,
+            true,
+            false,
+            false,
+            null,
+            Optional.of(new MinHashParameters(0.1, 0.9))
+        );
+
+        NodeSimilarity nodeSimilarity = constructNodeSimilarity(
+            naturalGraph,
+            parameters,
+            new Concurrency(concurrency)
+        );
+
+        Set<String> result = nodeSimilarity
+            .compute()
+            .streamResult()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+
+        // candidates are scored exactly, and nodes with identical neighborhoods are always candidates
+        assertThat(EXPECTED_OUTGOING_SIMILARITY_CUTOFF).containsAll(result);
+        assertThat(result).contains(resultString(0, 3, 1.0), resultString(3, 0, 1.0));
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeWithDegreeCutoffForSupportedDirections(Orientation orientation, int concurrency) {
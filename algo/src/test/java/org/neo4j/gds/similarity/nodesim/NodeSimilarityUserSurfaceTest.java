@@ -20,6 +20,8 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -29,4 +31,37 @@ class NodeSimilarityUserSurfaceTest {
         assertThatThrownBy(NodeSimilarityStreamConfigImpl.builder().upperDegreeCutoff(3).degreeCutoff(4)::build)
             .hasMessageContaining("upperDegreeCutoff cannot be smaller than degreeCutoff");
     }
+
+    @Test
+    void shouldThrowIfMinHashIsUsedWithoutSimilarityCutoff() {
+        assertThatThrownBy(NodeSimilarityStreamConfigImpl.builder().minHashRecall(0.9)::build)
+            .hasMessageContaining("minHashRecall requires a similarityCutoff of at least 0.05");
+    }
+
+    @Test
+    void shouldThrowIfMinHashRecallExceedsHashFunctionBudget() {
+        assertThatThrownBy(NodeSimilarityStreamConfigImpl.builder()
+            .minHashRecall(0.999)
+            .similarityCutoff(0.05)::build)
+            .hasMessageContaining("minHashRecall must be at most 0.9985 for a similarityCutoff of 0.05");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"OVERLAP", "COSINE"})
+    void shouldThrowIfMinHashIsUsedWithOtherMetricThanJaccard(String metric) {
+        assertThatThrownBy(NodeSimilarityStreamConfigImpl.builder()
+            .minHashRecall(0.9)
+            .similarityCutoff(0.5)
+            .similarityMetric(metric)::build)
+            .hasMessageContaining("minHashRecall is only supported for the similarityMetric JACCARD, but got " + metric);
+    }
+
+    @Test
+    void shouldThrowIfMinHashIsUsedWithBottomK() {
+        assertThatThrownBy(NodeSimilarityStreamConfigImpl.builder()
+            .minHashRecall(0.9)
+            .similarityCutoff(0.5)
+            .bottomK(3)::build)
+            .hasMessageContaining("Invalid parameter combination: minHashRecall combined with bottomK or bottomN");
+    }
 }
@@ -23,11 +23,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.mem.MemoryEstimation;
 
+import static org.neo4j.gds.mem.Estimate.sizeOfBitset;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+
 class IntersectingTriangleCountMemoryEstimateDefinitionTest {
 
     @ValueSource(longs = {1L, 10L, 100L, 10_000L})
@@ -39,7 +45,7 @@ class IntersectingTriangleCountMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
         long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
-        long expected = 72 + hugeAtomicLongArray;
+        long expected = 88 + hugeAtomicLongArray + orientedAdjacencyAndAnchorMarks(nodeCount);
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -55,11 +61,58 @@ class IntersectingTriangleCountMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
         long hugeAtomicLongArray = 32 + sizeOfHugeArray;
-        long expected = 72 + hugeAtomicLongArray;
+        long expected = 88 + hugeAtomicLongArray + orientedAdjacencyAndAnchorMarks(nodeCount);
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(graphDimensions, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(expected);
+
+    }
+
+    @ParameterizedTest
+    @CsvSource({"100, 1000", "10000, 500000"})
+    void memoryEstimationWithRelationships(long nodeCount, long relationshipCount) {
+        MemoryEstimation memoryEstimation =
+            new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
+
+        GraphDimensions graphDimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(relationshipCount)
+            .build();
+
+        long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
+        long orientedRelationships = relationshipCount / 2 * Long.BYTES;
+        long expected = 88 + hugeAtomicLongArray + orientedAdjacencyAndAnchorMarks(nodeCount) + orientedRelationships;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
             .hasSameMinAndMaxEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"100, 1000, 0.5", "10000, 500000, 0.1"})
+    void memoryEstimationWithSampling(long nodeCount, long relationshipCount, double samplingRatio) {
+        MemoryEstimation memoryEstimation =
+            new IntersectingTriangleCountMemoryEstimateDefinition(samplingRatio).memoryEstimation();
+
+        GraphDimensions graphDimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(relationshipCount)
+            .build();
+
+        long sampledRelationships = (long) Math.ceil(relationshipCount / 2 * samplingRatio);
+        long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
+        long relationshipOffsets = HugeLongArray.memoryEstimation(nodeCount);
+        long relationshipTriangleCounts = HugeAtomicLongArray.memoryEstimation(sampledRelationships);
+        long expected = 88 + hugeAtomicLongArray + orientedAdjacencyAndAnchorMarks(nodeCount) +
+                        sampledRelationships * Long.BYTES + relationshipOffsets + relationshipTriangleCounts;
+
+        MemoryEstimationAssert.assertThat(memoryEstimation)
+            .memoryRange(graphDimensions, new Concurrency(1))
+            .hasSameMinAndMaxEqualTo(expected);
+    }
 
+    private static long orientedAdjacencyAndAnchorMarks(long nodeCount) {
+        return HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray(0)) + sizeOfBitset(nodeCount);
     }
 }
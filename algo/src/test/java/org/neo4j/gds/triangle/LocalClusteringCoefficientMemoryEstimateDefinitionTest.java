@@ -23,10 +23,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Concurrency;
 
+import static org.neo4j.gds.mem.Estimate.sizeOfBitset;
+import static org.neo4j.gds.mem.Estimate.sizeOfLongArray;
+
 class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
 
     @ValueSource(longs = {1L, 10L, 100L, 10_000L})
@@ -36,9 +40,10 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition(null)
             .memoryEstimation();
 
-        long triangleCountEstimate = 56 + 24 + nodeCount * 8 + 16;
+        long orientedAdjacency = HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray(0));
+        long triangleCountEstimate = 72 + 24 + nodeCount * 8 + 16 + orientedAdjacency + sizeOfBitset(nodeCount);
         long hugeDoubleArray = 16 + nodeCount * 8 + 16;
-        long expected = 80 + hugeDoubleArray + triangleCountEstimate;
+        long expected = 88 + hugeDoubleArray + triangleCountEstimate;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -53,7 +58,7 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
             .memoryEstimation();
 
         long hugeDoubleArray = 16 + nodeCount * 8 + 16;
-        long expected = 64 + hugeDoubleArray;
+        long expected = 72 + hugeDoubleArray;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -68,9 +73,10 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition(null)
             .memoryEstimation();
 
-        long triangleCountEstimate = 56 + 32 + sizeOfHugeArray;
+        long orientedAdjacency = HugeObjectArray.memoryEstimation(nodeCount, sizeOfLongArray(0));
+        long triangleCountEstimate = 72 + 32 + sizeOfHugeArray + orientedAdjacency + sizeOfBitset(nodeCount);
         long hugeDoubleArray = 24 + sizeOfHugeArray;
-        long expected = 80 + hugeDoubleArray + triangleCountEstimate;
+        long expected = 88 + hugeDoubleArray + triangleCountEstimate;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -85,7 +91,7 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
             .memoryEstimation();
 
         long hugeDoubleArray = 24 + sizeOfHugeArray;
-        long expected = 64 + hugeDoubleArray;
+        long expected = 72 + hugeDoubleArray;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, new Concurrency(1))
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class SampledTriangleCountTest {
+
+    private static Graph graph;
+    private static TriangleCountResult exact;
+
+    @BeforeAll
+    static void setup() {
+        graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(50)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .seed(42)
+            .build()
+            .generate();
+
+        exact = compute(1.0, 42L, new Concurrency(4));
+    }
+
+    @Test
+    void shouldBeExactWithoutSampling() {
+        var result = compute(1.0, 1337L, new Concurrency(4));
+
+        assertThat(result.globalTriangles()).isEqualTo(exact.globalTriangles());
+        assertThat(result.globalTrianglesStandardError()).isEqualTo(0.0);
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            assertThat(result.localTriangles().get(node)).isEqualTo(exact.localTriangles().get(node));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.25, 0.5, 0.75})
+    void shouldEstimateGlobalTriangleCount(double samplingRatio) {
+        var result = compute(samplingRatio, 42L, new Concurrency(4));
+
+        var standardError = result.globalTrianglesStandardError();
+        assertThat(standardError).isGreaterThan(0.0);
+        assertThat(result.globalTriangles())
+            .isCloseTo(exact.globalTriangles(), within((long) Math.ceil(4 * standardError)));
+    }
+
+    @Test
+    void shouldScaleLocalTriangleCounts() {
+        var result = compute(0.5, 42L, new Concurrency(4));
+
+        long localTriangleSum = 0;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            localTriangleSum += result.localTriangles().get(node);
+        }
+
+        // every triangle is counted at each of its three nodes
+        assertThat((double) localTriangleSum).isCloseTo(3.0 * result.globalTriangles(), withinPercentage(1));
+    }
+
+    @Test
+    void shouldSampleIndependentlyOfConcurrency() {
+        var single = compute(0.5, 7L, new Concurrency(1));
+        var parallel = compute(0.5, 7L, new Concurrency(4));
+
+        assertThat(parallel.globalTriangles()).isEqualTo(single.globalTriangles());
+        assertThat(parallel.globalTrianglesStandardError()).isEqualTo(single.globalTrianglesStandardError());
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            assertThat(parallel.localTriangles().get(node)).isEqualTo(single.localTriangles().get(node));
+        }
+    }
+
+    @Test
+    void shouldEstimateLocalClusteringCoefficients() {
+        var exactCoefficients = localClusteringCoefficient(1.0).compute();
+        var sampledCoefficients = localClusteringCoefficient(0.5).compute();
+
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            assertThat(sampledCoefficients.localClusteringCoefficients().get(node)).isBetween(0.0, 1.0);
+        }
+        assertThat(sampledCoefficients.averageClusteringCoefficient())
+            .isCloseTo(exactCoefficients.averageClusteringCoefficient(), withinPercentage(5));
+    }
+
+    private static TriangleCountResult compute(double samplingRatio, long randomSeed, Concurrency concurrency) {
+        return IntersectingTriangleCount.create(
+            graph,
+            concurrency,
+            Long.MAX_VALUE,
+            samplingRatio,
+            Optional.of(randomSeed),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+
+    private static LocalClusteringCoefficient localClusteringCoefficient(double samplingRatio) {
+        return new LocalClusteringCoefficient(
+            graph,
+            new Concurrency(4),
+            Long.MAX_VALUE,
+            samplingRatio,
+            Optional.of(42L),
+            null,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle.intersect;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HybridIntersectTest {
+
+    private static final int CORE_SIZE = 200;
+    private static final int NODE_COUNT = 250;
+
+    @Test
+    void gallop() {
+        long[] nodes = {1, 3, 5, 7, 9, 11, 13, 15, 17, 19, 21};
+
+        assertThat(HybridIntersect.gallop(nodes, 0, 0)).isEqualTo(0);
+        assertThat(HybridIntersect.gallop(nodes, 0, 1)).isEqualTo(0);
+        assertThat(HybridIntersect.gallop(nodes, 0, 2)).isEqualTo(1);
+        assertThat(HybridIntersect.gallop(nodes, 2, 3)).isEqualTo(2);
+        assertThat(HybridIntersect.gallop(nodes, 0, 16)).isEqualTo(8);
+        assertThat(HybridIntersect.gallop(nodes, 3, 21)).isEqualTo(10);
+        assertThat(HybridIntersect.gallop(nodes, 0, 22)).isEqualTo(11);
+        assertThat(HybridIntersect.gallop(nodes, 11, 1)).isEqualTo(11);
+    }
+
+    @Test
+    void shouldOrientRelationshipsByDegree() {
+        var graph = produceGraph();
+        var adjacency = DegreeOrientedAdjacency.create(
+            graph,
+            Long.MAX_VALUE,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        long orientedRelationships = 0;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            var neighbors = adjacency.neighbors(node);
+            assertThat(neighbors).isSorted().doesNotHaveDuplicates().doesNotContain(node);
+            for (long neighbor : neighbors) {
+                assertThat(graph.degree(neighbor)).isGreaterThanOrEqualTo(graph.degree(node));
+            }
+            orientedRelationships += neighbors.length;
+        }
+        assertThat(orientedRelationships).isEqualTo(graph.relationshipCount() / 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MAX_VALUE, 190, 20})
+    void shouldFindSameTrianglesAsGraphIntersect(long maxDegree) {
+        var graph = produceGraph();
+
+        var expected = triangles(
+            graph,
+            RelationshipIntersectFactoryLocator.lookup(graph)
+                .orElseThrow(IllegalArgumentException::new)
+                .load(graph, ImmutableRelationshipIntersectConfig.of(maxDegree))
+        );
+        var actual = triangles(
+            graph,
+            DegreeOrientedAdjacency.create(
+                graph,
+                maxDegree,
+                new Concurrency(4),
+                DefaultPool.INSTANCE,
+                TerminationFlag.RUNNING_TRUE
+            ).intersect()
+        );
+
+        assertThat(actual).isEqualTo(expected);
+        if (maxDegree == Long.MAX_VALUE) {
+            assertThat(actual).isNotEmpty();
+        }
+    }
+
+    private static Set<List<Long>> triangles(Graph graph, RelationshipIntersect intersect) {
+        var triangles = new HashSet<List<Long>>();
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            intersect.intersectAll(node, (a, b, c) -> {
+                assertThat(a).isLessThan(b);
+                assertThat(b).isLessThan(c);
+                assertThat(triangles.add(List.of(a, b, c))).as("triangle %d-%d-%d is reported once", a, b, c).isTrue();
+            });
+        }
+        return triangles;
+    }
+
+    /**
+     * A dense core, a sparse periphery, and a node whose neighbors all have a higher degree,
+     * so that all intersection algorithms are used.
+     */
+    private static Graph produceGraph() {
+        var random = new Random(42);
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT - 1)
+            .concurrency(new Concurrency(1))
+            .build();
+        for (long node = 0; node < NODE_COUNT; node++) {
+            nodesBuilder.addNode(node);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("REL"))
+            .orientation(Orientation.UNDIRECTED)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+
+        var anchor = NODE_COUNT - 1;
+        for (long source = 0; source < anchor; source++) {
+            for (long target = source + 1; target < anchor; target++) {
+                var probability = source < CORE_SIZE && target < CORE_SIZE ? 0.9 : 0.05;
+                if (random.nextDouble() < probability) {
+                    relationshipsBuilder.add(source, target);
+                }
+            }
+        }
+        for (long target = 0; target < 150; target++) {
+            relationshipsBuilder.add(anchor, target);
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class StreamingWccTest {
+
+    private static final Concurrency CONCURRENCY = new Concurrency(4);
+
+    @GdlGraph
+    private static final String GRAPH =
+        "  (a)-->(b)" +
+        ", (c)-->(d)" +
+        ", (e)" +
+        ", (f)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldMergeComponentsOfAddedRelationships() {
+        var streamingWcc = StreamingWcc.attach(
+            graphStore,
+            "componentId",
+            runWcc(graph),
+            CONCURRENCY,
+            DefaultPool.INSTANCE
+        );
+        var componentIds = graphStore.nodeProperty("componentId").values();
+
+        assertThat(componentIds.longValue(id("a"))).isEqualTo(componentIds.longValue(id("b")));
+        assertThat(componentIds.longValue(id("a"))).isNotEqualTo(componentIds.longValue(id("c")));
+
+        streamingWcc.addRelationships(new long[]{id("b"), id("e")}, new long[]{id("c"), id("f")}, 2);
+
+        assertThat(componentIds.longValue(id("a"))).isEqualTo(componentIds.longValue(id("d")));
+        assertThat(componentIds.longValue(id("e"))).isEqualTo(componentIds.longValue(id("f")));
+        assertThat(componentIds.longValue(id("a"))).isNotEqualTo(componentIds.longValue(id("e")));
+    }
+
+    @Test
+    void shouldKeepComponentsAttachedToGraphStore() {
+        assertThat(StreamingWcc.attached(graphStore, "componentId")).isEmpty();
+
+        var streamingWcc = StreamingWcc.attach(
+            graphStore,
+            "componentId",
+            runWcc(graph),
+            CONCURRENCY,
+            DefaultPool.INSTANCE
+        );
+
+        assertThat(StreamingWcc.attached(graphStore, "componentId")).containsSame(streamingWcc);
+    }
+
+    @Test
+    void shouldApplyLargeBatchesConcurrently() {
+        int nodeCount = 10_000;
+        var isolatedNodes = GdlFactory.of(String.join(", ", Collections.nCopies(nodeCount, "()"))).build();
+        var streamingWcc = StreamingWcc.attach(
+            isolatedNodes,
+            "componentId",
+            runWcc(isolatedNodes.getUnion()),
+            CONCURRENCY,
+            DefaultPool.INSTANCE
+        );
+
+        // a path over all nodes, inserted in random order
+        var sources = new long[nodeCount - 1];
+        var targets = new long[nodeCount - 1];
+        for (int i = 0; i < nodeCount - 1; i++) {
+            sources[i] = i;
+            targets[i] = i + 1;
+        }
+        var random = new Random(42);
+        for (int i = sources.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long source = sources[i];
+            sources[i] = sources[j];
+            sources[j] = source;
+            long target = targets[i];
+            targets[i] = targets[j];
+            targets[j] = target;
+        }
+
+        streamingWcc.addRelationships(sources, targets, sources.length);
+
+        long componentId = streamingWcc.componentId(0);
+        for (long nodeId = 1; nodeId < nodeCount; nodeId++) {
+            assertThat(streamingWcc.componentId(nodeId)).isEqualTo(componentId);
+        }
+    }
+
+    private long id(String variable) {
+        return graph.toMappedNodeId(variable);
+    }
+
+    private static DisjointSetStruct runWcc(Graph graph) {
+        return new Wcc(
+            graph,
+            DefaultPool.INSTANCE,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            new WccParameters(0D, CONCURRENCY),
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Similarity kernels based on the Vector API.
+ *
+ * Every kernel processes as many full vectors as fit into the common length,
+ * keeping one partial sum per lane, and handles the remaining tail with a scalar loop.
+ * Float embeddings are accumulated in float lanes, so results may differ from the
+ * scalar metrics in the last few bits.
+ *
+ * This class must only be loaded through {@link SimilarityKernels#vectorized()}.
+ * It lives in the {@code vector} source set, the only one compiled with the incubator module.
+ */
+final class VectorizedSimilarityKernels implements SimilarityKernels {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Called reflectively by {@link SimilarityKernels.VectorSupport}.
+     *
+     * @return the kernels or {@code null} if the preferred species have a single lane
+     */
+    static @Nullable SimilarityKernels create() {
+        return FLOATS.length() < 2 || DOUBLES.length() < 2 ? null : new VectorizedSimilarityKernels();
+    }
+
+    private VectorizedSimilarityKernels() {}
+
+    @Override
+    public double cosine(float[] left, float[] right, int length) {
+        var dotProducts = FloatVector.zero(FLOATS);
+        var leftSquares = FloatVector.zero(FLOATS);
+        var rightSquares = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            var l = FloatVector.fromArray(FLOATS, left, i);
+            var r = FloatVector.fromArray(FLOATS, right, i);
+            dotProducts = l.mul(r).add(dotProducts);
+            leftSquares = l.mul(l).add(leftSquares);
+            rightSquares = r.mul(r).add(rightSquares);
+        }
+
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float leftLength = leftSquares.reduceLanes(VectorOperators.ADD);
+        float rightLength = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dotProduct += left[i] * right[i];
+            leftLength += left[i] * left[i];
+            rightLength += right[i] * right[i];
+        }
+
+        return (float) (dotProduct / Math.sqrt(leftLength * rightLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var l = DoubleVector.fromArray(DOUBLES, left, i);
+            var r = DoubleVector.fromArray(DOUBLES, right, i);
+            dotProducts = l.mul(r).add(dotProducts);
+            leftSquares = l.mul(l).add(leftSquares);
+            rightSquares = r.mul(r).add(rightSquares);
+        }
+
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double leftLength = leftSquares.reduceLanes(VectorOperators.ADD);
+        double rightLength = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dotProduct += left[i] * right[i];
+            leftLength += left[i] * left[i];
+            rightLength += right[i] * right[i];
+        }
+
+        return dotProduct / Math.sqrt(leftLength * rightLength);
+    }
+
+    @Override
+    public double squaredDistance(float[] left, float[] right, int length) {
+        var squares = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i < bound; i += FLOATS.length()) {
+            var delta = FloatVector.fromArray(FLOATS, left, i).sub(FloatVector.fromArray(FLOATS, right, i));
+            squares = delta.mul(delta).add(squares);
+        }
+
+        double result = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double squaredDistance(double[] left, double[] right, int length) {
+        var squares = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLES, left, i).sub(DoubleVector.fromArray(DOUBLES, right, i));
+            squares = delta.mul(delta).add(squares);
+        }
+
+        double result = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(float[] left, float[] right, int length) {
+        var leftSums = FloatVector.zero(FLOATS);
+        var rightSums = FloatVector.zero(FLOATS);
+        int bound = FLOATS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            leftSums = leftSums.add(FloatVector.fromArray(FLOATS, left, i));
+            rightSums = rightSums.add(FloatVector.fromArray(FLOATS, right, i));
+        }
+        double leftSum = leftSums.reduceLanes(VectorOperators.ADD);
+        double rightSum = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        float leftMean = (float) (leftSum / length);
+        float rightMean = (float) (rightSum / length);
+
+        var products = FloatVector.zero(FLOATS);
+        var leftSquares = FloatVector.zero(FLOATS);
+        var rightSquares = FloatVector.zero(FLOATS);
+        for (i = 0; i < bound; i += FLOATS.length()) {
+            var leftDelta = FloatVector.fromArray(FLOATS, left, i).sub(leftMean);
+            var rightDelta = FloatVector.fromArray(FLOATS, right, i).sub(rightMean);
+            products = leftDelta.mul(rightDelta).add(products);
+            leftSquares = leftDelta.mul(leftDelta).add(leftSquares);
+            rightSquares = rightDelta.mul(rightDelta).add(rightSquares);
+        }
+        double product = products.reduceLanes(VectorOperators.ADD);
+        double leftSquare = leftSquares.reduceLanes(VectorOperators.ADD);
+        double rightSquare = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            product += leftDelta * rightDelta;
+            leftSquare += leftDelta * leftDelta;
+            rightSquare += rightDelta * rightDelta;
+        }
+
+        return product / Math.sqrt(leftSquare * rightSquare);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+        int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            leftSums = leftSums.add(DoubleVector.fromArray(DOUBLES, left, i));
+            rightSums = rightSums.add(DoubleVector.fromArray(DOUBLES, right, i));
+        }
+        double leftSum = leftSums.reduceLanes(VectorOperators.ADD);
+        double rightSum = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        var products = DoubleVector.zero(DOUBLES);
+        var leftSquares = DoubleVector.zero(DOUBLES);
+        var rightSquares = DoubleVector.zero(DOUBLES);
+        for (i = 0; i < bound; i += DOUBLES.length()) {
+            var leftDelta = DoubleVector.fromArray(DOUBLES, left, i).sub(leftMean);
+            var rightDelta = DoubleVector.fromArray(DOUBLES, right, i).sub(rightMean);
+            products = leftDelta.mul(rightDelta).add(products);
+            leftSquares = leftDelta.mul(leftDelta).add(leftSquares);
+            rightSquares = rightDelta.mul(rightDelta).add(rightSquares);
+        }
+        double product = products.reduceLanes(VectorOperators.ADD);
+        double leftSquare = leftSquares.reduceLanes(VectorOperators.ADD);
+        double rightSquare = rightSquares.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            product += leftDelta * rightDelta;
+            leftSquare += leftDelta * leftDelta;
+            rightSquare += rightDelta * rightDelta;
+        }
+
+        return product / Math.sqrt(leftSquare * rightSquare);
+    }
+}
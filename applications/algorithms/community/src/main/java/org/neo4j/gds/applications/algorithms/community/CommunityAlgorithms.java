@@ -257,6 +257,8 @@ public class CommunityAlgorithms {
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed(),
             parameters.seedProperty(),
             progressTracker,
             terminationFlag
@@ -412,6 +414,8 @@ public class CommunityAlgorithms {
             graph,
             parameters.concurrency(),
             parameters.maxDegree(),
+            parameters.samplingRatio(),
+            parameters.randomSeed(),
             DefaultPool.INSTANCE,
             progressTracker,
             terminationFlag
@@ -141,7 +141,10 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
     }
 
     public MemoryEstimation lcc(LocalClusteringCoefficientBaseConfig configuration) {
-        return new LocalClusteringCoefficientMemoryEstimateDefinition(configuration.seedProperty()).memoryEstimation();
+        return new LocalClusteringCoefficientMemoryEstimateDefinition(
+            configuration.seedProperty(),
+            configuration.samplingRatio()
+        ).memoryEstimation();
     }
 
     public MemoryEstimateResult lcc(
@@ -230,12 +233,12 @@ public class CommunityAlgorithmsEstimationModeBusinessFacade {
         );
     }
 
-    public MemoryEstimation triangleCount() {
-        return new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation();
+    public MemoryEstimation triangleCount(TriangleCountBaseConfig configuration) {
+        return new IntersectingTriangleCountMemoryEstimateDefinition(configuration.samplingRatio()).memoryEstimation();
     }
 
     public MemoryEstimateResult triangleCount(TriangleCountBaseConfig configuration, Object graphNameOrConfiguration) {
-        var memoryEstimation = triangleCount();
+        var memoryEstimation = triangleCount(configuration);
 
         return algorithmEstimationTemplate.estimate(
             configuration,
@@ -28,7 +28,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.core.concurrency.Concurrency;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.loading.Capabilities;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
@@ -161,7 +161,7 @@ final class Neo4jDatabaseNodePropertyWriter {
             .withProgressTracker(progressTracker)
             .withResultStore(resultStore)
             .withJobId(jobId)
-            .parallel(DefaultPool.INSTANCE, writeConcurrency)
+            .parallel(IoPool.INSTANCE, writeConcurrency)
             .build();
 
         try {
@@ -27,7 +27,7 @@ import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.applications.algorithms.metadata.NodePropertiesWritten;
 import org.neo4j.gds.config.WriteConfig;
 import org.neo4j.gds.core.concurrency.Concurrency;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.loading.Capabilities;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
@@ -86,7 +86,7 @@ public class NodePropertyWriter {
         var progressTracker = createProgressTracker(graph.nodeCount(), writeConfig.writeConcurrency(), label);
 
         var nodePropertyExporter = nodePropertyExporterBuilder
-            .parallel(DefaultPool.INSTANCE, writeConfig.writeConcurrency())
+            .parallel(IoPool.INSTANCE, writeConfig.writeConcurrency())
             .withIdMap(graph)
             .withJobId(jobId)
             .withProgressTracker(progressTracker)
@@ -23,7 +23,7 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.GraphStore;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.io.NeoNodeProperties;
 import org.neo4j.gds.core.io.file.GraphStoreExporterUtil;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
@@ -82,7 +82,7 @@ class ExportToCsvApplication {
             neoNodeProperties(configuration.additionalNodeProperties(), graphStore),
             taskRegistryFactory,
             log,
-            DefaultPool.INSTANCE
+            IoPool.INSTANCE
         );
 
         return new FileExportResult(
@@ -25,6 +25,7 @@ import org.neo4j.gds.api.ResultStore;
 import org.neo4j.gds.beta.filter.NodesFilter;
 import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.write.NodeLabelExporterBuilder;
@@ -69,7 +70,7 @@ public class WriteNodeLabelApplication {
                 .withTerminationFlag(terminationFlag)
                 .withResultStore(configuration.resolveResultStore(resultStore))
                 .withJobId(configuration.jobId())
-                .parallel(DefaultPool.INSTANCE, configuration.writeConcurrency())
+                .parallel(IoPool.INSTANCE, configuration.writeConcurrency())
                 .build();
 
             try {
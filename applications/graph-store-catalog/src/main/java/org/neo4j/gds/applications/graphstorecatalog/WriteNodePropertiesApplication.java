@@ -23,7 +23,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.ResultStore;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
@@ -129,7 +129,7 @@ public class WriteNodePropertiesApplication {
             var exporter = nodePropertyExporterBuilder
                 .withIdMap(subGraph)
                 .withTerminationFlag(terminationFlag)
-                .parallel(DefaultPool.INSTANCE, config.writeConcurrency())
+                .parallel(IoPool.INSTANCE, config.writeConcurrency())
                 .withProgressTracker(progressTracker)
                 .withResultStore(config.resolveResultStore(resultStore))
                 .withJobId(config.jobId())
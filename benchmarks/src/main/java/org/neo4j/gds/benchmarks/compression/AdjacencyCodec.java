@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.gds.utils.GdsFeatureToggles.AdjacencyPackingStrategy;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The adjacency encodings under benchmark.
+ * The packed variants differ in how the tail of an adjacency list,
+ * i.e. the remainder that does not fill a whole block, is encoded.
+ */
+public enum AdjacencyCodec {
+
+    COMPRESSED(null) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.compressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    UNCOMPRESSED(null) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.uncompressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED_BLOCK_ALIGNED_TAIL(AdjacencyPackingStrategy.BLOCK_ALIGNED_TAIL) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED_VAR_LONG_TAIL(AdjacencyPackingStrategy.VAR_LONG_TAIL) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED_PACKED_TAIL(AdjacencyPackingStrategy.PACKED_TAIL) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED_INLINED_HEAD_PACKED_TAIL(AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    MIXED(AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL) {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.mixed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    };
+
+    private static final Aggregation[] AGGREGATIONS = {Aggregation.NONE};
+
+    private final @Nullable AdjacencyPackingStrategy packingStrategy;
+
+    AdjacencyCodec(@Nullable AdjacencyPackingStrategy packingStrategy) {
+        this.packingStrategy = packingStrategy;
+    }
+
+    abstract AdjacencyCompressorFactory factory(LongSupplier nodeCount);
+
+    /**
+     * Configures the global packing strategy for this codec.
+     * Packed compressors and cursors read the strategy when they are created,
+     * so this needs to happen before any compression or traversal.
+     */
+    void activate() {
+        if (packingStrategy != null) {
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(packingStrategy);
+        }
+    }
+
+    void deactivate() {
+        GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY_DEFAULT_SETTING);
+    }
+
+    /**
+     * Compresses all adjacency lists of the given data into a single adjacency list.
+     *
+     * @param buffer a scratch buffer of at least {@link AdjacencyData#maxDegree()} elements
+     */
+    AdjacencyList compress(AdjacencyData data, long[] buffer) {
+        var factory = factory(data::nodeCount);
+        factory.init();
+
+        int nodeCount = Math.toIntExact(data.nodeCount());
+        try (var compressor = factory.createCompressor()) {
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = data.copyTargets(nodeId, buffer);
+                if (degree > 0) {
+                    compressor.compress(nodeId, buffer, null, degree);
+                }
+            }
+        }
+
+        return factory.build(false).adjacency();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic, unsorted adjacency lists that serve as compressor input.
+ * The data is generated once per trial and copied before every compression,
+ * as compressors sort and delta-encode their input in place.
+ */
+final class AdjacencyData {
+
+    private final long nodeCount;
+    private final long[][] targets;
+    private final long relationshipCount;
+    private final int maxDegree;
+
+    private AdjacencyData(long nodeCount, long[][] targets) {
+        this.nodeCount = nodeCount;
+        this.targets = targets;
+        this.relationshipCount = Arrays.stream(targets).mapToLong(t -> t.length).sum();
+        this.maxDegree = Arrays.stream(targets).mapToInt(t -> t.length).max().orElse(0);
+    }
+
+    static AdjacencyData generate(
+        DegreeDistribution distribution,
+        int nodeCount,
+        int averageDegree,
+        long seed
+    ) {
+        var random = new SplittableRandom(seed);
+        var targets = new long[nodeCount][];
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = distribution.degree(random, averageDegree, nodeCount);
+            var adjacency = new long[degree];
+            for (int i = 0; i < degree; i++) {
+                adjacency[i] = random.nextLong(nodeCount);
+            }
+            targets[nodeId] = adjacency;
+        }
+
+        return new AdjacencyData(nodeCount, targets);
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    long relationshipCount() {
+        return relationshipCount;
+    }
+
+    int maxDegree() {
+        return maxDegree;
+    }
+
+    int degree(int nodeId) {
+        return targets[nodeId].length;
+    }
+
+    /**
+     * Copies the unsorted targets of the given node into the buffer and returns the degree.
+     */
+    int copyTargets(int nodeId, long[] buffer) {
+        var adjacency = targets[nodeId];
+        System.arraycopy(adjacency, 0, buffer, 0, adjacency.length);
+        return adjacency.length;
+    }
+
+    /**
+     * Returns the sorted targets of the given node, matching the order in which cursors decode them.
+     */
+    long[] sortedTargets(int nodeId) {
+        var sorted = targets[nodeId].clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
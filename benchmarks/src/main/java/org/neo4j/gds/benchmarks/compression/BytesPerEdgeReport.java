@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.annotation.SuppressForbidden;
+
+import java.util.Locale;
+
+/**
+ * Prints the memory footprint per edge of every codec and degree distribution.
+ * The footprint is a property of the encoding and not of the JIT,
+ * which is why it is reported here and not as a JMH score.
+ *
+ * Usage: {@code BytesPerEdgeReport [nodeCount] [averageDegree]}
+ */
+public final class BytesPerEdgeReport {
+
+    private BytesPerEdgeReport() {}
+
+    @SuppressForbidden(reason = "the report is printed to system.out")
+    public static void main(String[] args) {
+        int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int averageDegree = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+        System.out.printf(
+            Locale.ENGLISH,
+            "%-20s %-34s %16s %16s %16s %14s%n",
+            "distribution",
+            "codec",
+            "edges",
+            "bytes on heap",
+            "bytes off heap",
+            "bytes per edge"
+        );
+
+        for (var distribution : DegreeDistribution.values()) {
+            var data = AdjacencyData.generate(distribution, nodeCount, averageDegree, CompressionBenchmark.SEED);
+            var buffer = new long[data.maxDegree()];
+
+            for (var codec : AdjacencyCodec.values()) {
+                codec.activate();
+                try {
+                    var memoryInfo = codec.compress(data, buffer).memoryInfo();
+                    long onHeap = memoryInfo.bytesOnHeap().orElse(0L);
+                    long offHeap = memoryInfo.bytesOffHeap().orElse(0L);
+                    System.out.printf(
+                        Locale.ENGLISH,
+                        "%-20s %-34s %16d %16d %16d %14.3f%n",
+                        distribution,
+                        codec,
+                        data.relationshipCount(),
+                        onHeap,
+                        offHeap,
+                        (double) (onHeap + offHeap) / data.relationshipCount()
+                    );
+                } finally {
+                    codec.deactivate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast each codec turns unsorted target lists into a finished adjacency list.
+ * The primary score is the time to compress the whole graph,
+ * the {@code edges} counter reports the compression throughput in edges per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens=java.base/java.lang=ALL-UNNAMED",
+    "--add-opens=java.base/java.nio=ALL-UNNAMED",
+})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CompressionBenchmark {
+
+    static final long SEED = 42L;
+
+    @Param
+    public AdjacencyCodec codec;
+
+    @Param
+    public DegreeDistribution distribution;
+
+    @Param("1000000")
+    public int nodeCount;
+
+    @Param("16")
+    public int averageDegree;
+
+    private AdjacencyData data;
+    private long[] buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.codec.activate();
+        this.data = AdjacencyData.generate(distribution, nodeCount, averageDegree, SEED);
+        this.buffer = new long[data.maxDegree()];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.codec.deactivate();
+    }
+
+    @Benchmark
+    public AdjacencyList compress(EdgeCounter counter) {
+        var adjacencyList = codec.compress(data, buffer);
+        counter.edges += data.relationshipCount();
+        return adjacencyList;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EdgeCounter {
+        public long edges;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.edges = 0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding throughput of {@link AdjacencyCursor}s for each codec.
+ * Every benchmark method visits all nodes of the graph once and reuses a single cursor,
+ * the same way algorithms iterate over the graph.
+ * The {@code edges} counter reports how many targets have been decoded per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {
+    "--add-opens=java.base/java.lang=ALL-UNNAMED",
+    "--add-opens=java.base/java.nio=ALL-UNNAMED",
+    "--add-modules=jdk.incubator.vector",
+})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CursorBenchmark {
+
+    @Param
+    public AdjacencyCodec codec;
+
+    @Param
+    public DegreeDistribution distribution;
+
+    @Param("1000000")
+    public int nodeCount;
+
+    @Param("16")
+    public int averageDegree;
+
+    // Only affects the packed codecs, see GdsFeatureToggles.USE_VECTORIZED_ADJACENCY_UNPACKING
+    @Param({"true", "false"})
+    public boolean vectorized;
+
+    private AdjacencyList adjacencyList;
+    private long relationshipCount;
+
+    // one search key per node, used by the advance and skipUntil benchmarks
+    private long[] searchKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.codec.activate();
+        GdsFeatureToggles.USE_VECTORIZED_ADJACENCY_UNPACKING.toggle(vectorized);
+        var data = AdjacencyData.generate(distribution, nodeCount, averageDegree, CompressionBenchmark.SEED);
+        this.adjacencyList = codec.compress(data, new long[data.maxDegree()]);
+        this.relationshipCount = data.relationshipCount();
+
+        // Pick an existing target from the middle of the list if there is one,
+        // so that the search touches roughly half of the adjacency list.
+        var random = new SplittableRandom(CompressionBenchmark.SEED);
+        this.searchKeys = new long[nodeCount];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = data.degree(nodeId);
+            searchKeys[nodeId] = degree == 0
+                ? random.nextLong(nodeCount)
+                : data.sortedTargets(nodeId)[degree / 2];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.codec.deactivate();
+        GdsFeatureToggles.USE_VECTORIZED_ADJACENCY_UNPACKING.reset();
+    }
+
+    @Benchmark
+    public long nextVLong(EdgeCounter counter) {
+        var adjacencyList = this.adjacencyList;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        long checksum = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+            }
+        }
+        counter.edges += relationshipCount;
+        return checksum;
+    }
+
+    @Benchmark
+    public void advance(Blackhole blackhole) {
+        var adjacencyList = this.adjacencyList;
+        var searchKeys = this.searchKeys;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            blackhole.consume(cursor.advance(searchKeys[nodeId]));
+        }
+    }
+
+    @Benchmark
+    public void skipUntil(Blackhole blackhole) {
+        var adjacencyList = this.adjacencyList;
+        var searchKeys = this.searchKeys;
+        AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            blackhole.consume(cursor.skipUntil(searchKeys[nodeId]));
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EdgeCounter {
+        public long edges;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.edges = 0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import java.util.SplittableRandom;
+
+/**
+ * Degree distributions used to generate synthetic adjacency lists.
+ */
+public enum DegreeDistribution {
+
+    /**
+     * Degrees are drawn uniformly from {@code [0, 2 * averageDegree]}.
+     */
+    UNIFORM {
+        @Override
+        int degree(SplittableRandom random, int averageDegree, int nodeCount) {
+            return Math.min(random.nextInt(2 * averageDegree + 1), nodeCount);
+        }
+    },
+
+    /**
+     * Degrees follow a Pareto distribution with exponent {@value #POWER_LAW_EXPONENT},
+     * which produces many low-degree nodes and a few supernodes, similar to social graphs.
+     * The scale is chosen so that the expected degree equals {@code averageDegree}.
+     */
+    POWER_LAW {
+        @Override
+        int degree(SplittableRandom random, int averageDegree, int nodeCount) {
+            double exponent = POWER_LAW_EXPONENT;
+            double scale = averageDegree * (exponent - 2) / (exponent - 1);
+            double u = 1.0 - random.nextDouble();
+            double degree = scale * Math.pow(u, -1.0 / (exponent - 1));
+            return (int) Math.min(degree, nodeCount);
+        }
+    };
+
+    static final double POWER_LAW_EXPONENT = 2.5;
+
+    abstract int degree(SplittableRandom random, int averageDegree, int nodeCount);
+}
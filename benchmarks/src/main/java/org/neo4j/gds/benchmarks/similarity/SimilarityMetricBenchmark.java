@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.similarity;
+
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the float and double array similarity metrics used by KNN,
+ * with and without the Vector API kernels.
+ * Every benchmark method compares each embedding with its successor,
+ * so the reported time is per similarity computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(SimilarityMetricBenchmark.EMBEDDINGS)
+public class SimilarityMetricBenchmark {
+
+    static final int EMBEDDINGS = 1024;
+
+    @Param({"64", "256", "1024"})
+    public int dimension;
+
+    // see GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS
+    @Param({"true", "false"})
+    public boolean vectorized;
+
+    private float[][] floatEmbeddings;
+    private double[][] doubleEmbeddings;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.toggle(vectorized);
+        var random = new SplittableRandom(42);
+        this.floatEmbeddings = new float[EMBEDDINGS][dimension];
+        this.doubleEmbeddings = new double[EMBEDDINGS][dimension];
+        for (int embedding = 0; embedding < EMBEDDINGS; embedding++) {
+            for (int i = 0; i < dimension; i++) {
+                floatEmbeddings[embedding][i] = (float) random.nextDouble(-1, 1);
+                doubleEmbeddings[embedding][i] = random.nextDouble(-1, 1);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_METRICS.reset();
+    }
+
+    @Benchmark
+    public double cosineFloat() {
+        var embeddings = this.floatEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Cosine.floatMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double cosineDouble() {
+        var embeddings = this.doubleEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Cosine.doubleMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double euclideanFloat() {
+        var embeddings = this.floatEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Euclidean.floatMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double euclideanDouble() {
+        var embeddings = this.doubleEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Euclidean.doubleMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double pearsonFloat() {
+        var embeddings = this.floatEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Pearson.floatMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public double pearsonDouble() {
+        var embeddings = this.doubleEmbeddings;
+        double checksum = 0;
+        for (int i = 0; i < EMBEDDINGS; i++) {
+            checksum += Pearson.doubleMetric(embeddings[i], embeddings[(i + 1) % EMBEDDINGS]);
+        }
+        return checksum;
+    }
+}
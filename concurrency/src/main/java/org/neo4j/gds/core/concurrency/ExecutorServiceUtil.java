@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.core.concurrency;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
@@ -68,6 +71,27 @@ public final class ExecutorServiceUtil {
         );
     }
 
+    /**
+     * Creates an executor for blocking I/O tasks, such as writing back to the database or exporting files.
+     * On a JVM with virtual thread support, every task runs on its own virtual thread. Otherwise, tasks
+     * run on platform threads that are created on demand. In both cases the executor is unbounded and
+     * separate from the compute pool; callers limit the number of concurrent tasks themselves,
+     * e.g. via {@link RunWithConcurrency#concurrency()}.
+     */
+    public static ExecutorService createIoExecutor(String threadPrefix) {
+        if (GdsFeatureToggles.USE_VIRTUAL_THREADS_FOR_IO.isEnabled()) {
+            var executor = VirtualThreads.newThreadPerTaskExecutor(threadPrefix);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        // Hiding the ThreadPoolExecutor makes RunWithConcurrency submit tasks
+        // regardless of the (empty) core pool size of the cached pool.
+        return Executors.unconfigurableExecutorService(
+            Executors.newCachedThreadPool(NamedThreadFactory.daemon(threadPrefix))
+        );
+    }
+
     public static ForkJoinPool createForkJoinPool(Concurrency concurrency) {
         return new ForkJoinPool(concurrency.value(), FJ_WORKER_THREAD_FACTORY, null, false);
     }
@@ -105,6 +129,29 @@ public final class ExecutorServiceUtil {
         }
     }
 
+    /**
+     * Virtual threads are only available from Java 21 onwards, while we compile against Java 17.
+     */
+    static final class VirtualThreads {
+
+        private VirtualThreads() {}
+
+        static @Nullable ExecutorService newThreadPerTaskExecutor(String threadPrefix) {
+            try {
+                var builderType = Class.forName("java.lang.Thread$Builder");
+                var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadPrefix + "-", 0L);
+                var factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+                return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Either an older JVM, or a JVM that has virtual threads only as preview feature.
+                return null;
+            }
+        }
+    }
+
     private static final ForkJoinPool.ForkJoinWorkerThreadFactory FJ_WORKER_THREAD_FACTORY = pool -> {
         var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
         worker.setName(ExecutorServiceUtil.THREAD_NAME_PREFIX + "-forkjoin-" + worker.getPoolIndex());
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The executor for blocking I/O work, such as write-back and export, which keeps those
+ * tasks from occupying threads of the {@link DefaultPool}.
+ *
+ * @see ExecutorServiceUtil#createIoExecutor(String)
+ */
+public final class IoPool {
+
+    public static final ExecutorService INSTANCE = ExecutorServiceUtil.createIoExecutor("gds-io");
+
+    private IoPool() {}
+}
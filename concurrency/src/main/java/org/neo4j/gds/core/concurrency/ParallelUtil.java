@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -47,6 +48,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.LongConsumer;
+import java.util.function.LongToIntFunction;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.LongStream;
@@ -109,6 +111,35 @@ public final class ParallelUtil {
         );
     }
 
+    /**
+     * Calls the batch consumer for disjoint node ranges covering {@code [0, nodeCount)}.
+     * Unlike {@link #parallelForEachNode(long, Concurrency, TerminationFlag, LongConsumer)},
+     * the ranges are balanced by node degree and idle threads steal work from busy ones,
+     * so that a few high-degree nodes do not leave a single straggling thread.
+     *
+     * @param totalDegree the sum of all degrees, e.g. the relationship count of the graph
+     * @return timing statistics for each worker
+     * @see WorkStealingScheduler
+     */
+    public static List<WorkStealingScheduler.TaskStatistics> parallelForEachNode(
+        long nodeCount,
+        long totalDegree,
+        LongToIntFunction degrees,
+        Concurrency concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag,
+        BiLongConsumer batchConsumer
+    ) {
+        return new WorkStealingScheduler(
+            nodeCount,
+            totalDegree,
+            degrees,
+            concurrency,
+            terminationFlag,
+            batchConsumer
+        ).run(executor);
+    }
+
     /**
      * @return the number of threads required to compute elementCount with the given batchSize
      */
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Runs a batch consumer over the node id space, balancing the work by node degree.
+ * <p>
+ * The node range is first split into one range per worker, such that each range
+ * covers roughly the same cumulative degree. A worker consumes its range in chunks
+ * of a fixed degree budget. Once its own range is exhausted, it steals the upper half
+ * of the largest remaining range of another worker. A worker that is stuck on a
+ * supernode therefore only keeps the chunk it is currently processing, and the
+ * remainder of its range is picked up by idle workers.
+ * <p>
+ * Use {@link ParallelUtil#parallelForEachNode(long, long, LongToIntFunction, Concurrency, ExecutorService, TerminationFlag, BiLongConsumer)}
+ * to run the scheduler.
+ */
+public final class WorkStealingScheduler {
+
+    // Number of chunks each worker range is split into, when consumed by its owner.
+    static final int CHUNKS_PER_WORKER = 16;
+    // Ranges with fewer nodes are not worth stealing.
+    static final long MIN_STEAL_SIZE = 64;
+
+    /**
+     * Execution statistics of a single worker.
+     *
+     * @param workerId     index of the worker
+     * @param nodeCount    number of nodes the worker processed
+     * @param chunkCount   number of batches passed to the consumer
+     * @param stealCount   number of ranges stolen from other workers
+     * @param runtimeNanos wall-clock time between start and end of the worker
+     * @param busyNanos    time spent inside the consumer
+     */
+    public record TaskStatistics(
+        int workerId,
+        long nodeCount,
+        long chunkCount,
+        long stealCount,
+        long runtimeNanos,
+        long busyNanos
+    ) {}
+
+    private final LongToIntFunction degrees;
+    private final long chunkBudget;
+    private final TerminationFlag terminationFlag;
+    private final BiLongConsumer consumer;
+    private final Worker[] workers;
+
+    WorkStealingScheduler(
+        long nodeCount,
+        long totalDegree,
+        LongToIntFunction degrees,
+        Concurrency concurrency,
+        TerminationFlag terminationFlag,
+        BiLongConsumer consumer
+    ) {
+        this.degrees = degrees;
+        this.terminationFlag = terminationFlag;
+        this.consumer = consumer;
+
+        int workerCount = (int) Math.max(1, Math.min(concurrency.value(), nodeCount));
+        // Every node counts as degree + 1, so that ranges of isolated nodes are split as well.
+        long totalWeight = totalDegree + nodeCount;
+        long workerBudget = Math.max(1, totalWeight / workerCount);
+        this.chunkBudget = Math.max(1, workerBudget / CHUNKS_PER_WORKER);
+
+        this.workers = new Worker[workerCount];
+        long start = 0;
+        for (int i = 0; i < workerCount; i++) {
+            long end = i == workerCount - 1 ? nodeCount : advance(start, nodeCount, workerBudget);
+            workers[i] = new Worker(i, start, end);
+            start = end;
+        }
+    }
+
+    List<TaskStatistics> run(ExecutorService executor) {
+        if (workers.length == 1) {
+            workers[0].run();
+        } else {
+            RunWithConcurrency.builder()
+                .concurrency(new Concurrency(workers.length))
+                .tasks(List.of(workers))
+                .executor(executor)
+                .terminationFlag(terminationFlag)
+                .run();
+        }
+
+        var statistics = new ArrayList<TaskStatistics>(workers.length);
+        for (Worker worker : workers) {
+            statistics.add(worker.statistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the first node after {@code start} at which the cumulative weight reaches the budget.
+     */
+    private long advance(long start, long end, long budget) {
+        long weight = 0;
+        long node = start;
+        while (node < end && weight < budget) {
+            weight += degrees.applyAsInt(node) + 1L;
+            node++;
+        }
+        return node;
+    }
+
+    private final class Worker implements Runnable {
+
+        private final int id;
+
+        // [next, end) is the remaining range of this worker.
+        // The owner moves `next` forward, thieves move `end` backward, both under the monitor.
+        private volatile long next;
+        private volatile long end;
+
+        private long nodeCount;
+        private long chunkCount;
+        private long stealCount;
+        private long runtimeNanos;
+        private long busyNanos;
+
+        Worker(int id, long start, long end) {
+            this.id = id;
+            this.next = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            long startTime = System.nanoTime();
+            do {
+                consumeOwnRange();
+            } while (steal());
+            this.runtimeNanos = System.nanoTime() - startTime;
+        }
+
+        private void consumeOwnRange() {
+            while (true) {
+                terminationFlag.assertRunning();
+
+                long chunkStart = next;
+                // Scanning degrees happens outside the monitor, a thief
+                // may shrink our range in the meantime, which we check below.
+                long chunkEnd = advance(chunkStart, end, chunkBudget);
+                synchronized (this) {
+                    chunkEnd = Math.min(chunkEnd, end);
+                    if (chunkEnd <= chunkStart) {
+                        return;
+                    }
+                    next = chunkEnd;
+                }
+
+                long consumeStart = System.nanoTime();
+                consumer.apply(chunkStart, chunkEnd);
+                busyNanos += System.nanoTime() - consumeStart;
+                nodeCount += chunkEnd - chunkStart;
+                chunkCount++;
+            }
+        }
+
+        /**
+         * Takes over the upper half of the largest remaining range.
+         *
+         * @return false, iff there is no range left worth stealing
+         */
+        private boolean steal() {
+            while (true) {
+                Worker victim = null;
+                long largest = MIN_STEAL_SIZE - 1;
+                for (Worker worker : workers) {
+                    long remaining = worker.end - worker.next;
+                    if (worker != this && remaining > largest) {
+                        victim = worker;
+                        largest = remaining;
+                    }
+                }
+                if (victim == null) {
+                    return false;
+                }
+
+                long stolenStart;
+                long stolenEnd;
+                synchronized (victim) {
+                    long remaining = victim.end - victim.next;
+                    if (remaining < MIN_STEAL_SIZE) {
+                        // someone else was faster, look for another victim
+                        continue;
+                    }
+                    stolenEnd = victim.end;
+                    stolenStart = victim.next + remaining / 2;
+                    victim.end = stolenStart;
+                }
+                synchronized (this) {
+                    this.next = stolenStart;
+                    this.end = stolenEnd;
+                }
+                stealCount++;
+                return true;
+            }
+        }
+
+        TaskStatistics statistics() {
+            return new TaskStatistics(id, nodeCount, chunkCount, stealCount, runtimeNanos, busyNanos);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutorServiceUtilTest {
+
+    @Test
+    void ioExecutorRunsBlockingTasksConcurrently() throws Exception {
+        var executor = ExecutorServiceUtil.createIoExecutor("io-test");
+        try {
+            assertRunsBlockingTasksConcurrently(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void platformThreadFallbackIsNotBoundedByCorePoolSize() throws Exception {
+        GdsFeatureToggles.USE_VIRTUAL_THREADS_FOR_IO.disableAndRun(() -> {
+            var executor = ExecutorServiceUtil.createIoExecutor("io-test");
+            try {
+                // RunWithConcurrency would only ever submit `corePoolSize` tasks to a ThreadPoolExecutor
+                assertThat(executor).isNotInstanceOf(ThreadPoolExecutor.class);
+                assertThat(executor.submit(() -> Thread.currentThread().getName()).get())
+                    .startsWith("io-test-");
+                assertRunsBlockingTasksConcurrently(executor);
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    private static void assertRunsBlockingTasksConcurrently(ExecutorService executor) throws Exception {
+        // more tasks than processors, each blocking until all of them have started
+        int taskCount = 4 * Runtime.getRuntime().availableProcessors();
+        var started = new CountDownLatch(taskCount);
+        var futures = new ArrayList<Future<Boolean>>();
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                return started.await(30, TimeUnit.SECONDS);
+            }));
+        }
+        for (var future : futures) {
+            assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
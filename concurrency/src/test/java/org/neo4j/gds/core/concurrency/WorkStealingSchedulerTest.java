@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkStealingSchedulerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void visitsEveryNodeExactlyOnce(int concurrency) {
+        int nodeCount = 100_000;
+        // a few supernodes at the beginning of the id space
+        var visits = new AtomicIntegerArray(nodeCount);
+
+        var statistics = ParallelUtil.parallelForEachNode(
+            nodeCount,
+            4 * 1_000_000L + nodeCount,
+            nodeId -> nodeId < 4 ? 1_000_000 : 1,
+            new Concurrency(concurrency),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            (start, end) -> {
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    visits.incrementAndGet((int) nodeId);
+                }
+            }
+        );
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(visits.get(nodeId)).as("visits of node %d", nodeId).isEqualTo(1);
+        }
+        assertThat(statistics).hasSize(concurrency);
+        assertThat(statistics.stream().mapToLong(WorkStealingScheduler.TaskStatistics::nodeCount).sum())
+            .isEqualTo(nodeCount);
+    }
+
+    @Test
+    void idleWorkersStealFromABlockedWorker() throws InterruptedException {
+        long nodeCount = 10_000;
+        var processed = new AtomicLong();
+        var firstChunk = new AtomicLong();
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var statistics = ParallelUtil.parallelForEachNode(
+                nodeCount,
+                nodeCount,
+                nodeId -> 1,
+                new Concurrency(4),
+                executor,
+                TerminationFlag.RUNNING_TRUE,
+                (start, end) -> {
+                    if (start == 0) {
+                        // the worker owning node 0 is stuck until the others took over its range,
+                        // except for a remainder that is too small to be stolen
+                        firstChunk.set(end);
+                        long stealable = nodeCount - end - WorkStealingScheduler.MIN_STEAL_SIZE;
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                        while (processed.get() < stealable && System.nanoTime() < deadline) {
+                            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                        }
+                    } else {
+                        processed.addAndGet(end - start);
+                    }
+                }
+            );
+
+            assertThat(processed.get()).isEqualTo(nodeCount - firstChunk.get());
+            assertThat(statistics.get(0).nodeCount())
+                .isLessThan(firstChunk.get() + WorkStealingScheduler.MIN_STEAL_SIZE);
+            assertThat(statistics.get(0).busyNanos()).isPositive();
+            assertThat(statistics.stream().mapToLong(WorkStealingScheduler.TaskStatistics::stealCount).sum())
+                .isPositive();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void handlesEmptyNodeRange() {
+        var statistics = ParallelUtil.parallelForEachNode(
+            0,
+            0,
+            nodeId -> 0,
+            new Concurrency(4),
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            (start, end) -> {
+                throw new IllegalStateException("no batches expected");
+            }
+        );
+
+        assertThat(statistics).singleElement().extracting(WorkStealingScheduler.TaskStatistics::chunkCount).isEqualTo(0L);
+    }
+}
@@ -80,6 +80,14 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * If true, the filtered graph is a view on the original graph
+     * and shares its adjacency lists and properties instead of copying them.
+     */
+    default boolean view() {
+        return false;
+    }
+
     // Inherited, but ignored config keys
 
     @Override
@@ -32,7 +32,14 @@ public enum GdsFeatureToggles {
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
     USE_MIXED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    // Only takes effect if the JVM has been started with `--add-modules jdk.incubator.vector`.
+    USE_VECTORIZED_ADJACENCY_UNPACKING(true),
+    // Only takes effect if the JVM has been started with `--add-modules jdk.incubator.vector`.
+    USE_VECTORIZED_SIMILARITY_METRICS(true),
+    // Only takes effect if the JVM supports virtual threads, i.e. Java 21 or newer.
+    USE_VIRTUAL_THREADS_FOR_IO(true),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
@@ -26,7 +26,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.relationships.RelationshipIterator;
 import org.neo4j.gds.api.properties.relationships.RelationshipWithPropertyConsumer;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -139,7 +139,7 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
                 .maxWaitRetries(Integer.MAX_VALUE)
                 .waitTime(10L, TimeUnit.MICROSECONDS)
                 .terminationFlag(terminationFlag)
-                .executor(DefaultPool.INSTANCE)
+                .executor(IoPool.INSTANCE)
                 .mayInterruptIfRunning(false)
                 .run();
         } finally {
@@ -22,7 +22,7 @@ package org.neo4j.gds.core.write;
 import org.neo4j.gds.api.ExportedRelationship;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
-import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.IoPool;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.transaction.TransactionContext;
@@ -98,7 +98,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                 propertyTokens,
                 terminationFlag
             );
-            var consumer = DefaultPool.INSTANCE.submit(writer);
+            var consumer = IoPool.INSTANCE.submit(writer);
 
             var bufferRef = new AtomicReference<>(bufferPool.poll());
 
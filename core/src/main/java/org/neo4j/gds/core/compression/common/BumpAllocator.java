@@ -183,6 +183,14 @@ public final class BumpAllocator<PAGE> {
         PAGE copyOfPage(PAGE page, int length);
 
         int lengthOfPage(PAGE page);
+
+        /**
+         * Copies the first {@code length} entries of {@code source} into {@code target}, starting at {@code targetOffset}.
+         */
+        default void copyInto(PAGE source, PAGE target, int targetOffset, int length) {
+            //noinspection SuspiciousSystemArraycopy
+            System.arraycopy(source, 0, target, targetOffset, length);
+        }
     }
 
     public static final class LocalAllocator<PAGE> {
@@ -290,8 +298,7 @@ public final class BumpAllocator<PAGE> {
                 int pageOffset = PageUtil.indexInPage(offset, PAGE_MASK);
                 PAGE allocatedPage = this.globalAllocator.pages[pageId];
 
-                //noinspection SuspiciousSystemArraycopy
-                System.arraycopy(pageToInsert, 0, allocatedPage, pageOffset, length);
+                this.pageFactory.copyInto(pageToInsert, allocatedPage, pageOffset, length);
             }
         }
 
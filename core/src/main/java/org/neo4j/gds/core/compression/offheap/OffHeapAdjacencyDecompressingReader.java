@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.neo4j.gds.core.compression.common.AbstractAdjacencyDecompressingReader;
+
+import static org.neo4j.gds.core.compression.common.VarLongDecoding.unsafeDecodeDeltaVLongs;
+
+/**
+ * Counterpart of the on-heap {@code AdjacencyDecompressingReader} that reads
+ * delta-encoded var-longs from native memory instead of a {@code byte[]} page.
+ */
+final class OffHeapAdjacencyDecompressingReader extends AbstractAdjacencyDecompressingReader {
+
+    private long ptr;
+
+    OffHeapAdjacencyDecompressingReader() {
+        super();
+    }
+
+    int reset(long ptr, int degree) {
+        this.ptr = ptr;
+        return resetBlock(degree);
+    }
+
+    @Override
+    protected void decodeBlock(long previousValue, int length, long[] block) {
+        this.ptr = unsafeDecodeDeltaVLongs(length, previousValue, this.ptr, block, 0);
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.MemoryInfoUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.VarLongAdjacencyPages;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * Delta var-long compressed adjacency list whose pages live in native memory.
+ * The encoding is identical to {@link CompressedAdjacencyList},
+ * but the target ids do not occupy the Java heap and are not traced by the garbage collector.
+ * Only the page addresses, degrees and offsets are kept on heap.
+ * <p>
+ * The native memory is released when this list becomes unreachable.
+ */
+public final class OffHeapCompressedAdjacencyList implements AdjacencyList, VarLongAdjacencyPages {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int BYTE_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(byte[].class);
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return OffHeapCompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    /**
+     * Estimates the memory usage of the adjacency list.
+     * The pages are allocated off heap and are reported as their own component,
+     * next to the on-heap arrays that hold their addresses and sizes.
+     */
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        long bestCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(
+            avgDegree,
+            nodeCount,
+            deltaWorstCase
+        );
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        MemoryRange nativePagesMemoryRange = MemoryRange.of(
+            (long) minPages * BumpAllocator.PAGE_SIZE,
+            (long) maxPages * BumpAllocator.PAGE_SIZE
+        );
+
+        MemoryRange pageAddressesMemoryRange = MemoryRange.of(
+            Estimate.sizeOfLongArray(minPages) + Estimate.sizeOfIntArray(minPages),
+            Estimate.sizeOfLongArray(maxPages) + Estimate.sizeOfIntArray(maxPages)
+        );
+
+        return MemoryEstimations
+            .builder(OffHeapCompressedAdjacencyList.class)
+            .fixed("native pages", nativePagesMemoryRange)
+            .fixed("page addresses", pageAddressesMemoryRange)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final long[] pages;
+    private final int[] pageSizes;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    private final MemoryInfo memoryInfo;
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * Creates an adjacency list over pages that are not owned by the list, e.g. regions of a memory-mapped file.
+     * Every buffer must be a direct buffer that holds exactly one page in the layout written by the
+     * {@link org.neo4j.gds.core.compression.common.BumpAllocator}.
+     * The buffers are kept reachable for as long as the list is, but they are never freed by the list.
+     */
+    public static OffHeapCompressedAdjacencyList ofForeignPages(
+        ByteBuffer[] pageBuffers,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        long[] pages = new long[pageBuffers.length];
+        int[] pageSizes = new int[pageBuffers.length];
+        long bytesOffHeap = 0L;
+        for (int pageIdx = 0; pageIdx < pageBuffers.length; pageIdx++) {
+            var pageBuffer = pageBuffers[pageIdx];
+            if (!pageBuffer.isDirect()) {
+                throw new IllegalArgumentException("Adjacency pages must be backed by direct buffers.");
+            }
+            pages[pageIdx] = UnsafeUtil.getDirectByteBufferAddress(pageBuffer);
+            pageSizes[pageIdx] = pageBuffer.capacity();
+            bytesOffHeap += pageBuffer.capacity();
+        }
+
+        var memoryInfo = MemoryInfoUtil
+            .builder(MemoryTracker.empty(), Optional.empty())
+            .pages(pages.length)
+            .bytesOffHeap(bytesOffHeap)
+            .build();
+
+        return new OffHeapCompressedAdjacencyList(
+            pages,
+            pageSizes,
+            degrees,
+            offsets,
+            memoryInfo,
+            new ForeignPageRelease(pages, pageBuffers)
+        );
+    }
+
+    OffHeapCompressedAdjacencyList(
+        long[] pages,
+        int[] allocationSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        this(pages, allocationSizes, degrees, offsets, memoryInfo, new PageCleaner(pages, allocationSizes));
+    }
+
+    private OffHeapCompressedAdjacencyList(
+        long[] pages,
+        int[] pageSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo,
+        Runnable pageRelease
+    ) {
+        this.pages = pages;
+        this.pageSizes = pageSizes;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.memoryInfo = memoryInfo;
+        this.cleanable = CLEANER.register(this, pageRelease);
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new OffHeapDecompressingCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof OffHeapDecompressingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new OffHeapDecompressingCursor(pages);
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return this.memoryInfo;
+    }
+
+    // Pages
+
+    @Override
+    public int pageCount() {
+        return pages.length;
+    }
+
+    @Override
+    public int pageSize(int pageIndex) {
+        return pageSizes[pageIndex];
+    }
+
+    @Override
+    public void copyPage(int pageIndex, byte[] buffer) {
+        long pagePtr = pages[pageIndex];
+        if (pagePtr == 0) {
+            throw new IllegalStateException("This page has already been freed.");
+        }
+        UnsafeUtil.copyMemory(null, pagePtr, buffer, BYTE_ARRAY_BASE_OFFSET, pageSizes[pageIndex]);
+    }
+
+    @Override
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    @Override
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
+    /**
+     * Free the underlying memory.
+     * <p>
+     * This list cannot be used afterwards.
+     * <p>
+     * When this list is garbage collected, the memory is freed as well,
+     * so it is not required to call this method to prevent memory leaks.
+     */
+    @TestOnly
+    public void free() {
+        this.cleanable.clean();
+    }
+
+    private static final class PageCleaner implements Runnable {
+        private final long[] pages;
+        private final int[] allocationSizes;
+
+        PageCleaner(long[] pages, int[] allocationSizes) {
+            this.pages = pages;
+            this.allocationSizes = allocationSizes;
+        }
+
+        @Override
+        public void run() {
+            Address address = null;
+            for (int pageIdx = 0; pageIdx < pages.length; pageIdx++) {
+                if (address == null) {
+                    address = Address.createAddress(pages[pageIdx], allocationSizes[pageIdx]);
+                } else {
+                    address.reset(pages[pageIdx], allocationSizes[pageIdx]);
+                }
+                address.free();
+                pages[pageIdx] = 0;
+            }
+        }
+    }
+
+    private static final class ForeignPageRelease implements Runnable {
+        private final long[] pages;
+        // keeps the owner of the memory alive until the list is unreachable
+        private final ByteBuffer[] pageBuffers;
+
+        ForeignPageRelease(long[] pages, ByteBuffer[] pageBuffers) {
+            this.pages = pages;
+            this.pageBuffers = pageBuffers;
+        }
+
+        @Override
+        public void run() {
+            Arrays.fill(pages, 0L);
+            Reference.reachabilityFence(pageBuffers);
+        }
+    }
+
+    public static final class OffHeapDecompressingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        private final long[] pages;
+        private final OffHeapAdjacencyDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private OffHeapDecompressingCursor(long[] pages) {
+            this.pages = pages;
+            this.decompress = new OffHeapAdjacencyDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            long pagePtr = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            if (pagePtr == 0) {
+                throw new IllegalStateException("This page has already been freed.");
+            }
+            maxTargets = decompress.reset(pagePtr + indexInPage(fromIndex, BumpAllocator.PAGE_MASK), degree);
+            currentPosition = 0;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= n) {
+                // we need signal that the cursor is exhausted
+                this.currentPosition = maxTargets;
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            var value = decompress.advanceBy(n, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+    }
+}
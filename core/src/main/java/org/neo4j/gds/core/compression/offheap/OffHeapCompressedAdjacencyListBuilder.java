@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.api.compress.AdjacencyListBuilder;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.MemoryInfoUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public final class OffHeapCompressedAdjacencyListBuilder implements AdjacencyListBuilder<Address, OffHeapCompressedAdjacencyList> {
+
+    private final BumpAllocator<Address> builder;
+    private final MemoryTracker memoryTracker;
+
+    OffHeapCompressedAdjacencyListBuilder(MemoryTracker memoryTracker) {
+        this.builder = new BumpAllocator<>(Factory.INSTANCE);
+        this.memoryTracker = memoryTracker;
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this.builder.newLocalAllocator(), this.memoryTracker);
+    }
+
+    @Override
+    public PositionalAllocator newPositionalAllocator() {
+        return new PositionalAllocator(
+            this.builder.newLocalPositionalAllocator(PositionalFactory.INSTANCE),
+            this.memoryTracker
+        );
+    }
+
+    @Override
+    public OffHeapCompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets, boolean allowReordering) {
+        Address[] intoPages = this.builder.intoPages();
+        if (allowReordering) {
+            reorder(intoPages, offsets, degrees);
+        }
+        long[] pages = new long[intoPages.length];
+        int[] allocationSizes = new int[intoPages.length];
+        for (int i = 0; i < intoPages.length; i++) {
+            Address address = intoPages[i];
+            pages[i] = address.address();
+            allocationSizes[i] = Math.toIntExact(address.bytes());
+        }
+
+        var memoryInfo = memoryInfo(pages, allocationSizes, degrees, offsets);
+
+        return new OffHeapCompressedAdjacencyList(pages, allocationSizes, degrees, offsets, memoryInfo);
+    }
+
+    private MemoryInfo memoryInfo(long[] pages, int[] allocationSizes, HugeIntArray degrees, HugeLongArray offsets) {
+        long bytesOffHeap = Arrays.stream(allocationSizes).peek(this.memoryTracker::recordPageSize).asLongStream().sum();
+
+        var memoryInfoBuilder = MemoryInfoUtil
+            .builder(memoryTracker, Optional.empty())
+            .pages(pages.length)
+            .bytesOffHeap(bytesOffHeap);
+
+        var sizeOnHeap = new MutableLong();
+        MemoryUsage.sizeOfObject(pages).ifPresent(sizeOnHeap::add);
+        MemoryUsage.sizeOfObject(allocationSizes).ifPresent(sizeOnHeap::add);
+        MemoryUsage.sizeOfObject(degrees).ifPresent(sizeOnHeap::add);
+        MemoryUsage.sizeOfObject(offsets).ifPresent(sizeOnHeap::add);
+        memoryInfoBuilder.bytesOnHeap(sizeOnHeap.longValue());
+
+        return memoryInfoBuilder.build();
+    }
+
+    private enum Factory implements BumpAllocator.Factory<Address> {
+        INSTANCE;
+
+        @Override
+        public Address[] newEmptyPages() {
+            return new Address[0];
+        }
+
+        @Override
+        public Address newPage(int length) {
+            long ptr = UnsafeUtil.allocateMemory(length, EmptyMemoryTracker.INSTANCE);
+            return Address.createAddress(ptr, length);
+        }
+    }
+
+    private enum PositionalFactory implements BumpAllocator.PositionalFactory<Address> {
+        INSTANCE;
+
+        @Override
+        public Address copyOfPage(Address page, int length) {
+            var copy = Factory.INSTANCE.newPage(length);
+            copyInto(page, copy, 0, length);
+            return copy;
+        }
+
+        @Override
+        public int lengthOfPage(Address page) {
+            return Math.toIntExact(page.bytes());
+        }
+
+        @Override
+        public void copyInto(Address source, Address target, int targetOffset, int length) {
+            UnsafeUtil.copyMemory(null, source.address(), null, target.address() + targetOffset, length);
+        }
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<Address> {
+
+        private final BumpAllocator.LocalAllocator<Address> allocator;
+        private final MemoryTracker memoryTracker;
+
+        private Allocator(BumpAllocator.LocalAllocator<Address> allocator, MemoryTracker memoryTracker) {
+            this.allocator = allocator;
+            this.memoryTracker = memoryTracker;
+        }
+
+        @Override
+        public long allocate(int allocationSize, Slice<Address> into) {
+            this.memoryTracker.recordNativeAllocation(allocationSize);
+            return this.allocator.insertInto(allocationSize, (ModifiableSlice<Address>) into);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static final class PositionalAllocator implements AdjacencyListBuilder.PositionalAllocator<Address> {
+
+        private final BumpAllocator.LocalPositionalAllocator<Address> allocator;
+        private final MemoryTracker memoryTracker;
+
+        private PositionalAllocator(
+            BumpAllocator.LocalPositionalAllocator<Address> allocator,
+            MemoryTracker memoryTracker
+        ) {
+            this.allocator = allocator;
+            this.memoryTracker = memoryTracker;
+        }
+
+        @Override
+        public void writeAt(long address, Address targets, int length) {
+            this.memoryTracker.recordNativeAllocation(length);
+            // oversized pages are adopted by the allocator, but the caller keeps ownership of its buffer
+            var page = length > BumpAllocator.PAGE_SIZE
+                ? PositionalFactory.INSTANCE.copyOfPage(targets, length)
+                : targets;
+            this.allocator.insertAt(address, page, length);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
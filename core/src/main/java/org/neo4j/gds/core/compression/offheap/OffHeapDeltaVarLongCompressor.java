@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.core.compression.varlong.DeltaVarLongCompressor;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Same encoding as {@link org.neo4j.gds.core.compression.varlong.DeltaVarLongCompressor},
+ * but the var-longs are written into native memory pages.
+ */
+public final class OffHeapDeltaVarLongCompressor {
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<Address, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker
+    ) {
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker,
+            OffHeapDeltaVarLongCompressor::writeTargets
+        );
+    }
+
+    private static void writeTargets(long[] targets, int degree, Address page, int offset) {
+        AdjacencyCompression.compress(targets, 0, degree, page.address() + offset);
+    }
+
+    private OffHeapDeltaVarLongCompressor() {}
+}
@@ -79,7 +79,7 @@ public final class Address {
         return address;
     }
 
-    long bytes() {
+    public long bytes() {
         return this.bytes;
     }
 
@@ -36,6 +36,7 @@ final class BlockAlignedTailUnpacker {
 
     // Decompression state
     private final long[] block;
+    private final BlockDecoder blockDecoder;
 
     private int idxInBlock;
     private int blockId;
@@ -43,6 +44,7 @@ final class BlockAlignedTailUnpacker {
 
     BlockAlignedTailUnpacker() {
         this.block = new long[BLOCK_SIZE];
+        this.blockDecoder = BlockDecoder.create();
         this.header = new ByteArrayBuffer();
     }
 
@@ -104,12 +106,8 @@ final class BlockAlignedTailUnpacker {
         if (this.blockId < this.headerLength) {
             // block unpacking
             byte blockHeader = this.header.buffer[blockId];
-            this.targetPtr = AdjacencyUnpacking.unpack(blockHeader, this.block, 0, this.targetPtr);
-            long value = this.lastValue;
-            for (int i = 0; i < AdjacencyPacking.BLOCK_SIZE; i++) {
-                value = this.block[i] += value;
-            }
-            this.lastValue = value;
+            this.targetPtr = this.blockDecoder.decodeBlock(blockHeader, this.block, this.targetPtr, this.lastValue);
+            this.lastValue = this.block[BLOCK_SIZE - 1];
             this.blockId++;
         }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.Supplier;
+
+/**
+ * Decodes a full block of {@link AdjacencyPacking#BLOCK_SIZE} bit-packed deltas.
+ * Decoding a block means unpacking the deltas and turning them into
+ * target ids by computing the prefix sum, starting from the last target id
+ * of the previous block.
+ *
+ * Implementations may hold internal buffers and must not be shared between cursors.
+ */
+interface BlockDecoder {
+
+    /**
+     * Unpacks and delta-decodes a full block.
+     *
+     * @param bits      the number of bits used to encode each delta
+     * @param block     the target array, must hold at least {@link AdjacencyPacking#BLOCK_SIZE} values
+     * @param packedPtr the address of the packed block
+     * @param lastValue the last target id of the previous block
+     * @return the address of the first byte after the packed block
+     */
+    long decodeBlock(int bits, long[] block, long packedPtr, long lastValue);
+
+    /**
+     * Creates a new decoder.
+     * Uses the Vector API if the {@code jdk.incubator.vector} module is available in the running JVM
+     * and {@link GdsFeatureToggles#USE_VECTORIZED_ADJACENCY_UNPACKING} is enabled.
+     * Otherwise, the generated scalar unpackers are used.
+     */
+    static BlockDecoder create() {
+        var vectorized = VectorSupport.VECTORIZED_DECODER;
+        if (vectorized != null && GdsFeatureToggles.USE_VECTORIZED_ADJACENCY_UNPACKING.isEnabled()) {
+            return vectorized.get();
+        }
+        return new Scalar();
+    }
+
+    static boolean isVectorizationSupported() {
+        return VectorSupport.VECTORIZED_DECODER != null;
+    }
+
+    final class Scalar implements BlockDecoder {
+
+        @Override
+        public long decodeBlock(int bits, long[] block, long packedPtr, long lastValue) {
+            long ptr = AdjacencyUnpacking.unpack(bits, block, 0, packedPtr);
+            AdjacencyCompression.deltaDecode(block, AdjacencyPacking.BLOCK_SIZE, lastValue);
+            return ptr;
+        }
+    }
+
+    /**
+     * Resolves the vectorized decoder reflectively, so that the incubator
+     * classes are never touched if the module is not part of the boot layer.
+     */
+    final class VectorSupport {
+
+        private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+        static final Supplier<BlockDecoder> VECTORIZED_DECODER = vectorizedDecoder();
+
+        @SuppressWarnings("unchecked")
+        private static Supplier<BlockDecoder> vectorizedDecoder() {
+            if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+                return null;
+            }
+            try {
+                var supplier = Class
+                    .forName(BlockDecoder.class.getPackageName() + ".VectorizedBlockDecoder")
+                    .getDeclaredMethod("supplier")
+                    .invoke(null);
+                return (Supplier<BlockDecoder>) supplier;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+
+        private VectorSupport() {}
+    }
+}
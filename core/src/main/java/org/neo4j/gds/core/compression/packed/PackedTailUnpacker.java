@@ -37,6 +37,7 @@ final class PackedTailUnpacker {
 
     // Decompression state
     private final long[] block;
+    private final BlockDecoder blockDecoder;
 
     private int idxInBlock;
     private int blockId;
@@ -45,6 +46,7 @@ final class PackedTailUnpacker {
 
     PackedTailUnpacker() {
         this.block = new long[BLOCK_SIZE];
+        this.blockDecoder = BlockDecoder.create();
         this.header = new ByteArrayBuffer();
     }
 
@@ -108,7 +110,6 @@ final class PackedTailUnpacker {
         if (this.blockId < this.headerLength) {
             // block unpacking
             byte bits = this.header.buffer[blockId];
-            int length;
             if (this.remaining < BLOCK_SIZE) {
                 // last block
                 this.targetPtr = AdjacencyUnpacking.loopUnpack(
@@ -118,14 +119,13 @@ final class PackedTailUnpacker {
                     this.remaining,
                     this.targetPtr
                 );
-                length = remaining;
+                this.lastValue = AdjacencyCompression.deltaDecode(this.block, this.remaining, this.lastValue);
                 this.remaining = 0;
             } else {
-                this.targetPtr = AdjacencyUnpacking.unpack(bits, this.block, 0, this.targetPtr);
+                this.targetPtr = this.blockDecoder.decodeBlock(bits, this.block, this.targetPtr, this.lastValue);
+                this.lastValue = this.block[BLOCK_SIZE - 1];
                 this.remaining -= BLOCK_SIZE;
-                length = BLOCK_SIZE;
             }
-            this.lastValue = AdjacencyCompression.deltaDecode(this.block, length, this.lastValue);
             this.blockId++;
         }
 
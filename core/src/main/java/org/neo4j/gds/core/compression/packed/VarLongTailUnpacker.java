@@ -20,7 +20,6 @@
 package org.neo4j.gds.core.compression.packed;
 
 import org.neo4j.gds.api.compress.ByteArrayBuffer;
-import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.internal.unsafe.UnsafeUtil;
 
@@ -38,6 +37,7 @@ final class VarLongTailUnpacker {
 
     // Decompression state
     private final long[] block;
+    private final BlockDecoder blockDecoder;
 
     private int idxInBlock;
     private int blockId;
@@ -46,6 +46,7 @@ final class VarLongTailUnpacker {
 
     VarLongTailUnpacker() {
         this.block = new long[BLOCK_SIZE];
+        this.blockDecoder = BlockDecoder.create();
         this.header = new ByteArrayBuffer();
     }
 
@@ -109,8 +110,8 @@ final class VarLongTailUnpacker {
         if (this.blockId < this.headerLength) {
             // block unpacking
             byte blockHeader = this.header.buffer[blockId];
-            this.targetPtr = AdjacencyUnpacking.unpack(blockHeader, this.block, 0, this.targetPtr);
-            this.lastValue = AdjacencyCompression.deltaDecode(this.block, AdjacencyPacking.BLOCK_SIZE, this.lastValue);
+            this.targetPtr = this.blockDecoder.decodeBlock(blockHeader, this.block, this.targetPtr, this.lastValue);
+            this.lastValue = this.block[BLOCK_SIZE - 1];
             this.blockId++;
         } else {
             unsafeDecodeDeltaVLongs(
@@ -41,7 +41,7 @@ import static org.neo4j.gds.collections.PageUtil.pageIndex;
 import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
 import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 
-public final class CompressedAdjacencyList implements AdjacencyList {
+public final class CompressedAdjacencyList implements AdjacencyList, VarLongAdjacencyPages {
 
     public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
         return MemoryEstimations.setup("", dimensions -> {
@@ -153,6 +153,33 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         return this.memoryInfo;
     }
 
+    // Pages
+
+    @Override
+    public int pageCount() {
+        return pages.length;
+    }
+
+    @Override
+    public int pageSize(int pageIndex) {
+        return pages[pageIndex].length;
+    }
+
+    @Override
+    public void copyPage(int pageIndex, byte[] buffer) {
+        System.arraycopy(pages[pageIndex], 0, buffer, 0, pages[pageIndex].length);
+    }
+
+    @Override
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    @Override
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
 
         private final byte[][] pages;
@@ -39,7 +39,20 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
 import java.util.Arrays;
 import java.util.function.LongSupplier;
 
-public final class DeltaVarLongCompressor implements AdjacencyCompressor {
+/**
+ * Writes sorted adjacency lists as delta encoded var-longs.
+ * The page type of the adjacency lists is left open, the caller
+ * supplies how var-longs are written into a page of that type.
+ */
+public final class DeltaVarLongCompressor<PAGE> implements AdjacencyCompressor {
+
+    @FunctionalInterface
+    public interface VarLongWriter<PAGE> {
+        /**
+         * Writes the first {@code degree} values as var-longs into {@code page}, starting at {@code offset}.
+         */
+        void write(long[] values, int degree, PAGE page, int offset);
+    }
 
     public static AdjacencyCompressorFactory factory(
         LongSupplier nodeCountSupplier,
@@ -48,6 +61,26 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker,
+            VarLongEncoding::encodeVLongs
+        );
+    }
+
+    public static <PAGE> AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<PAGE, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker,
+        VarLongWriter<PAGE> writer
     ) {
         @SuppressWarnings(
             "unchecked"
@@ -55,25 +88,27 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
             .numberOfMappings()];
         Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder(memoryTracker));
 
-        return new Factory(
+        return new Factory<>(
             nodeCountSupplier,
             adjacencyListBuilderFactory.newAdjacencyListBuilder(memoryTracker),
             propertyBuilders,
             noAggregation,
             aggregations,
-            memoryTracker
+            writer
         );
     }
 
-    private static final class Factory extends AbstractAdjacencyCompressorFactory<byte[], long[]> {
+    private static final class Factory<PAGE> extends AbstractAdjacencyCompressorFactory<PAGE, long[]> {
+
+        private final VarLongWriter<PAGE> writer;
 
         Factory(
             LongSupplier nodeCountSupplier,
-            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<PAGE, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
-            MemoryTracker memoryTracker
+            VarLongWriter<PAGE> writer
         ) {
             super(
                 nodeCountSupplier,
@@ -82,11 +117,12 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 noAggregation,
                 aggregations
             );
+            this.writer = writer;
         }
 
         @Override
         protected AdjacencyCompressor createCompressorFromInternalState(
-            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<PAGE, ? extends AdjacencyList> adjacencyBuilder,
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
@@ -110,8 +146,9 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
                 otherAllocators = null;
             }
 
-            return new DeltaVarLongCompressor(
+            return new DeltaVarLongCompressor<>(
                 adjacencyBuilder.newAllocator(),
+                this.writer,
                 firstAllocator,
                 otherAllocators,
                 adjacencyDegrees,
@@ -123,7 +160,8 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         }
     }
 
-    private final AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator;
+    private final AdjacencyListBuilder.Allocator<PAGE> adjacencyAllocator;
+    private final VarLongWriter<PAGE> writer;
     private final @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator;
     private final AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators;
     private final HugeIntArray adjacencyDegrees;
@@ -132,11 +170,12 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
 
-    private final ModifiableSlice<byte[]> adjacencySlice;
+    private final ModifiableSlice<PAGE> adjacencySlice;
     private final ModifiableSlice<long[]> propertySlice;
 
     private DeltaVarLongCompressor(
-        AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator,
+        AdjacencyListBuilder.Allocator<PAGE> adjacencyAllocator,
+        VarLongWriter<PAGE> writer,
         @Nullable AdjacencyListBuilder.Allocator<long[]> firstPropertyAllocator,
         AdjacencyListBuilder.PositionalAllocator<long[]> @Nullable [] otherPropertyAllocators,
         HugeIntArray adjacencyDegrees,
@@ -146,6 +185,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
+        this.writer = writer;
         this.firstPropertyAllocator = firstPropertyAllocator;
         this.otherPropertyAllocators = otherPropertyAllocators;
         this.adjacencyDegrees = adjacencyDegrees;
@@ -195,13 +235,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     private int applyVariableDeltaEncodingWithoutProperties(long nodeId, long[] targets, int degree) {
         degree = AdjacencyCompression.applyDeltaEncoding(targets, degree, this.aggregations[0]);
 
-        int requiredBytes = VarLongEncoding.encodedVLongsSize(targets, degree);
-
-        var slice = this.adjacencySlice;
-        long address = this.adjacencyAllocator.allocate(requiredBytes, slice);
-
-        // values are now vlong encoded in the final adjacency list
-        VarLongEncoding.encodeVLongs(targets, degree, slice.slice(), slice.offset());
+        long address = writeTargets(targets, degree);
 
         this.adjacencyDegrees.set(nodeId, degree);
         this.adjacencyOffsets.set(nodeId, address);
@@ -231,13 +265,7 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         // values are delta encoded except for the first one
         // values are still uncompressed
 
-        int requiredBytes = VarLongEncoding.encodedVLongsSize(targets, degree);
-
-        var slice = this.adjacencySlice;
-        long address = this.adjacencyAllocator.allocate(requiredBytes, slice);
-
-        // values are now vlong encoded in the final adjacency list
-        VarLongEncoding.encodeVLongs(targets, degree, slice.slice(), slice.offset());
+        long address = writeTargets(targets, degree);
 
         copyProperties(sortedProperties, degree, nodeId);
 
@@ -247,6 +275,23 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
         return degree;
     }
 
+    /**
+     * Writes the sorted and delta encoded targets as var-longs into the adjacency pages.
+     *
+     * @return the offset of the adjacency list across all pages
+     */
+    private long writeTargets(long[] targets, int degree) {
+        int requiredBytes = VarLongEncoding.encodedVLongsSize(targets, degree);
+
+        var slice = this.adjacencySlice;
+        long address = this.adjacencyAllocator.allocate(requiredBytes, slice);
+
+        // values are now vlong encoded in the final adjacency list
+        this.writer.write(targets, degree, slice.slice(), slice.offset());
+
+        return address;
+    }
+
     private void copyProperties(long[][] properties, int degree, long nodeId) {
         assert this.firstPropertyAllocator != null;
         assert this.otherPropertyAllocators != null;
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.varlong;
+
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+
+/**
+ * A delta var-long compressed adjacency list that exposes its pages as they are.
+ * The pages follow the layout of the {@link BumpAllocator},
+ * so they can be copied together with the degrees and offsets
+ * without decoding and re-encoding every adjacency list.
+ */
+public interface VarLongAdjacencyPages {
+
+    int pageCount();
+
+    int pageSize(int pageIndex);
+
+    /**
+     * Copies the full page into the given buffer, which must hold at least {@link #pageSize(int)} bytes.
+     */
+    void copyPage(int pageIndex, byte[] buffer);
+
+    HugeIntArray degrees();
+
+    HugeLongArray offsets();
+}
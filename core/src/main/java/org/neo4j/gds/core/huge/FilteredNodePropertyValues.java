@@ -143,7 +143,7 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
     // This class is used when the ID space of the wrapped properties is wider than the id space used to retrieved node properties.
     public static class FilteredToOriginalNodePropertyValues extends FilteredNodePropertyValues {
 
-        public FilteredToOriginalNodePropertyValues(NodePropertyValues properties, NodeFilteredGraph graph) {
+        public FilteredToOriginalNodePropertyValues(NodePropertyValues properties, FilteredIdMap graph) {
             super(properties, graph);
         }
 
@@ -541,7 +541,7 @@ public class HugeGraph implements CSRGraph {
 
     public Optional<Topology> inverseRelationshipTopology() {
         return Optional.ofNullable(inverseAdjacency).map(adjacencyList -> ImmutableTopology.of(
-            adjacency,
+            adjacencyList,
             relationshipCount,
             isMultiGraph()
         ));
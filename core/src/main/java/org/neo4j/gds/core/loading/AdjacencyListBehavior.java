@@ -25,6 +25,9 @@ import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+import org.neo4j.gds.core.compression.offheap.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.compression.offheap.OffHeapCompressedAdjacencyListBuilderFactory;
+import org.neo4j.gds.core.compression.offheap.OffHeapDeltaVarLongCompressor;
 import org.neo4j.gds.core.compression.packed.PackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.uncompressed.RawCompressor;
@@ -63,7 +66,9 @@ public interface AdjacencyListBehavior {
                 ? mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
                 : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
                     ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                    : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+                    : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                        ? offHeap(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                        : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -98,6 +103,22 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory offHeap(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return OffHeapDeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            OffHeapCompressedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            MemoryTracker.create()
+        );
+    }
+
     static AdjacencyCompressorFactory packed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -134,19 +155,25 @@ public interface AdjacencyListBehavior {
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
         return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapCompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+                : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
         return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapCompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+                : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
     static MemoryEstimation adjacencyListsFromStarEstimation(boolean undirected) {
         BiFunction<RelationshipType, Boolean, MemoryEstimation> estimationMethod = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList::adjacencyListEstimation
-            : CompressedAdjacencyList::adjacencyListEstimation;
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapCompressedAdjacencyList::adjacencyListEstimation
+                : CompressedAdjacencyList::adjacencyListEstimation;
 
         return MemoryEstimations.setup("Adjacency Lists", dimensions -> {
             var builder = MemoryEstimations.builder();
@@ -40,6 +40,7 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -218,6 +219,17 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Replaces the graph store of an existing catalog entry, e.g. after applying incremental changes.
+     * The config and result store of the entry are retained, the cached degree distribution and indexes are dropped.
+     */
+    public static void replace(GraphProjectConfig config, GraphStore graphStore) {
+        getUserCatalog(config.username()).replace(
+            UserCatalog.UserCatalogKey.of(graphStore.databaseInfo().databaseId(), config.graphName()),
+            graphStore
+        );
+    }
+
     public static boolean exists(String username, String databaseName, String graphName) {
         return getUserCatalog(username).exists(UserCatalog.UserCatalogKey.of(databaseName, graphName));
     }
@@ -266,6 +278,37 @@ public final class GraphStoreCatalog {
         );
     }
 
+    public static void setIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        GraphStoreIndex index
+    ) {
+        getUserCatalog(username).setIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), index);
+    }
+
+    public static Optional<GraphStoreIndex> getIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexKey
+    ) {
+        return getUserCatalog(username).getIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexKey);
+    }
+
+    public static Optional<GraphStoreIndex> removeIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexKey
+    ) {
+        return getUserCatalog(username).removeIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexKey);
+    }
+
+    public static Set<String> getIndexKeys(String username, DatabaseId databaseId, String graphName) {
+        return getUserCatalog(username).getIndexKeys(UserCatalog.UserCatalogKey.of(databaseId, graphName));
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.forEach((username, userCatalog) -> {
             userCatalog.graphsByName.forEach(((userCatalogKey, graphStoreCatalogEntry) -> {
@@ -333,6 +376,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, GraphStoreIndex>> indexesByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -359,6 +404,22 @@ public final class GraphStoreCatalog {
             graphsByName.put(userCatalogKey, graphStoreCatalogEntry);
         }
 
+        private void replace(UserCatalogKey userCatalogKey, GraphStore graphStore) {
+            if (graphStore == null) {
+                throw new IllegalArgumentException("Graph store must be not null");
+            }
+
+            var replaced = graphsByName.computeIfPresent(
+                userCatalogKey,
+                (key, entry) -> new GraphStoreCatalogEntry(graphStore, entry.config(), entry.resultStore())
+            );
+            if (replaced == null) {
+                throw new GraphNotFoundException(userCatalogKey);
+            }
+            removeDegreeDistribution(userCatalogKey);
+            indexesByName.remove(userCatalogKey);
+        }
+
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
 
             if (userCatalogKey == null || degreeDistribution == null) {
@@ -379,6 +440,38 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setIndex(UserCatalogKey userCatalogKey, GraphStoreIndex index) {
+            if (userCatalogKey == null || index == null) {
+                throw new IllegalArgumentException("Both name and index must be not null");
+            }
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                throw new IllegalArgumentException(
+                    formatWithLocale(
+                        "Cannot set index because graph %s does not exist",
+                        userCatalogKey.graphName()
+                    )
+                );
+            }
+            indexesByName
+                .computeIfAbsent(userCatalogKey, key -> new ConcurrentHashMap<>())
+                .put(index.indexKey(), index);
+        }
+
+        private Optional<GraphStoreIndex> getIndex(UserCatalogKey userCatalogKey, String indexKey) {
+            var indexes = indexesByName.get(userCatalogKey);
+            return indexes == null ? Optional.empty() : Optional.ofNullable(indexes.get(indexKey));
+        }
+
+        private Optional<GraphStoreIndex> removeIndex(UserCatalogKey userCatalogKey, String indexKey) {
+            var indexes = indexesByName.get(userCatalogKey);
+            return indexes == null ? Optional.empty() : Optional.ofNullable(indexes.remove(indexKey));
+        }
+
+        private Set<String> getIndexKeys(UserCatalogKey userCatalogKey) {
+            var indexes = indexesByName.get(userCatalogKey);
+            return indexes == null ? Set.of() : Set.copyOf(indexes.keySet());
+        }
+
         private @Nullable GraphStoreCatalogEntry get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -410,6 +503,7 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    indexesByName.remove(userCatalogKey);
                     var removed = graphsByName.remove(userCatalogKey);
                     var config = removed.config();
                     var graphStore = removed.graphStore();
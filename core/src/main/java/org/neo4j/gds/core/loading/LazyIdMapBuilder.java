@@ -32,11 +32,14 @@ import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.loading.construction.PropertyValues;
 import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class LazyIdMapBuilder implements PartialIdMap {
+    private static final PropertyValues NO_PROPERTIES = PropertyValues.of(Map.of());
+
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
     private final ShardedLongLongMap.Builder intermediateIdMapBuilder;
 
@@ -66,18 +69,7 @@ public final class LazyIdMapBuilder implements PartialIdMap {
     }
 
     public long addNode(long nodeId, NodeLabelToken nodeLabels) {
-        LoadingExceptions.checkPositiveId(nodeId);
-
-        long intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
-
-        // deduplication
-        if (intermediateId < 0) {
-            return -(intermediateId + 1);
-        }
-
-        this.nodesBuilder.addNode(intermediateId, nodeLabels);
-
-        return intermediateId;
+        return addNode(nodeId, nodeLabels, NO_PROPERTIES, this.nodesBuilder::addNode, this.nodesBuilder::addNode);
     }
 
     public long addNodeWithProperties(
@@ -85,24 +77,43 @@ public final class LazyIdMapBuilder implements PartialIdMap {
         PropertyValues properties,
         NodeLabelToken nodeLabels
     ) {
-        long intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
+        return addNode(nodeId, nodeLabels, properties, this.nodesBuilder::addNode, this.nodesBuilder::addNode);
+    }
 
+    // shared by the builder and its partitions, so that all of them intern and deduplicate ids the same way
+    private long addNode(
+        long nodeId,
+        NodeLabelToken nodeLabels,
+        PropertyValues properties,
+        NodeImporter importer,
+        NodeWithPropertiesImporter propertiesImporter
+    ) {
         LoadingExceptions.checkPositiveId(nodeId);
 
+        long intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
+
         // deduplication
         if (intermediateId < 0) {
             return -(intermediateId + 1);
         }
 
         if (properties.isEmpty()) {
-            this.nodesBuilder.addNode(intermediateId, nodeLabels);
+            importer.addNode(intermediateId, nodeLabels);
         } else {
-            this.nodesBuilder.addNode(intermediateId, nodeLabels, properties);
+            propertiesImporter.addNode(intermediateId, nodeLabels, properties);
         }
 
         return intermediateId;
     }
 
+    /**
+     * Creates a node builder with its own local buffer, see {@link NodesBuilder#partition()}.
+     * Intermediate ids are shared between all partitions.
+     */
+    public Partition partition() {
+        return new Partition(this.nodesBuilder.partition());
+    }
+
     @Override
     public long toMappedNodeId(long originalNodeId) {
         return originalNodeId;
@@ -115,6 +126,52 @@ public final class LazyIdMapBuilder implements PartialIdMap {
             : OptionalLong.of(this.nodesBuilder.importedNodes());
     }
 
+    public final class Partition {
+        private final NodesBuilder.Partition nodesBuilder;
+
+        private Partition(NodesBuilder.Partition nodesBuilder) {
+            this.nodesBuilder = nodesBuilder;
+        }
+
+        public long addNode(long nodeId, NodeLabelToken nodeLabels) {
+            return LazyIdMapBuilder.this.addNode(
+                nodeId,
+                nodeLabels,
+                NO_PROPERTIES,
+                this.nodesBuilder::addNode,
+                this.nodesBuilder::addNode
+            );
+        }
+
+        public long addNodeWithProperties(
+            long nodeId,
+            PropertyValues properties,
+            NodeLabelToken nodeLabels
+        ) {
+            return LazyIdMapBuilder.this.addNode(
+                nodeId,
+                nodeLabels,
+                properties,
+                this.nodesBuilder::addNode,
+                this.nodesBuilder::addNode
+            );
+        }
+
+        public void flush() {
+            this.nodesBuilder.flush();
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeImporter {
+        void addNode(long intermediateId, NodeLabelToken nodeLabels);
+    }
+
+    @FunctionalInterface
+    private interface NodeWithPropertiesImporter {
+        void addNode(long intermediateId, NodeLabelToken nodeLabels, PropertyValues properties);
+    }
+
     @ValueClass
     public interface HighLimitIdMapAndProperties {
         HighLimitIdMap idMap();
@@ -124,6 +124,11 @@ final class LocalNodesBuilder implements AutoCloseable {
         return 0;
     }
 
+    void flush() {
+        flushBuffer();
+        reset();
+    }
+
     @Override
     public void close() {
         flushBuffer();
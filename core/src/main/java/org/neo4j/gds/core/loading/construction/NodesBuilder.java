@@ -41,6 +41,8 @@ import org.neo4j.gds.values.GdsValue;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.LongPredicate;
@@ -61,7 +63,9 @@ public final class NodesBuilder {
     private final LabelInformation.Builder labelInformationBuilder;
 
     private final LongAdder importedNodes;
+    private final Supplier<LocalNodesBuilder> localNodesBuilderSupplier;
     private final LocalNodesBuilderProvider localNodesBuilderProvider;
+    private final Queue<Partition> partitions;
 
     private final NodesBuilderContext nodesBuilderContext;
 
@@ -103,9 +107,11 @@ public final class NodesBuilder {
             hasProperties,
             nodesBuilderContext.threadLocalContext()
         );
+        this.localNodesBuilderSupplier = nodesBuilderSupplier;
         this.localNodesBuilderProvider = usePooledBuilderProvider
             ? LocalNodesBuilderProvider.pooled(nodesBuilderSupplier,concurrency)
             : LocalNodesBuilderProvider.threadLocal(nodesBuilderSupplier);
+        this.partitions = new ConcurrentLinkedQueue<>();
     }
 
     private static LongPredicate seenNodesPredicate(
@@ -171,6 +177,18 @@ public final class NodesBuilder {
         }
     }
 
+    /**
+     * Creates a builder with its own local buffer, e.g. for one worker of a parallel Cypher runtime.
+     * Adding nodes to a partition does not synchronize with other partitions or with the shared
+     * {@code addNode} methods, but a single partition must not be used concurrently.
+     * Buffered nodes are flushed by {@link Partition#flush()}, and at the latest when the nodes are built.
+     */
+    public Partition partition() {
+        var partition = new Partition(this.localNodesBuilderSupplier.get());
+        this.partitions.add(partition);
+        return partition;
+    }
+
     public long importedNodes() {
         return this.importedNodes.sum();
     }
@@ -182,6 +200,8 @@ public final class NodesBuilder {
     public Nodes build(long highestNeoId) {
         // Flush remaining buffer contents
         this.localNodesBuilderProvider.close();
+        this.partitions.forEach(Partition::flush);
+        this.partitions.clear();
 
         var idMap = this.idMapBuilder.build(labelInformationBuilder, highestNeoId, concurrency);
         var nodeProperties = buildProperties(idMap);
@@ -254,6 +274,28 @@ public final class NodesBuilder {
 
     public void close(RuntimeException exception) {
         this.localNodesBuilderProvider.close();
+        this.partitions.forEach(Partition::flush);
+        this.partitions.clear();
         throw exception;
     }
+
+    public static final class Partition {
+        private final LocalNodesBuilder localNodesBuilder;
+
+        private Partition(LocalNodesBuilder localNodesBuilder) {
+            this.localNodesBuilder = localNodesBuilder;
+        }
+
+        public void addNode(long originalId, NodeLabelToken nodeLabels) {
+            this.localNodesBuilder.addNode(originalId, nodeLabels);
+        }
+
+        public void addNode(long originalId, NodeLabelToken nodeLabels, PropertyValues properties) {
+            this.localNodesBuilder.addNode(originalId, nodeLabels, properties);
+        }
+
+        public void flush() {
+            this.localNodesBuilder.flush();
+        }
+    }
 }
@@ -27,6 +27,8 @@ import org.neo4j.gds.utils.StringJoining;
 import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.LongConsumer;
 
 import static org.neo4j.gds.api.IdMap.NOT_FOUND;
@@ -35,10 +37,15 @@ public class RelationshipsBuilder {
 
     static final int NO_PROPERTY_REF = -1;
 
+    // Partitions are typically created per worker thread of the caller,
+    // we keep their buffers small as their number is not bounded by our concurrency.
+    private static final int PARTITION_BUFFER_SIZE = 10_000;
+
     private final PartialIdMap idMap;
     private final SingleTypeRelationshipsBuilder singleTypeRelationshipsBuilder;
     private final LocalRelationshipsBuilderProvider localBuilderProvider;
     private final boolean skipDanglingRelationships;
+    private final Queue<Partition> partitions;
 
     RelationshipsBuilder(
         SingleTypeRelationshipsBuilder singleTypeRelationshipsBuilder,
@@ -49,6 +56,20 @@ public class RelationshipsBuilder {
         this.idMap = singleTypeRelationshipsBuilder.partialIdMap();
         this.localBuilderProvider = localBuilderProvider;
         this.skipDanglingRelationships = skipDanglingRelationships;
+        this.partitions = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a builder with its own local buffer, e.g. for one worker of a parallel Cypher runtime.
+     * Adding relationships to a partition does not synchronize with other partitions or with the shared
+     * {@code add} methods, but a single partition must not be used concurrently.
+     * Buffered relationships are flushed by {@link Partition#flush()}, and at the latest when the relationships are built.
+     */
+    public Partition partition() {
+        var bufferSize = Math.min(PARTITION_BUFFER_SIZE, this.singleTypeRelationshipsBuilder.bufferSize);
+        var partition = new Partition(this.singleTypeRelationshipsBuilder.localRelationshipsBuilder(bufferSize));
+        this.partitions.add(partition);
+        return partition;
     }
 
     public void add(long originalSourceId, long originalTargetId) {
@@ -173,9 +194,51 @@ public class RelationshipsBuilder {
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        this.partitions.forEach(Partition::flush);
+        this.partitions.clear();
         return this.singleTypeRelationshipsBuilder.build(mapper, drainCountConsumer);
     }
 
+    public static final class Partition {
+        private final LocalRelationshipsBuilder localRelationshipsBuilder;
+
+        private Partition(LocalRelationshipsBuilder localRelationshipsBuilder) {
+            this.localRelationshipsBuilder = localRelationshipsBuilder;
+        }
+
+        public boolean addFromInternal(long mappedSourceId, long mappedTargetId) {
+            if (mappedSourceId != NOT_FOUND && mappedTargetId != NOT_FOUND) {
+                this.localRelationshipsBuilder.addRelationship(mappedSourceId, mappedTargetId);
+                return true;
+            }
+            return false;
+        }
+
+        public boolean addFromInternal(long mappedSourceId, long mappedTargetId, double relationshipPropertyValue) {
+            if (mappedSourceId != NOT_FOUND && mappedTargetId != NOT_FOUND) {
+                this.localRelationshipsBuilder.addRelationship(mappedSourceId, mappedTargetId, relationshipPropertyValue);
+                return true;
+            }
+            return false;
+        }
+
+        public boolean addFromInternal(long mappedSourceId, long mappedTargetId, double[] relationshipPropertyValues) {
+            if (mappedSourceId != NOT_FOUND && mappedTargetId != NOT_FOUND) {
+                this.localRelationshipsBuilder.addRelationship(mappedSourceId, mappedTargetId, relationshipPropertyValues);
+                return true;
+            }
+            return false;
+        }
+
+        public void flush() {
+            try {
+                this.localRelationshipsBuilder.close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     public interface Relationship {
         long sourceNodeId();
 
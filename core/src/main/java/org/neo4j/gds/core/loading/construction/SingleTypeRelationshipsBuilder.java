@@ -125,7 +125,11 @@ abstract class SingleTypeRelationshipsBuilder {
         this.concurrency = concurrency;
     }
 
-    abstract LocalRelationshipsBuilder threadLocalRelationshipsBuilder();
+    LocalRelationshipsBuilder threadLocalRelationshipsBuilder() {
+        return localRelationshipsBuilder(bufferSize);
+    }
+
+    abstract LocalRelationshipsBuilder localRelationshipsBuilder(int bufferSize);
 
     abstract Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(
         Optional<AdjacencyCompressor.ValueMapper> mapper,
@@ -241,7 +245,7 @@ abstract class SingleTypeRelationshipsBuilder {
         }
 
         @Override
-        LocalRelationshipsBuilder threadLocalRelationshipsBuilder() {
+        LocalRelationshipsBuilder localRelationshipsBuilder(int bufferSize) {
             return new LocalRelationshipsBuilder.NonIndexed(importer, bufferSize, propertyConfigs.size());
         }
 
@@ -314,7 +318,7 @@ abstract class SingleTypeRelationshipsBuilder {
         }
 
         @Override
-        LocalRelationshipsBuilder threadLocalRelationshipsBuilder() {
+        LocalRelationshipsBuilder localRelationshipsBuilder(int bufferSize) {
             return new LocalRelationshipsBuilder.Indexed(
                 new LocalRelationshipsBuilder.NonIndexed(forwardImporter, bufferSize, propertyConfigs.size()),
                 new LocalRelationshipsBuilder.NonIndexed(inverseImporter, bufferSize, propertyConfigs.size())
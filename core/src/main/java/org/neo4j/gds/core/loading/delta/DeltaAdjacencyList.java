@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.compression.MemoryInfo;
+
+/**
+ * An adjacency list that serves the lists of changed nodes from an overlay
+ * and all other nodes from the unchanged adjacency list it was derived from.
+ * <p>
+ * Cursors of the overlay are wrapped, so that they are never handed to the
+ * base list for reuse: both lists are usually of the same implementation,
+ * but their cursors point into different pages.
+ */
+final class DeltaAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final AdjacencyList overlay;
+    private final BitSet changedNodes;
+
+    DeltaAdjacencyList(AdjacencyList base, AdjacencyList overlay, BitSet changedNodes) {
+        this.base = base;
+        this.overlay = overlay;
+        this.changedNodes = changedNodes;
+    }
+
+    AdjacencyList base() {
+        return base;
+    }
+
+    BitSet changedNodes() {
+        return changedNodes;
+    }
+
+    @Override
+    public int degree(long node) {
+        return changedNodes.get(node) ? overlay.degree(node) : base.degree(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        if (changedNodes.get(node)) {
+            return new OverlayCursor(overlay.adjacencyCursor(node, fallbackValue));
+        }
+        return base.adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (changedNodes.get(node)) {
+            if (reuse instanceof OverlayCursor) {
+                var overlayCursor = (OverlayCursor) reuse;
+                overlayCursor.delegate = overlay.adjacencyCursor(overlayCursor.delegate, node, fallbackValue);
+                return overlayCursor;
+            }
+            return new OverlayCursor(overlay.adjacencyCursor(node, fallbackValue));
+        }
+        return base.adjacencyCursor(reuse, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return base.rawAdjacencyCursor();
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return base.memoryInfo().merge(overlay.memoryInfo());
+    }
+
+    private static final class OverlayCursor implements AdjacencyCursor {
+
+        private AdjacencyCursor delegate;
+
+        private OverlayCursor(AdjacencyCursor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            delegate.init(index, degree);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return delegate.hasNextVLong();
+        }
+
+        @Override
+        public long nextVLong() {
+            return delegate.nextVLong();
+        }
+
+        @Override
+        public long peekVLong() {
+            return delegate.peekVLong();
+        }
+
+        @Override
+        public int remaining() {
+            return delegate.remaining();
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            return delegate.skipUntil(nodeId);
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            return delegate.advance(nodeId);
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            return delegate.advanceBy(n);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.properties.relationships.PropertyCursor;
+
+/**
+ * Relationship properties matching a {@link DeltaAdjacencyList}.
+ */
+final class DeltaAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final AdjacencyProperties overlay;
+    private final BitSet changedNodes;
+
+    DeltaAdjacencyProperties(AdjacencyProperties base, AdjacencyProperties overlay, BitSet changedNodes) {
+        this.base = base;
+        this.overlay = overlay;
+        this.changedNodes = changedNodes;
+    }
+
+    AdjacencyProperties base() {
+        return base;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        if (changedNodes.get(node)) {
+            return new OverlayCursor(overlay.propertyCursor(node, fallbackValue));
+        }
+        return base.propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (changedNodes.get(node)) {
+            if (reuse instanceof OverlayCursor) {
+                var overlayCursor = (OverlayCursor) reuse;
+                overlayCursor.delegate = overlay.propertyCursor(overlayCursor.delegate, node, fallbackValue);
+                return overlayCursor;
+            }
+            return new OverlayCursor(overlay.propertyCursor(node, fallbackValue));
+        }
+        return base.propertyCursor(reuse, node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return base.rawPropertyCursor();
+    }
+
+    private static final class OverlayCursor implements PropertyCursor {
+
+        private PropertyCursor delegate;
+
+        private OverlayCursor(PropertyCursor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            delegate.init(index, degree);
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return delegate.hasNextLong();
+        }
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
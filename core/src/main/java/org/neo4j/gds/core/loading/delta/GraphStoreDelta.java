@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of changes to an existing graph store, expressed in terms of original node ids.
+ * <p>
+ * A delta is applied by {@link GraphStoreDeltaApplier}, which produces a new graph store
+ * that shares all untouched adjacency pages with the one it was derived from.
+ * Only labels, relationship types and properties that already exist in the
+ * graph store can be referenced.
+ */
+public final class GraphStoreDelta {
+
+    private final List<AddedNode> addedNodes;
+    private final LongHashSet removedNodes;
+    private final List<AddedRelationship> addedRelationships;
+    private final List<RemovedRelationship> removedRelationships;
+    private final List<NodePropertyChange> nodePropertyChanges;
+
+    private GraphStoreDelta(
+        List<AddedNode> addedNodes,
+        LongHashSet removedNodes,
+        List<AddedRelationship> addedRelationships,
+        List<RemovedRelationship> removedRelationships,
+        List<NodePropertyChange> nodePropertyChanges
+    ) {
+        this.addedNodes = addedNodes;
+        this.removedNodes = removedNodes;
+        this.addedRelationships = addedRelationships;
+        this.removedRelationships = removedRelationships;
+        this.nodePropertyChanges = nodePropertyChanges;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<AddedNode> addedNodes() {
+        return addedNodes;
+    }
+
+    public LongHashSet removedNodes() {
+        return removedNodes;
+    }
+
+    public List<AddedRelationship> addedRelationships() {
+        return addedRelationships;
+    }
+
+    public List<RemovedRelationship> removedRelationships() {
+        return removedRelationships;
+    }
+
+    public List<NodePropertyChange> nodePropertyChanges() {
+        return nodePropertyChanges;
+    }
+
+    public boolean isEmpty() {
+        return addedNodes.isEmpty()
+               && removedNodes.isEmpty()
+               && addedRelationships.isEmpty()
+               && removedRelationships.isEmpty()
+               && nodePropertyChanges.isEmpty();
+    }
+
+    public record AddedNode(long originalId, List<NodeLabel> labels) {}
+
+    /**
+     * A new relationship. Property values are given in the order of
+     * the relationship type's property keys in the graph schema.
+     */
+    public record AddedRelationship(
+        RelationshipType relationshipType,
+        long sourceOriginalId,
+        long targetOriginalId,
+        double[] properties
+    ) {}
+
+    /**
+     * Removes all relationships of the given type between source and target,
+     * including parallel ones.
+     */
+    public record RemovedRelationship(
+        RelationshipType relationshipType,
+        long sourceOriginalId,
+        long targetOriginalId
+    ) {}
+
+    public record NodePropertyChange(String propertyKey, long originalId, Object value) {}
+
+    public static final class Builder {
+
+        private final List<AddedNode> addedNodes = new ArrayList<>();
+        private final LongHashSet removedNodes = new LongHashSet();
+        private final List<AddedRelationship> addedRelationships = new ArrayList<>();
+        private final List<RemovedRelationship> removedRelationships = new ArrayList<>();
+        private final List<NodePropertyChange> nodePropertyChanges = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addNode(long originalId, NodeLabel... labels) {
+            addedNodes.add(new AddedNode(originalId, List.of(labels)));
+            return this;
+        }
+
+        public Builder removeNode(long originalId) {
+            removedNodes.add(originalId);
+            return this;
+        }
+
+        public Builder addRelationship(
+            RelationshipType relationshipType,
+            long sourceOriginalId,
+            long targetOriginalId,
+            double... properties
+        ) {
+            addedRelationships.add(new AddedRelationship(
+                relationshipType,
+                sourceOriginalId,
+                targetOriginalId,
+                properties
+            ));
+            return this;
+        }
+
+        public Builder removeRelationship(RelationshipType relationshipType, long sourceOriginalId, long targetOriginalId) {
+            removedRelationships.add(new RemovedRelationship(relationshipType, sourceOriginalId, targetOriginalId));
+            return this;
+        }
+
+        public Builder setNodeProperty(String propertyKey, long originalId, Object value) {
+            nodePropertyChanges.add(new NodePropertyChange(propertyKey, originalId, value));
+            return this;
+        }
+
+        public GraphStoreDelta build() {
+            return new GraphStoreDelta(
+                List.copyOf(addedNodes),
+                new LongHashSet(removedNodes),
+                List.copyOf(addedRelationships),
+                List.copyOf(removedRelationships),
+                List.copyOf(nodePropertyChanges)
+            );
+        }
+    }
+}
@@ -0,0 +1,762 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.api.properties.relationships.ImmutableProperties;
+import org.neo4j.gds.api.properties.relationships.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.properties.relationships.Properties;
+import org.neo4j.gds.api.properties.relationships.PropertyCursor;
+import org.neo4j.gds.api.properties.relationships.RelationshipProperty;
+import org.neo4j.gds.api.properties.relationships.RelationshipPropertyStore;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies a {@link GraphStoreDelta} to an existing graph store.
+ * <p>
+ * As long as no nodes are removed, the internal ids of existing nodes remain stable
+ * and added nodes are appended to the id space. In that case, only the adjacency lists
+ * of nodes touched by the delta are re-encoded into a small overlay, while all other
+ * nodes keep reading from the pages of the original graph store.
+ * Refreshing an already refreshed graph merges the new changes into its overlay, so that
+ * there is never more than one overlay on top of the original adjacency lists. Once the
+ * overlay covers more than {@link #MAX_OVERLAY_SHARE} of the nodes, all lists are re-encoded
+ * and the original ones are dropped.
+ * Removing nodes compacts the id space, which requires re-encoding all adjacency lists.
+ */
+public final class GraphStoreDeltaApplier {
+
+    private static final long REMOVED = -1L;
+    static final double MAX_OVERLAY_SHARE = 0.5;
+
+    private final GraphStore graphStore;
+    private final GraphStoreDelta delta;
+    private final Concurrency concurrency;
+
+    private final IdMap baseIdMap;
+    private final long baseNodeCount;
+    private final long nodeCount;
+    private final long survivingNodeCount;
+    private final boolean idsStable;
+    // only materialized when nodes are removed
+    private final HugeLongArray oldToNew;
+    private final HugeLongArray newToOld;
+    private final LongLongHashMap addedNodeIds;
+
+    private IdMap idMap;
+
+    public static GraphStore apply(GraphStore graphStore, GraphStoreDelta delta, Concurrency concurrency) {
+        if (delta.isEmpty()) {
+            return graphStore;
+        }
+        return new GraphStoreDeltaApplier(graphStore, delta, concurrency).run();
+    }
+
+    /**
+     * Applies the delta to a graph in the catalog and replaces the catalog entry with the result.
+     */
+    public static GraphStore refresh(
+        CatalogRequest request,
+        String graphName,
+        GraphStoreDelta delta,
+        Concurrency concurrency
+    ) {
+        var catalogEntry = GraphStoreCatalog.get(request, graphName);
+        var graphStore = apply(catalogEntry.graphStore(), delta, concurrency);
+        if (graphStore != catalogEntry.graphStore()) {
+            GraphStoreCatalog.replace(catalogEntry.config(), graphStore);
+        }
+        return graphStore;
+    }
+
+    private GraphStoreDeltaApplier(GraphStore graphStore, GraphStoreDelta delta, Concurrency concurrency) {
+        this.graphStore = graphStore;
+        this.delta = delta;
+        this.concurrency = concurrency;
+        this.baseIdMap = graphStore.nodes();
+        this.baseNodeCount = baseIdMap.nodeCount();
+
+        validateNodes();
+
+        this.idsStable = delta.removedNodes().isEmpty();
+        this.survivingNodeCount = baseNodeCount - delta.removedNodes().size();
+        this.nodeCount = survivingNodeCount + delta.addedNodes().size();
+
+        if (idsStable) {
+            this.oldToNew = null;
+            this.newToOld = null;
+        } else {
+            this.oldToNew = HugeLongArray.newArray(baseNodeCount);
+            this.newToOld = HugeLongArray.newArray(nodeCount);
+            long nextId = 0;
+            for (long oldId = 0; oldId < baseNodeCount; oldId++) {
+                if (delta.removedNodes().contains(baseIdMap.toOriginalNodeId(oldId))) {
+                    oldToNew.set(oldId, REMOVED);
+                } else {
+                    oldToNew.set(oldId, nextId);
+                    newToOld.set(nextId++, oldId);
+                }
+            }
+            for (long newId = survivingNodeCount; newId < nodeCount; newId++) {
+                newToOld.set(newId, REMOVED);
+            }
+        }
+
+        this.addedNodeIds = new LongLongHashMap(delta.addedNodes().size());
+        for (int i = 0; i < delta.addedNodes().size(); i++) {
+            addedNodeIds.put(delta.addedNodes().get(i).originalId(), survivingNodeCount + i);
+        }
+    }
+
+    private GraphStore run() {
+        this.idMap = buildIdMap();
+
+        var nodeSchema = MutableNodeSchema.from(graphStore.schema().nodeSchema());
+        var nodeProperties = buildNodeProperties();
+        var relationships = buildRelationships();
+
+        return new GraphStoreBuilder()
+            .databaseInfo(graphStore.databaseInfo())
+            .capabilities(graphStore.capabilities())
+            .schema(MutableGraphSchema.from(graphStore.schema()))
+            .nodes(ImmutableNodes.of(nodeSchema, idMap, nodeProperties))
+            .relationshipImportResult(relationships)
+            .graphProperties(graphProperties())
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private GraphPropertyStore graphProperties() {
+        var graphPropertyStoreBuilder = GraphPropertyStore.builder();
+        for (var propertyKey : graphStore.graphPropertyKeys()) {
+            graphPropertyStoreBuilder.putProperty(propertyKey, graphStore.graphProperty(propertyKey));
+        }
+        return graphPropertyStoreBuilder.build();
+    }
+
+    private void validateNodes() {
+        for (var removed : delta.removedNodes()) {
+            if (baseIdMap.safeToMappedNodeId(removed.value) == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot remove node with id %d, because it does not exist in the graph.",
+                    removed.value
+                ));
+            }
+        }
+
+        var availableLabels = graphStore.nodeLabels();
+        var seen = new LongHashSet(delta.addedNodes().size());
+        for (var addedNode : delta.addedNodes()) {
+            if (baseIdMap.safeToMappedNodeId(addedNode.originalId()) != IdMap.NOT_FOUND || !seen.add(addedNode.originalId())) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot add node with id %d, because it already exists in the graph.",
+                    addedNode.originalId()
+                ));
+            }
+            for (var label : addedNode.labels()) {
+                if (!availableLabels.contains(label)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Cannot add node with id %d, because label `%s` does not exist in the graph. Available labels: %s",
+                        addedNode.originalId(),
+                        label.name(),
+                        availableLabels
+                    ));
+                }
+            }
+        }
+    }
+
+    private long oldId(long newId) {
+        if (idsStable) {
+            return newId < baseNodeCount ? newId : REMOVED;
+        }
+        return newToOld.get(newId);
+    }
+
+    private long newId(long oldId) {
+        return idsStable ? oldId : oldToNew.get(oldId);
+    }
+
+    private long toNewId(long originalId) {
+        var oldId = baseIdMap.safeToMappedNodeId(originalId);
+        var newId = oldId == IdMap.NOT_FOUND ? addedNodeIds.getOrDefault(originalId, REMOVED) : newId(oldId);
+        if (newId == REMOVED) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d does not exist in the updated graph.",
+                originalId
+            ));
+        }
+        return newId;
+    }
+
+    private IdMap buildIdMap() {
+        if (delta.addedNodes().isEmpty() && idsStable) {
+            return baseIdMap;
+        }
+
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        var batch = new long[(int) Math.min(ParallelUtil.DEFAULT_BATCH_SIZE, nodeCount)];
+        for (long start = 0; start < nodeCount; start += batch.length) {
+            int batchLength = (int) Math.min(batch.length, nodeCount - start);
+            var buffer = batchLength == batch.length ? batch : new long[batchLength];
+            for (int i = 0; i < batchLength; i++) {
+                buffer[i] = originalId(start + i);
+            }
+            idMapBuilder.allocate(batchLength).insert(buffer);
+        }
+
+        long highestOriginalId = baseIdMap.highestOriginalId();
+        for (var addedNode : delta.addedNodes()) {
+            highestOriginalId = Math.max(highestOriginalId, addedNode.originalId());
+        }
+
+        return idMapBuilder.build(labelInformationBuilder(), highestOriginalId, concurrency);
+    }
+
+    private long originalId(long newId) {
+        var oldId = oldId(newId);
+        return oldId == REMOVED
+            ? delta.addedNodes().get((int) (newId - survivingNodeCount)).originalId()
+            : baseIdMap.toOriginalNodeId(oldId);
+    }
+
+    private LabelInformation.Builder labelInformationBuilder() {
+        if (baseIdMap.availableNodeLabels().equals(Set.of(NodeLabel.ALL_NODES))) {
+            return LabelInformationBuilders.allNodes();
+        }
+
+        var builder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+        for (long newId = 0; newId < survivingNodeCount; newId++) {
+            var originalId = originalId(newId);
+            baseIdMap.forEachNodeLabel(oldId(newId), label -> {
+                builder.addNodeIdToLabel(label, originalId);
+                return true;
+            });
+        }
+        for (var addedNode : delta.addedNodes()) {
+            for (var label : addedNode.labels()) {
+                builder.addNodeIdToLabel(label, addedNode.originalId());
+            }
+        }
+        return builder;
+    }
+
+    private NodePropertyStore buildNodeProperties() {
+        var changesByKey = new HashMap<String, LongObjectHashMap<Object>>();
+        for (var change : delta.nodePropertyChanges()) {
+            if (!graphStore.hasNodeProperty(change.propertyKey())) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set node property `%s`, because it does not exist in the graph. Available properties: %s",
+                    change.propertyKey(),
+                    graphStore.nodePropertyKeys()
+                ));
+            }
+            changesByKey
+                .computeIfAbsent(change.propertyKey(), key -> new LongObjectHashMap<>())
+                .put(toNewId(change.originalId()), change.value());
+        }
+
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        for (var propertyKey : graphStore.nodePropertyKeys()) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            var changes = changesByKey.getOrDefault(propertyKey, new LongObjectHashMap<>());
+            if (changes.isEmpty() && idMap == baseIdMap) {
+                nodePropertyStoreBuilder.putProperty(propertyKey, nodeProperty);
+            } else {
+                nodePropertyStoreBuilder.putProperty(
+                    propertyKey,
+                    ImmutableNodeProperty.of(updatedValues(nodeProperty, changes), nodeProperty.propertySchema())
+                );
+            }
+        }
+        return nodePropertyStoreBuilder.build();
+    }
+
+    private NodePropertyValues updatedValues(NodeProperty nodeProperty, LongObjectHashMap<Object> changes) {
+        var key = nodeProperty.key();
+        var values = nodeProperty.values();
+        var defaultValue = nodeProperty.propertySchema().defaultValue();
+
+        switch (nodeProperty.valueType()) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                forEachNode(newId -> {
+                    long oldId = oldId(newId);
+                    longValues.set(newId, changes.containsKey(newId)
+                        ? cast(changes.get(newId), Number.class, key).longValue()
+                        : oldId == REMOVED ? defaultValue.longValue() : values.longValue(oldId));
+                });
+                return NodePropertyValuesAdapter.adapt(longValues);
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                forEachNode(newId -> {
+                    long oldId = oldId(newId);
+                    doubleValues.set(newId, changes.containsKey(newId)
+                        ? cast(changes.get(newId), Number.class, key).doubleValue()
+                        : oldId == REMOVED ? defaultValue.doubleValue() : values.doubleValue(oldId));
+                });
+                return NodePropertyValuesAdapter.adapt(doubleValues);
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                forEachNode(newId -> {
+                    long oldId = oldId(newId);
+                    longArrays.set(newId, changes.containsKey(newId)
+                        ? cast(changes.get(newId), long[].class, key)
+                        : oldId == REMOVED ? defaultValue.longArrayValue() : values.longArrayValue(oldId));
+                });
+                return NodePropertyValuesAdapter.adapt(longArrays);
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                forEachNode(newId -> {
+                    long oldId = oldId(newId);
+                    doubleArrays.set(newId, changes.containsKey(newId)
+                        ? cast(changes.get(newId), double[].class, key)
+                        : oldId == REMOVED ? defaultValue.doubleArrayValue() : values.doubleArrayValue(oldId));
+                });
+                return NodePropertyValuesAdapter.adapt(doubleArrays);
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                forEachNode(newId -> {
+                    long oldId = oldId(newId);
+                    floatArrays.set(newId, changes.containsKey(newId)
+                        ? cast(changes.get(newId), float[].class, key)
+                        : oldId == REMOVED ? defaultValue.floatArrayValue() : values.floatArrayValue(oldId));
+                });
+                return NodePropertyValuesAdapter.adapt(floatArrays);
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot update node property `%s` of type `%s`.",
+                    key,
+                    nodeProperty.valueType()
+                ));
+        }
+    }
+
+    private static <T> T cast(Object value, Class<T> type, String propertyKey) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a value of type `%s` for node property `%s`, but got `%s`.",
+                type.getSimpleName(),
+                propertyKey,
+                value
+            ));
+        }
+        return type.cast(value);
+    }
+
+    private void forEachNode(LongConsumer consumer) {
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, consumer);
+    }
+
+    private RelationshipImportResult buildRelationships() {
+        var relationshipSchema = MutableRelationshipSchema.from(graphStore.schema().relationshipSchema());
+        var changesByType = relationshipChanges(relationshipSchema);
+
+        var importResult = RelationshipImportResult.builder();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var schemaEntry = relationshipSchema.get(relationshipType);
+            var changes = changesByType.getOrDefault(relationshipType, new Changes());
+            var propertyKeys = propertyKeys(relationshipSchema, relationshipType);
+
+            var graph = (HugeGraph) graphStore.getGraph(relationshipType);
+            var baseProperties = propertyKeys
+                .stream()
+                .map(key -> graphStore.relationshipPropertyValues(relationshipType, key))
+                .collect(Collectors.toList());
+
+            var forward = updatedDirection(
+                graph.relationshipTopology(),
+                baseProperties.stream().map(property -> property.values()).collect(Collectors.toList()),
+                baseProperties,
+                changes
+            );
+
+            var relationshipsBuilder = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(schemaEntry)
+                .topology(forward.topology())
+                .properties(forward.propertyStore());
+
+            var inverseTopology = graph.inverseRelationshipTopology();
+            if (inverseTopology.isPresent()) {
+                var inverseProperties = propertyKeys
+                    .stream()
+                    .map(key -> ((HugeGraph) graphStore.getGraph(relationshipType, Optional.of(key)))
+                        .inverseRelationshipProperties()
+                        .orElseThrow())
+                    .collect(Collectors.toList());
+                var inverse = updatedDirection(
+                    inverseTopology.get(),
+                    inverseProperties,
+                    baseProperties,
+                    changes.inverse()
+                );
+                relationshipsBuilder
+                    .inverseTopology(inverse.topology())
+                    .inverseProperties(inverse.propertyStore());
+            }
+
+            importResult.putImportResult(relationshipType, relationshipsBuilder.build());
+        }
+        return importResult.build();
+    }
+
+    private Map<RelationshipType, Changes> relationshipChanges(MutableRelationshipSchema relationshipSchema) {
+        var changesByType = new HashMap<RelationshipType, Changes>();
+        for (var removed : delta.removedRelationships()) {
+            var relationshipType = validateRelationshipType(removed.relationshipType());
+            var source = toNewId(removed.sourceOriginalId());
+            var target = toNewId(removed.targetOriginalId());
+            var changes = changesByType.computeIfAbsent(relationshipType, type -> new Changes());
+            changes.remove(source, target);
+            if (relationshipSchema.get(relationshipType).direction() == Direction.UNDIRECTED) {
+                changes.remove(target, source);
+            }
+        }
+        for (var added : delta.addedRelationships()) {
+            var relationshipType = validateRelationshipType(added.relationshipType());
+            var propertyCount = propertyKeys(relationshipSchema, relationshipType).size();
+            if (added.properties().length != propertyCount) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationships of type `%s` require %d property values, but got %d.",
+                    relationshipType.name,
+                    propertyCount,
+                    added.properties().length
+                ));
+            }
+            var properties = new long[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                properties[i] = Double.doubleToLongBits(added.properties()[i]);
+            }
+            var source = toNewId(added.sourceOriginalId());
+            var target = toNewId(added.targetOriginalId());
+            var changes = changesByType.computeIfAbsent(relationshipType, type -> new Changes());
+            changes.add(source, target, properties);
+            if (relationshipSchema.get(relationshipType).direction() == Direction.UNDIRECTED) {
+                changes.add(target, source, properties);
+            }
+        }
+        return changesByType;
+    }
+
+    private RelationshipType validateRelationshipType(RelationshipType relationshipType) {
+        if (!graphStore.hasRelationshipType(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type `%s` does not exist in the graph. Available types: %s",
+                relationshipType.name,
+                graphStore.relationshipTypes()
+            ));
+        }
+        return relationshipType;
+    }
+
+    /**
+     * Property values of added relationships are given in lexicographic order of the property keys.
+     */
+    private static List<String> propertyKeys(MutableRelationshipSchema relationshipSchema, RelationshipType type) {
+        return relationshipSchema.get(type).properties().keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    private UpdatedDirection updatedDirection(
+        Topology baseTopology,
+        List<Properties> baseProperties,
+        List<RelationshipProperty> propertySchemas,
+        Changes changes
+    ) {
+        var changedNodes = changedNodes(changes);
+        if (changedNodes.isEmpty()) {
+            return new UpdatedDirection(baseTopology, baseProperties, propertySchemas);
+        }
+
+        var baseAdjacency = baseTopology.adjacencyList();
+        var baseAdjacencyProperties = baseProperties
+            .stream()
+            .map(Properties::propertiesList)
+            .toArray(AdjacencyProperties[]::new);
+        int propertyCount = baseAdjacencyProperties.length;
+
+        // The new overlay replaces the one of a previous refresh, it is built from the current lists of
+        // all nodes changed by either refresh and sits directly on top of the original lists.
+        var originalAdjacency = baseAdjacency;
+        var originalAdjacencyProperties = baseAdjacencyProperties;
+        if (baseAdjacency instanceof DeltaAdjacencyList) {
+            var previous = (DeltaAdjacencyList) baseAdjacency;
+            changedNodes.union(previous.changedNodes());
+            originalAdjacency = previous.base();
+            originalAdjacencyProperties = new AdjacencyProperties[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                originalAdjacencyProperties[i] = ((DeltaAdjacencyProperties) baseAdjacencyProperties[i]).base();
+            }
+        }
+        boolean complete = !idsStable || changedNodes.cardinality() > MAX_OVERLAY_SHARE * nodeCount;
+        if (complete) {
+            changedNodes.set(0, nodeCount);
+        }
+
+        var aggregations = aggregations(baseTopology, propertySchemas);
+        var propertyMappings = PropertyMappings.of(propertySchemas
+            .stream()
+            .map(property -> PropertyMapping.of(property.propertySchema().key()))
+            .toArray(PropertyMapping[]::new));
+
+        var factory = AdjacencyListBehavior.asConfigured(() -> nodeCount, propertyMappings, aggregations);
+        factory.init();
+
+        long replacedRelationships = 0;
+        AdjacencyCursor adjacencyCursor = baseAdjacency.rawAdjacencyCursor();
+        var propertyCursors = new PropertyCursor[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            propertyCursors[i] = baseAdjacencyProperties[i].rawPropertyCursor();
+        }
+
+        try (var compressor = factory.createCompressor()) {
+            for (long node = changedNodes.nextSetBit(0); node >= 0; node = changedNodes.nextSetBit(node + 1)) {
+                long oldNode = oldId(node);
+                int baseDegree = oldNode == REMOVED ? 0 : baseAdjacency.degree(oldNode);
+                var additions = changes.additions.getOrDefault(node, List.of());
+                var removals = changes.removals.get(node);
+
+                var targets = new long[baseDegree + additions.size()];
+                var properties = new long[propertyCount][targets.length];
+                int degree = 0;
+
+                if (baseDegree > 0) {
+                    replacedRelationships += baseDegree;
+                    adjacencyCursor = baseAdjacency.adjacencyCursor(adjacencyCursor, oldNode);
+                    for (int i = 0; i < propertyCount; i++) {
+                        propertyCursors[i] = baseAdjacencyProperties[i].propertyCursor(propertyCursors[i], oldNode);
+                    }
+                    while (adjacencyCursor.hasNextVLong()) {
+                        long target = newId(adjacencyCursor.nextVLong());
+                        boolean keep = target != REMOVED && (removals == null || !removals.contains(target));
+                        for (int i = 0; i < propertyCount; i++) {
+                            long value = propertyCursors[i].nextLong();
+                            if (keep) {
+                                properties[i][degree] = value;
+                            }
+                        }
+                        if (keep) {
+                            targets[degree++] = target;
+                        }
+                    }
+                }
+
+                for (var addition : additions) {
+                    for (int i = 0; i < propertyCount; i++) {
+                        properties[i][degree] = addition.properties()[i];
+                    }
+                    targets[degree++] = addition.target();
+                }
+
+                if (degree > 0) {
+                    degree = compressor.compress(node, targets, propertyCount == 0 ? null : properties, degree);
+                    factory.relationshipCounter().add(degree);
+                }
+            }
+        }
+
+        var overlay = factory.build(false);
+        boolean isMultiGraph = baseTopology.isMultiGraph()
+                               || (aggregations[0] == Aggregation.NONE && !changes.additions.isEmpty());
+
+        if (complete) {
+            // all nodes have been re-encoded, the overlay is complete
+            var topology = ImmutableTopology.builder()
+                .adjacencyList(overlay.adjacency())
+                .elementCount(overlay.relationshipCount())
+                .isMultiGraph(isMultiGraph)
+                .build();
+            var properties = new ArrayList<Properties>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                properties.add(ImmutableProperties.builder()
+                    .propertiesList(overlay.properties().get(i))
+                    .elementCount(overlay.relationshipCount())
+                    .defaultPropertyValue(baseProperties.get(i).defaultPropertyValue())
+                    .build());
+            }
+            return new UpdatedDirection(topology, properties, propertySchemas);
+        }
+
+        long elementCount = baseTopology.elementCount() - replacedRelationships + overlay.relationshipCount();
+        var topology = ImmutableTopology.builder()
+            .adjacencyList(new DeltaAdjacencyList(originalAdjacency, overlay.adjacency(), changedNodes))
+            .elementCount(elementCount)
+            .isMultiGraph(isMultiGraph)
+            .build();
+        var properties = new ArrayList<Properties>(propertyCount);
+        for (int i = 0; i < propertyCount; i++) {
+            properties.add(ImmutableProperties.builder()
+                .propertiesList(new DeltaAdjacencyProperties(
+                    originalAdjacencyProperties[i],
+                    overlay.properties().get(i),
+                    changedNodes
+                ))
+                .elementCount(elementCount)
+                .defaultPropertyValue(baseProperties.get(i).defaultPropertyValue())
+                .build());
+        }
+        return new UpdatedDirection(topology, properties, propertySchemas);
+    }
+
+    private BitSet changedNodes(Changes changes) {
+        var changedNodes = new BitSet(nodeCount);
+        if (!idsStable) {
+            changedNodes.set(0, nodeCount);
+            return changedNodes;
+        }
+        // appended nodes are not covered by the base adjacency list
+        changedNodes.set(baseNodeCount, nodeCount);
+        for (var source : changes.additions.keys()) {
+            changedNodes.set(source.value);
+        }
+        for (var source : changes.removals.keys()) {
+            changedNodes.set(source.value);
+        }
+        return changedNodes;
+    }
+
+    /**
+     * Existing relationships are already aggregated, so they are merged with the added ones
+     * using the aggregation of the projection. Counts are merged by summing them up.
+     * Relationship types without properties do not retain their aggregation,
+     * parallel relationships are only kept if the topology already allowed them.
+     */
+    private static Aggregation[] aggregations(Topology baseTopology, List<RelationshipProperty> properties) {
+        if (properties.isEmpty()) {
+            return new Aggregation[]{baseTopology.isMultiGraph() ? Aggregation.NONE : Aggregation.SINGLE};
+        }
+        return properties
+            .stream()
+            .map(property -> Aggregation.resolve(property.propertySchema().aggregation()))
+            .map(aggregation -> aggregation == Aggregation.COUNT ? Aggregation.SUM : aggregation)
+            .toArray(Aggregation[]::new);
+    }
+
+    private record Addition(long target, long[] properties) {}
+
+    private static final class Changes {
+        private final LongObjectHashMap<List<Addition>> additions = new LongObjectHashMap<>();
+        private final LongObjectHashMap<LongHashSet> removals = new LongObjectHashMap<>();
+
+        void add(long source, long target, long[] properties) {
+            var sourceAdditions = additions.get(source);
+            if (sourceAdditions == null) {
+                sourceAdditions = new ArrayList<>();
+                additions.put(source, sourceAdditions);
+            }
+            sourceAdditions.add(new Addition(target, properties));
+        }
+
+        void remove(long source, long target) {
+            var sourceRemovals = removals.get(source);
+            if (sourceRemovals == null) {
+                sourceRemovals = new LongHashSet();
+                removals.put(source, sourceRemovals);
+            }
+            sourceRemovals.add(target);
+        }
+
+        Changes inverse() {
+            var inverse = new Changes();
+            for (var cursor : additions) {
+                for (var addition : cursor.value) {
+                    inverse.add(addition.target(), cursor.key, addition.properties());
+                }
+            }
+            for (var cursor : removals) {
+                for (var target : cursor.value) {
+                    inverse.remove(target.value, cursor.key);
+                }
+            }
+            return inverse;
+        }
+    }
+
+    private record UpdatedDirection(
+        Topology topology,
+        List<Properties> properties,
+        List<RelationshipProperty> propertySchemas
+    ) {
+        Optional<RelationshipPropertyStore> propertyStore() {
+            if (properties.isEmpty()) {
+                return Optional.empty();
+            }
+            var builder = RelationshipPropertyStore.builder();
+            for (int i = 0; i < properties.size(); i++) {
+                var propertySchema = propertySchemas.get(i).propertySchema();
+                builder.putRelationshipProperty(
+                    propertySchema.key(),
+                    ImmutableRelationshipProperty.of(properties.get(i), propertySchema)
+                );
+            }
+            return Optional.of(builder.build());
+        }
+    }
+}
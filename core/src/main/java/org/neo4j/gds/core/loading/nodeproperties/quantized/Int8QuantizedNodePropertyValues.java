@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties.quantized;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Scalar quantization of an embedding property into one byte per dimension.
+ * <p>
+ * Every dimension is mapped linearly from the range of values observed for that dimension onto 256 levels,
+ * which bounds the reconstruction error per dimension by half the width of a level.
+ */
+public final class Int8QuantizedNodePropertyValues extends QuantizedEmbeddingNodePropertyValues {
+
+    private static final int LEVELS = 255;
+
+    private final HugeByteArray codes;
+    private final float[] minimums;
+    private final float[] scales;
+
+    private Int8QuantizedNodePropertyValues(
+        long nodeCount,
+        int dimension,
+        HugeAtomicBitSet missing,
+        HugeByteArray codes,
+        float[] minimums,
+        float[] scales
+    ) {
+        super(nodeCount, dimension, missing);
+        this.codes = codes;
+        this.minimums = minimums;
+        this.scales = scales;
+    }
+
+    public static MemoryEstimation memoryEstimation(int dimension) {
+        return MemoryEstimations.builder(Int8QuantizedNodePropertyValues.class)
+            .perNode("codes", nodeCount -> HugeByteArray.memoryEstimation(nodeCount * dimension))
+            .perNode("missing values", HugeAtomicBitSet::memoryEstimation)
+            .fixed("minimums", Estimate.sizeOfFloatArray(dimension))
+            .fixed("scales", Estimate.sizeOfFloatArray(dimension))
+            .build();
+    }
+
+    public static Int8QuantizedNodePropertyValues quantize(NodePropertyValues embeddings, Concurrency concurrency) {
+        var nodeCount = embeddings.nodeCount();
+        var dimension = dimension(embeddings);
+        var missing = missingValues(embeddings, dimension, concurrency);
+
+        var ranges = ranges(embeddings, dimension, concurrency);
+        var minimums = ranges[0];
+        var scales = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            scales[i] = (ranges[1][i] - minimums[i]) / LEVELS;
+        }
+
+        var codes = HugeByteArray.newArray(nodeCount * dimension);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, nodeId -> {
+            var value = embeddings.floatArrayValue(nodeId);
+            if (value == null) {
+                return;
+            }
+            long offset = nodeId * dimension;
+            for (int i = 0; i < dimension; i++) {
+                codes.set(offset + i, encode(value[i], minimums[i], scales[i]));
+            }
+        });
+
+        return new Int8QuantizedNodePropertyValues(nodeCount, dimension, missing, codes, minimums, scales);
+    }
+
+    @Override
+    void decodeInto(long nodeId, float[] target) {
+        var dimension = embeddingDimension();
+        long offset = nodeId * dimension;
+        for (int i = 0; i < dimension; i++) {
+            target[i] = minimums[i] + (codes.get(offset + i) - Byte.MIN_VALUE) * scales[i];
+        }
+    }
+
+    @Override
+    public long memoryUsage() {
+        return Estimate.sizeOfInstance(Int8QuantizedNodePropertyValues.class)
+               + codes.sizeOf()
+               + HugeAtomicBitSet.memoryEstimation(nodeCount())
+               + Estimate.sizeOfFloatArray(minimums.length)
+               + Estimate.sizeOfFloatArray(scales.length);
+    }
+
+    private static byte encode(float value, float minimum, float scale) {
+        int level = scale == 0 ? 0 : Math.round((value - minimum) / scale);
+        return (byte) (Math.max(0, Math.min(LEVELS, level)) + Byte.MIN_VALUE);
+    }
+
+    /**
+     * @return the minimum and maximum value per dimension
+     */
+    private static float[][] ranges(NodePropertyValues embeddings, int dimension, Concurrency concurrency) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            embeddings.nodeCount(),
+            partition -> new RangeTask(embeddings, dimension, partition.startNode(), partition.nodeCount()),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+
+        var minimums = new float[dimension];
+        var maximums = new float[dimension];
+        Arrays.fill(minimums, Float.POSITIVE_INFINITY);
+        Arrays.fill(maximums, Float.NEGATIVE_INFINITY);
+        for (var task : tasks) {
+            for (int i = 0; i < dimension; i++) {
+                minimums[i] = Math.min(minimums[i], task.minimums[i]);
+                maximums[i] = Math.max(maximums[i], task.maximums[i]);
+            }
+        }
+        return new float[][]{minimums, maximums};
+    }
+
+    private static final class RangeTask implements Runnable {
+
+        private final NodePropertyValues embeddings;
+        private final long startNode;
+        private final long nodeCount;
+        private final float[] minimums;
+        private final float[] maximums;
+
+        RangeTask(NodePropertyValues embeddings, int dimension, long startNode, long nodeCount) {
+            this.embeddings = embeddings;
+            this.startNode = startNode;
+            this.nodeCount = nodeCount;
+            this.minimums = new float[dimension];
+            this.maximums = new float[dimension];
+            Arrays.fill(minimums, Float.POSITIVE_INFINITY);
+            Arrays.fill(maximums, Float.NEGATIVE_INFINITY);
+        }
+
+        @Override
+        public void run() {
+            for (long nodeId = startNode; nodeId < startNode + nodeCount; nodeId++) {
+                var value = embeddings.floatArrayValue(nodeId);
+                if (value == null) {
+                    continue;
+                }
+                for (int i = 0; i < minimums.length; i++) {
+                    minimums[i] = Math.min(minimums[i], value[i]);
+                    maximums[i] = Math.max(maximums[i], value[i]);
+                }
+            }
+        }
+    }
+}
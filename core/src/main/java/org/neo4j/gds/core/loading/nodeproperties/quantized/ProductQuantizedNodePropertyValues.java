@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties.quantized;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Product quantization of an embedding property into one byte per subspace.
+ * <p>
+ * The dimensions are split into consecutive subspaces of (almost) equal size.
+ * For every subspace, up to 256 centroids are trained with k-means on a sample of the embeddings,
+ * and every embedding stores the index of the closest centroid per subspace.
+ * Decoding concatenates the selected centroids.
+ */
+public final class ProductQuantizedNodePropertyValues extends QuantizedEmbeddingNodePropertyValues {
+
+    static final int MAX_CENTROIDS = 256;
+    private static final int TRAINING_SAMPLES_PER_CENTROID = 32;
+    private static final int TRAINING_ITERATIONS = 10;
+
+    private final int[] subspaceOffsets;
+    private final float[][] centroids;
+    private final HugeByteArray codes;
+
+    private ProductQuantizedNodePropertyValues(
+        long nodeCount,
+        int dimension,
+        HugeAtomicBitSet missing,
+        int[] subspaceOffsets,
+        float[][] centroids,
+        HugeByteArray codes
+    ) {
+        super(nodeCount, dimension, missing);
+        this.subspaceOffsets = subspaceOffsets;
+        this.centroids = centroids;
+        this.codes = codes;
+    }
+
+    public static MemoryEstimation memoryEstimation(int dimension, int subspaces) {
+        return MemoryEstimations.builder(ProductQuantizedNodePropertyValues.class)
+            .perNode("codes", nodeCount -> HugeByteArray.memoryEstimation(nodeCount * subspaces))
+            .perNode("missing values", HugeAtomicBitSet::memoryEstimation)
+            .fixed(
+                "centroids",
+                Estimate.sizeOfObjectArray(subspaces)
+                + subspaces * Estimate.sizeOfFloatArray((long) MAX_CENTROIDS * ((dimension + subspaces - 1) / subspaces))
+            )
+            .build();
+    }
+
+    public static ProductQuantizedNodePropertyValues quantize(
+        NodePropertyValues embeddings,
+        int subspaces,
+        Concurrency concurrency,
+        long randomSeed
+    ) {
+        var nodeCount = embeddings.nodeCount();
+        var dimension = dimension(embeddings);
+        if (subspaces < 1 || subspaces > dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of subspaces must be between 1 and the embedding dimension %d, but got %d.",
+                dimension,
+                subspaces
+            ));
+        }
+        var missing = missingValues(embeddings, dimension, concurrency);
+
+        var subspaceOffsets = new int[subspaces + 1];
+        for (int subspace = 0; subspace <= subspaces; subspace++) {
+            subspaceOffsets[subspace] = (int) ((long) subspace * dimension / subspaces);
+        }
+
+        var sample = trainingSample(embeddings, missing, randomSeed);
+        var centroids = new float[subspaces][];
+        var tasks = IntStream.range(0, subspaces).mapToObj(subspace -> (Runnable) () -> centroids[subspace] = kMeans(
+            sample,
+            subspaceOffsets[subspace],
+            subspaceOffsets[subspace + 1],
+            new SplittableRandom(randomSeed + subspace)
+        )).collect(Collectors.toList());
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+
+        var codes = HugeByteArray.newArray(nodeCount * subspaces);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, nodeId -> {
+            var value = embeddings.floatArrayValue(nodeId);
+            if (value == null) {
+                return;
+            }
+            long offset = nodeId * subspaces;
+            for (int subspace = 0; subspace < subspaces; subspace++) {
+                int centroid = closestCentroid(
+                    value,
+                    subspaceOffsets[subspace],
+                    subspaceOffsets[subspace + 1],
+                    centroids[subspace]
+                );
+                codes.set(offset + subspace, (byte) centroid);
+            }
+        });
+
+        return new ProductQuantizedNodePropertyValues(
+            nodeCount,
+            dimension,
+            missing,
+            subspaceOffsets,
+            centroids,
+            codes
+        );
+    }
+
+    public int subspaces() {
+        return centroids.length;
+    }
+
+    @Override
+    void decodeInto(long nodeId, float[] target) {
+        var subspaces = centroids.length;
+        long offset = nodeId * subspaces;
+        for (int subspace = 0; subspace < subspaces; subspace++) {
+            int from = subspaceOffsets[subspace];
+            int length = subspaceOffsets[subspace + 1] - from;
+            int centroid = Byte.toUnsignedInt(codes.get(offset + subspace));
+            System.arraycopy(centroids[subspace], centroid * length, target, from, length);
+        }
+    }
+
+    @Override
+    public long memoryUsage() {
+        long centroidsSize = Estimate.sizeOfObjectArray(centroids.length);
+        for (var subspaceCentroids : centroids) {
+            centroidsSize += Estimate.sizeOfFloatArray(subspaceCentroids.length);
+        }
+        return Estimate.sizeOfInstance(ProductQuantizedNodePropertyValues.class)
+               + codes.sizeOf()
+               + HugeAtomicBitSet.memoryEstimation(nodeCount())
+               + centroidsSize;
+    }
+
+    /**
+     * Takes all embeddings if there are only a few, otherwise a uniform random sample with replacement.
+     */
+    private static float[][] trainingSample(NodePropertyValues embeddings, HugeAtomicBitSet missing, long randomSeed) {
+        var nodeCount = embeddings.nodeCount();
+        var present = nodeCount - missing.cardinality();
+        var sampleSize = (int) Math.min(present, (long) MAX_CENTROIDS * TRAINING_SAMPLES_PER_CENTROID);
+
+        var sample = new ArrayList<float[]>(sampleSize);
+        if (sampleSize == present) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (!missing.get(nodeId)) {
+                    sample.add(embeddings.floatArrayValue(nodeId));
+                }
+            }
+        } else {
+            var random = new SplittableRandom(randomSeed);
+            while (sample.size() < sampleSize) {
+                var nodeId = random.nextLong(nodeCount);
+                if (!missing.get(nodeId)) {
+                    sample.add(embeddings.floatArrayValue(nodeId));
+                }
+            }
+        }
+        return sample.toArray(float[][]::new);
+    }
+
+    /**
+     * Lloyd's algorithm on the dimensions {@code [from, to)} of the sample, seeded with distinct random samples.
+     *
+     * @return the centroids, stored consecutively
+     */
+    private static float[] kMeans(float[][] sample, int from, int to, SplittableRandom random) {
+        int length = to - from;
+        int centroidCount = Math.min(MAX_CENTROIDS, sample.length);
+
+        // partial Fisher-Yates shuffle picks the initial centroids
+        var order = IntStream.range(0, sample.length).toArray();
+        var centroids = new float[centroidCount * length];
+        for (int centroid = 0; centroid < centroidCount; centroid++) {
+            int pick = centroid + random.nextInt(sample.length - centroid);
+            int swap = order[pick];
+            order[pick] = order[centroid];
+            order[centroid] = swap;
+            System.arraycopy(sample[swap], from, centroids, centroid * length, length);
+        }
+
+        var assignments = new int[sample.length];
+        var sums = new double[centroidCount * length];
+        var counts = new int[centroidCount];
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            boolean changed = false;
+            for (int i = 0; i < sample.length; i++) {
+                int closest = closestCentroid(sample[i], from, to, centroids);
+                if (iteration == 0 || closest != assignments[i]) {
+                    assignments[i] = closest;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < sample.length; i++) {
+                int offset = assignments[i] * length;
+                for (int d = 0; d < length; d++) {
+                    sums[offset + d] += sample[i][from + d];
+                }
+                counts[assignments[i]]++;
+            }
+            for (int centroid = 0; centroid < centroidCount; centroid++) {
+                // empty clusters keep their previous centroid
+                if (counts[centroid] == 0) {
+                    continue;
+                }
+                int offset = centroid * length;
+                for (int d = 0; d < length; d++) {
+                    centroids[offset + d] = (float) (sums[offset + d] / counts[centroid]);
+                }
+            }
+        }
+        return centroids;
+    }
+
+    private static int closestCentroid(float[] value, int from, int to, float[] centroids) {
+        int length = to - from;
+        int centroidCount = centroids.length / length;
+        int closest = 0;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (int centroid = 0; centroid < centroidCount; centroid++) {
+            int offset = centroid * length;
+            double distance = 0;
+            for (int d = 0; d < length; d++) {
+                double delta = value[from + d] - centroids[offset + d];
+                distance += delta * delta;
+            }
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = centroid;
+            }
+        }
+        return closest;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties.quantized;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Base class for compact representations of embedding node properties.
+ * <p>
+ * Values are decoded into a new {@code float[]} on every call of {@link #floatArrayValue(long)},
+ * so that algorithms consume them like any other float array property.
+ * Callers that visit many values can avoid the allocation with {@link #decode(long, float[])}.
+ */
+public abstract class QuantizedEmbeddingNodePropertyValues implements FloatArrayNodePropertyValues {
+
+    private final long nodeCount;
+    private final int dimension;
+    private final HugeAtomicBitSet missing;
+
+    QuantizedEmbeddingNodePropertyValues(long nodeCount, int dimension, HugeAtomicBitSet missing) {
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.missing = missing;
+    }
+
+    /**
+     * Decodes the value of the given node into {@code target}, which must hold at least {@link #embeddingDimension()} values.
+     *
+     * @return false if the node has no value, in which case {@code target} is left untouched
+     */
+    public boolean decode(long nodeId, float[] target) {
+        if (missing.get(nodeId)) {
+            return false;
+        }
+        decodeInto(nodeId, target);
+        return true;
+    }
+
+    /**
+     * @return the number of bytes used by this representation
+     */
+    public abstract long memoryUsage();
+
+    abstract void decodeInto(long nodeId, float[] target);
+
+    public int embeddingDimension() {
+        return dimension;
+    }
+
+    @Override
+    public @Nullable float[] floatArrayValue(long nodeId) {
+        if (missing.get(nodeId)) {
+            return null;
+        }
+        var value = new float[dimension];
+        decodeInto(nodeId, value);
+        return value;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return Optional.of(dimension);
+    }
+
+    /**
+     * Finds the nodes without a value and checks that all other values have the same dimension.
+     */
+    static HugeAtomicBitSet missingValues(NodePropertyValues embeddings, int dimension, Concurrency concurrency) {
+        var nodeCount = embeddings.nodeCount();
+        var missing = HugeAtomicBitSet.create(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, nodeId -> {
+            var value = embeddings.floatArrayValue(nodeId);
+            if (value == null) {
+                missing.set(nodeId);
+            } else if (value.length != dimension) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected all embeddings to have dimension %d, but node %d has dimension %d.",
+                    dimension,
+                    nodeId,
+                    value.length
+                ));
+            }
+        });
+        return missing;
+    }
+
+    static int dimension(NodePropertyValues embeddings) {
+        var nodeCount = embeddings.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var value = embeddings.floatArrayValue(nodeId);
+            if (value != null) {
+                return value.length;
+            }
+        }
+        throw new IllegalArgumentException("Cannot quantize an embedding property without any values.");
+    }
+}
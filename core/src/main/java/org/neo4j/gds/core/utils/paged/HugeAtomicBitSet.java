@@ -192,6 +192,34 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Iterates the set bits in the range {@code [startIndex, endIndex)} in increasing order
+     * and calls the given consumer for each of them.
+     * Only one word per 64 bits is read, which makes this much cheaper than testing every index of a sparse range.
+     */
+    public void forEachSetBit(long startIndex, long endIndex, LongConsumer consumer) {
+        assert (endIndex <= numBits);
+        if (startIndex >= endIndex) {
+            return;
+        }
+
+        long startWord = startIndex / NUM_BITS;
+        long endWord = (endIndex - 1) / NUM_BITS;
+        for (long wordIndex = startWord; wordIndex <= endWord; wordIndex++) {
+            long word = bits.get(wordIndex);
+            if (wordIndex == startWord) {
+                word &= -1L << (startIndex % NUM_BITS);
+            }
+            if (wordIndex == endWord) {
+                word &= -1L >>> (NUM_BITS - 1 - (endIndex - 1) % NUM_BITS);
+            }
+            while (word != 0) {
+                consumer.accept(NUM_BITS * wordIndex + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
     /**
      * Returns the number of set bits in the bit set.
      * <p>
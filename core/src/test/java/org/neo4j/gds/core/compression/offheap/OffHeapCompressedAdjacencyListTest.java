@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.MemoryTree;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList.computeAdjacencyByteSize;
+
+class OffHeapCompressedAdjacencyListTest {
+
+    @Test
+    void shouldIterateTargets() {
+        // spans multiple decoding chunks
+        var targets = LongStream.range(0, 1337).map(i -> i * 3).toArray();
+        var list = adjacencyList(targets);
+
+        assertThat(list.degree(0)).isEqualTo(targets.length);
+        assertThat(list.memoryInfo().bytesOffHeap()).hasValueSatisfying(bytes -> assertThat(bytes).isPositive());
+
+        var cursor = list.adjacencyCursor(0);
+        for (long target : targets) {
+            assertThat(cursor.hasNextVLong()).isTrue();
+            assertThat(cursor.nextVLong()).isEqualTo(target);
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldAdvanceAndSkip() {
+        var targets = LongStream.range(0, 1337).map(i -> i * 3).toArray();
+        var list = adjacencyList(targets);
+
+        var cursor = list.adjacencyCursor(0);
+        assertThat(cursor.advance(200)).isEqualTo(201);
+        assertThat(cursor.skipUntil(201)).isEqualTo(204);
+        assertThat(cursor.advanceBy(100)).isEqualTo(507);
+        assertThat(cursor.peekVLong()).isEqualTo(510);
+        assertThat(cursor.advance(5000)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReuseCursor() {
+        var list = adjacencyList(new long[]{1, 2, 3});
+
+        var cursor = list.rawAdjacencyCursor();
+        var reused = list.adjacencyCursor(cursor, 0);
+
+        assertThat(reused).isSameAs(cursor);
+        assertThat(reused.nextVLong()).isEqualTo(1);
+    }
+
+    @Test
+    void preventUseAfterFree() {
+        var list = adjacencyList(new long[]{1, 2, 3});
+
+        list.free();
+        assertThatThrownBy(() -> list.adjacencyCursor(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("This page has already been freed.");
+    }
+
+    @Test
+    void shouldWriteAtPosition() {
+        var small = LongStream.range(0, 42).map(i -> i * 7).toArray();
+        // larger than a page, so the allocator adopts a copy of it
+        var large = LongStream.range(0, BumpAllocator.PAGE_SIZE + 1337).toArray();
+        var smallPage = encode(small);
+        var largePage = encode(large);
+        long smallOffset = 0;
+        long largeOffset = BumpAllocator.PAGE_SIZE;
+
+        var builder = OffHeapCompressedAdjacencyListBuilderFactory.of().newAdjacencyListBuilder(MemoryTracker.empty());
+        try (var allocator = builder.newPositionalAllocator()) {
+            // out of order on purpose
+            allocator.writeAt(largeOffset, largePage, Math.toIntExact(largePage.bytes()));
+            allocator.writeAt(smallOffset, smallPage, Math.toIntExact(smallPage.bytes()));
+        }
+        // the written data must not depend on the buffers of the caller
+        smallPage.free();
+        largePage.free();
+
+        var list = builder.build(
+            HugeIntArray.of(small.length, large.length),
+            HugeLongArray.of(smallOffset, largeOffset),
+            false
+        );
+
+        assertThat(list.adjacencyCursor(0).advanceBy(small.length - 1)).isEqualTo(small[small.length - 1]);
+        var cursor = list.adjacencyCursor(1);
+        for (long target : large) {
+            assertThat(cursor.nextVLong()).isEqualTo(target);
+        }
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldEstimateNativePages() {
+        long nodeCount = 100_000_000L;
+        long avgDegree = 1000L;
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(nodeCount * avgDegree)
+            .build();
+
+        var memoryTree = OffHeapCompressedAdjacencyList
+            .adjacencyListEstimation(avgDegree, nodeCount)
+            .estimate(dimensions, new Concurrency(1));
+
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, nodeCount / avgDegree);
+        long minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        long maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        assertThat(memoryTree.components())
+            .filteredOn(component -> component.description().equals("native pages"))
+            .singleElement()
+            .extracting(MemoryTree::memoryUsage)
+            .satisfies(range -> {
+                assertThat(range.min).isEqualTo(minPages * BumpAllocator.PAGE_SIZE);
+                assertThat(range.max).isEqualTo(maxPages * BumpAllocator.PAGE_SIZE);
+            });
+        assertThat(memoryTree.memoryUsage().min).isGreaterThan(bestCaseAdjacencySize);
+    }
+
+    private static OffHeapCompressedAdjacencyList adjacencyList(long[] targets) {
+        var factory = OffHeapDeltaVarLongCompressor.factory(
+            () -> 1,
+            OffHeapCompressedAdjacencyListBuilderFactory.of(),
+            PropertyMappings.of(),
+            new Aggregation[]{Aggregation.NONE},
+            true,
+            MemoryTracker.empty()
+        );
+        factory.init();
+        try (var compressor = factory.createCompressor()) {
+            compressor.compress(0, targets.clone(), null, targets.length);
+        }
+        return (OffHeapCompressedAdjacencyList) factory.build(false).adjacency();
+    }
+
+    private static Address encode(long[] targets) {
+        var deltas = targets.clone();
+        for (int i = deltas.length - 1; i > 0; i--) {
+            deltas[i] -= deltas[i - 1];
+        }
+        int bytes = VarLongEncoding.encodedVLongsSize(deltas, deltas.length);
+        var page = Address.createAddress(UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE), bytes);
+        AdjacencyCompression.compress(deltas, 0, deltas.length, page.address());
+        return page;
+    }
+}
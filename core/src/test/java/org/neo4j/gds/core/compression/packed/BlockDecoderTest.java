@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junitpioneer.jupiter.params.IntRangeSource;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BlockDecoderTest {
+
+    private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+    @ParameterizedTest
+    @IntRangeSource(from = 0, to = 64, closed = true)
+    void scalarDecoding(int bits) {
+        assertDecoding(new BlockDecoder.Scalar(), bits);
+    }
+
+    @ParameterizedTest
+    @IntRangeSource(from = 0, to = 64, closed = true)
+    void vectorizedDecoding(int bits) {
+        assumeTrue(BlockDecoder.isVectorizationSupported(), "jdk.incubator.vector is not available");
+        assertDecoding(BlockDecoder.VectorSupport.VECTORIZED_DECODER.get(), bits);
+    }
+
+    private static void assertDecoding(BlockDecoder decoder, int bits) {
+        var random = new Random(bits);
+        long mask = bits == 64 ? -1L : (1L << bits) - 1;
+
+        long allocation = (long) BLOCK_SIZE * Long.BYTES;
+        long ptr = UnsafeUtil.allocateMemory(allocation, EmptyMemoryTracker.INSTANCE);
+
+        try {
+            // decode the same memory a few times to make sure no state leaks between blocks
+            for (int run = 0; run < 10; run++) {
+                var deltas = new long[BLOCK_SIZE];
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    deltas[i] = random.nextLong() & mask;
+                }
+                // keep the first delta at the upper bound to cover all bits
+                deltas[0] = mask;
+
+                long end = AdjacencyPacking.pack(bits, deltas.clone(), 0, ptr);
+
+                long lastValue = random.nextInt(1_000_000);
+                var expected = new long[BLOCK_SIZE];
+                long value = lastValue;
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    value += deltas[i];
+                    expected[i] = value;
+                }
+
+                var block = new long[BLOCK_SIZE];
+                assertThat(decoder.decodeBlock(bits, block, ptr, lastValue)).isEqualTo(end);
+                assertThat(block).containsExactly(expected);
+            }
+        } finally {
+            UnsafeUtil.free(ptr, allocation, EmptyMemoryTracker.INSTANCE);
+        }
+    }
+}
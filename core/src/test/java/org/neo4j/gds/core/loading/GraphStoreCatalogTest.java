@@ -31,6 +31,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,6 +82,75 @@ class GraphStoreCatalogTest {
         assertEquals(CONFIG, graphStoreWithConfig.config());
     }
 
+    @Test
+    void replace() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setDegreeDistribution(USER_NAME, DATABASE_ID, GRAPH_NAME, Map.of("max", 1L));
+
+        GraphStoreCatalog.replace(CONFIG, otherGraphStore);
+
+        var graphStoreWithConfig = GraphStoreCatalog.get(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME
+        );
+        assertEquals(otherGraphStore, graphStoreWithConfig.graphStore());
+        assertEquals(CONFIG, graphStoreWithConfig.config());
+        assertThat(GraphStoreCatalog.getDegreeDistribution(USER_NAME, DATABASE_ID, GRAPH_NAME)).isEmpty();
+    }
+
+    @Test
+    void indexes() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreIndex index = () -> "index";
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, index);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).containsSame(index);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "other")).isEmpty();
+        assertThat(GraphStoreCatalog.getIndexKeys(USER_NAME, DATABASE_ID, GRAPH_NAME)).containsExactly("index");
+
+        assertThat(GraphStoreCatalog.removeIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).containsSame(index);
+        assertThat(GraphStoreCatalog.getIndexKeys(USER_NAME, DATABASE_ID, GRAPH_NAME)).isEmpty();
+    }
+
+    @Test
+    void setIndexFailsForMissingGraph() {
+        assertThatThrownBy(() -> GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, () -> "index"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot set index because graph graph does not exist");
+    }
+
+    @Test
+    void indexesAreDroppedWithTheGraph() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, () -> "index");
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index")).isEmpty();
+    }
+
+    @Test
+    void indexesAreDroppedOnReplace() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, () -> "index");
+
+        GraphStoreCatalog.replace(CONFIG, otherGraphStore);
+
+        assertThat(GraphStoreCatalog.getIndexKeys(USER_NAME, DATABASE_ID, GRAPH_NAME)).isEmpty();
+    }
+
+    @Test
+    void replaceFailsForMissingGraph() {
+        assertThatExceptionOfType(GraphNotFoundException.class)
+            .isThrownBy(() -> GraphStoreCatalog.replace(CONFIG, graphStore));
+    }
+
     @Test
     void getAsAdminReturnsOtherUsersGraphs() {
         GraphStoreCatalog.set(CONFIG, graphStore);
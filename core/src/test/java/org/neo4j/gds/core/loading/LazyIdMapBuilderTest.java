@@ -86,4 +86,26 @@ class LazyIdMapBuilderTest {
         }
     }
 
+    @Test
+    void shouldDeduplicateAcrossBuilderAndPartitions() {
+        var lazyIdMapBuilder = new LazyIdMapBuilderBuilder()
+            .concurrency(new Concurrency(2))
+            .hasLabelInformation(false)
+            .hasProperties(false)
+            .propertyState(PropertyState.PERSISTENT)
+            .build();
+        var partition = lazyIdMapBuilder.partition();
+
+        long first = lazyIdMapBuilder.addNode(42, NodeLabelTokens.empty());
+        long second = partition.addNode(1337, NodeLabelTokens.empty());
+
+        Assertions.assertThat(partition.addNode(42, NodeLabelTokens.empty())).isEqualTo(first);
+        Assertions.assertThat(lazyIdMapBuilder.addNode(1337, NodeLabelTokens.empty())).isEqualTo(second);
+        Assertions.assertThatThrownBy(() -> partition.addNode(-1, NodeLabelTokens.empty()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        partition.flush();
+        lazyIdMapBuilder.prepareForFlush();
+        Assertions.assertThat(lazyIdMapBuilder.build().idMap().nodeCount()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class GraphStoreDeltaApplierTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+    private static final Concurrency CONCURRENCY = new Concurrency(1);
+
+    private static final String BASE_GRAPH =
+        "  (a:A {p: 1})" +
+        ", (b:A {p: 2})" +
+        ", (c:B {p: 3})" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (b)-[:REL {w: 2.0}]->(c)" +
+        ", (c)-[:REL {w: 3.0}]->(a)";
+
+    private final GdlFactory gdlFactory = GdlFactory.builder().graphProjectConfig(
+        ImmutableGraphProjectFromGdlConfig.builder()
+            .gdlGraph(BASE_GRAPH)
+            .graphName("graph")
+            .username("user")
+            .indexInverse(true)
+            .build()
+    ).build();
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldAddRelationships() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 4.0)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        assertGraphEquals(
+            fromGdl(BASE_GRAPH + ", (a)-[:REL {w: 4.0}]->(c)"),
+            updated.getGraph(REL, Optional.of("w"))
+        );
+        assertThat(updated.relationshipCount(REL)).isEqualTo(4);
+        assertThat(updated.getGraph(REL).degreeInverse(mappedId(updated, "c"))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepInverseAdjacencyOfUnchangedNodes() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 4.0)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+        var graph = updated.getGraph(REL);
+
+        var sourcesOfB = new ArrayList<Long>();
+        graph.forEachInverseRelationship(mappedId(updated, "b"), (target, source) -> sourcesOfB.add(source));
+        var sourcesOfC = new ArrayList<Long>();
+        graph.forEachInverseRelationship(mappedId(updated, "c"), (target, source) -> sourcesOfC.add(source));
+
+        assertThat(sourcesOfB).containsExactly(mappedId(updated, "a"));
+        assertThat(sourcesOfC).containsExactlyInAnyOrder(mappedId(updated, "a"), mappedId(updated, "b"));
+    }
+
+    @Test
+    void shouldRemoveRelationships() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(REL, gdlFactory.nodeId("b"), gdlFactory.nodeId("c"))
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a:A {p: 1})" +
+                ", (b:A {p: 2})" +
+                ", (c:B {p: 3})" +
+                ", (a)-[:REL {w: 1.0}]->(b)" +
+                ", (c)-[:REL {w: 3.0}]->(a)"
+            ),
+            updated.getGraph(REL, Optional.of("w"))
+        );
+        assertThat(updated.relationshipCount(REL)).isEqualTo(2);
+        assertThat(updated.getGraph(REL).degreeInverse(mappedId(updated, "c"))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAddNodesWithStableIds() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addNode(42, NodeLabel.of("B"))
+            .setNodeProperty("p", 42, 4L)
+            .addRelationship(REL, 42, gdlFactory.nodeId("a"), 5.0)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        assertGraphEquals(
+            fromGdl(BASE_GRAPH + ", (d:B {p: 4}), (d)-[:REL {w: 5.0}]->(a)"),
+            updated.getGraph(REL, Optional.of("w"))
+        );
+        for (var variable : List.of("a", "b", "c")) {
+            assertThat(mappedId(updated, variable)).isEqualTo(mappedId(graphStore, variable));
+        }
+        assertThat(updated.nodes().toMappedNodeId(42)).isEqualTo(3);
+        assertThat(updated.nodes().hasLabel(3, NodeLabel.of("B"))).isTrue();
+        assertThat(updated.getGraph(REL).degreeInverse(mappedId(updated, "a"))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRemoveNodesAndTheirRelationships() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeNode(gdlFactory.nodeId("b"))
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1}), (c:B {p: 3}), (c)-[:REL {w: 3.0}]->(a)"),
+            updated.getGraph(REL, Optional.of("w"))
+        );
+        assertThat(updated.nodeCount()).isEqualTo(2);
+        assertThat(updated.nodes().containsOriginalId(gdlFactory.nodeId("b"))).isFalse();
+        assertThat(updated.getGraph(REL).degreeInverse(mappedId(updated, "a"))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUpdateNodeProperties() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .setNodeProperty("p", gdlFactory.nodeId("b"), 20L)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        assertThat(updated.nodes()).isSameAs(graphStore.nodes());
+        var properties = updated.nodeProperty("p").values();
+        assertThat(properties.longValue(mappedId(updated, "a"))).isEqualTo(1L);
+        assertThat(properties.longValue(mappedId(updated, "b"))).isEqualTo(20L);
+        assertThat(graphStore.nodeProperty("p").values().longValue(mappedId(graphStore, "b"))).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldOnlyReEncodeChangedAdjacencyLists() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 4.0)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+
+        var topology = ((CSRGraph) updated.getGraph(REL)).relationshipTopologies().get(REL);
+        assertThat(topology.adjacencyList()).isInstanceOf(DeltaAdjacencyList.class);
+
+        var baseAdjacency = ((CSRGraph) graphStore.getGraph(REL)).relationshipTopologies().get(REL).adjacencyList();
+        var b = mappedId(updated, "b");
+        assertThat(topology.adjacencyList().adjacencyCursor(b).getClass())
+            .isEqualTo(baseAdjacency.adjacencyCursor(b).getClass());
+    }
+
+    @Test
+    void shouldReuseCursorsAcrossChangedAndUnchangedNodes() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 4.0)
+            .build();
+
+        var updated = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+        var adjacencyList = ((CSRGraph) updated.getGraph(REL)).relationshipTopologies().get(REL).adjacencyList();
+
+        var expected = new ArrayList<List<Long>>();
+        var actual = new ArrayList<List<Long>>();
+        AdjacencyCursor cursor = null;
+        // visit the changed node in between unchanged ones and keep passing the cursor along
+        for (var variable : List.of("b", "a", "c", "a", "b")) {
+            var node = mappedId(updated, variable);
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            actual.add(targets(cursor));
+            expected.add(targets(adjacencyList.adjacencyCursor(node)));
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(1)).containsExactly(mappedId(updated, "b"), mappedId(updated, "c"));
+    }
+
+    @Test
+    void shouldKeepASingleOverlayAcrossRefreshes() {
+        GraphStore graphStore = gdlFactory.build();
+        var originalAdjacency = ((CSRGraph) graphStore.getGraph(REL)).relationshipTopologies().get(REL).adjacencyList();
+
+        for (int refresh = 0; refresh < 20; refresh++) {
+            var delta = refresh % 2 == 0
+                ? GraphStoreDelta.builder().addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 4.0)
+                : GraphStoreDelta.builder().removeRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"));
+            graphStore = GraphStoreDeltaApplier.apply(graphStore, delta.build(), CONCURRENCY);
+
+            var graph = (HugeGraph) graphStore.getGraph(REL, Optional.of("w"));
+            var adjacency = graph.relationshipTopologies().get(REL).adjacencyList();
+            assertThat(adjacency).isInstanceOf(DeltaAdjacencyList.class);
+            assertThat(((DeltaAdjacencyList) adjacency).base()).isSameAs(originalAdjacency);
+            var properties = graph.relationshipProperties().orElseThrow().propertiesList();
+            assertThat(((DeltaAdjacencyProperties) properties).base()).isNotInstanceOf(DeltaAdjacencyProperties.class);
+        }
+
+        assertGraphEquals(fromGdl(BASE_GRAPH), graphStore.getGraph(REL, Optional.of("w")));
+    }
+
+    @Test
+    void shouldReEncodeAllListsOnceTheOverlayCoversMostNodes() {
+        GraphStore graphStore = gdlFactory.build();
+        for (var source : List.of("a", "b")) {
+            var delta = GraphStoreDelta.builder()
+                .removeRelationship(REL, gdlFactory.nodeId(source), gdlFactory.nodeId(source.equals("a") ? "b" : "c"))
+                .build();
+            graphStore = GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY);
+        }
+
+        var topology = ((CSRGraph) graphStore.getGraph(REL)).relationshipTopologies().get(REL);
+        assertThat(topology.adjacencyList()).isNotInstanceOf(DeltaAdjacencyList.class);
+        assertGraphEquals(
+            fromGdl("  (a:A {p: 1})" +
+                    ", (b:A {p: 2})" +
+                    ", (c:B {p: 3})" +
+                    ", (c)-[:REL {w: 3.0}]->(a)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldRefreshCatalogEntry() {
+        var graphStore = gdlFactory.build();
+        GraphProjectConfig config = gdlFactory.graphProjectConfig();
+        GraphStoreCatalog.set(config, graphStore);
+
+        var delta = GraphStoreDelta.builder()
+            .removeRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("b"))
+            .build();
+
+        var request = CatalogRequest.of("user", graphStore.databaseInfo().databaseId());
+        var updated = GraphStoreDeltaApplier.refresh(request, "graph", delta, CONCURRENCY);
+
+        var catalogEntry = GraphStoreCatalog.get(request, "graph");
+        assertThat(catalogEntry.graphStore()).isSameAs(updated);
+        assertThat(catalogEntry.config()).isSameAs(config);
+        assertThat(updated.relationshipCount(REL)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectUnknownRelationshipTypes() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .addRelationship(RelationshipType.of("UNKNOWN"), gdlFactory.nodeId("a"), gdlFactory.nodeId("b"))
+            .build();
+
+        assertThatThrownBy(() -> GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Relationship type `UNKNOWN` does not exist in the graph");
+    }
+
+    @Test
+    void shouldRejectRelationshipsToRemovedNodes() {
+        var graphStore = gdlFactory.build();
+        var delta = GraphStoreDelta.builder()
+            .removeNode(gdlFactory.nodeId("c"))
+            .addRelationship(REL, gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 1.0)
+            .build();
+
+        assertThatThrownBy(() -> GraphStoreDeltaApplier.apply(graphStore, delta, CONCURRENCY))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not exist in the updated graph");
+    }
+
+    private long mappedId(GraphStore graphStore, String variable) {
+        return graphStore.nodes().toMappedNodeId(gdlFactory.nodeId(variable));
+    }
+
+    private static List<Long> targets(AdjacencyCursor cursor) {
+        var targets = new ArrayList<Long>();
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties.quantized;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.mem.Estimate;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantizedEmbeddingNodePropertyValuesTest {
+
+    private static final int NODE_COUNT = 2_000;
+    private static final int DIMENSION = 32;
+
+    @Test
+    void int8QuantizationBoundsTheReconstructionError() {
+        var embeddings = randomEmbeddings(NODE_COUNT, DIMENSION, 42);
+        var quantized = Int8QuantizedNodePropertyValues.quantize(embeddings, new Concurrency(4));
+
+        assertThat(quantized.nodeCount()).isEqualTo(NODE_COUNT);
+        assertThat(quantized.dimension()).contains(DIMENSION);
+
+        // values are in [-1, 1], so a level is 2/255 wide
+        var buffer = new float[DIMENSION];
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var expected = embeddings.floatArrayValue(nodeId);
+            assertThat(quantized.decode(nodeId, buffer)).isTrue();
+            for (int i = 0; i < DIMENSION; i++) {
+                assertThat(buffer[i]).isCloseTo(expected[i], within(1.01F / 255));
+            }
+        }
+        assertThat(quantized.doubleArrayValue(0)).hasSize(DIMENSION);
+    }
+
+    @Test
+    void productQuantizationReconstructsClusteredEmbeddings() {
+        // every subspace only takes a handful of distinct values, so the centroids can represent them exactly
+        var random = new SplittableRandom(1337);
+        var prototypes = new float[8][DIMENSION];
+        for (var prototype : prototypes) {
+            for (int i = 0; i < DIMENSION; i++) {
+                prototype[i] = (float) random.nextDouble(-1, 1);
+            }
+        }
+        var values = new float[NODE_COUNT][];
+        for (int nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            values[nodeId] = prototypes[random.nextInt(prototypes.length)].clone();
+        }
+        var embeddings = of(values);
+
+        var quantized = ProductQuantizedNodePropertyValues.quantize(embeddings, 8, new Concurrency(4), 42L);
+
+        assertThat(quantized.subspaces()).isEqualTo(8);
+        for (int nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var decoded = quantized.floatArrayValue(nodeId);
+            for (int i = 0; i < DIMENSION; i++) {
+                assertThat(decoded[i]).isCloseTo(values[nodeId][i], within(1e-5F));
+            }
+        }
+    }
+
+    @Test
+    void productQuantizationApproximatesRandomEmbeddings() {
+        var embeddings = randomEmbeddings(NODE_COUNT, DIMENSION, 7);
+        var quantized = ProductQuantizedNodePropertyValues.quantize(embeddings, 16, new Concurrency(4), 42L);
+
+        double error = 0;
+        double norm = 0;
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            var expected = embeddings.floatArrayValue(nodeId);
+            var decoded = quantized.floatArrayValue(nodeId);
+            for (int i = 0; i < DIMENSION; i++) {
+                error += (decoded[i] - expected[i]) * (decoded[i] - expected[i]);
+                norm += expected[i] * expected[i];
+            }
+        }
+        assertThat(error / norm).isLessThan(0.1);
+    }
+
+    @Test
+    void shouldKeepMissingValues() {
+        var values = new float[][]{null, {1F, 2F}, null, {3F, 4F}};
+        var embeddings = of(values);
+
+        var int8 = Int8QuantizedNodePropertyValues.quantize(embeddings, new Concurrency(1));
+        var product = ProductQuantizedNodePropertyValues.quantize(embeddings, 2, new Concurrency(1), 42L);
+
+        for (var quantized : new QuantizedEmbeddingNodePropertyValues[]{int8, product}) {
+            assertThat(quantized.floatArrayValue(0)).isNull();
+            assertThat(quantized.floatArrayValue(2)).isNull();
+            assertThat(quantized.decode(2, new float[2])).isFalse();
+            assertThat(quantized.floatArrayValue(1)[0]).isCloseTo(1F, within(0.01F));
+            assertThat(quantized.floatArrayValue(3)[1]).isCloseTo(4F, within(0.01F));
+        }
+    }
+
+    @Test
+    void shouldRejectMixedDimensions() {
+        var embeddings = of(new float[][]{{1F, 2F}, {3F}});
+
+        assertThatThrownBy(() -> Int8QuantizedNodePropertyValues.quantize(embeddings, new Concurrency(1)))
+            .hasMessageContaining("Expected all embeddings to have dimension 2");
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .highestPossibleNodeCount(NODE_COUNT)
+            .build();
+        var concurrency = new Concurrency(1);
+        var embeddings = randomEmbeddings(NODE_COUNT, DIMENSION, 42);
+
+        var int8 = Int8QuantizedNodePropertyValues.quantize(embeddings, concurrency);
+        var int8Estimation = Int8QuantizedNodePropertyValues.memoryEstimation(DIMENSION)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        assertThat(int8Estimation.min).isEqualTo(int8.memoryUsage());
+
+        var product = ProductQuantizedNodePropertyValues.quantize(embeddings, 8, concurrency, 42L);
+        var productEstimation = ProductQuantizedNodePropertyValues.memoryEstimation(DIMENSION, 8)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        assertThat(productEstimation.min).isEqualTo(product.memoryUsage());
+
+        // full float arrays need at least four times as much
+        var floatArrays = NODE_COUNT * Estimate.sizeOfFloatArray(DIMENSION);
+        assertThat(int8.memoryUsage() * 4).isLessThan(floatArrays);
+        assertThat(product.memoryUsage()).isLessThan(int8.memoryUsage());
+    }
+
+    private static FloatArrayNodePropertyValues randomEmbeddings(int nodeCount, int dimension, long seed) {
+        var random = new SplittableRandom(seed);
+        var values = new float[nodeCount][dimension];
+        for (var value : values) {
+            for (int i = 0; i < dimension; i++) {
+                value[i] = (float) random.nextDouble(-1, 1);
+            }
+        }
+        return of(values);
+    }
+
+    private static FloatArrayNodePropertyValues of(float[][] values) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return values[(int) nodeId];
+            }
+
+            @Override
+            public long nodeCount() {
+                return values.length;
+            }
+        };
+    }
+}
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
 import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -236,6 +237,23 @@ class HugeAtomicBitSetTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @CsvSource({"0,4096", "0,0", "1,64", "3,65", "63,129", "64,128", "100,1338", "1337,4095"})
+    void testForEachSetBitInRange(long startIndex, long endIndex) {
+        var bitSet = HugeAtomicBitSet.create(4096);
+
+        var setBits = List.of(0L, 1L, 3L, 7L, 15L, 63L, 64L, 72L, 128L, 420L, 1337L, 4095L);
+        setBits.forEach(bitSet::set);
+
+        var actual = new ArrayList<Long>();
+        bitSet.forEachSetBit(startIndex, endIndex, actual::add);
+
+        assertThat(actual).isEqualTo(setBits
+            .stream()
+            .filter(index -> index >= startIndex && index < endIndex)
+            .collect(Collectors.toList()));
+    }
+
     @ParameterizedTest
     @MethodSource("suppliers")
     void getAndSetReturnsTrueIfTheBitWasSet(HabsSupplier supplier) {
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Block decoder based on the Vector API.
+ *
+ * Unpacking gathers, for every lane, the word that holds the start of the value
+ * and the following word, and combines them with per-lane shifts.
+ * The shifts and word indices only depend on the bit width and are precomputed.
+ * The prefix sum is computed within a vector using log2(lanes) shifted additions,
+ * and the last lane is carried over into the next vector.
+ *
+ * This class must only be loaded through {@link BlockDecoder#create()}.
+ * It lives in the {@code vector} source set, the only one compiled with the incubator module.
+ */
+final class VectorizedBlockDecoder implements BlockDecoder {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+    private static final LongVector ZERO = LongVector.zero(SPECIES);
+
+    // Indexed by bit width, then by value index within the block.
+    private static final int[][] WORD_INDICES = new int[Long.SIZE][BLOCK_SIZE];
+    private static final long[][] LOW_SHIFTS = new long[Long.SIZE][BLOCK_SIZE];
+    private static final long[][] HIGH_SHIFTS = new long[Long.SIZE][BLOCK_SIZE];
+    private static final boolean[][] SPILLS = new boolean[Long.SIZE][BLOCK_SIZE];
+
+    static {
+        for (int bits = 1; bits < Long.SIZE; bits++) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                int bitOffset = i * bits;
+                int shift = bitOffset & (Long.SIZE - 1);
+                WORD_INDICES[bits][i] = bitOffset >>> 6;
+                LOW_SHIFTS[bits][i] = shift;
+                HIGH_SHIFTS[bits][i] = Long.SIZE - shift;
+                SPILLS[bits][i] = shift + bits > Long.SIZE;
+            }
+        }
+    }
+
+    /**
+     * Called reflectively by {@link BlockDecoder.VectorSupport}.
+     *
+     * @return a supplier for new decoders or {@code null} if the preferred species has a single lane
+     */
+    static @Nullable Supplier<BlockDecoder> supplier() {
+        return LANES < 2 ? null : VectorizedBlockDecoder::new;
+    }
+
+    // One more word than the widest block, as the gather for the
+    // high word of the last value may point one past the packed data.
+    private final long[] words;
+
+    private VectorizedBlockDecoder() {
+        this.words = new long[Long.SIZE + 1];
+    }
+
+    @Override
+    public long decodeBlock(int bits, long[] block, long packedPtr, long lastValue) {
+        assert bits <= 64 : "Bits must be at most 64 but was " + bits;
+
+        if (bits == 0) {
+            Arrays.fill(block, 0, BLOCK_SIZE, lastValue);
+            return packedPtr;
+        }
+
+        var words = this.words;
+        for (int w = 0; w < bits; w++) {
+            words[w] = UnsafeUtil.getLong(packedPtr + (long) w * Long.BYTES);
+        }
+
+        if (bits == Long.SIZE) {
+            System.arraycopy(words, 0, block, 0, BLOCK_SIZE);
+            prefixSum(block, lastValue);
+        } else {
+            unpackAndPrefixSum(bits, block, lastValue);
+        }
+
+        return packedPtr + (long) bits * Long.BYTES;
+    }
+
+    private void unpackAndPrefixSum(int bits, long[] block, long lastValue) {
+        var words = this.words;
+        var wordIndices = WORD_INDICES[bits];
+        var lowShifts = LOW_SHIFTS[bits];
+        var highShifts = HIGH_SHIFTS[bits];
+        var spills = SPILLS[bits];
+        long mask = (1L << bits) - 1;
+
+        long carry = lastValue;
+        for (int i = 0; i < BLOCK_SIZE; i += LANES) {
+            var low = LongVector.fromArray(SPECIES, words, 0, wordIndices, i);
+            var high = LongVector.fromArray(SPECIES, words, 1, wordIndices, i);
+            var spill = VectorMask.fromArray(SPECIES, spills, i);
+
+            var values = low
+                .lanewise(VectorOperators.LSHR, LongVector.fromArray(SPECIES, lowShifts, i))
+                .lanewise(
+                    VectorOperators.OR,
+                    high.lanewise(VectorOperators.LSHL, LongVector.fromArray(SPECIES, highShifts, i)),
+                    spill
+                )
+                .and(mask);
+
+            var sums = prefixSum(values).add(carry);
+            sums.intoArray(block, i);
+            carry = sums.lane(LANES - 1);
+        }
+    }
+
+    private static void prefixSum(long[] block, long lastValue) {
+        long carry = lastValue;
+        for (int i = 0; i < BLOCK_SIZE; i += LANES) {
+            var sums = prefixSum(LongVector.fromArray(SPECIES, block, i)).add(carry);
+            sums.intoArray(block, i);
+            carry = sums.lane(LANES - 1);
+        }
+    }
+
+    /**
+     * Inclusive prefix sum over the lanes of a single vector.
+     */
+    private static LongVector prefixSum(LongVector values) {
+        for (int shift = 1; shift < LANES; shift <<= 1) {
+            // shifts the lanes of `values` up by `shift`, filling with zeros
+            values = values.add(ZERO.slice(LANES - shift, values));
+        }
+        return values;
+    }
+}
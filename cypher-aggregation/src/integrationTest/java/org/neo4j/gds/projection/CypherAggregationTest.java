@@ -808,6 +808,8 @@ class CypherAggregationTest extends BaseProcTest {
                         query,
                         "readConcurrency",
                         4,
+                        "streamingBuild",
+                        false,
                         "undirectedRelationshipTypes",
                         List.of()
                     )
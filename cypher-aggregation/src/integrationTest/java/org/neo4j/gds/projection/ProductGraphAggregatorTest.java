@@ -84,6 +84,45 @@ class ProductGraphAggregatorTest {
         assertThat(graphStore.nodes().toOriginalNodeId(1)).isEqualTo(target);
     }
 
+    @Test
+    void shouldMergeUpdaters() throws Exception {
+        var userName = "neo4j";
+        var graphName = "graph";
+        var databaseId = DatabaseId.random();
+
+        var aggregator = new ProductGraphAggregator(
+            databaseId,
+            userName,
+            WriteMode.LOCAL,
+            QueryEstimator.empty(),
+            ExecutingQueryProvider.empty(),
+            ProjectionMetricsService.DISABLED,
+            EmptyTaskStore.INSTANCE,
+            Log.noOpLog()
+        );
+
+        var first = aggregator.newUpdater();
+        var second = aggregator.newUpdater();
+        for (long i = 0; i < 10; i++) {
+            var updater = i % 2 == 0 ? first : second;
+            updater.update(new AnyValue[]{
+                Values.stringValue(graphName),
+                Values.longValue(i),
+                Values.longValue(i + 1),
+                MapValue.EMPTY,
+                MapValue.EMPTY,
+                NoValue.NO_VALUE
+            });
+        }
+        first.applyUpdates();
+        second.applyUpdates();
+
+        var result = aggregator.buildGraph();
+
+        assertThat(result.nodeCount()).isEqualTo(11);
+        assertThat(result.relationshipCount()).isEqualTo(10);
+    }
+
     @ParameterizedTest(name = "graphName=`{1}`")
     @MethodSource("emptyGraphNames")
     void shouldFailOnEmptyGraphName(String emptyGraphName, String description) {
@@ -124,6 +124,13 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
         this.extractNodeId = new ExtractNodeId();
     }
 
+    @Override
+    public void update(AnyValue[] input) throws ProcedureException {
+        update(input, null);
+    }
+
+    abstract void update(AnyValue[] input, @Nullable Updater updater) throws ProcedureException;
+
     void projectNextRelationship(
         TextValue graphName,
         AnyValue sourceNode,
@@ -131,6 +138,18 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
         AnyValue dataConfig,
         AnyValue config,
         AnyValue migrationConfig
+    ) {
+        projectNextRelationship(graphName, sourceNode, targetNode, dataConfig, config, migrationConfig, null);
+    }
+
+    void projectNextRelationship(
+        TextValue graphName,
+        AnyValue sourceNode,
+        AnyValue targetNode,
+        AnyValue dataConfig,
+        AnyValue config,
+        AnyValue migrationConfig,
+        @Nullable Updater updater
     ) {
         this.configValidator.validateConfig(dataConfig, config, migrationConfig);
 
@@ -159,16 +178,32 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
             relationshipType = typeConfig(RELATIONSHIP_TYPE, (MapValue) dataConfig);
         }
 
-        data.update(
-            extractNodeId(sourceNode),
-            targetNode == NoValue.NO_VALUE ? NO_TARGET_NODE : extractNodeId(targetNode),
-            sourceNodePropertyValues,
-            targetNodePropertyValues,
-            sourceNodeLabels,
-            targetNodeLabels,
-            relationshipType,
-            relationshipProperties
-        );
+        var sourceNodeId = extractNodeId(sourceNode);
+        var targetNodeId = targetNode == NoValue.NO_VALUE ? NO_TARGET_NODE : extractNodeId(targetNode);
+
+        if (updater != null) {
+            updater.partition(data).update(
+                sourceNodeId,
+                targetNodeId,
+                sourceNodePropertyValues,
+                targetNodePropertyValues,
+                sourceNodeLabels,
+                targetNodeLabels,
+                relationshipType,
+                relationshipProperties
+            );
+        } else {
+            data.update(
+                sourceNodeId,
+                targetNodeId,
+                sourceNodePropertyValues,
+                targetNodePropertyValues,
+                sourceNodeLabels,
+                targetNodeLabels,
+                relationshipType,
+                relationshipProperties
+            );
+        }
     }
 
     private GraphImporter initGraphData(TextValue graphName, AnyValue config) {
@@ -217,6 +252,10 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
         );
         this.progressTracker = BatchingTaskProgressTracker.create(internalProgressTracker, taskVolume, config.readConcurrency());
 
+        var streamingBatchSize = config.streamingBuild()
+            ? GraphImporter.streamingBatchSize(taskVolume, config.readConcurrency())
+            : GraphImporter.NO_STREAMING;
+
         return new GraphImporter(
             config,
             config.undirectedRelationshipTypes(),
@@ -224,7 +263,8 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
             idMapBuilder,
             this.writeMode,
             query,
-            progressTracker
+            progressTracker,
+            streamingBatchSize
         );
     }
 
@@ -266,8 +306,8 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
     }
 
     @Override
-    public GraphAggregator newUpdater() {
-        return this;
+    public UserAggregationUpdater newUpdater() {
+        return new Updater();
     }
 
     @Override
@@ -275,6 +315,35 @@ abstract class GraphAggregator implements UserAggregationReducer, UserAggregatio
 
     }
 
+    /**
+     * The Cypher runtime creates one updater per worker. Each updater imports into its own
+     * partition of the graph importer, so that workers do not contend for shared builders.
+     * The partitions are merged when the graph is built.
+     */
+    final class Updater implements UserAggregationUpdater {
+        private @Nullable GraphImporter.Partition partition;
+
+        @Override
+        public void update(AnyValue[] input) throws ProcedureException {
+            GraphAggregator.this.update(input, this);
+        }
+
+        @Override
+        public void applyUpdates() {
+            if (this.partition != null) {
+                this.partition.flush();
+            }
+        }
+
+        GraphImporter.Partition partition(GraphImporter importer) {
+            var partition = this.partition;
+            if (partition == null) {
+                this.partition = partition = importer.partition();
+            }
+            return partition;
+        }
+    }
+
     @Override
     public AnyValue result() throws ProcedureException {
         var projectionMetric = projectionMetricsService.createCypherV2();
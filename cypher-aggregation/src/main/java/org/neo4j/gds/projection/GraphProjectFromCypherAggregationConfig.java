@@ -61,6 +61,14 @@ public interface GraphProjectFromCypherAggregationConfig extends GraphProjectCon
         return List.of();
     }
 
+    /**
+     * Compress relationships in parallel while the query is still producing rows,
+     * using a bounded number of staging buffers.
+     */
+    default boolean streamingBuild() {
+        return false;
+    }
+
     @Configuration.Parameter()
     String query();
 
@@ -26,16 +26,16 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.beta.filter.GraphStoreFilter;
 import org.neo4j.gds.beta.filter.ImmutableFilteredNodes;
 import org.neo4j.gds.beta.filter.NodesFilter;
-import org.neo4j.gds.beta.filter.RelationshipsFilter;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
-import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.config.GraphSampleAlgoConfig;
+import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.ImmutableNodes;
 import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
@@ -47,10 +47,15 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.termination.TerminationFlag;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 public class GraphSampleConstructor {
     private final GraphSampleAlgoConfig config;
@@ -89,7 +94,9 @@ public class GraphSampleConstructor {
 
         progressTracker.beginSubTask("Construct graph");
 
-        var idMap = computeIdMap(inputGraph, sampledNodesBitSet);
+        // the sampled nodes in the id space of the graph store, which is used to look up relationships
+        var sampledRootNodes = HugeAtomicBitSet.create(inputGraphStore.nodeCount());
+        var idMap = computeIdMap(inputGraph, sampledNodesBitSet, sampledRootNodes);
 
         var nodePropertyStore = NodesFilter.filterNodeProperties(
             inputGraphStore,
@@ -98,28 +105,7 @@ public class GraphSampleConstructor {
             progressTracker
         );
 
-        var relTypeFilterExpression = new Expression() {
-            private final List<String> types = config
-                .internalRelationshipTypes(inputGraphStore)
-                .stream()
-                .map(RelationshipType::name)
-                .collect(Collectors.toList());
-
-            @Override
-            public double evaluate(EvaluationContext context) {
-                return context.hasLabelsOrTypes(types) ? Expression.TRUE : Expression.FALSE;
-            }
-        };
-        var filteredRelationships = RelationshipsFilter.filterRelationships(
-            inputGraphStore,
-            relTypeFilterExpression,
-            inputGraphStore.nodes(),
-            idMap,
-            config.concurrency(),
-            Map.of(),
-            DefaultPool.INSTANCE,
-            progressTracker
-        );
+        var filteredRelationships = sampleRelationships(idMap, sampledRootNodes);
 
         var filteredSchema = GraphStoreFilter.filterSchema(
             inputGraphStore.schema(),
@@ -145,7 +131,11 @@ public class GraphSampleConstructor {
         return outputGraphStore;
     }
 
-    private IdMap computeIdMap(Graph inputGraph, HugeAtomicBitSet sampledNodesBitSet) {
+    private IdMap computeIdMap(
+        Graph inputGraph,
+        HugeAtomicBitSet sampledNodesBitSet,
+        HugeAtomicBitSet sampledRootNodes
+    ) {
         progressTracker.beginSubTask("Construct node id map");
         progressTracker.setSteps(inputGraph.nodeCount());
 
@@ -163,6 +153,7 @@ public class GraphSampleConstructor {
             partition -> new IdMapSampleTask(
                 nodesBuilder,
                 sampledNodesBitSet,
+                sampledRootNodes,
                 inputGraph,
                 hasLabelInformation,
                 partition,
@@ -180,9 +171,113 @@ public class GraphSampleConstructor {
         return idMap;
     }
 
+    /**
+     * Collects the relationships between sampled nodes.
+     * Only the adjacency lists of sampled nodes are visited and targets are checked against the sampled
+     * nodes bit set, so the cost of this step depends on the size of the sample and not the input graph.
+     */
+    private Map<RelationshipType, SingleTypeRelationships> sampleRelationships(
+        IdMap idMap,
+        HugeAtomicBitSet sampledRootNodes
+    ) {
+        var sampledRelationshipTypes = Set.copyOf(config.internalRelationshipTypes(inputGraphStore));
+        Map<RelationshipType, SingleTypeRelationships> sampledRelationships = new HashMap<>();
+
+        progressTracker.beginSubTask();
+
+        for (RelationshipType relType : inputGraphStore.relationshipTypes()) {
+            progressTracker.beginSubTask(inputGraphStore.relationshipCount(relType));
+            if (sampledRelationshipTypes.contains(relType)) {
+                var relationships = sampleRelationshipType(relType, idMap, sampledRootNodes);
+                // Drop relationship types without any relationship between sampled nodes.
+                if (relationships.topology().elementCount() > 0) {
+                    sampledRelationships.put(relType, relationships);
+                }
+            }
+            progressTracker.endSubTask();
+        }
+
+        progressTracker.endSubTask();
+
+        return sampledRelationships;
+    }
+
+    private SingleTypeRelationships sampleRelationshipType(
+        RelationshipType relType,
+        IdMap idMap,
+        HugeAtomicBitSet sampledRootNodes
+    ) {
+        var propertyKeys = new ArrayList<>(inputGraphStore.relationshipPropertyKeys(relType));
+        var propertyConfigs = propertyKeys
+            .stream()
+            .map(
+                propertyKey -> GraphFactory.PropertyConfig.of(
+                    propertyKey,
+                    Aggregation.NONE,
+                    inputGraphStore.relationshipPropertyValues(relType, propertyKey).defaultValue()
+                )
+            )
+            .collect(Collectors.toList());
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(relType)
+            .concurrency(concurrency)
+            .addAllPropertyConfigs(propertyConfigs)
+            .indexInverse(inputGraphStore.inverseIndexedRelationshipTypes().contains(relType))
+            .build();
+
+        var rootNodes = inputGraphStore.nodes();
+        var relationshipIterator = inputGraphStore.getCompositeRelationshipIterator(relType, propertyKeys);
+        LongToIntFunction sampledDegree = node -> sampledRootNodes.get(node)
+            ? relationshipIterator.degree(node)
+            : 0;
+
+        var sampledDegreeSum = ParallelUtil.parallelStream(
+            LongStream.range(0, rootNodes.nodeCount()),
+            concurrency,
+            stream -> stream.map(sampledDegree::applyAsInt).sum()
+        );
+
+        ParallelUtil.parallelForEachNode(
+            rootNodes.nodeCount(),
+            sampledDegreeSum,
+            sampledDegree,
+            concurrency,
+            DefaultPool.INSTANCE,
+            terminationFlag,
+            (start, end) -> {
+                var iterator = relationshipIterator.concurrentCopy();
+                for (long source = start; source < end; source++) {
+                    if (!sampledRootNodes.get(source)) {
+                        continue;
+                    }
+                    var originalSource = rootNodes.toOriginalNodeId(source);
+                    iterator.forEachRelationship(source, (ignored, target, properties) -> {
+                        if (sampledRootNodes.get(target)) {
+                            var originalTarget = rootNodes.toOriginalNodeId(target);
+                            if (properties.length == 0) {
+                                relationshipsBuilder.add(originalSource, originalTarget);
+                            } else if (properties.length == 1) {
+                                relationshipsBuilder.add(originalSource, originalTarget, properties[0]);
+                            } else {
+                                relationshipsBuilder.add(originalSource, originalTarget, properties);
+                            }
+                        }
+                        return true;
+                    });
+                    progressTracker.logProgress(iterator.degree(source));
+                }
+            }
+        );
+
+        return relationshipsBuilder.build();
+    }
+
     static class IdMapSampleTask implements Runnable {
         private final NodesBuilder nodesBuilder;
         private final HugeAtomicBitSet nodesBitSet;
+        private final HugeAtomicBitSet rootNodesBitSet;
         private final Graph inputGraph;
         private final boolean hasLabelInformation;
         private final Partition partition;
@@ -191,6 +286,7 @@ public class GraphSampleConstructor {
         IdMapSampleTask(
             NodesBuilder nodesBuilder,
             HugeAtomicBitSet nodesBitSet,
+            HugeAtomicBitSet rootNodesBitSet,
             Graph inputGraph,
             boolean hasLabelInformation,
             Partition partition,
@@ -198,6 +294,7 @@ public class GraphSampleConstructor {
         ) {
             this.nodesBuilder = nodesBuilder;
             this.nodesBitSet = nodesBitSet;
+            this.rootNodesBitSet = rootNodesBitSet;
             this.inputGraph = inputGraph;
             this.hasLabelInformation = hasLabelInformation;
             this.partition = partition;
@@ -211,6 +308,7 @@ public class GraphSampleConstructor {
                 if (!nodesBitSet.get(mappedId)) {
                     continue;
                 }
+                rootNodesBitSet.set(inputGraph.toRootNodeId(mappedId));
 
                 long originalId = inputGraph.toOriginalNodeId(mappedId);
                 if (hasLabelInformation) {
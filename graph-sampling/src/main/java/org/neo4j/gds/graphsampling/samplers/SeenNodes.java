@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.graphsampling.samplers;
 
-import com.carrotsearch.hppc.LongLongHashMap;
+import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.procedures.LongLongProcedure;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.Graph;
@@ -29,6 +29,8 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public interface SeenNodes {
 
@@ -62,12 +64,21 @@ public interface SeenNodes {
         );
     }
 
+    /**
+     * Tracks the number of seen nodes per node label combination.
+     * <p>
+     * Every label combination has its own counter, which is reserved before the node is marked as seen.
+     * Walkers therefore never exceed the expected number of nodes of a label combination
+     * and never need to count the set bits of the shared bit set.
+     */
     class SeenNodesByLabelSet implements SeenNodes {
         private final Graph inputGraph;
-        private final LongLongHashMap seenNodesPerLabels;
-        private final LongLongHashMap expectedNodesPerLabels;
+        private final LongIntHashMap labelCombinationSlots;
+        private final AtomicLongArray seenNodesPerLabels;
+        private final long[] expectedNodesPerLabels;
         private final NodeLabel[] availableNodeLabels;
         private final HugeAtomicBitSet seenBitSet;
+        private final AtomicLong seenNodes;
         private final long totalExpectedNodes;
 
         public SeenNodesByLabelSet(
@@ -78,14 +89,18 @@ public interface SeenNodes {
             this.inputGraph = inputGraph;
             this.availableNodeLabels = nodeLabelHistogram.availableNodeLabels();
             this.seenBitSet = HugeAtomicBitSet.create(inputGraph.nodeCount());
-
-            this.expectedNodesPerLabels = new LongLongHashMap(nodeLabelHistogram.histogram().size());
-            this.seenNodesPerLabels = new LongLongHashMap(nodeLabelHistogram.histogram().size());
-            nodeLabelHistogram.histogram().forEach((LongLongProcedure) (labelCombination, count) -> {
-                expectedNodesPerLabels.put(labelCombination, Math.round(samplingRatio * count));
-                seenNodesPerLabels.put(labelCombination, 0);
+            this.seenNodes = new AtomicLong();
+
+            var histogram = nodeLabelHistogram.histogram();
+            this.labelCombinationSlots = new LongIntHashMap(histogram.size());
+            this.seenNodesPerLabels = new AtomicLongArray(histogram.size());
+            this.expectedNodesPerLabels = new long[histogram.size()];
+            histogram.forEach((LongLongProcedure) (labelCombination, count) -> {
+                var slot = labelCombinationSlots.size();
+                labelCombinationSlots.put(labelCombination, slot);
+                expectedNodesPerLabels[slot] = Math.round(samplingRatio * count);
             });
-            this.totalExpectedNodes = Arrays.stream(expectedNodesPerLabels.values).sum();
+            this.totalExpectedNodes = Arrays.stream(expectedNodesPerLabels).sum();
         }
 
         public boolean addNode(long nodeId) {
@@ -94,22 +109,27 @@ public interface SeenNodes {
                 this.availableNodeLabels,
                 nodeId
             );
+            var slot = labelCombinationSlots.get(labelCombination);
 
-            // There's a slight race condition here which may cause there to be an extra node or two in a given
-            // node label set bucket, since the cardinality check and the set are not synchronized together.
-            // Since the sampling is inexact by nature this should be fine.
-            if (seenNodesPerLabels.get(labelCombination) < expectedNodesPerLabels.get(labelCombination)) {
-                if (!seenBitSet.getAndSet(nodeId)) {
-                    seenNodesPerLabels.addTo(labelCombination, 1);
-                    return true;
-                }
+            if (seenNodesPerLabels.get(slot) >= expectedNodesPerLabels[slot]) {
+                return false;
+            }
+            // reserve a place in the bucket, so that concurrent walkers cannot overfill it
+            if (seenNodesPerLabels.getAndIncrement(slot) >= expectedNodesPerLabels[slot]) {
+                seenNodesPerLabels.getAndDecrement(slot);
+                return false;
+            }
+            if (seenBitSet.getAndSet(nodeId)) {
+                seenNodesPerLabels.getAndDecrement(slot);
+                return false;
             }
 
-            return false;
+            seenNodes.incrementAndGet();
+            return true;
         }
 
         public boolean hasSeenEnough() {
-            return seenBitSet.cardinality() >= totalExpectedNodes;
+            return seenNodes.get() >= totalExpectedNodes;
         }
 
         public HugeAtomicBitSet sampledNodes() {
@@ -122,21 +142,31 @@ public interface SeenNodes {
         }
     }
 
+    /**
+     * Counts the seen nodes alongside the bit set, which makes {@link #hasSeenEnough()}
+     * a constant time operation that walkers can call after every step.
+     */
     class GlobalSeenNodes implements SeenNodes {
         private final HugeAtomicBitSet seenBitSet;
+        private final AtomicLong seenNodes;
         private final long expectedNodes;
 
         public GlobalSeenNodes(HugeAtomicBitSet seenBitSet, long expectedNodes) {
             this.seenBitSet = seenBitSet;
+            this.seenNodes = new AtomicLong(seenBitSet.cardinality());
             this.expectedNodes = expectedNodes;
         }
 
         public boolean addNode(long nodeId) {
-            return !seenBitSet.getAndSet(nodeId);
+            if (seenBitSet.getAndSet(nodeId)) {
+                return false;
+            }
+            seenNodes.incrementAndGet();
+            return true;
         }
 
         public boolean hasSeenEnough() {
-            return seenBitSet.cardinality() >= expectedNodes;
+            return seenNodes.get() >= expectedNodes;
         }
 
         public HugeAtomicBitSet sampledNodes() {
@@ -34,6 +34,9 @@ import java.util.SplittableRandom;
 
 public class Walker implements Runnable {
 
+    // Walkers report progress in batches of roughly 1 / PROGRESS_BATCHES of the expected nodes.
+    private static final long PROGRESS_BATCHES = 1000;
+
     private final SeenNodes seenNodes;
     private final Optional<HugeAtomicDoubleArray> totalWeights;
     private final double qualityThreshold;
@@ -45,6 +48,7 @@ public class Walker implements Runnable {
     private final TerminationFlag terminationFlag;
 
     private final LongSet startNodesUsed;
+    private final long progressBatchSize;
 
     private final NextNodeStrategy nextNodeStrategy;
 
@@ -70,6 +74,7 @@ public class Walker implements Runnable {
         this.progressTracker = progressTracker;
         this.terminationFlag = terminationFlag;
         this.startNodesUsed = new LongHashSet();
+        this.progressBatchSize = Math.max(1, seenNodes.totalExpectedNodes() / PROGRESS_BATCHES);
         this.nextNodeStrategy = nextNodeStrategy;
     }
 
@@ -81,6 +86,7 @@ public class Walker implements Runnable {
         int addedNodes = 0;
         int nodesConsidered = 1;
         int walksLeft = (int) Math.round(walkQualities.nodeQuality(currentStartNodePosition) * RandomWalkWithRestarts.MAX_WALKS_PER_START);
+        long unloggedNodes = 0;
 
         while (!seenNodes.hasSeenEnough() && terminationFlag.running()) {
             if (seenNodes.addNode(currentNode)) {
@@ -90,7 +96,12 @@ public class Walker implements Runnable {
             // walk a step
             double degree = computeDegree(currentNode);
             if (degree == 0.0 || rng.nextDouble() < restartProbability) {
-                progressTracker.logSteps(addedNodes);
+                // restarts are frequent, so we only report progress once a batch of nodes has been added
+                unloggedNodes += addedNodes;
+                if (unloggedNodes >= progressBatchSize) {
+                    progressTracker.logSteps(unloggedNodes);
+                    unloggedNodes = 0;
+                }
 
                 double walkQuality = ((double) addedNodes) / nodesConsidered;
                 walkQualities.updateNodeQuality(currentStartNodePosition, walkQuality);
@@ -122,6 +133,7 @@ public class Walker implements Runnable {
                 nodesConsidered++;
             }
         }
+        progressTracker.logSteps(unloggedNodes);
         terminationFlag.assertRunning();
     }
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphsampling.samplers;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class SeenNodesTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a0:A), (a1:A), (a2:A), (a3:A), (a4:A), (a5:A)" +
+        ", (b0:B), (b1:B), (b2:B), (b3:B)";
+
+    @Inject
+    private Graph graph;
+
+    @Test
+    void shouldCountSeenNodes() {
+        var seenNodes = SeenNodes.create(
+            graph,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            false,
+            new Concurrency(1),
+            0.5
+        );
+
+        assertThat(seenNodes.totalExpectedNodes()).isEqualTo(5);
+
+        for (long nodeId = 0; nodeId < 4; nodeId++) {
+            assertThat(seenNodes.addNode(nodeId)).isTrue();
+            assertThat(seenNodes.addNode(nodeId)).isFalse();
+        }
+        assertThat(seenNodes.hasSeenEnough()).isFalse();
+
+        assertThat(seenNodes.addNode(4)).isTrue();
+        assertThat(seenNodes.hasSeenEnough()).isTrue();
+        assertThat(seenNodes.sampledNodes().cardinality()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotExceedExpectedNodesPerLabelWhenAddingConcurrently() {
+        var concurrency = new Concurrency(4);
+        var seenNodes = SeenNodes.create(
+            graph,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            true,
+            concurrency,
+            0.5
+        );
+
+        assertThat(seenNodes.totalExpectedNodes()).isEqualTo(5);
+
+        var tasks = ParallelUtil.tasks(concurrency, () -> () -> {
+            for (int round = 0; round < 100; round++) {
+                for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                    seenNodes.addNode(nodeId);
+                }
+            }
+        });
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .run();
+
+        var sampledNodes = seenNodes.sampledNodes();
+        long sampledA = 0;
+        long sampledB = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (sampledNodes.get(nodeId)) {
+                if (graph.hasLabel(nodeId, NodeLabel.of("A"))) {
+                    sampledA++;
+                } else {
+                    sampledB++;
+                }
+            }
+        }
+
+        assertThat(sampledA).isEqualTo(3);
+        assertThat(sampledB).isEqualTo(2);
+        assertThat(seenNodes.hasSeenEnough()).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes compressed adjacency lists into pages that follow the layout of the {@link BumpAllocator}:
+ * a list never crosses a page boundary, lists larger than a page get a page of their own,
+ * and the returned offsets encode the page index in the upper bits.
+ * <p>
+ * The pages are written back to back, only the used part of each page is written.
+ */
+final class AdjacencyPageWriter {
+
+    private static final int NO_PAGE = -1;
+
+    private final DataOutputStream out;
+    private final List<Integer> pageSizes;
+
+    private int currentPage;
+    private int currentPageOffset;
+
+    AdjacencyPageWriter(DataOutputStream out) {
+        this.out = out;
+        this.pageSizes = new ArrayList<>();
+        this.currentPage = NO_PAGE;
+        this.currentPageOffset = 0;
+    }
+
+    /**
+     * Writes the given compressed list and returns its offset.
+     */
+    long write(byte[] compressed) throws IOException {
+        int length = compressed.length;
+
+        if (length > BumpAllocator.PAGE_SIZE) {
+            closePage();
+            long offset = (long) pageSizes.size() << BumpAllocator.PAGE_SHIFT;
+            pageSizes.add(length);
+            out.write(compressed);
+            return offset;
+        }
+
+        if (currentPage == NO_PAGE || currentPageOffset + length > BumpAllocator.PAGE_SIZE) {
+            closePage();
+            currentPage = pageSizes.size();
+            // reserve the slot, the final size is set on close
+            pageSizes.add(0);
+        }
+
+        long offset = ((long) currentPage << BumpAllocator.PAGE_SHIFT) | currentPageOffset;
+        out.write(compressed);
+        currentPageOffset += length;
+        return offset;
+    }
+
+    /**
+     * Closes the current page and returns the sizes of all written pages.
+     */
+    int[] finish() {
+        closePage();
+        return pageSizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void closePage() {
+        if (currentPage != NO_PAGE) {
+            pageSizes.set(currentPage, currentPageOffset);
+            currentPage = NO_PAGE;
+            currentPageOffset = 0;
+        }
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.varlong.VarLongAdjacencyPages;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.io.MetaDataStore;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a graph store into a binary snapshot that can be reloaded by {@link SnapshotToGraphStoreImporter}.
+ * <p>
+ * In contrast to the CSV export, the snapshot stores the internal node ids and the compressed adjacency lists,
+ * so that reloading neither needs to parse nor to sort or compress relationships again.
+ */
+public final class GraphStoreToSnapshotExporter {
+
+    private final GraphStore graphStore;
+    private final Path snapshotPath;
+    private final String userName;
+
+    private long[] targetBuffer;
+
+    public static void export(GraphStore graphStore, Path snapshotPath, String userName) {
+        new GraphStoreToSnapshotExporter(graphStore, snapshotPath, userName).run();
+    }
+
+    private GraphStoreToSnapshotExporter(GraphStore graphStore, Path snapshotPath, String userName) {
+        this.graphStore = graphStore;
+        this.snapshotPath = snapshotPath;
+        this.userName = userName;
+        this.targetBuffer = new long[0];
+    }
+
+    private void run() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Graph properties are not supported by graph snapshots.");
+        }
+
+        try {
+            Files.createDirectories(snapshotPath);
+
+            exportMetaData();
+
+            var labels = new ArrayList<>(graphStore.nodeLabels());
+            var nodePropertyKeys = new ArrayList<>(graphStore.nodePropertyKeys());
+            var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+
+            exportManifest(labels, nodePropertyKeys, relationshipTypes);
+            exportNodeIds();
+            for (int labelIndex = 0; labelIndex < labels.size(); labelIndex++) {
+                exportLabel(labels.get(labelIndex), labelIndex);
+            }
+            for (int propertyIndex = 0; propertyIndex < nodePropertyKeys.size(); propertyIndex++) {
+                exportNodeProperty(nodePropertyKeys.get(propertyIndex), propertyIndex);
+            }
+            for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+                exportRelationships(relationshipTypes.get(typeIndex), typeIndex);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportMetaData() throws IOException {
+        var metaDataStore = MetaDataStore.of(graphStore);
+
+        try (var userInfoVisitor = new UserInfoVisitor(snapshotPath)) {
+            userInfoVisitor.export(userName);
+        }
+
+        try (var graphInfoVisitor = new CsvGraphInfoVisitor(snapshotPath)) {
+            graphInfoVisitor.export(metaDataStore.graphInfo());
+        }
+
+        try (var nodeSchemaVisitor = new CsvNodeSchemaVisitor(snapshotPath)) {
+            metaDataStore.nodeSchema().entries().forEach(nodeEntry -> {
+                if (nodeEntry.properties().isEmpty()) {
+                    nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                    nodeSchemaVisitor.endOfEntity();
+                } else {
+                    nodeEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                        nodeSchemaVisitor.key(propertyKey);
+                        nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        nodeSchemaVisitor.valueType(propertySchema.valueType());
+                        nodeSchemaVisitor.state(propertySchema.state());
+                        nodeSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+
+        try (var relationshipSchemaVisitor = new CsvRelationshipSchemaVisitor(snapshotPath)) {
+            metaDataStore.relationshipSchema().entries().forEach(relationshipEntry -> {
+                if (relationshipEntry.properties().isEmpty()) {
+                    relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                    relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                    relationshipSchemaVisitor.endOfEntity();
+                } else {
+                    relationshipEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                        relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                        relationshipSchemaVisitor.key(propertyKey);
+                        relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        relationshipSchemaVisitor.valueType(propertySchema.valueType());
+                        relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
+                        relationshipSchemaVisitor.state(propertySchema.state());
+                        relationshipSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+
+        new CsvGraphCapabilitiesWriter(snapshotPath).write(graphStore.capabilities());
+    }
+
+    private void exportManifest(
+        List<NodeLabel> labels,
+        List<String> nodePropertyKeys,
+        List<RelationshipType> relationshipTypes
+    ) throws IOException {
+        try (var out = SnapshotLayout.output(snapshotPath.resolve(SnapshotLayout.MANIFEST_FILE_NAME))) {
+            out.writeInt(SnapshotLayout.MAGIC);
+            out.writeInt(SnapshotLayout.VERSION);
+
+            out.writeInt(labels.size());
+            for (var label : labels) {
+                out.writeUTF(label.name());
+            }
+
+            out.writeInt(nodePropertyKeys.size());
+            for (var propertyKey : nodePropertyKeys) {
+                out.writeUTF(propertyKey);
+                out.writeUTF(graphStore.nodeProperty(propertyKey).valueType().name());
+            }
+
+            var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+            out.writeInt(relationshipTypes.size());
+            for (var relationshipType : relationshipTypes) {
+                out.writeUTF(relationshipType.name());
+                out.writeBoolean(inverseIndexedTypes.contains(relationshipType));
+                var propertyKeys = relationshipPropertyKeys(relationshipType);
+                out.writeInt(propertyKeys.size());
+                for (var propertyKey : propertyKeys) {
+                    out.writeUTF(propertyKey);
+                }
+            }
+        }
+    }
+
+    private void exportNodeIds() throws IOException {
+        var idMap = graphStore.nodes();
+        try (var out = SnapshotLayout.output(snapshotPath.resolve(SnapshotLayout.NODE_IDS_FILE_NAME))) {
+            for (long nodeId = 0; nodeId < idMap.nodeCount(); nodeId++) {
+                out.writeLong(idMap.toOriginalNodeId(nodeId));
+            }
+        }
+    }
+
+    private void exportLabel(NodeLabel label, int labelIndex) throws IOException {
+        var idMap = graphStore.nodes();
+        var nodeCount = idMap.nodeCount();
+        try (var out = SnapshotLayout.output(SnapshotLayout.labelFile(snapshotPath, labelIndex))) {
+            long word = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (idMap.hasLabel(nodeId, label)) {
+                    word |= 1L << (nodeId & 63);
+                }
+                if ((nodeId & 63) == 63) {
+                    out.writeLong(word);
+                    word = 0L;
+                }
+            }
+            if ((nodeCount & 63) != 0) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private void exportNodeProperty(String propertyKey, int propertyIndex) throws IOException {
+        var values = graphStore.nodeProperty(propertyKey).values();
+        var nodeCount = graphStore.nodeCount();
+        try (var out = SnapshotLayout.output(SnapshotLayout.nodePropertyFile(snapshotPath, propertyIndex))) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                writeNodePropertyValue(out, propertyKey, values, nodeId);
+            }
+        }
+    }
+
+    private static void writeNodePropertyValue(
+        DataOutputStream out,
+        String propertyKey,
+        NodePropertyValues values,
+        long nodeId
+    ) throws IOException {
+        switch (values.valueType()) {
+            case LONG:
+                out.writeLong(values.longValue(nodeId));
+                break;
+            case DOUBLE:
+                out.writeDouble(values.doubleValue(nodeId));
+                break;
+            case LONG_ARRAY:
+                var longArray = values.longArrayValue(nodeId);
+                out.writeInt(longArray == null ? -1 : longArray.length);
+                if (longArray != null) {
+                    for (long value : longArray) {
+                        out.writeLong(value);
+                    }
+                }
+                break;
+            case DOUBLE_ARRAY:
+                var doubleArray = values.doubleArrayValue(nodeId);
+                out.writeInt(doubleArray == null ? -1 : doubleArray.length);
+                if (doubleArray != null) {
+                    for (double value : doubleArray) {
+                        out.writeDouble(value);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floatArray = values.floatArrayValue(nodeId);
+                out.writeInt(floatArray == null ? -1 : floatArray.length);
+                if (floatArray != null) {
+                    for (float value : floatArray) {
+                        out.writeFloat(value);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` of type `%s` is not supported by graph snapshots.",
+                    propertyKey,
+                    values.valueType().csvName()
+                ));
+        }
+    }
+
+    private void exportRelationships(RelationshipType relationshipType, int typeIndex) throws IOException {
+        var graph = graphStore.getGraph(relationshipType);
+        var propertyKeys = relationshipPropertyKeys(relationshipType);
+
+        exportAdjacency(graph, typeIndex, false);
+        for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+            var propertyGraph = graphStore.getGraph(relationshipType, Optional.of(propertyKeys.get(propertyIndex)));
+            exportRelationshipProperty(propertyGraph, typeIndex, false, propertyIndex);
+        }
+
+        if (graphStore.inverseIndexedRelationshipTypes().contains(relationshipType)) {
+            exportAdjacency(graph, typeIndex, true);
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+                var propertyGraph = graphStore.getGraph(relationshipType, Optional.of(propertyKeys.get(propertyIndex)));
+                exportRelationshipProperty(propertyGraph, typeIndex, true, propertyIndex);
+            }
+        }
+    }
+
+    private void exportAdjacency(Graph graph, int typeIndex, boolean inverse) throws IOException {
+        var varLongPages = varLongPages(graph, inverse);
+        if (varLongPages.isPresent()) {
+            copyAdjacency(graph, varLongPages.get(), typeIndex, inverse);
+        } else {
+            encodeAdjacency(graph, typeIndex, inverse);
+        }
+    }
+
+    /**
+     * Delta var-long adjacency lists are already stored in the snapshot encoding,
+     * so their pages, degrees and offsets are written as they are.
+     */
+    private static Optional<VarLongAdjacencyPages> varLongPages(Graph graph, boolean inverse) {
+        if (!(graph instanceof HugeGraph hugeGraph)) {
+            return Optional.empty();
+        }
+        var topology = inverse
+            ? hugeGraph.inverseRelationshipTopology()
+            : Optional.of(hugeGraph.relationshipTopology());
+        return topology
+            .map(Topology::adjacencyList)
+            .filter(VarLongAdjacencyPages.class::isInstance)
+            .map(VarLongAdjacencyPages.class::cast);
+    }
+
+    private void copyAdjacency(
+        Graph graph,
+        VarLongAdjacencyPages pages,
+        int typeIndex,
+        boolean inverse
+    ) throws IOException {
+        var pageSizes = new int[pages.pageCount()];
+        try (var out = SnapshotLayout.output(SnapshotLayout.adjacencyPagesFile(snapshotPath, typeIndex, inverse))) {
+            var buffer = new byte[0];
+            for (int pageIndex = 0; pageIndex < pageSizes.length; pageIndex++) {
+                int pageSize = pages.pageSize(pageIndex);
+                if (buffer.length < pageSize) {
+                    buffer = new byte[pageSize];
+                }
+                pages.copyPage(pageIndex, buffer);
+                out.write(buffer, 0, pageSize);
+                pageSizes[pageIndex] = pageSize;
+            }
+        }
+
+        exportAdjacencyIndex(graph, typeIndex, inverse, pageSizes, pages.degrees(), pages.offsets());
+    }
+
+    /**
+     * Any other adjacency list is decoded and compressed again with the delta var-long encoding.
+     */
+    private void encodeAdjacency(Graph graph, int typeIndex, boolean inverse) throws IOException {
+        var nodeCount = graph.nodeCount();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        int[] pageSizes;
+        try (var out = SnapshotLayout.output(SnapshotLayout.adjacencyPagesFile(snapshotPath, typeIndex, inverse))) {
+            var pageWriter = new AdjacencyPageWriter(out);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = collectTargets(graph, nodeId, inverse);
+                degrees.set(nodeId, degree);
+                if (degree > 0) {
+                    var compressed = AdjacencyCompression.deltaEncodeAndCompress(
+                        targetBuffer,
+                        0,
+                        degree,
+                        Aggregation.NONE
+                    );
+                    offsets.set(nodeId, pageWriter.write(compressed));
+                }
+            }
+            pageSizes = pageWriter.finish();
+        }
+
+        exportAdjacencyIndex(graph, typeIndex, inverse, pageSizes, degrees, offsets);
+    }
+
+    private void exportAdjacencyIndex(
+        Graph graph,
+        int typeIndex,
+        boolean inverse,
+        int[] pageSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) throws IOException {
+        var nodeCount = graph.nodeCount();
+        try (var out = SnapshotLayout.output(SnapshotLayout.adjacencyIndexFile(snapshotPath, typeIndex, inverse))) {
+            out.writeLong(nodeCount);
+            out.writeLong(graph.relationshipCount());
+            out.writeBoolean(graph.isMultiGraph());
+            out.writeInt(pageSizes.length);
+            for (int pageSize : pageSizes) {
+                out.writeInt(pageSize);
+            }
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                out.writeInt(degrees.get(nodeId));
+            }
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                out.writeLong(offsets.get(nodeId));
+            }
+        }
+    }
+
+    private int collectTargets(Graph graph, long nodeId, boolean inverse) {
+        int degree = inverse ? graph.degreeInverse(nodeId) : graph.degree(nodeId);
+        if (targetBuffer.length < degree) {
+            targetBuffer = new long[degree];
+        }
+        var index = new int[]{0};
+        if (inverse) {
+            graph.forEachInverseRelationship(nodeId, (source, target) -> {
+                targetBuffer[index[0]++] = target;
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                targetBuffer[index[0]++] = target;
+                return true;
+            });
+        }
+        assert isSorted(targetBuffer, index[0]) : "adjacency lists are expected to be sorted";
+        return index[0];
+    }
+
+    private static boolean isSorted(long[] values, int length) {
+        for (int i = 1; i < length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void exportRelationshipProperty(
+        Graph graph,
+        int typeIndex,
+        boolean inverse,
+        int propertyIndex
+    ) throws IOException {
+        var propertyFile = SnapshotLayout.relationshipPropertyFile(snapshotPath, typeIndex, inverse, propertyIndex);
+        try (var out = SnapshotLayout.output(propertyFile)) {
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                if (inverse) {
+                    graph.forEachInverseRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                        writeDouble(out, property);
+                        return true;
+                    });
+                } else {
+                    graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                        writeDouble(out, property);
+                        return true;
+                    });
+                }
+            }
+        }
+    }
+
+    private static void writeDouble(DataOutputStream out, double value) {
+        try {
+            out.writeDouble(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        var propertyKeys = graphStore.relationshipPropertyKeys(relationshipType).toArray(String[]::new);
+        Arrays.sort(propertyKeys);
+        return List.of(propertyKeys);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.properties.relationships.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import java.nio.LongBuffer;
+
+import static org.neo4j.gds.core.io.file.snapshot.SnapshotLayout.PROPERTY_CHUNK_MASK;
+import static org.neo4j.gds.core.io.file.snapshot.SnapshotLayout.PROPERTY_CHUNK_SHIFT;
+import static org.neo4j.gds.core.io.file.snapshot.SnapshotLayout.PROPERTY_CHUNK_SIZE;
+
+/**
+ * Relationship properties that are read directly from a memory-mapped snapshot file.
+ * The values of all relationships are stored in adjacency order,
+ * so the offset of a node is the sum of the degrees of all previous nodes.
+ */
+final class MappedAdjacencyProperties implements AdjacencyProperties {
+
+    private final LongBuffer[] chunks;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    MappedAdjacencyProperties(LongBuffer[] chunks, HugeIntArray degrees, HugeLongArray offsets) {
+        this.chunks = chunks;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(chunks);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(chunks);
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private final LongBuffer[] chunks;
+
+        private LongBuffer currentChunk;
+        private int currentChunkIndex;
+        private int indexInChunk;
+        private int remaining;
+
+        Cursor(LongBuffer[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.currentChunkIndex = (int) (index >>> PROPERTY_CHUNK_SHIFT);
+            this.indexInChunk = (int) (index & PROPERTY_CHUNK_MASK);
+            this.currentChunk = currentChunkIndex < chunks.length ? chunks[currentChunkIndex] : null;
+            this.remaining = degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (indexInChunk == PROPERTY_CHUNK_SIZE) {
+                currentChunk = chunks[++currentChunkIndex];
+                indexInChunk = 0;
+            }
+            remaining--;
+            return currentChunk.get(indexInChunk++);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * File names and constants of the binary graph snapshot format.
+ * <p>
+ * A snapshot directory contains the same CSV meta data files as a CSV export
+ * (user info, graph info, schema and capabilities), a binary manifest
+ * and one binary file per id map, label, property and adjacency list.
+ * All binary files are written in big-endian byte order.
+ */
+final class SnapshotLayout {
+
+    static final int MAGIC = 0x47445353; // "GDSS"
+    static final int VERSION = 1;
+
+    static final String MANIFEST_FILE_NAME = "snapshot.manifest";
+    static final String NODE_IDS_FILE_NAME = "nodes.ids";
+
+    /**
+     * Relationship property values are mapped in chunks of this many values (1 GiB).
+     */
+    static final int PROPERTY_CHUNK_SHIFT = 27;
+    static final int PROPERTY_CHUNK_SIZE = 1 << PROPERTY_CHUNK_SHIFT;
+    static final long PROPERTY_CHUNK_MASK = PROPERTY_CHUNK_SIZE - 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    static Path labelFile(Path snapshotPath, int labelIndex) {
+        return snapshotPath.resolve(formatWithLocale("nodes.label.%d", labelIndex));
+    }
+
+    static Path nodePropertyFile(Path snapshotPath, int propertyIndex) {
+        return snapshotPath.resolve(formatWithLocale("nodes.property.%d", propertyIndex));
+    }
+
+    static Path adjacencyIndexFile(Path snapshotPath, int typeIndex, boolean inverse) {
+        return snapshotPath.resolve(formatWithLocale("%s.index", relationshipPrefix(typeIndex, inverse)));
+    }
+
+    static Path adjacencyPagesFile(Path snapshotPath, int typeIndex, boolean inverse) {
+        return snapshotPath.resolve(formatWithLocale("%s.pages", relationshipPrefix(typeIndex, inverse)));
+    }
+
+    static Path relationshipPropertyFile(Path snapshotPath, int typeIndex, boolean inverse, int propertyIndex) {
+        return snapshotPath.resolve(formatWithLocale(
+            "%s.property.%d",
+            relationshipPrefix(typeIndex, inverse),
+            propertyIndex
+        ));
+    }
+
+    static DataOutputStream output(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+
+    static DataInputStream input(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+
+    private static String relationshipPrefix(int typeIndex, boolean inverse) {
+        return inverse
+            ? formatWithLocale("relationships.%d.inverse", typeIndex)
+            : formatWithLocale("relationships.%d", typeIndex);
+    }
+
+    private SnapshotLayout() {}
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValuesAdapter;
+import org.neo4j.gds.api.properties.relationships.ImmutableProperties;
+import org.neo4j.gds.api.properties.relationships.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.properties.relationships.RelationshipPropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.compression.offheap.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.csv.CsvFileInput;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store from a binary snapshot written by {@link GraphStoreToSnapshotExporter}.
+ * <p>
+ * The adjacency lists and relationship properties are memory-mapped and used in place,
+ * they are neither copied onto the heap nor decompressed.
+ * Node ids, labels, node properties, degrees and offsets are read sequentially into their in-memory structures.
+ */
+public final class SnapshotToGraphStoreImporter {
+
+    private static final int ID_BATCH_SIZE = 1 << 13;
+
+    private final Path snapshotPath;
+    private final Concurrency concurrency;
+
+    public static FileToGraphStoreImporter.UserGraphStore load(Path snapshotPath, Concurrency concurrency) {
+        return new SnapshotToGraphStoreImporter(snapshotPath, concurrency).run();
+    }
+
+    private SnapshotToGraphStoreImporter(Path snapshotPath, Concurrency concurrency) {
+        this.snapshotPath = snapshotPath;
+        this.concurrency = concurrency;
+    }
+
+    private FileToGraphStoreImporter.UserGraphStore run() {
+        var metaData = new CsvFileInput(snapshotPath);
+        var graphInfo = metaData.graphInfo();
+        var nodeSchema = metaData.nodeSchema();
+        var relationshipSchema = metaData.relationshipSchema();
+
+        try {
+            var manifest = Manifest.read(snapshotPath);
+
+            var idMap = importIdMap(manifest, graphInfo.nodeCount(), graphInfo.maxOriginalId());
+            var nodeProperties = importNodeProperties(manifest, nodeSchema, idMap.nodeCount());
+            var relationships = importRelationships(manifest, relationshipSchema);
+
+            var graphStore = new GraphStoreBuilder()
+                .databaseInfo(graphInfo.databaseInfo())
+                .capabilities(metaData.capabilities())
+                .schema(MutableGraphSchema.of(nodeSchema, relationshipSchema, metaData.graphPropertySchema()))
+                .nodes(ImmutableNodes.of(nodeSchema, idMap, nodeProperties))
+                .relationshipImportResult(relationships)
+                .concurrency(concurrency)
+                .build();
+
+            return new FileToGraphStoreImporter.UserGraphStore(metaData.userName(), graphStore);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IdMap importIdMap(Manifest manifest, long nodeCount, long maxOriginalId) throws IOException {
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        try (var in = SnapshotLayout.input(snapshotPath.resolve(SnapshotLayout.NODE_IDS_FILE_NAME))) {
+            var batch = new long[ID_BATCH_SIZE];
+            for (long start = 0; start < nodeCount; start += ID_BATCH_SIZE) {
+                int batchLength = (int) Math.min(ID_BATCH_SIZE, nodeCount - start);
+                if (batchLength < batch.length) {
+                    batch = new long[batchLength];
+                }
+                for (int i = 0; i < batchLength; i++) {
+                    batch[i] = in.readLong();
+                }
+                idMapBuilder.allocate(batchLength).insert(batch);
+            }
+        }
+
+        var originalIds = idMapBuilder.array();
+        var labelInformationBuilder = labelInformationBuilder(manifest, nodeCount, originalIds);
+
+        return idMapBuilder.build(labelInformationBuilder, maxOriginalId, concurrency);
+    }
+
+    private LabelInformation.Builder labelInformationBuilder(
+        Manifest manifest,
+        long nodeCount,
+        HugeLongArray originalIds
+    ) throws IOException {
+        if (manifest.labels().equals(List.of(NodeLabel.ALL_NODES))) {
+            return LabelInformationBuilders.allNodes();
+        }
+
+        var builder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+        for (int labelIndex = 0; labelIndex < manifest.labels().size(); labelIndex++) {
+            var label = manifest.labels().get(labelIndex);
+            try (var in = SnapshotLayout.input(SnapshotLayout.labelFile(snapshotPath, labelIndex))) {
+                for (long base = 0; base < nodeCount; base += Long.SIZE) {
+                    long word = in.readLong();
+                    while (word != 0L) {
+                        long nodeId = base + Long.numberOfTrailingZeros(word);
+                        builder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        return builder;
+    }
+
+    private NodePropertyStore importNodeProperties(
+        Manifest manifest,
+        MutableNodeSchema nodeSchema,
+        long nodeCount
+    ) throws IOException {
+        var propertySchemas = nodeSchema.unionProperties();
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        for (int propertyIndex = 0; propertyIndex < manifest.nodePropertyKeys().size(); propertyIndex++) {
+            var propertyKey = manifest.nodePropertyKeys().get(propertyIndex);
+            var valueType = manifest.nodePropertyTypes().get(propertyIndex);
+            try (var in = SnapshotLayout.input(SnapshotLayout.nodePropertyFile(snapshotPath, propertyIndex))) {
+                var values = readNodePropertyValues(in, valueType, nodeCount);
+                nodePropertyStoreBuilder.putProperty(
+                    propertyKey,
+                    ImmutableNodeProperty.of(values, propertySchemas.get(propertyKey))
+                );
+            }
+        }
+        return nodePropertyStoreBuilder.build();
+    }
+
+    private static NodePropertyValues readNodePropertyValues(
+        DataInputStream in,
+        ValueType valueType,
+        long nodeCount
+    ) throws IOException {
+        switch (valueType) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    longValues.set(nodeId, in.readLong());
+                }
+                return NodePropertyValuesAdapter.adapt(longValues);
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    doubleValues.set(nodeId, in.readDouble());
+                }
+                return NodePropertyValuesAdapter.adapt(doubleValues);
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    int length = in.readInt();
+                    if (length >= 0) {
+                        var array = new long[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = in.readLong();
+                        }
+                        longArrays.set(nodeId, array);
+                    }
+                }
+                return NodePropertyValuesAdapter.adapt(longArrays);
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    int length = in.readInt();
+                    if (length >= 0) {
+                        var array = new double[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = in.readDouble();
+                        }
+                        doubleArrays.set(nodeId, array);
+                    }
+                }
+                return NodePropertyValuesAdapter.adapt(doubleArrays);
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    int length = in.readInt();
+                    if (length >= 0) {
+                        var array = new float[length];
+                        for (int i = 0; i < length; i++) {
+                            array[i] = in.readFloat();
+                        }
+                        floatArrays.set(nodeId, array);
+                    }
+                }
+                return NodePropertyValuesAdapter.adapt(floatArrays);
+            default:
+                throw new IllegalStateException(formatWithLocale("Unexpected node property type `%s`.", valueType));
+        }
+    }
+
+    private RelationshipImportResult importRelationships(
+        Manifest manifest,
+        MutableRelationshipSchema relationshipSchema
+    ) throws IOException {
+        var importResult = RelationshipImportResult.builder();
+        for (int typeIndex = 0; typeIndex < manifest.relationshipTypes().size(); typeIndex++) {
+            var relationshipType = manifest.relationshipTypes().get(typeIndex);
+            var schemaEntry = relationshipSchema.get(relationshipType);
+            var propertyKeys = manifest.relationshipPropertyKeys().get(typeIndex);
+
+            var forward = importDirection(schemaEntry.properties(), propertyKeys, typeIndex, false);
+            var relationships = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(schemaEntry)
+                .topology(forward.topology());
+            if (!propertyKeys.isEmpty()) {
+                relationships.properties(forward.properties());
+            }
+
+            if (manifest.inverseIndexedTypes().contains(relationshipType)) {
+                var inverse = importDirection(schemaEntry.properties(), propertyKeys, typeIndex, true);
+                relationships.inverseTopology(inverse.topology());
+                if (!propertyKeys.isEmpty()) {
+                    relationships.inverseProperties(inverse.properties());
+                }
+            }
+
+            importResult.putImportResult(relationshipType, relationships.build());
+        }
+        return importResult.build();
+    }
+
+    private MappedRelationships importDirection(
+        Map<String, RelationshipPropertySchema> propertySchemas,
+        List<String> propertyKeys,
+        int typeIndex,
+        boolean inverse
+    ) throws IOException {
+        long nodeCount;
+        long elementCount;
+        boolean isMultiGraph;
+        int[] pageSizes;
+        HugeIntArray degrees;
+        HugeLongArray offsets;
+
+        try (var in = SnapshotLayout.input(SnapshotLayout.adjacencyIndexFile(snapshotPath, typeIndex, inverse))) {
+            nodeCount = in.readLong();
+            elementCount = in.readLong();
+            isMultiGraph = in.readBoolean();
+            pageSizes = new int[in.readInt()];
+            for (int pageIndex = 0; pageIndex < pageSizes.length; pageIndex++) {
+                pageSizes[pageIndex] = in.readInt();
+            }
+            degrees = HugeIntArray.newArray(nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                degrees.set(nodeId, in.readInt());
+            }
+            offsets = HugeLongArray.newArray(nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                offsets.set(nodeId, in.readLong());
+            }
+        }
+
+        var pages = mapPages(SnapshotLayout.adjacencyPagesFile(snapshotPath, typeIndex, inverse), pageSizes);
+        AdjacencyList adjacencyList = OffHeapCompressedAdjacencyList.ofForeignPages(pages, degrees, offsets);
+
+        Topology topology = ImmutableTopology.builder()
+            .adjacencyList(adjacencyList)
+            .elementCount(elementCount)
+            .isMultiGraph(isMultiGraph)
+            .build();
+
+        var propertyStore = RelationshipPropertyStore.builder();
+        if (!propertyKeys.isEmpty()) {
+            var propertyOffsets = HugeLongArray.newArray(nodeCount);
+            long offset = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                propertyOffsets.set(nodeId, offset);
+                offset += degrees.get(nodeId);
+            }
+
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+                var propertyKey = propertyKeys.get(propertyIndex);
+                var propertySchema = propertySchemas.get(propertyKey);
+                var propertyFile = SnapshotLayout.relationshipPropertyFile(
+                    snapshotPath,
+                    typeIndex,
+                    inverse,
+                    propertyIndex
+                );
+                var values = ImmutableProperties.builder()
+                    .propertiesList(new MappedAdjacencyProperties(mapValues(propertyFile), degrees, propertyOffsets))
+                    .elementCount(elementCount)
+                    .defaultPropertyValue(propertySchema.defaultValue().doubleValue())
+                    .build();
+                propertyStore.putRelationshipProperty(
+                    propertyKey,
+                    ImmutableRelationshipProperty.of(values, propertySchema)
+                );
+            }
+        }
+
+        return new MappedRelationships(topology, propertyStore.build());
+    }
+
+    /**
+     * Maps the adjacency pages in as few regions as possible.
+     * A page never spans two regions, since a region can hold at most {@link Integer#MAX_VALUE} bytes.
+     */
+    private static ByteBuffer[] mapPages(Path pagesFile, int[] pageSizes) throws IOException {
+        var pages = new ByteBuffer[pageSizes.length];
+        try (var channel = FileChannel.open(pagesFile, StandardOpenOption.READ)) {
+            long regionStart = 0L;
+            int firstPage = 0;
+            while (firstPage < pageSizes.length) {
+                long regionLength = 0L;
+                int lastPage = firstPage;
+                while (lastPage < pageSizes.length && regionLength + pageSizes[lastPage] <= Integer.MAX_VALUE) {
+                    regionLength += pageSizes[lastPage++];
+                }
+
+                var region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionLength);
+                int offsetInRegion = 0;
+                for (int pageIndex = firstPage; pageIndex < lastPage; pageIndex++) {
+                    pages[pageIndex] = region.slice(offsetInRegion, pageSizes[pageIndex]);
+                    offsetInRegion += pageSizes[pageIndex];
+                }
+
+                regionStart += regionLength;
+                firstPage = lastPage;
+            }
+        }
+        return pages;
+    }
+
+    private static LongBuffer[] mapValues(Path valuesFile) throws IOException {
+        try (var channel = FileChannel.open(valuesFile, StandardOpenOption.READ)) {
+            long chunkBytes = (long) SnapshotLayout.PROPERTY_CHUNK_SIZE * Long.BYTES;
+            long size = channel.size();
+            var chunks = new LongBuffer[(int) ((size + chunkBytes - 1) / chunkBytes)];
+            for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+                long position = chunkIndex * chunkBytes;
+                chunks[chunkIndex] = channel
+                    .map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes, size - position))
+                    .asLongBuffer();
+            }
+            return chunks;
+        }
+    }
+
+    private record MappedRelationships(Topology topology, RelationshipPropertyStore properties) {}
+
+    private record Manifest(
+        List<NodeLabel> labels,
+        List<String> nodePropertyKeys,
+        List<ValueType> nodePropertyTypes,
+        List<RelationshipType> relationshipTypes,
+        Set<RelationshipType> inverseIndexedTypes,
+        List<List<String>> relationshipPropertyKeys
+    ) {
+
+        static Manifest read(Path snapshotPath) throws IOException {
+            try (var in = SnapshotLayout.input(snapshotPath.resolve(SnapshotLayout.MANIFEST_FILE_NAME))) {
+                if (in.readInt() != SnapshotLayout.MAGIC) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Directory `%s` does not contain a graph snapshot.",
+                        snapshotPath
+                    ));
+                }
+                int version = in.readInt();
+                if (version != SnapshotLayout.VERSION) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Unsupported graph snapshot version %d, expected version %d.",
+                        version,
+                        SnapshotLayout.VERSION
+                    ));
+                }
+
+                var labels = new ArrayList<NodeLabel>();
+                for (int i = in.readInt(); i > 0; i--) {
+                    labels.add(NodeLabel.of(in.readUTF()));
+                }
+
+                var nodePropertyKeys = new ArrayList<String>();
+                var nodePropertyTypes = new ArrayList<ValueType>();
+                for (int i = in.readInt(); i > 0; i--) {
+                    nodePropertyKeys.add(in.readUTF());
+                    nodePropertyTypes.add(ValueType.valueOf(in.readUTF()));
+                }
+
+                var relationshipTypes = new ArrayList<RelationshipType>();
+                var inverseIndexedTypes = new HashSet<RelationshipType>();
+                var relationshipPropertyKeys = new ArrayList<List<String>>();
+                for (int i = in.readInt(); i > 0; i--) {
+                    var relationshipType = RelationshipType.of(in.readUTF());
+                    relationshipTypes.add(relationshipType);
+                    if (in.readBoolean()) {
+                        inverseIndexedTypes.add(relationshipType);
+                    }
+                    var propertyKeys = new ArrayList<String>();
+                    for (int j = in.readInt(); j > 0; j--) {
+                        propertyKeys.add(in.readUTF());
+                    }
+                    relationshipPropertyKeys.add(propertyKeys);
+                }
+
+                return new Manifest(
+                    labels,
+                    nodePropertyKeys,
+                    nodePropertyTypes,
+                    relationshipTypes,
+                    inverseIndexedTypes,
+                    relationshipPropertyKeys
+                );
+            }
+        }
+    }
+}
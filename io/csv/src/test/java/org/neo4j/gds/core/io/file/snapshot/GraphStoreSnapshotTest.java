@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.compression.offheap.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreSnapshotTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [1L, 3L, 3L, 7L]})" +
+        ", (b:A:B { prop1: 1, prop2: 43.0})" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [1L, 9L, 8L, 4L] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (a)-[:REL1 { prop1: 5, prop2: 45 }]->(c)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @TempDir
+    Path snapshotPath;
+
+    @Test
+    void shouldRoundTripGraphStore() {
+        var importedGraphStore = exportAndLoad();
+
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(importedGraphStore.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldKeepInternalNodeIds() {
+        var importedGraphStore = exportAndLoad();
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(importedGraphStore.nodes().toOriginalNodeId(nodeId))
+                .isEqualTo(graphStore.nodes().toOriginalNodeId(nodeId));
+            assertThat(importedGraphStore.nodes().nodeLabels(nodeId))
+                .containsExactlyInAnyOrderElementsOf(graphStore.nodes().nodeLabels(nodeId));
+        }
+    }
+
+    @Test
+    void shouldKeepInverseIndex() {
+        var importedGraphStore = exportAndLoad();
+
+        assertThat(importedGraphStore.inverseIndexedRelationshipTypes())
+            .isEqualTo(graphStore.inverseIndexedRelationshipTypes());
+
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var expected = graphStore.getGraph(relationshipType);
+            var actual = importedGraphStore.getGraph(relationshipType);
+            for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+                assertThat(inverseTargets(actual, nodeId)).isEqualTo(inverseTargets(expected, nodeId));
+            }
+        }
+    }
+
+    @Test
+    void shouldMapAdjacencyLists() {
+        var importedGraphStore = exportAndLoad();
+
+        var relationshipType = RelationshipType.of("REL1");
+        var graph = (CSRGraph) importedGraphStore.getGraph(relationshipType);
+        var adjacencyList = graph.relationshipTopologies().get(relationshipType).adjacencyList();
+
+        assertThat(adjacencyList).isInstanceOf(OffHeapCompressedAdjacencyList.class);
+        assertThat(adjacencyList.memoryInfo().bytesOffHeap())
+            .hasValueSatisfying(bytes -> assertThat(bytes).isPositive());
+    }
+
+    @Test
+    void shouldCopyMappedAdjacencyLists() {
+        var importedGraphStore = exportAndLoad();
+
+        var reExportPath = snapshotPath.resolve("re-export");
+        var reImportedGraphStore = exportAndLoad(importedGraphStore, reExportPath);
+
+        assertThat(reImportedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertGraphEquals(graphStore.getUnion(), reImportedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldReEncodePackedAdjacencyLists() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() -> {
+            var packedGraphStore = GdlFactory.of(GDL).build();
+
+            var importedGraphStore = exportAndLoad(packedGraphStore, snapshotPath);
+
+            assertGraphEquals(packedGraphStore.getUnion(), importedGraphStore.getUnion());
+        });
+    }
+
+    private GraphStore exportAndLoad() {
+        return exportAndLoad(graphStore, snapshotPath);
+    }
+
+    private static GraphStore exportAndLoad(GraphStore graphStore, Path snapshotPath) {
+        GraphStoreToSnapshotExporter.export(graphStore, snapshotPath, "alice");
+        var userGraphStore = SnapshotToGraphStoreImporter.load(snapshotPath, new Concurrency(1));
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        return userGraphStore.graphStore();
+    }
+
+    private static List<Long> inverseTargets(Graph graph, long nodeId) {
+        var targets = new ArrayList<Long>();
+        graph.forEachInverseRelationship(nodeId, (source, target) -> targets.add(target));
+        return targets;
+    }
+}
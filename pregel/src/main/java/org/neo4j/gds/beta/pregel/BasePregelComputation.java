@@ -68,6 +68,16 @@ public interface BasePregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * A message reducer combines messages of a non-double {@link MessageType}
+     * sent to a single node, similar to {@link #reducer()} for double messages.
+     *
+     * @see PregelSchema.Builder#messageType(MessageType)
+     */
+    default Optional<MessageReducer> messageReducer() {
+        return Optional.empty();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -19,12 +19,15 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,6 +53,11 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    /**
+     * The frontier of nodes to compute, or {@code null} if every node is visited in every superstep.
+     */
+    @Nullable Frontier frontier();
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -60,7 +68,9 @@ public interface ComputeStep<
         var computeContext = computeContext();
         var voteBits = voteBits();
 
-        nodeBatch.consume(nodeId -> {
+        var frontier = frontier();
+
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +82,22 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+                if (frontier != null && !voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
+            }
+        };
+
+        messenger.initBatch();
+        try {
+            if (frontier == null || computeContext.isInitialSuperstep() || frontier.isDense()) {
+                nodeBatch.consume(computeNode);
+            } else {
+                frontier.forEachNode(nodeBatch, computeNode);
             }
-        });
+        } finally {
+            messenger.finishBatch();
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
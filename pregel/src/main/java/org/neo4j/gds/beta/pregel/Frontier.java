@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the nodes that need to be computed in the current superstep,
+ * i.e. the nodes that received a message or did not vote to halt in the previous one.
+ * <p>
+ * Following direction-optimizing BFS (Beamer et al.), every superstep is scheduled either
+ * sparse, by visiting only the set bits of the frontier, or dense, by scanning all nodes
+ * and letting each node check for incoming messages, whichever is cheaper for the frontier size.
+ */
+public final class Frontier {
+
+    // Beyond a frontier of about 1/20 of the nodes, a full scan outperforms skipping over unset bits.
+    static final int DENSE_FRONTIER_DIVISOR = 20;
+
+    private final long nodeCount;
+
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+    private long size;
+
+    Frontier(long nodeCount) {
+        this.nodeCount = nodeCount;
+        this.current = HugeAtomicBitSet.create(nodeCount);
+        this.next = HugeAtomicBitSet.create(nodeCount);
+        // the initial superstep computes every node
+        this.size = nodeCount;
+    }
+
+    /**
+     * Schedules the node for the next superstep. Thread-safe.
+     */
+    void activate(long nodeId) {
+        next.set(nodeId);
+    }
+
+    /**
+     * Makes the nodes activated during the last superstep the current frontier.
+     */
+    void advance() {
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+        this.size = current.cardinality();
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean isDense() {
+        return size > nodeCount / DENSE_FRONTIER_DIVISOR;
+    }
+
+    /**
+     * Calls the consumer for every node of the batch that is part of the current frontier.
+     */
+    void forEachNode(Partition nodeBatch, LongConsumer consumer) {
+        current.forEachSetBit(nodeBatch.startNode(), nodeBatch.startNode() + nodeBatch.nodeCount(), consumer);
+    }
+
+    static long memoryEstimation(long nodeCount) {
+        return 2 * HugeAtomicBitSet.memoryEstimation(nodeCount);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * Combines messages of a non-double {@link MessageType} that are sent to the same node.
+ * The reducer sees the raw slots of the records, double values are stored as their
+ * {@link Double#doubleToRawLongBits(double) raw long bits}.
+ *
+ * @see Reducer
+ */
+public interface MessageReducer {
+
+    /**
+     * Combines the incoming message into the current record in place.
+     * Both arrays contain exactly {@link MessageType#width()} slots.
+     */
+    void reduce(long[] current, long[] message);
+
+    /**
+     * Keeps the smallest value of {@link MessageType#LONG} messages.
+     */
+    static MessageReducer minLong() {
+        return (current, message) -> current[0] = Math.min(current[0], message[0]);
+    }
+
+    /**
+     * Keeps the largest value of {@link MessageType#LONG} messages.
+     */
+    static MessageReducer maxLong() {
+        return (current, message) -> current[0] = Math.max(current[0], message[0]);
+    }
+
+    /**
+     * Keeps the {@link MessageType#LONG_DOUBLE} message with the smallest double value,
+     * e.g. the predecessor and distance of the shortest path.
+     * Ties are broken by the smaller long value to keep the result deterministic.
+     */
+    static MessageReducer minByDouble() {
+        return (current, message) -> {
+            int cmp = Double.compare(Double.longBitsToDouble(message[1]), Double.longBitsToDouble(current[1]));
+            if (cmp < 0 || (cmp == 0 && message[0] < current[0])) {
+                current[0] = message[0];
+                current[1] = message[1];
+            }
+        };
+    }
+
+    /**
+     * Sums up {@link MessageType#doubleArray(int) double array} messages element-wise.
+     */
+    static MessageReducer sum() {
+        return (current, message) -> {
+            for (int i = 0; i < current.length; i++) {
+                current[i] = Double.doubleToRawLongBits(
+                    Double.longBitsToDouble(current[i]) + Double.longBitsToDouble(message[i])
+                );
+            }
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import java.util.Objects;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes the payload of the messages exchanged by a Pregel computation.
+ * <br>
+ * Every message is a record of {@link #width()} 64-bit slots, which is read via
+ * {@link Messages#records()} in the receiving node. Apart from the default
+ * {@link #DOUBLE} type, all message types require a synchronous computation.
+ *
+ * @see PregelSchema.Builder#messageType(MessageType)
+ */
+public final class MessageType {
+
+    public enum Kind {
+        DOUBLE, LONG, LONG_DOUBLE, DOUBLE_ARRAY
+    }
+
+    /**
+     * A single double value, read via {@link Messages#doubleIterator()}.
+     */
+    public static final MessageType DOUBLE = new MessageType(Kind.DOUBLE, 1);
+
+    /**
+     * A single long value, stored in slot 0.
+     */
+    public static final MessageType LONG = new MessageType(Kind.LONG, 1);
+
+    /**
+     * A long value in slot 0 and a double value in slot 1,
+     * e.g. a node id and a distance.
+     */
+    public static final MessageType LONG_DOUBLE = new MessageType(Kind.LONG_DOUBLE, 2);
+
+    private final Kind kind;
+    private final int width;
+
+    private MessageType(Kind kind, int width) {
+        this.kind = kind;
+        this.width = width;
+    }
+
+    /**
+     * A fixed-width double array, each element is stored in the slot of the same index.
+     */
+    public static MessageType doubleArray(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The length of a double array message must be positive, got %d.",
+                length
+            ));
+        }
+        return new MessageType(Kind.DOUBLE_ARRAY, length);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * The number of 64-bit slots per message.
+     */
+    public int width() {
+        return width;
+    }
+
+    public boolean isDouble() {
+        return kind == Kind.DOUBLE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MessageType that = (MessageType) o;
+        return width == that.width && kind == that.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, width);
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.DOUBLE_ARRAY
+            ? formatWithLocale("%s[%d]", kind, width)
+            : kind.toString();
+    }
+}
@@ -42,6 +42,30 @@ public final class Messages implements Iterable<Double> {
         }
     }
 
+    /**
+     * A cursor over messages of any {@link MessageType} other than {@link MessageType#DOUBLE}.
+     * The accessors read the slots of the current message and do not allocate.
+     */
+    public interface Records {
+
+        /**
+         * Moves the cursor to the next message.
+         *
+         * @return false, iff there are no more messages
+         */
+        boolean next();
+
+        /**
+         * Returns the given slot of the current message as long value.
+         */
+        long longValue(int slot);
+
+        /**
+         * Returns the given slot of the current message as double value.
+         */
+        double doubleValue(int slot);
+    }
+
     private final MessageIterator iterator;
 
     Messages(MessageIterator iterator) {
@@ -56,6 +80,20 @@ public final class Messages implements Iterable<Double> {
         return this.iterator;
     }
 
+    /**
+     * Returns a cursor that can be used to iterate over messages of a
+     * {@link MessageType} other than {@link MessageType#DOUBLE}.
+     *
+     * @throws IllegalStateException if the computation sends double messages
+     */
+    @NotNull
+    public Records records() {
+        if (this.iterator instanceof Records records) {
+            return records;
+        }
+        throw new IllegalStateException("Double messages must be read via `doubleIterator()`.");
+    }
+
     /**
      * Indicates if there are messages present.
      */
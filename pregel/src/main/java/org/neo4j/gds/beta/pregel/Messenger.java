@@ -27,6 +27,27 @@ public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void sendTo(long sourceNodeId, long targetNodeId, double message);
 
+    /**
+     * Sends a message of a non-double {@link MessageType}, encoded in the
+     * slots of the given record. The record may be reused by the caller
+     * once the method returns.
+     */
+    default void sendRecordTo(long sourceNodeId, long targetNodeId, long[] record) {
+        throw new UnsupportedOperationException("This messenger only supports double messages.");
+    }
+
+    /**
+     * Called by a compute step on its own thread before it computes its batch of nodes.
+     * At most {@code concurrency} batches are computed at the same time.
+     */
+    default void initBatch() {}
+
+    /**
+     * Called by a compute step on its own thread after it has computed its batch of nodes,
+     * also if the computation failed.
+     */
+    default void finishBatch() {}
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
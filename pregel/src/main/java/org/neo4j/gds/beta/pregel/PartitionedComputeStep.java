@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
@@ -41,6 +42,7 @@ public final class PartitionedComputeStep<
     private final ProgressTracker progressTracker;
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final @Nullable Frontier frontier;
     private final Messenger<ITERATOR> messenger;
 
     private final MutableInt iteration;
@@ -56,6 +58,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -66,6 +69,7 @@ public final class PartitionedComputeStep<
         this.computeContext = computeContext;
         this.nodeValue = nodeValue;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.progressTracker = progressTracker;
@@ -124,6 +128,11 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public @Nullable Frontier frontier() {
+        return frontier;
+    }
+
     void init(int iteration) {
         this.iteration.setValue(iteration);
         hasSentMessage.setValue(false);
@@ -20,6 +20,7 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
@@ -36,6 +37,7 @@ import org.neo4j.gds.utils.StringJoining;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
@@ -51,6 +53,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final Messenger<?> messenger;
 
+    private final @Nullable Frontier frontier;
+
     private final PregelComputer<CONFIG> computer;
 
     private final ProgressTracker progressTracker;
@@ -95,17 +99,57 @@ public final class Pregel<CONFIG extends PregelConfig> {
             ));
         }
 
+        var schema = computation.schema(config);
+        validateMessageType(schema.messageType(), config, computation);
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            NodeValue.of(schema, graph.nodeCount(), config.concurrency()),
+            schema.messageType(),
             executor,
             progressTracker,
             terminationFlag
         );
     }
 
+    private static void validateMessageType(
+        MessageType messageType,
+        PregelConfig config,
+        BasePregelComputation<?> computation
+    ) {
+        if (messageType.isDouble()) {
+            if (computation.messageReducer().isPresent()) {
+                throw new IllegalArgumentException(
+                    "A message reducer requires a typed message schema, use `reducer()` for double messages."
+                );
+            }
+            return;
+        }
+        if (config.isAsynchronous()) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Messages of type %s are only supported in synchronous computations.",
+                messageType
+            ));
+        }
+        if (config.trackSender()) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Sender tracking is not supported for messages of type %s.",
+                messageType
+            ));
+        }
+        if (computation.reducer().isPresent()) {
+            throw new IllegalArgumentException(String.format(
+                Locale.US,
+                "Messages of type %s must be combined with a `messageReducer()`.",
+                messageType
+            ));
+        }
+    }
+
     public static MemoryEstimation memoryEstimation(
         Map<String, ValueType> propertiesMap,
         boolean isQueueBased,
@@ -120,10 +164,28 @@ public final class Pregel<CONFIG extends PregelConfig> {
         boolean isAsync,
         boolean isTrackingSender
     ) {
-        var estimationBuilder = MemoryEstimations.builder(Pregel.class)
-            .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
-            .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
-            .add("node value", NodeValue.memoryEstimation(propertiesMap));
+        return memoryEstimation(propertiesMap, isQueueBased, isAsync, isTrackingSender, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isTrackingSender,
+        boolean useFrontier
+    ) {
+        return memoryEstimation(propertiesMap, isQueueBased, isAsync, isTrackingSender, useFrontier, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isTrackingSender,
+        boolean useFrontier,
+        boolean useLocalMessageCombining
+    ) {
+        var estimationBuilder = estimationBuilder(propertiesMap);
 
         if (isQueueBased) {
             if (isAsync) {
@@ -132,12 +194,54 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(isTrackingSender));
+            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(
+                isTrackingSender,
+                useLocalMessageCombining
+            ));
+        }
+
+        if (useFrontier) {
+            estimationBuilder.perNode("frontier", Frontier::memoryEstimation);
         }
 
         return estimationBuilder.build();
     }
 
+    /**
+     * Estimates a synchronous computation that sends messages of the given type.
+     */
+    public static MemoryEstimation memoryEstimation(
+        Map<String, ValueType> propertiesMap,
+        MessageType messageType,
+        boolean isReducing,
+        boolean useFrontier
+    ) {
+        if (messageType.isDouble()) {
+            return memoryEstimation(propertiesMap, !isReducing, false, false, useFrontier);
+        }
+
+        var estimationBuilder = estimationBuilder(propertiesMap);
+
+        if (isReducing) {
+            estimationBuilder.add("message records", ReducingRecordMessenger.memoryEstimation(messageType));
+        } else {
+            estimationBuilder.add("message queues", RecordQueueMessenger.memoryEstimation(messageType));
+        }
+
+        if (useFrontier) {
+            estimationBuilder.perNode("frontier", Frontier::memoryEstimation);
+        }
+
+        return estimationBuilder.build();
+    }
+
+    private static MemoryEstimations.Builder estimationBuilder(Map<String, ValueType> propertiesMap) {
+        return MemoryEstimations.builder(Pregel.class)
+            .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
+            .add("node value", NodeValue.memoryEstimation(propertiesMap));
+    }
+
     public static <CONFIG extends PregelConfig> Task progressTask(Graph graph, CONFIG config, String taskName) {
         return Tasks.iterativeDynamic(
             taskName,
@@ -163,6 +267,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final CONFIG config,
         final BasePregelComputation<CONFIG> computation,
         final NodeValue initialNodeValue,
+        final MessageType messageType,
         final ExecutorService executor,
         final ProgressTracker progressTracker,
         TerminationFlag terminationFlag
@@ -175,21 +280,24 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = terminationFlag;
 
-        var reducer = computation.reducer();
+        var messenger = createMessenger(graph, config, computation, messageType);
 
-        this.messenger = reducer.isPresent()
-            ? ReducingMessenger.create(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        if (config.useFrontier()) {
+            this.frontier = new Frontier(graph.nodeCount());
+            this.messenger = new FrontierMessenger<>(messenger, frontier);
+        } else {
+            this.frontier = null;
+            this.messenger = messenger;
+        }
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
             .computation(computation)
             .config(config)
             .nodeValues(nodeValues)
-            .messenger(messenger)
+            .messenger(this.messenger)
             .voteBits(HugeAtomicBitSet.create(graph.nodeCount()))
+            .frontier(Optional.ofNullable(frontier))
             .executorService(config.useForkJoin()
                 ? ExecutorServiceUtil.createForkJoinPool(config.concurrency())
                 : executor)
@@ -197,6 +305,28 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static Messenger<?> createMessenger(
+        Graph graph,
+        PregelConfig config,
+        BasePregelComputation<?> computation,
+        MessageType messageType
+    ) {
+        if (!messageType.isDouble()) {
+            var messageReducer = computation.messageReducer();
+            return messageReducer.isPresent()
+                ? new ReducingRecordMessenger(graph, messageType, messageReducer.get())
+                : new RecordQueueMessenger(graph.nodeCount(), messageType);
+        }
+
+        var reducer = computation.reducer();
+
+        return reducer.isPresent()
+            ? ReducingMessenger.create(graph, config, reducer.get())
+            : config.isAsynchronous()
+                ? new AsyncQueueMessenger(graph.nodeCount())
+                : new SyncQueueMessenger(graph.nodeCount());
+    }
+
     public void setTerminationFlag(TerminationFlag terminationFlag) {
         this.terminationFlag = terminationFlag;
     }
@@ -214,6 +344,9 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 terminationFlag.assertRunning();
                 progressTracker.beginSubTask();
 
+                if (frontier != null && iteration > 0) {
+                    frontier.advance();
+                }
                 computer.initIteration(iteration);
                 messenger.initIteration(iteration);
                 computer.runIteration();
@@ -20,10 +20,12 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.immutables.builder.Builder;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 
@@ -36,6 +38,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final @Nullable Frontier frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -45,6 +48,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        @Nullable Frontier frontier,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -53,6 +57,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.progressTracker = progressTracker;
     }
 
@@ -78,6 +83,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         NodeValue nodeValues,
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
+        Optional<Frontier> frontier,
         ExecutorService executorService,
         ProgressTracker progressTracker
     ) {
@@ -96,6 +102,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
                 nodeValues,
                 messenger,
                 voteBits,
+                frontier.orElse(null),
                 (ForkJoinPool) executorService,
                 progressTracker
             );
@@ -108,6 +115,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             nodeValues,
             messenger,
             voteBits,
+            frontier.orElse(null),
             config.concurrency(),
             executorService,
             progressTracker
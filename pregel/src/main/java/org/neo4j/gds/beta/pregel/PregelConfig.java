@@ -43,6 +43,24 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * Only computes nodes that received messages or did not vote to halt in the previous superstep,
+     * instead of visiting every node in every superstep.
+     * Pays off for computations where most nodes are idle in most supersteps.
+     */
+    default boolean useFrontier() {
+        return false;
+    }
+
+    /**
+     * Combines messages in thread-local buffers and flushes them at the end of each superstep,
+     * instead of reducing every message into the shared message array.
+     * Only applies to computations with a {@link Reducer} that do not track the sender.
+     */
+    default boolean useLocalMessageCombining() {
+        return false;
+    }
+
     @Configuration.Ignore
     default boolean useForkJoin() {
         return partitioning() == Partitioning.AUTO;
@@ -38,6 +38,11 @@ public interface PregelSchema {
 
     Set<Element> elements();
 
+    /**
+     * The payload type of the messages sent during the computation.
+     */
+    MessageType messageType();
+
     @Value.Auxiliary
     default Map<String, ValueType> propertiesMap() {
         return elements().stream().collect(Collectors.toMap(Element::propertyKey, Element::propertyType));
@@ -46,6 +51,7 @@ public interface PregelSchema {
     class Builder {
 
         private final Set<Element> elements = new HashSet<>();
+        private MessageType messageType = MessageType.DOUBLE;
 
         public PregelSchema.Builder add(String propertyKey, ValueType propertyType) {
             return add(propertyKey, propertyType, Visibility.PUBLIC);
@@ -70,8 +76,16 @@ public interface PregelSchema {
             return this;
         }
 
+        /**
+         * Sets the payload type of messages, defaults to {@link MessageType#DOUBLE}.
+         */
+        public PregelSchema.Builder messageType(MessageType messageType) {
+            this.messageType = messageType;
+            return this;
+        }
+
         public PregelSchema build() {
-            return ImmutablePregelSchema.of(elements);
+            return ImmutablePregelSchema.of(elements, messageType);
         }
     }
 }
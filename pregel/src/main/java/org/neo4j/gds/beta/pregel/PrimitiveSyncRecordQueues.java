@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.Arrays;
+
+/**
+ * Synchronous message queues for fixed-width records of long slots.
+ * A message occupies {@code width} consecutive entries of the nodes' queue.
+ */
+public final class PrimitiveSyncRecordQueues extends PrimitiveQueues {
+
+    private final int width;
+
+    // Represents the queues of the current and the previous iteration,
+    // which are being toggled after each iteration.
+    private HugeObjectArray<long[]> queues;
+    private HugeObjectArray<long[]> prevQueues;
+    private HugeAtomicLongArray prevTails;
+
+    public static PrimitiveSyncRecordQueues of(long nodeCount, int width) {
+        var currentTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(new Concurrency(1)));
+        var prevTails = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(new Concurrency(1)));
+
+        var currentQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+        var prevQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+
+        var referenceCounts = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.passThrough(new Concurrency(1)));
+
+        var capacity = initialCapacity(width);
+        currentQueues.setAll(value -> new long[capacity]);
+        prevQueues.setAll(value -> new long[capacity]);
+
+        return new PrimitiveSyncRecordQueues(width, currentQueues, currentTails, prevQueues, prevTails, referenceCounts);
+    }
+
+    public static MemoryEstimation memoryEstimation(int width) {
+        var queueSize = Estimate.sizeOfLongArray(initialCapacity(width));
+        return MemoryEstimations.builder(PrimitiveSyncRecordQueues.class)
+            .perNode("current queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("previous queues", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, queueSize))
+            .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
+            .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    private static int initialCapacity(int width) {
+        // the largest multiple of the width that does not exceed MIN_CAPACITY, but at least one record
+        return Math.max(1, MIN_CAPACITY / width) * width;
+    }
+
+    private PrimitiveSyncRecordQueues(
+        int width,
+        HugeObjectArray<long[]> currentQueues,
+        HugeAtomicLongArray currentTails,
+        HugeObjectArray<long[]> prevQueues,
+        HugeAtomicLongArray prevTails,
+        HugeAtomicLongArray referenceCounts
+    ) {
+        super(currentTails, referenceCounts);
+        this.width = width;
+        this.queues = currentQueues;
+        this.prevQueues = prevQueues;
+        this.prevTails = prevTails;
+    }
+
+    int width() {
+        return width;
+    }
+
+    /**
+     * Appends the first {@code width} slots of the given record to the queue of the node.
+     */
+    public void push(long nodeId, long[] record) {
+        long idx = reserve(nodeId, width);
+
+        getSharedReference(nodeId);
+        System.arraycopy(record, 0, queues.get(nodeId), (int) idx, width);
+        // Dropping the reference is a volatile write and publishes the copied slots.
+        dropSharedReference(nodeId);
+    }
+
+    void swapQueues() {
+        // swap tail indexes
+        var tmpTails = tails;
+        this.tails = prevTails;
+        this.prevTails = tmpTails;
+        this.tails.setAll(0);
+        // swap queues
+        var tmpQueues = queues;
+        this.queues = prevQueues;
+        this.prevQueues = tmpQueues;
+    }
+
+    void initIterator(RecordIterator iterator, long nodeId) {
+        iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
+    }
+
+    @Override
+    int capacity(long nodeId) {
+        return queues.get(nodeId).length;
+    }
+
+    @Override
+    void grow(long nodeId, int minCapacity) {
+        var queue = queues.get(nodeId);
+        var capacity = queue.length;
+        // grow by 50%, but at least to the requested capacity
+        var newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
+    }
+
+    @Override
+    void release() {
+        super.release();
+        this.queues.release();
+        this.prevTails.release();
+        this.prevQueues.release();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * Iterates over consecutive, fixed-width message records stored in a long array.
+ */
+class RecordIterator implements Messages.MessageIterator, Messages.Records {
+
+    private final int width;
+
+    private long[] records;
+    private int length;
+    private int pos;
+
+    RecordIterator(int width) {
+        this.width = width;
+    }
+
+    void init(long[] records, int length) {
+        this.records = records;
+        this.length = length;
+        this.pos = -width;
+    }
+
+    @Override
+    public boolean next() {
+        pos += width;
+        return pos < length;
+    }
+
+    @Override
+    public long longValue(int slot) {
+        assert slot < width : "slot out of bounds";
+        return records[pos + slot];
+    }
+
+    @Override
+    public double doubleValue(int slot) {
+        assert slot < width : "slot out of bounds";
+        return Double.longBitsToDouble(records[pos + slot]);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pos + width < length;
+    }
+
+    @Override
+    public double nextDouble() {
+        throw new UnsupportedOperationException("Typed messages must be read via `Messages#records()`.");
+    }
+}
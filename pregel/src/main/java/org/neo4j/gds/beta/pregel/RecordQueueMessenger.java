@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.mem.MemoryEstimation;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Queue-based messenger for synchronous computations that
+ * exchange messages of a non-double {@link MessageType}.
+ */
+class RecordQueueMessenger implements Messenger<RecordIterator> {
+
+    private final MessageType messageType;
+    private final PrimitiveSyncRecordQueues queues;
+
+    RecordQueueMessenger(long nodeCount, MessageType messageType) {
+        this.messageType = messageType;
+        this.queues = PrimitiveSyncRecordQueues.of(nodeCount, messageType.width());
+    }
+
+    static MemoryEstimation memoryEstimation(MessageType messageType) {
+        return PrimitiveSyncRecordQueues.memoryEstimation(messageType.width());
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        queues.swapQueues();
+    }
+
+    @Override
+    public void sendTo(long sourceNodeId, long targetNodeId, double message) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot send a double message, the computation declared messages of type %s.",
+            messageType
+        ));
+    }
+
+    @Override
+    public void sendRecordTo(long sourceNodeId, long targetNodeId, long[] record) {
+        validateLength(messageType, record.length);
+        queues.push(targetNodeId, record);
+    }
+
+    @Override
+    public RecordIterator messageIterator() {
+        return new RecordIterator(messageType.width());
+    }
+
+    @Override
+    public void initMessageIterator(RecordIterator messageIterator, long nodeId, boolean isFirstIteration) {
+        queues.initIterator(messageIterator, nodeId);
+    }
+
+    @Override
+    public void release() {
+        queues.release();
+    }
+
+    static void validateLength(MessageType messageType, int length) {
+        // Guards against mixing up message types, which would otherwise corrupt the queues.
+        if (length != messageType.width()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Message of %d slots does not match the declared message type %s.",
+                length,
+                messageType
+            ));
+        }
+    }
+}
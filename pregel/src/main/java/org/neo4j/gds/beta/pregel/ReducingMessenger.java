@@ -19,16 +19,25 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimation;
 import org.neo4j.gds.mem.MemoryEstimations;
+import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 
 /**
  * A messenger implementation that is backed by two double arrays used
@@ -46,8 +55,11 @@ class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIter
     HugeAtomicDoubleArray receiveArray;
 
     static ReducingMessenger create(Graph graph, PregelConfig config, Reducer reducer) {
-        return config.trackSender()
-            ? new WithSender(graph, config, reducer)
+        if (config.trackSender()) {
+            return new WithSender(graph, config, reducer);
+        }
+        return config.useLocalMessageCombining()
+            ? new WithLocalCombining(graph, config, reducer)
             : new ReducingMessenger(graph, config, reducer);
     }
 
@@ -69,6 +81,10 @@ class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIter
     }
 
     static MemoryEstimation memoryEstimation(boolean withSender) {
+        return memoryEstimation(withSender, false);
+    }
+
+    static MemoryEstimation memoryEstimation(boolean withSender, boolean withLocalCombining) {
         var builder = MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
             .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
@@ -77,6 +93,16 @@ class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIter
             builder
                 .perNode("send sender array", HugeLongArray::memoryEstimation)
                 .perNode("receive sender array", HugeLongArray::memoryEstimation);
+        } else if (withLocalCombining) {
+            builder.perGraphDimension("local message buffers", (dimensions, concurrency) -> {
+                // one buffer per batch computed at the same time, which is at most the concurrency
+                long nodeCount = Math.max(1, dimensions.nodeCount());
+                long partitionSize = WithLocalCombining.partitionSize(nodeCount, concurrency);
+                int partitionCount = Math.toIntExact(BitUtil.ceilDiv(nodeCount, partitionSize));
+                return WithLocalCombining.LocalBuffer
+                    .memoryUsage(partitionCount, partitionSize)
+                    .times(concurrency.value());
+            });
         }
         return builder
             .build();
@@ -183,6 +209,178 @@ class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIter
         }
     }
 
+    /**
+     * Combines messages in local buffers before they reach the shared send array.
+     * Every compute batch leases a buffer for its duration and returns it afterwards,
+     * so there are never more buffers than batches computed at the same time, which is
+     * at most the concurrency, no matter how many threads the executor has.
+     * Each buffer is split by target partition, so that at the superstep barrier every
+     * target partition is flushed by exactly one thread without contending on the
+     * atomic array. This avoids CAS storms on high in-degree targets.
+     * A buffer that grows beyond {@link LocalBuffer#MAX_BUFFERED_TARGETS} is flushed
+     * directly into the send array to keep memory bounded.
+     */
+    static class WithLocalCombining extends ReducingMessenger {
+
+        private final PregelConfig config;
+        private final int partitionCount;
+        private final int partitionShift;
+        // all buffers, flushed at every superstep barrier
+        private final Queue<LocalBuffer> buffers;
+        // the buffers that are not leased by a running batch
+        private final Queue<LocalBuffer> idleBuffers;
+        // the buffer leased by the batch running on the current thread, if any
+        private final ThreadLocal<LocalBuffer> leasedBuffer;
+
+        WithLocalCombining(Graph graph, PregelConfig config, Reducer reducer) {
+            super(graph, config, reducer);
+            this.config = config;
+
+            long nodeCount = Math.max(1, graph.nodeCount());
+            long partitionSize = partitionSize(nodeCount, config.concurrency());
+            this.partitionShift = Long.numberOfTrailingZeros(partitionSize);
+            this.partitionCount = Math.toIntExact(BitUtil.ceilDiv(nodeCount, partitionSize));
+            this.buffers = new ConcurrentLinkedQueue<>();
+            this.idleBuffers = new ConcurrentLinkedQueue<>();
+            this.leasedBuffer = new ThreadLocal<>();
+        }
+
+        static long partitionSize(long nodeCount, Concurrency concurrency) {
+            return ParallelUtil.adjustedBatchSize(nodeCount, BitUtil.ceilDiv(nodeCount, concurrency.value()));
+        }
+
+        @Override
+        public void initIteration(int iteration) {
+            ParallelUtil.parallelStreamConsume(
+                IntStream.range(0, partitionCount),
+                config.concurrency(),
+                TerminationFlag.RUNNING_TRUE,
+                partitions -> partitions.forEach(this::flushPartition)
+            );
+            buffers.forEach(buffer -> buffer.size = 0);
+            super.initIteration(iteration);
+        }
+
+        @Override
+        public void initBatch() {
+            var buffer = idleBuffers.poll();
+            if (buffer == null) {
+                buffer = new LocalBuffer(partitionCount);
+                buffers.add(buffer);
+            }
+            leasedBuffer.set(buffer);
+        }
+
+        @Override
+        public void finishBatch() {
+            var buffer = leasedBuffer.get();
+            leasedBuffer.remove();
+            if (buffer != null) {
+                idleBuffers.add(buffer);
+            }
+        }
+
+        int bufferCount() {
+            return buffers.size();
+        }
+
+        @Override
+        public void sendTo(long sourceNodeId, long targetNodeId, double message) {
+            var buffer = leasedBuffer.get();
+            if (buffer == null) {
+                // not sent from a compute batch, there is no buffer to combine into
+                super.sendTo(sourceNodeId, targetNodeId, message);
+                return;
+            }
+            var targets = buffer.partitions[(int) (targetNodeId >>> partitionShift)];
+
+            int slot = targets.indexOf(targetNodeId);
+            if (slot >= 0) {
+                targets.indexReplace(slot, reducer.reduce(targets.indexGet(slot), message));
+                return;
+            }
+            targets.indexInsert(slot, targetNodeId, message);
+
+            if (++buffer.size > LocalBuffer.MAX_BUFFERED_TARGETS) {
+                buffer.spill(this);
+            }
+        }
+
+        @Override
+        public void release() {
+            buffers.forEach(LocalBuffer::release);
+            buffers.clear();
+            idleBuffers.clear();
+            leasedBuffer.remove();
+            super.release();
+        }
+
+        private void flushPartition(int partition) {
+            for (var buffer : buffers) {
+                var targets = buffer.partitions[partition];
+                // This thread is the only writer to the partition, plain reads and writes suffice.
+                for (LongDoubleCursor cursor : targets) {
+                    var current = sendArray.get(cursor.key);
+                    sendArray.set(cursor.key, reducer.reduce(current, cursor.value));
+                }
+                targets.clear();
+            }
+        }
+
+        static final class LocalBuffer {
+
+            static final int MAX_BUFFERED_TARGETS = 1 << 16;
+
+            final LongDoubleHashMap[] partitions;
+            int size;
+
+            LocalBuffer(int partitionCount) {
+                this.partitions = new LongDoubleHashMap[partitionCount];
+                for (int i = 0; i < partitionCount; i++) {
+                    partitions[i] = new LongDoubleHashMap();
+                }
+            }
+
+            /**
+             * The maps keep their capacity when they are cleared. Over the supersteps, each of them
+             * can therefore grow to the most targets its partition ever buffered, which is bounded
+             * by the partition size and by the spill threshold.
+             */
+            static MemoryRange memoryUsage(int partitionCount, long partitionSize) {
+                long buffer = Estimate.sizeOfInstance(LocalBuffer.class) + Estimate.sizeOfObjectArray(partitionCount);
+                long maxTargetsPerPartition = Math.min(partitionSize, MAX_BUFFERED_TARGETS + 1);
+                return MemoryRange.of(
+                    buffer + partitionCount * Estimate.sizeOfLongDoubleHashMap(0),
+                    buffer + partitionCount * Estimate.sizeOfLongDoubleHashMap(maxTargetsPerPartition)
+                );
+            }
+
+            /**
+             * Pushes all buffered messages into the send array while other threads may still be sending.
+             */
+            void spill(WithLocalCombining messenger) {
+                for (var targets : partitions) {
+                    for (LongDoubleCursor cursor : targets) {
+                        var message = cursor.value;
+                        messenger.sendArray.update(
+                            cursor.key,
+                            current -> messenger.reducer.reduce(current, message)
+                        );
+                    }
+                    targets.clear();
+                }
+                size = 0;
+            }
+
+            void release() {
+                for (var targets : partitions) {
+                    targets.release();
+                }
+                size = 0;
+            }
+        }
+    }
+
     static class SingleMessageIterator implements Messages.MessageIterator {
 
         boolean hasNext;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.Estimate;
+import org.neo4j.gds.mem.MemoryEstimation;
+import org.neo4j.gds.mem.MemoryEstimations;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A messenger that keeps a single record per node for messages of a non-double
+ * {@link MessageType}, combining all incoming messages with a {@link MessageReducer}.
+ * Since a record spans multiple slots, updates are guarded by striped locks
+ * instead of a single compare-and-set.
+ */
+class ReducingRecordMessenger implements Messenger<RecordIterator> {
+
+    private static final int LOCK_STRIPES = 1 << 12;
+
+    private final MessageType messageType;
+    private final MessageReducer reducer;
+    private final ReentrantLock[] locks;
+
+    private HugeObjectArray<long[]> sendRecords;
+    private HugeObjectArray<long[]> receiveRecords;
+    private HugeAtomicBitSet sendPresent;
+    private HugeAtomicBitSet receivePresent;
+
+    ReducingRecordMessenger(Graph graph, MessageType messageType, MessageReducer reducer) {
+        this.messageType = messageType;
+        this.reducer = reducer;
+        this.locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        var nodeCount = graph.nodeCount();
+        this.sendRecords = HugeObjectArray.newArray(long[].class, nodeCount);
+        this.receiveRecords = HugeObjectArray.newArray(long[].class, nodeCount);
+        this.sendPresent = HugeAtomicBitSet.create(nodeCount);
+        this.receivePresent = HugeAtomicBitSet.create(nodeCount);
+    }
+
+    static MemoryEstimation memoryEstimation(MessageType messageType) {
+        var recordSize = Estimate.sizeOfLongArray(messageType.width());
+        return MemoryEstimations.builder(ReducingRecordMessenger.class)
+            .fixed("locks", Estimate.sizeOfObjectArray(LOCK_STRIPES) + LOCK_STRIPES * Estimate.sizeOfInstance(ReentrantLock.class))
+            .perNode("send records", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, recordSize))
+            .perNode("receive records", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, recordSize))
+            .perNode("send flags", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive flags", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        var tmpRecords = receiveRecords;
+        this.receiveRecords = sendRecords;
+        this.sendRecords = tmpRecords;
+
+        var tmpPresent = receivePresent;
+        this.receivePresent = sendPresent;
+        this.sendPresent = tmpPresent;
+        this.sendPresent.clear();
+    }
+
+    @Override
+    public void sendTo(long sourceNodeId, long targetNodeId, double message) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot send a double message, the computation declared messages of type %s.",
+            messageType
+        ));
+    }
+
+    @Override
+    public void sendRecordTo(long sourceNodeId, long targetNodeId, long[] record) {
+        RecordQueueMessenger.validateLength(messageType, record.length);
+
+        var lock = locks[(int) (targetNodeId & (LOCK_STRIPES - 1))];
+        lock.lock();
+        try {
+            var current = sendRecords.get(targetNodeId);
+            if (current == null) {
+                // Records are allocated on first use and reused in later supersteps.
+                current = new long[record.length];
+                sendRecords.set(targetNodeId, current);
+            }
+            if (sendPresent.get(targetNodeId)) {
+                reducer.reduce(current, record);
+            } else {
+                System.arraycopy(record, 0, current, 0, record.length);
+                sendPresent.set(targetNodeId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public RecordIterator messageIterator() {
+        return new RecordIterator(messageType.width());
+    }
+
+    @Override
+    public void initMessageIterator(RecordIterator messageIterator, long nodeId, boolean isFirstIteration) {
+        if (receivePresent.get(nodeId)) {
+            messageIterator.init(receiveRecords.get(nodeId), messageType.width());
+        } else {
+            messageIterator.init(null, 0);
+        }
+    }
+
+    @Override
+    public void release() {
+        sendRecords.release();
+        receiveRecords.release();
+    }
+}
@@ -43,6 +43,8 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
     private final Messenger<?> messenger;
     private final MutableInt iteration;
     private final MutableBoolean hasSendMessage;
+    // Reused to encode typed messages, sized to the width of the message type on first use.
+    private long[] record = new long[0];
 
     protected BasePregelComputation<CONFIG> computation;
 
@@ -166,6 +168,90 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.hasSendMessage.setValue(true);
     }
 
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#LONG} message to the target node.
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        var record = record(1);
+        record[0] = message;
+        sendRecordTo(targetNodeId, record);
+    }
+
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#LONG_DOUBLE} message to the target node.
+     */
+    public void sendLongDoubleTo(long targetNodeId, long first, double second) {
+        sendRecordTo(targetNodeId, longDoubleRecord(first, second));
+    }
+
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#doubleArray(int) double array} message
+     * to the target node. The array is copied and can be reused once the method returns.
+     */
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        sendRecordTo(targetNodeId, doubleArrayRecord(message));
+    }
+
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#LONG} message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendLongToNeighbors(long message) {
+        var record = record(1);
+        record[0] = message;
+        sendRecordToNeighbors(record);
+    }
+
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#LONG_DOUBLE} message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendLongDoubleToNeighbors(long first, double second) {
+        sendRecordToNeighbors(longDoubleRecord(first, second));
+    }
+
+    /**
+     * Sends the given {@link org.neo4j.gds.beta.pregel.MessageType#doubleArray(int) double array} message
+     * to all neighbors of the node. Relationship weights are not applied to typed messages.
+     */
+    public void sendArrayToNeighbors(double[] message) {
+        sendRecordToNeighbors(doubleArrayRecord(message));
+    }
+
+    private long[] record(int width) {
+        if (record.length != width) {
+            record = new long[width];
+        }
+        return record;
+    }
+
+    private long[] longDoubleRecord(long first, double second) {
+        var record = record(2);
+        record[0] = first;
+        record[1] = Double.doubleToRawLongBits(second);
+        return record;
+    }
+
+    private long[] doubleArrayRecord(double[] message) {
+        var record = record(message.length);
+        for (int i = 0; i < message.length; i++) {
+            record[i] = Double.doubleToRawLongBits(message[i]);
+        }
+        return record;
+    }
+
+    private void sendRecordTo(long targetNodeId, long[] record) {
+        messenger.sendRecordTo(this.nodeId, targetNodeId, record);
+        this.hasSendMessage.setValue(true);
+    }
+
+    private void sendRecordToNeighbors(long[] record) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            sendRecordTo(targetNodeId, record);
+            return true;
+        });
+    }
+
     private void sendToNeighbors(long sourceNodeId, double message) {
         graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
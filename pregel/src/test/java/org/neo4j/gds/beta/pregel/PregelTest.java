@@ -55,12 +55,14 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.logging.GdsTestLog;
 import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.mem.Estimate;
 import org.neo4j.gds.mem.MemoryEstimateDefinition;
 import org.neo4j.gds.mem.MemoryRange;
 import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -263,15 +265,21 @@ class PregelTest {
 
         var multiThreaded = run(graph, multiThreadedConfig, new TestPregelComputation());
         var multiThreadedReduce = run(graph, multiThreadedConfig, new TestReduciblePregelComputation());
+        var multiThreadedCombine = run(
+            graph,
+            configBuilder.concurrency(4).useLocalMessageCombining(true).build(),
+            new TestReduciblePregelComputation()
+        );
 
         for (int nodeId = 0; nodeId < singleThreaded.size(); nodeId++) {
             var v1 = singleThreaded.get(nodeId);
             var v2 = singleThreadedReduce.get(nodeId);
             var v3 = multiThreaded.get(nodeId);
             var v4 = multiThreadedReduce.get(nodeId);
+            var v5 = multiThreadedCombine.get(nodeId);
             assertTrue(
-                v1 == v2 && v1 == v3 && v1 == v4,
-                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f", nodeId, v1, v2, v3, v4)
+                v1 == v2 && v1 == v3 && v1 == v4 && v1 == v5,
+                formatWithLocale("Value mismatch for node id %d: %f, %f, %f, %f, %f", nodeId, v1, v2, v3, v4, v5)
             );
         }
     }
@@ -289,6 +297,134 @@ class PregelTest {
         return pregelJob.run().nodeValues().doubleProperties(KEY);
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void frontierModeProducesSameResultAsFullScan(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .concurrency(4)
+            .partitioning(partitioning);
+
+        var fullScan = Pregel.create(
+            graph,
+            configBuilder.useFrontier(false).build(),
+            new HopDistanceComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var frontier = Pregel.create(
+            graph,
+            configBuilder.useFrontier(true).build(),
+            new HopDistanceComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(frontier.didConverge()).isTrue();
+        assertThat(frontier.ranIterations()).isEqualTo(fullScan.ranIterations());
+        assertThat(frontier.nodeValues().doubleProperties(HopDistanceComputation.KEY).toArray())
+            .containsExactly(fullScan.nodeValues().doubleProperties(HopDistanceComputation.KEY).toArray());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendsLongDoubleMessages(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = PregelConfigImpl.builder()
+            .maxIterations(100)
+            .concurrency(4)
+            .partitioning(partitioning)
+            .build();
+
+        var hops = Pregel.create(
+            graph,
+            config,
+            new HopDistanceComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run().nodeValues();
+
+        var queued = Pregel.create(
+            graph,
+            config,
+            new ShortestPathTreeComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run().nodeValues();
+
+        var reduced = Pregel.create(
+            graph,
+            config,
+            new ShortestPathTreeComputation.Reducing(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run().nodeValues();
+
+        var expectedDistances = hops.doubleProperties(HopDistanceComputation.KEY).toArray();
+        assertThat(queued.doubleProperties(ShortestPathTreeComputation.DISTANCE).toArray())
+            .containsExactly(expectedDistances);
+        assertThat(reduced.doubleProperties(ShortestPathTreeComputation.DISTANCE).toArray())
+            .containsExactly(expectedDistances);
+        assertThat(reduced.longProperties(ShortestPathTreeComputation.PREDECESSOR).toArray())
+            .containsExactly(queued.longProperties(ShortestPathTreeComputation.PREDECESSOR).toArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void sendsDoubleArrayMessages(boolean reduce) {
+        var config = PregelConfigImpl.builder()
+            .maxIterations(2)
+            .concurrency(1)
+            .build();
+
+        var computation = reduce ? new DoubleArraySumComputation.Reducing() : new DoubleArraySumComputation();
+        var result = Pregel.create(
+            graph,
+            config,
+            computation,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).run().nodeValues().doubleArrayProperties(DoubleArraySumComputation.KEY);
+
+        assertThat(result.get(graph.toMappedNodeId("alice"))).containsExactly(0, 0);
+        assertThat(result.get(graph.toMappedNodeId("bob"))).containsExactly(1, 42);
+        assertThat(result.get(graph.toMappedNodeId("eve"))).containsExactly(1, 42);
+    }
+
+    @Test
+    void typedMessagesRequireSynchronousComputation() {
+        var config = PregelConfigImpl.builder()
+            .maxIterations(2)
+            .isAsynchronous(true)
+            .build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new DoubleArraySumComputation(),
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("only supported in synchronous computations");
+    }
+
     @ParameterizedTest
     @EnumSource(Partitioning.class)
     void sendMessageToSpecificTarget(Partitioning partitioning) {
@@ -603,6 +739,71 @@ class PregelTest {
         );
     }
 
+    @Test
+    void memoryEstimationWithLocalMessageCombining() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var concurrency = new Concurrency(4);
+
+        var withoutCombining = ReducingMessenger.memoryEstimation(false, false)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var withCombining = ReducingMessenger.memoryEstimation(false, true)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        // 3 target partitions of 4096 nodes, every map of every thread can keep a capacity for all of them
+        long maxBufferSize = Estimate.sizeOfInstance(ReducingMessenger.WithLocalCombining.LocalBuffer.class) +
+                             Estimate.sizeOfObjectArray(3) +
+                             3 * Estimate.sizeOfLongDoubleHashMap(4096);
+        assertThat(withCombining.max - withoutCombining.max).isEqualTo(4 * maxBufferSize);
+    }
+
+    @Test
+    void shouldLeaseLocalMessageBuffersPerBatch() throws Exception {
+        var graph = TestSupport.fromGdl("(a)-->(b)");
+        var config = PregelConfigImpl.builder()
+            .maxIterations(1)
+            .concurrency(2)
+            .useLocalMessageCombining(true)
+            .build();
+        var messenger = (ReducingMessenger.WithLocalCombining) ReducingMessenger.create(
+            graph,
+            config,
+            new Reducer.Sum()
+        );
+
+        // more threads than the concurrency, every batch may run on a different one
+        var pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int batch = 0; batch < 16; batch++) {
+                pool.submit(() -> {
+                    messenger.initBatch();
+                    try {
+                        messenger.sendTo(0, 1, 1.0);
+                    } finally {
+                        messenger.finishBatch();
+                    }
+                }).get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // the batches ran one after another and shared a single buffer
+        assertThat(messenger.bufferCount()).isEqualTo(1);
+
+        messenger.initIteration(1);
+        var messages = messenger.messageIterator();
+        messenger.initMessageIterator(messages, 1, false);
+        assertThat(messages.nextDouble()).isEqualTo(16.0);
+
+        messenger.release();
+        assertThat(messenger.bufferCount()).isZero();
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -727,6 +928,151 @@ class PregelTest {
         }
     }
 
+    public static class HopDistanceComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "distance";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == 0) {
+                    context.setNodeValue(KEY, 0.0);
+                    context.sendToNeighbors(1.0);
+                } else {
+                    context.setNodeValue(KEY, Double.MAX_VALUE);
+                }
+            } else {
+                double distance = context.doubleNodeValue(KEY);
+                for (Double message : messages) {
+                    distance = Math.min(distance, message);
+                }
+                if (distance < context.doubleNodeValue(KEY)) {
+                    context.setNodeValue(KEY, distance);
+                    context.sendToNeighbors(distance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    public static class ShortestPathTreeComputation implements PregelComputation<PregelConfig> {
+
+        static final String DISTANCE = "distance";
+        static final String PREDECESSOR = "predecessor";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(DISTANCE, ValueType.DOUBLE)
+                .add(PREDECESSOR, ValueType.LONG)
+                .messageType(MessageType.LONG_DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(PREDECESSOR, -1L);
+                if (context.nodeId() == 0) {
+                    context.setNodeValue(DISTANCE, 0.0);
+                    context.sendLongDoubleToNeighbors(context.nodeId(), 1.0);
+                } else {
+                    context.setNodeValue(DISTANCE, Double.MAX_VALUE);
+                }
+            } else {
+                double distance = context.doubleNodeValue(DISTANCE);
+                long predecessor = context.longNodeValue(PREDECESSOR);
+                boolean improved = false;
+
+                var records = messages.records();
+                while (records.next()) {
+                    var sender = records.longValue(0);
+                    var senderDistance = records.doubleValue(1);
+                    if (senderDistance < distance || (senderDistance == distance && improved && sender < predecessor)) {
+                        distance = senderDistance;
+                        predecessor = sender;
+                        improved = true;
+                    }
+                }
+
+                if (improved) {
+                    context.setNodeValue(DISTANCE, distance);
+                    context.setNodeValue(PREDECESSOR, predecessor);
+                    context.sendLongDoubleToNeighbors(context.nodeId(), distance + 1);
+                }
+            }
+            context.voteToHalt();
+        }
+
+        static class Reducing extends ShortestPathTreeComputation {
+            @Override
+            public Optional<MessageReducer> messageReducer() {
+                return Optional.of(MessageReducer.minByDouble());
+            }
+        }
+    }
+
+    public static class DoubleArraySumComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "sum";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE_ARRAY)
+                .messageType(MessageType.doubleArray(2))
+                .build();
+        }
+
+        @Override
+        public MemoryEstimateDefinition estimateDefinition(boolean isAsynchronous) {
+            return null;
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, new double[2]);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendArrayToNeighbors(new double[]{1, 42});
+            } else {
+                var sum = new double[2];
+                var records = messages.records();
+                while (records.next()) {
+                    sum[0] += records.doubleValue(0);
+                    sum[1] += records.doubleValue(1);
+                }
+                context.setNodeValue(KEY, sum);
+            }
+            context.voteToHalt();
+        }
+
+        static class Reducing extends DoubleArraySumComputation {
+            @Override
+            public Optional<MessageReducer> messageReducer() {
+                return Optional.of(MessageReducer.sum());
+            }
+        }
+    }
+
     public static class TestReduciblePregelComputation extends TestPregelComputation {
 
         @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveSyncRecordQueuesTest {
+
+    @Test
+    void pushAndIterateRecords() {
+        var queues = PrimitiveSyncRecordQueues.of(2, 2);
+
+        for (int i = 0; i < 100; i++) {
+            queues.push(1, new long[]{i, Double.doubleToRawLongBits(i / 2.0)});
+        }
+        queues.swapQueues();
+
+        var iterator = new RecordIterator(2);
+        queues.initIterator(iterator, 1);
+
+        assertThat(iterator.isEmpty()).isFalse();
+        for (int i = 0; i < 100; i++) {
+            assertThat(iterator.next()).isTrue();
+            assertThat(iterator.longValue(0)).isEqualTo(i);
+            assertThat(iterator.doubleValue(1)).isEqualTo(i / 2.0);
+        }
+        assertThat(iterator.next()).isFalse();
+
+        queues.initIterator(iterator, 0);
+        assertThat(iterator.isEmpty()).isTrue();
+        assertThat(iterator.next()).isFalse();
+    }
+
+    @Test
+    void growBeyondInitialCapacityForWideRecords() {
+        var width = 2 * PrimitiveQueues.MIN_CAPACITY;
+        var queues = PrimitiveSyncRecordQueues.of(1, width);
+
+        var record = LongStream.range(0, width).toArray();
+        queues.push(0, record);
+        queues.push(0, record);
+        queues.push(0, record);
+
+        assertThat(queues.tail(0)).isEqualTo(3L * width);
+        queues.swapQueues();
+
+        var iterator = new RecordIterator(width);
+        queues.initIterator(iterator, 0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(iterator.next()).isTrue();
+            assertThat(iterator.longValue(width - 1)).isEqualTo(width - 1);
+        }
+        assertThat(iterator.next()).isFalse();
+    }
+
+    @RepeatedTest(100)
+    void parallelPush() {
+        var queues = PrimitiveSyncRecordQueues.of(1, 3);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                long value = i + taskOffset * 100;
+                queues.push(0, new long[]{value, value, value});
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        queues.swapQueues();
+        var iterator = new RecordIterator(3);
+        queues.initIterator(iterator, 0);
+
+        var values = new ArrayList<Long>();
+        while (iterator.next()) {
+            // all slots of a record must have been written by the same push
+            assertThat(iterator.longValue(1)).isEqualTo(iterator.longValue(0));
+            assertThat(iterator.longValue(2)).isEqualTo(iterator.longValue(0));
+            values.add(iterator.longValue(0));
+        }
+
+        assertThat(values).containsExactlyInAnyOrderElementsOf(LongStream.range(0, concurrency * 100).boxed().toList());
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.neo4j.gds.TestSupport.assertGraphEquals;
 import static org.neo4j.gds.TestSupport.fromGdl;
@@ -82,6 +83,10 @@ class TriangleCountMutateProcTest extends BaseProcTest {
                 .asInstanceOf(LONG)
                 .isEqualTo(1L);
 
+            assertThat(row.getNumber("globalTriangleCountStandardError"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0.0);
+
             assertThat(row.getNumber("nodeCount"))
                 .asInstanceOf(LONG)
                 .isEqualTo(3L);
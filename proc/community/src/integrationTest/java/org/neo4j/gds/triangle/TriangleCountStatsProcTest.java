@@ -31,6 +31,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 
 class TriangleCountStatsProcTest extends BaseProcTest {
@@ -63,6 +64,10 @@ class TriangleCountStatsProcTest extends BaseProcTest {
                 .asInstanceOf(LONG)
                 .isEqualTo(1L);
 
+            assertThat(row.getNumber("globalTriangleCountStandardError"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0.0);
+
             assertThat(row.getNumber("nodeCount"))
                 .asInstanceOf(LONG)
                 .isEqualTo(3L);
@@ -87,6 +92,29 @@ class TriangleCountStatsProcTest extends BaseProcTest {
 
     }
 
+    @Test
+    void shouldYieldStandardErrorWhenSampling() {
+        var query = GdsCypher.call("graph")
+            .algo("triangleCount")
+            .statsMode()
+            // keeps all three relationships, but the count is still an estimate
+            .addParameter("samplingRatio", 0.999999)
+            .addParameter("randomSeed", 42)
+            .yields("globalTriangleCount", "globalTriangleCountStandardError");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("globalTriangleCount"))
+                .asInstanceOf(LONG)
+                .isEqualTo(1L);
+
+            assertThat(row.getNumber("globalTriangleCountStandardError"))
+                .asInstanceOf(DOUBLE)
+                .isGreaterThan(0.0);
+        });
+
+        assertThat(rowCount).isEqualTo(1L);
+    }
+
     @Test
     void testStatsWithMaxDegree() {
         // Add a single node and connect it to the triangle
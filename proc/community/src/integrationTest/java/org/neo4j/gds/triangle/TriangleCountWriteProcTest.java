@@ -29,6 +29,7 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
 import static org.assertj.core.api.InstanceOfAssertFactories.LONG;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -68,6 +69,10 @@ class TriangleCountWriteProcTest extends BaseProcTest {
                 .asInstanceOf(LONG)
                 .isEqualTo(5L);
 
+            assertThat(row.getNumber("globalTriangleCountStandardError"))
+                .asInstanceOf(DOUBLE)
+                .isEqualTo(0.0);
+
             assertThat(row.getNumber("nodeCount"))
                 .asInstanceOf(LONG)
                 .isEqualTo(5L);
@@ -47,6 +47,7 @@ class TriangleCountResultBuilderForStatsMode implements StatsResultBuilder<Trian
 
         var triangleCountStatsResult = new TriangleCountStatsResult(
             triangleCountResult.globalTriangles(),
+            triangleCountResult.globalTrianglesStandardError(),
             graph.nodeCount(),
             timings.preProcessingMillis,
             timings.computeMillis,
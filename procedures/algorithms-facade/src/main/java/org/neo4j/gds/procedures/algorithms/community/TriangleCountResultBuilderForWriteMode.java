@@ -44,6 +44,7 @@ class TriangleCountResultBuilderForWriteMode implements ResultBuilder<TriangleCo
 
         var triangleCountWriteResult = new TriangleCountWriteResult(
             triangleCountResult.globalTriangles(),
+            triangleCountResult.globalTrianglesStandardError(),
             graph.nodeCount(),
             timings.preProcessingMillis,
             timings.computeMillis,
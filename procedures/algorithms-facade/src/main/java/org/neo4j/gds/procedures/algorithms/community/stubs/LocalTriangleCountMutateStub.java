@@ -56,7 +56,7 @@ public class LocalTriangleCountMutateStub implements TriangleCountMutateStub {
         return genericStub.getMemoryEstimation(
             configuration,
             TriangleCountMutateConfig::of,
-            __ -> estimationModeBusinessFacade.triangleCount()
+            estimationModeBusinessFacade::triangleCount
         );
     }
 
@@ -66,7 +66,7 @@ public class LocalTriangleCountMutateStub implements TriangleCountMutateStub {
             graphName,
             configuration,
             TriangleCountMutateConfig::of,
-            __ -> estimationModeBusinessFacade.triangleCount()
+            estimationModeBusinessFacade::triangleCount
         );
     }
 
@@ -44,6 +44,7 @@ public class TriangleCountResultBuilderForMutateMode implements ResultBuilder<Tr
 
         return new TriangleCountMutateResult(
             triangleCountResult.globalTriangles(),
+            triangleCountResult.globalTrianglesStandardError(),
             graph.nodeCount(),
             timings.preProcessingMillis,
             timings.computeMillis,
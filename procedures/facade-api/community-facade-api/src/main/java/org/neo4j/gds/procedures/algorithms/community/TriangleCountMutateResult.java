@@ -30,6 +30,7 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
 
     public TriangleCountMutateResult(
         long globalTriangleCount,
+        double globalTriangleCountStandardError,
         long nodeCount,
         long preProcessingMillis,
         long computeMillis,
@@ -39,6 +40,7 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
     ) {
         super(
             globalTriangleCount,
+            globalTriangleCountStandardError,
             nodeCount,
             preProcessingMillis,
             computeMillis,
@@ -54,6 +56,7 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
     ) {
         return new TriangleCountMutateResult(
             0,
+            0.0,
             0,
             timings.preProcessingMillis,
             timings.computeMillis,
@@ -65,16 +68,23 @@ public class TriangleCountMutateResult extends TriangleCountStatsResult {
 
     public static class Builder extends AbstractResultBuilder<TriangleCountMutateResult> {
         long globalTriangleCount = 0;
+        double globalTriangleCountStandardError = 0.0;
 
         public Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        public Builder withGlobalTriangleCountStandardError(double globalTriangleCountStandardError) {
+            this.globalTriangleCountStandardError = globalTriangleCountStandardError;
+            return this;
+        }
+
         @Override
         public TriangleCountMutateResult build() {
             return new TriangleCountMutateResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
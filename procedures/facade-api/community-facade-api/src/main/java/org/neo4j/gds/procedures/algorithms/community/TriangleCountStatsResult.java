@@ -27,10 +27,12 @@ import java.util.Map;
 
 public class TriangleCountStatsResult extends StandardStatsResult {
     public final long globalTriangleCount;
+    public final double globalTriangleCountStandardError;
     public final long nodeCount;
 
     public TriangleCountStatsResult(
         long globalTriangleCount,
+        double globalTriangleCountStandardError,
         long nodeCount,
         long preProcessingMillis,
         long computeMillis,
@@ -39,6 +41,7 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         // post-processing is instant for TC
         super(preProcessingMillis, computeMillis, 0L, configuration);
         this.globalTriangleCount = globalTriangleCount;
+        this.globalTriangleCountStandardError = globalTriangleCountStandardError;
         this.nodeCount = nodeCount;
     }
 
@@ -46,21 +49,28 @@ public class TriangleCountStatsResult extends StandardStatsResult {
         AlgorithmProcessingTimings timings,
         Map<String, Object> configurationMap
     ) {
-        return new TriangleCountStatsResult(0, 0, timings.preProcessingMillis, timings.computeMillis, configurationMap);
+        return new TriangleCountStatsResult(0, 0.0, 0, timings.preProcessingMillis, timings.computeMillis, configurationMap);
     }
 
     public static class Builder extends AbstractResultBuilder<TriangleCountStatsResult> {
         long globalTriangleCount = 0;
+        double globalTriangleCountStandardError = 0.0;
 
         public Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        public Builder withGlobalTriangleCountStandardError(double globalTriangleCountStandardError) {
+            this.globalTriangleCountStandardError = globalTriangleCountStandardError;
+            return this;
+        }
+
         @Override
         public TriangleCountStatsResult build() {
             return new TriangleCountStatsResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
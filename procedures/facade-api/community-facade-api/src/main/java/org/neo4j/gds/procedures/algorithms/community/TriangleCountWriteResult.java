@@ -30,6 +30,7 @@ public class TriangleCountWriteResult extends TriangleCountStatsResult {
 
     TriangleCountWriteResult(
         long globalTriangleCount,
+        double globalTriangleCountStandardError,
         long nodeCount,
         long preProcessingMillis,
         long computeMillis,
@@ -39,6 +40,7 @@ public class TriangleCountWriteResult extends TriangleCountStatsResult {
     ) {
         super(
             globalTriangleCount,
+            globalTriangleCountStandardError,
             nodeCount,
             preProcessingMillis,
             computeMillis,
@@ -54,6 +56,7 @@ public class TriangleCountWriteResult extends TriangleCountStatsResult {
     ) {
         return new TriangleCountWriteResult(
             0,
+            0.0,
             0,
             timings.preProcessingMillis,
             timings.computeMillis,
@@ -65,16 +68,23 @@ public class TriangleCountWriteResult extends TriangleCountStatsResult {
 
     public static class Builder extends AbstractResultBuilder<TriangleCountWriteResult> {
         long globalTriangleCount = 0;
+        double globalTriangleCountStandardError = 0.0;
 
         public Builder withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        public Builder withGlobalTriangleCountStandardError(double globalTriangleCountStandardError) {
+            this.globalTriangleCountStandardError = globalTriangleCountStandardError;
+            return this;
+        }
+
         @Override
         public TriangleCountWriteResult build() {
             return new TriangleCountWriteResult(
                 globalTriangleCount,
+                globalTriangleCountStandardError,
                 nodeCount,
                 preProcessingMillis,
                 computeMillis,
@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.ConfigNodesValidations;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.StringIdentifierValidations;
 
@@ -36,7 +37,7 @@ import java.util.stream.Collectors;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
-public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, SeedConfig {
+public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, SeedConfig, RandomSeedConfig {
 
     String SEED_PROPERTY_KEY = "triangleCountProperty";
 
@@ -47,6 +48,24 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Se
         return null;
     }
 
+    /**
+     * The ratio of relationships that are sampled to estimate the triangle counts.
+     */
+    @Configuration.DoubleRange(min = 0.0, max = 1.0, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
+    @Configuration.Check
+    default void validateSamplingRatio() {
+        if (samplingRatio() < 1.0 && seedProperty() != null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `samplingRatio` parameter cannot be used together with `%s`, the triangle counts are not computed.",
+                SEED_PROPERTY_KEY
+            ));
+        }
+    }
+
     static @Nullable String validateProperty(String input) {
         return StringIdentifierValidations.validateNoWhiteCharacter(input, SEED_PROPERTY_KEY);
     }
@@ -81,6 +100,12 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Se
 
     @Configuration.Ignore
     default LocalClusteringCoefficientParameters toParameters() {
-        return new LocalClusteringCoefficientParameters(concurrency(), Long.MAX_VALUE, seedProperty());
+        return new LocalClusteringCoefficientParameters(
+            concurrency(),
+            Long.MAX_VALUE,
+            seedProperty(),
+            samplingRatio(),
+            randomSeed()
+        );
     }
 }
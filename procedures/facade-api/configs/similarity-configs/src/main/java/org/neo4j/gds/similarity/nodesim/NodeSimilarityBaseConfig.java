@@ -28,6 +28,7 @@ import org.neo4j.gds.config.ConfigNodesValidations;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -48,6 +49,11 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
 
     String COMPONENT_PROPERTY_KEY = "componentProperty";
 
+    String MIN_HASH_RECALL_KEY = "minHashRecall";
+    // candidate generation needs more hash functions the lower the similarity of the pairs it has to find,
+    // from this cutoff on the hash function budget reaches a recall of about 0.998
+    double MIN_HASH_SIMILARITY_CUTOFF_MIN = 0.05;
+
     @Configuration.DoubleRange(min = 0, max = 1)
     default double similarityCutoff() {
         return 1E-42;
@@ -99,6 +105,14 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return ComponentSpec.NO;
     }
 
+    /**
+     * If set, only pairs of nodes found by MinHash candidate generation are compared.
+     * Pairs with a Jaccard similarity of at least the similarity cutoff become candidates with this probability.
+     */
+    @Configuration.Key(MIN_HASH_RECALL_KEY)
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false, maxInclusive = false)
+    Optional<Double> minHashRecall();
+
     @Configuration.Ignore
     @Deprecated(forRemoval = true) // Don't use configs for internal parameters
     default boolean computeToStream() {
@@ -126,6 +140,43 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 "The value of upperDegreeCutoff cannot be smaller than degreeCutoff"
             ));
         }
+        if (minHashRecall().isPresent()) {
+            // the banding treats the cutoff as a Jaccard threshold, other metrics would miss pairs above it
+            var metric = similarityMetric().render();
+            if (!NodeSimilarityMetric.JACCARD.name().equals(metric)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "%s is only supported for the similarityMetric %s, but got %s",
+                    MIN_HASH_RECALL_KEY,
+                    NodeSimilarityMetric.JACCARD.name(),
+                    metric
+                ));
+            }
+            if (similarityCutoff() < MIN_HASH_SIMILARITY_CUTOFF_MIN) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "%s requires a similarityCutoff of at least %s",
+                    MIN_HASH_RECALL_KEY,
+                    MIN_HASH_SIMILARITY_CUTOFF_MIN
+                ));
+            }
+            // rounded down, so that the reported value is itself accepted
+            var maxRecall = Math.floor(MinHashParameters.maxRecall(similarityCutoff()) * 10_000) / 10_000;
+            if (minHashRecall().get() > maxRecall) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "%s must be at most %s for a similarityCutoff of %s",
+                    MIN_HASH_RECALL_KEY,
+                    maxRecall,
+                    similarityCutoff()
+                ));
+            }
+            if (bottomK() != BOTTOM_K_DEFAULT || bottomN() != BOTTOM_N_DEFAULT) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Invalid parameter combination: %s combined with %s or %s",
+                    MIN_HASH_RECALL_KEY,
+                    BOTTOM_K_KEY,
+                    BOTTOM_N_KEY
+                ));
+            }
+        }
     }
 
     @Configuration.GraphStoreValidationCheck
@@ -165,7 +216,8 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
             computeToStream(),
             hasRelationshipWeightProperty(),
             componentUsage.useComponents(),
-            componentUsage.componentProperty()
+            componentUsage.componentProperty(),
+            minHashRecall().map(recall -> new MinHashParameters(similarityCutoff(), recall))
         );
     }
 
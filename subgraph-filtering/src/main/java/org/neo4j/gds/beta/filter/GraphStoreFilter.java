@@ -37,6 +37,7 @@ import org.neo4j.gds.config.GraphProjectFromGraphConfig;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.ImmutableNodes;
 import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -142,25 +143,46 @@ public final class GraphStoreFilter {
 
         progressTracker.beginSubTask();
         try {
-            var filteredNodes = NodesFilter.filterNodes(
-                graphStore,
-                expressions.nodeExpression(),
-                config.typedConcurrency(),
-                config.parameters(),
-                executorService,
-                progressTracker
-            );
-
-            var filteredRelationships = RelationshipsFilter.filterRelationships(
-                graphStore,
-                expressions.relationshipExpression(),
-                inputNodes,
-                filteredNodes.idMap(),
-                config.typedConcurrency(),
-                config.parameters(),
-                executorService,
-                progressTracker
-            );
+            NodesFilter.FilteredNodes filteredNodes;
+            Map<RelationshipType, SingleTypeRelationships> filteredRelationships;
+
+            if (config.view()) {
+                var view = SubgraphView.filterNodes(
+                    graphStore,
+                    expressions.nodeExpression(),
+                    config.typedConcurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                );
+                filteredNodes = view.filteredNodes();
+                filteredRelationships = view.filterRelationships(
+                    expressions.relationshipExpression(),
+                    config.typedConcurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                );
+            } else {
+                filteredNodes = NodesFilter.filterNodes(
+                    graphStore,
+                    expressions.nodeExpression(),
+                    config.typedConcurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                );
+                filteredRelationships = RelationshipsFilter.filterRelationships(
+                    graphStore,
+                    expressions.relationshipExpression(),
+                    inputNodes,
+                    filteredNodes.idMap(),
+                    config.typedConcurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                );
+            }
 
             var filteredSchema = filterSchema(graphStore.schema(), filteredNodes, filteredRelationships.keySet());
 
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.properties.relationships.PropertyCursor;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * An adjacency list of a subgraph view that is backed by the adjacency list of the root graph store.
+ * <p>
+ * Cursors iterate the root adjacency list and skip all targets that are not part of the subgraph
+ * or do not match the relationship filter. The filter reads the root relationship properties
+ * alongside the topology, so every cursor holds its own compiled copy of it.
+ * The only data owned by the view are the filtered degrees, which are computed up front.
+ */
+final class SubgraphAdjacency implements AdjacencyList {
+
+    private final AdjacencyList rootAdjacency;
+    private final AdjacencyProperties[] rootProperties;
+    private final SubgraphIdMap idMap;
+    private final @Nullable Supplier<CompiledExpression> relationshipFilter;
+    private final HugeIntArray degrees;
+    private long relationshipCount;
+
+    /**
+     * @param rootProperties     all relationship properties of the root relationship type,
+     *                           in the order expected by the relationship filter
+     * @param relationshipFilter creates a compiled relationship filter per cursor,
+     *                           or {@code null} if all relationships between subgraph nodes are accepted
+     */
+    SubgraphAdjacency(
+        AdjacencyList rootAdjacency,
+        AdjacencyProperties[] rootProperties,
+        SubgraphIdMap idMap,
+        @Nullable Supplier<CompiledExpression> relationshipFilter
+    ) {
+        this.rootAdjacency = rootAdjacency;
+        this.rootProperties = rootProperties;
+        this.idMap = idMap;
+        this.relationshipFilter = relationshipFilter;
+        this.degrees = HugeIntArray.newArray(idMap.nodeCount());
+        this.relationshipCount = -1;
+    }
+
+    void computeDegrees(Concurrency concurrency, ExecutorService executorService, ProgressTracker progressTracker) {
+        var relationshipCounter = new LongAdder();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            idMap.nodeCount(),
+            partition -> (Runnable) () -> {
+                var cursor = new Cursor(this, Cursor.TOPOLOGY);
+                long partitionRelationships = 0;
+                for (long node = partition.startNode(); node < partition.startNode() + partition.nodeCount(); node++) {
+                    var rootNode = idMap.toRootNodeId(node);
+                    var rootDegree = rootAdjacency.degree(rootNode);
+                    int degree = 0;
+                    if (rootDegree > 0) {
+                        cursor.position(rootNode, Integer.MAX_VALUE, Double.NaN);
+                        while (cursor.hasNextVLong()) {
+                            cursor.nextVLong();
+                            degree++;
+                        }
+                    }
+                    degrees.set(node, degree);
+                    partitionRelationships += degree;
+                    progressTracker.logProgress(rootDegree);
+                }
+                relationshipCounter.add(partitionRelationships);
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        this.relationshipCount = relationshipCounter.sum();
+    }
+
+    long relationshipCount() {
+        assert relationshipCount != -1 : "Degrees have not been computed";
+        return relationshipCount;
+    }
+
+    AdjacencyProperties properties(int propertyIndex) {
+        return new PropertyView(this, propertyIndex);
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        return adjacencyCursor(null, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var cursor = Cursor.reuseOrCreate(reuse, this, Cursor.TOPOLOGY);
+        cursor.position(idMap.toRootNodeId(node), degrees.get(node), fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(this, Cursor.TOPOLOGY);
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        // the adjacency is owned by the root graph store
+        return MemoryInfo.EMPTY;
+    }
+
+    private static final class PropertyView implements AdjacencyProperties {
+
+        private final SubgraphAdjacency adjacency;
+        private final int propertyIndex;
+
+        private PropertyView(SubgraphAdjacency adjacency, int propertyIndex) {
+            this.adjacency = adjacency;
+            this.propertyIndex = propertyIndex;
+        }
+
+        @Override
+        public PropertyCursor propertyCursor(long node, double fallbackValue) {
+            return propertyCursor(null, node, fallbackValue);
+        }
+
+        @Override
+        public PropertyCursor propertyCursor(@Nullable PropertyCursor reuse, long node, double fallbackValue) {
+            var cursor = Cursor.reuseOrCreate(reuse, adjacency, propertyIndex);
+            cursor.position(adjacency.idMap.toRootNodeId(node), adjacency.degrees.get(node), fallbackValue);
+            return cursor;
+        }
+
+        @Override
+        public PropertyCursor rawPropertyCursor() {
+            return new Cursor(adjacency, propertyIndex);
+        }
+    }
+
+    /**
+     * Iterates the root adjacency list and, if needed, the root relationship properties in lockstep.
+     * Depending on how it was created, the cursor is either used for the topology or for a single property.
+     */
+    private static final class Cursor implements AdjacencyCursor, PropertyCursor {
+
+        static final int TOPOLOGY = -1;
+
+        private final SubgraphAdjacency adjacency;
+        private final int propertyIndex;
+        private final @Nullable CompiledExpression relationshipFilter;
+        private final PropertyCursor[] propertyCursors;
+        private final double[] propertyValues;
+
+        private AdjacencyCursor adjacencyCursor;
+        private int size;
+        private int remaining;
+        private long next;
+        private long nextProperty;
+
+        static Cursor reuseOrCreate(@Nullable Object reuse, SubgraphAdjacency adjacency, int propertyIndex) {
+            if (reuse instanceof Cursor) {
+                var cursor = (Cursor) reuse;
+                if (cursor.adjacency == adjacency && cursor.propertyIndex == propertyIndex) {
+                    return cursor;
+                }
+            }
+            return new Cursor(adjacency, propertyIndex);
+        }
+
+        Cursor(SubgraphAdjacency adjacency, int propertyIndex) {
+            this.adjacency = adjacency;
+            this.propertyIndex = propertyIndex;
+            this.relationshipFilter = adjacency.relationshipFilter != null
+                ? adjacency.relationshipFilter.get()
+                : null;
+            this.adjacencyCursor = adjacency.rootAdjacency.rawAdjacencyCursor();
+
+            var propertyCount = adjacency.rootProperties.length;
+            this.propertyCursors = new PropertyCursor[propertyCount];
+            this.propertyValues = new double[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                // without a filter we only need to read the property we are serving
+                if (relationshipFilter != null || i == propertyIndex) {
+                    propertyCursors[i] = adjacency.rootProperties[i].rawPropertyCursor();
+                }
+            }
+            this.next = NOT_FOUND;
+        }
+
+        void position(long rootNode, int degree, double fallbackValue) {
+            this.size = degree;
+            this.remaining = degree;
+
+            if (degree == 0) {
+                this.next = NOT_FOUND;
+                return;
+            }
+
+            var rootAdjacency = adjacency.rootAdjacency;
+            this.adjacencyCursor = rootAdjacency.adjacencyCursor(adjacencyCursor, rootNode, fallbackValue);
+            for (int i = 0; i < propertyCursors.length; i++) {
+                if (propertyCursors[i] != null) {
+                    propertyCursors[i] = adjacency.rootProperties[i].propertyCursor(
+                        propertyCursors[i],
+                        rootNode,
+                        fallbackValue
+                    );
+                }
+            }
+
+            fetch();
+        }
+
+        private void fetch() {
+            var idMap = adjacency.idMap;
+            while (adjacencyCursor.hasNextVLong()) {
+                var target = idMap.toFilteredNodeId(adjacencyCursor.nextVLong());
+
+                long property = 0;
+                for (int i = 0; i < propertyCursors.length; i++) {
+                    if (propertyCursors[i] != null) {
+                        var value = propertyCursors[i].nextLong();
+                        if (i == propertyIndex) {
+                            property = value;
+                        }
+                        propertyValues[i] = Double.longBitsToDouble(value);
+                    }
+                }
+
+                if (target != NOT_FOUND && (relationshipFilter == null || relationshipFilter.test(propertyValues))) {
+                    this.next = target;
+                    this.nextProperty = property;
+                    return;
+                }
+            }
+            this.next = NOT_FOUND;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "%s can only be positioned through its adjacency list",
+                getClass().getSimpleName()
+            ));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return next != NOT_FOUND;
+        }
+
+        @Override
+        public long nextVLong() {
+            var current = next;
+            remaining--;
+            fetch();
+            return current;
+        }
+
+        @Override
+        public long peekVLong() {
+            return next;
+        }
+
+        @Override
+        public int remaining() {
+            return remaining;
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            while (hasNextVLong()) {
+                var target = nextVLong();
+                if (target > nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            while (hasNextVLong()) {
+                var target = nextVLong();
+                if (target >= nodeId) {
+                    return target;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            while (n-- > 0 && hasNextVLong()) {
+                nextVLong();
+            }
+            return hasNextVLong() ? nextVLong() : NOT_FOUND;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return hasNextVLong();
+        }
+
+        @Override
+        public long nextLong() {
+            var current = nextProperty;
+            remaining--;
+            fetch();
+            return current;
+        }
+
+        @Override
+        public void close() {
+            for (var propertyCursor : propertyCursors) {
+                if (propertyCursor != null) {
+                    propertyCursor.close();
+                }
+            }
+        }
+    }
+}
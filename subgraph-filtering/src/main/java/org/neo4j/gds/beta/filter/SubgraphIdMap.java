@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.IdMapAdapter;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+/**
+ * Translates between the node ids of a subgraph view and the node ids of the graph store it was filtered from.
+ * <p>
+ * The subgraph ids preserve the order of the root ids, so adjacency lists of the root graph stay
+ * sorted when their targets are translated.
+ * This id map is only used to access data of the root graph store.
+ * The view itself exposes the wrapped id map, which does not know about the root graph store.
+ */
+final class SubgraphIdMap extends IdMapAdapter implements FilteredIdMap {
+
+    private final HugeLongArray filteredToRoot;
+    private final HugeLongArray rootToFiltered;
+
+    SubgraphIdMap(IdMap filteredIdMap, HugeLongArray filteredToRoot, HugeLongArray rootToFiltered) {
+        super(filteredIdMap);
+        this.filteredToRoot = filteredToRoot;
+        this.rootToFiltered = rootToFiltered;
+    }
+
+    @Override
+    public long toRootNodeId(long filteredNodeId) {
+        return filteredToRoot.get(filteredNodeId);
+    }
+
+    /**
+     * Returns {@link IdMap#NOT_FOUND} for root nodes that are not part of the subgraph.
+     */
+    @Override
+    public long toFilteredNodeId(long rootNodeId) {
+        return rootToFiltered.get(rootNodeId);
+    }
+
+    @Override
+    public boolean containsRootNodeId(long rootNodeId) {
+        return rootToFiltered.get(rootNodeId) != NOT_FOUND;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.relationships.ImmutableProperties;
+import org.neo4j.gds.api.properties.relationships.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.properties.relationships.RelationshipPropertyStore;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.beta.filter.expression.CompiledExpression;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.FilteredNodePropertyValues.FilteredToOriginalNodePropertyValues;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.api.IdMap.NOT_FOUND;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Filters a graph store without copying its relationships and properties.
+ * <p>
+ * Only the node mapping and the filtered degrees are materialized.
+ * Adjacency lists and properties of the filtered graph store read from the input graph store
+ * and translate node ids on the fly, so the input graph store stays reachable for as long
+ * as the filtered graph store is in use.
+ */
+final class SubgraphView {
+
+    private final GraphStore inputGraphStore;
+    private final IdMap filteredIdMap;
+    private final SubgraphIdMap idMap;
+    private final NodePropertyStore nodePropertyStore;
+
+    static SubgraphView filterNodes(
+        GraphStore inputGraphStore,
+        Expression expression,
+        Concurrency concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var inputNodes = inputGraphStore.nodes();
+        var inputNodeCount = inputNodes.nodeCount();
+
+        progressTracker.beginSubTask();
+        var rootToFiltered = HugeLongArray.newArray(inputNodeCount);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            inputNodeCount,
+            partition -> (Runnable) () -> {
+                var compiledExpression = ExpressionCompiler.compileForNodes(
+                    expression,
+                    inputGraphStore,
+                    parameterMap
+                );
+                partition.consume(node -> {
+                    rootToFiltered.set(node, compiledExpression.test(node) ? 0 : NOT_FOUND);
+                    progressTracker.logProgress();
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+        progressTracker.endSubTask();
+
+        // Ids are assigned in root order, so that translated adjacency lists remain sorted.
+        long filteredNodeCount = 0;
+        for (long rootNode = 0; rootNode < inputNodeCount; rootNode++) {
+            if (rootToFiltered.get(rootNode) != NOT_FOUND) {
+                rootToFiltered.set(rootNode, filteredNodeCount++);
+            }
+        }
+
+        // A single-threaded builder preserves the insertion order of the nodes.
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .idMapBuilderType(inputNodes.typeId())
+            .deduplicateIds(false)
+            .nodeCount(filteredNodeCount)
+            .concurrency(new Concurrency(1))
+            .maxOriginalId(inputNodes.highestOriginalId())
+            .hasLabelInformation(!inputGraphStore.nodeLabels().isEmpty())
+            .build();
+        for (long rootNode = 0; rootNode < inputNodeCount; rootNode++) {
+            if (rootToFiltered.get(rootNode) != NOT_FOUND) {
+                nodesBuilder.addNode(
+                    inputNodes.toOriginalNodeId(rootNode),
+                    NodeLabelTokens.of(inputNodes.nodeLabels(rootNode))
+                );
+            }
+        }
+        var filteredIdMap = nodesBuilder.build().idMap();
+
+        var filteredToRoot = HugeLongArray.newArray(filteredNodeCount);
+        var orderPreserved = new AtomicBoolean(true);
+        ParallelUtil.parallelForEachNode(
+            filteredNodeCount,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            filteredNode -> {
+                var rootNode = inputNodes.toMappedNodeId(filteredIdMap.toOriginalNodeId(filteredNode));
+                filteredToRoot.set(filteredNode, rootNode);
+                if (rootToFiltered.get(rootNode) != filteredNode) {
+                    orderPreserved.set(false);
+                }
+            }
+        );
+        if (!orderPreserved.get()) {
+            throw new IllegalStateException("The filtered id map does not preserve the order of the input nodes.");
+        }
+
+        var idMap = new SubgraphIdMap(filteredIdMap, filteredToRoot, rootToFiltered);
+
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask(0);
+        var nodePropertyStore = NodePropertyStore.builder();
+        inputGraphStore.nodePropertyKeys().forEach(propertyKey -> {
+            var nodeProperty = inputGraphStore.nodeProperty(propertyKey);
+            nodePropertyStore.putProperty(
+                propertyKey,
+                NodeProperty.of(
+                    propertyKey,
+                    nodeProperty.propertyState(),
+                    new FilteredToOriginalNodePropertyValues(nodeProperty.values(), idMap)
+                )
+            );
+        });
+        progressTracker.endSubTask();
+        progressTracker.endSubTask();
+
+        return new SubgraphView(inputGraphStore, filteredIdMap, idMap, nodePropertyStore.build());
+    }
+
+    private SubgraphView(
+        GraphStore inputGraphStore,
+        IdMap filteredIdMap,
+        SubgraphIdMap idMap,
+        NodePropertyStore nodePropertyStore
+    ) {
+        this.inputGraphStore = inputGraphStore;
+        this.filteredIdMap = filteredIdMap;
+        this.idMap = idMap;
+        this.nodePropertyStore = nodePropertyStore;
+    }
+
+    NodesFilter.FilteredNodes filteredNodes() {
+        return ImmutableFilteredNodes.builder()
+            .idMap(filteredIdMap)
+            .propertyStores(nodePropertyStore)
+            .build();
+    }
+
+    Map<RelationshipType, SingleTypeRelationships> filterRelationships(
+        Expression expression,
+        Concurrency concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        Map<RelationshipType, SingleTypeRelationships> filteredRelationships = new HashMap<>();
+
+        progressTracker.beginSubTask();
+
+        for (RelationshipType relType : inputGraphStore.relationshipTypes()) {
+            progressTracker.beginSubTask(inputGraphStore.relationshipCount(relType));
+            filterRelationshipType(
+                expression,
+                relType,
+                concurrency,
+                parameterMap,
+                executorService,
+                progressTracker
+            ).ifPresent(relationships -> filteredRelationships.put(relType, relationships));
+            progressTracker.endSubTask();
+        }
+
+        progressTracker.endSubTask();
+
+        return filteredRelationships;
+    }
+
+    private Optional<SingleTypeRelationships> filterRelationshipType(
+        Expression expression,
+        RelationshipType relType,
+        Concurrency concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var propertyKeys = new ArrayList<>(inputGraphStore.relationshipPropertyKeys(relType));
+        var propertyIndices = IntStream
+            .range(0, propertyKeys.size())
+            .boxed()
+            .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
+
+        var compiledExpression = ExpressionCompiler.compileForRelationships(
+            expression,
+            relType,
+            propertyIndices,
+            parameterMap
+        );
+        if (compiledExpression.isConstant() && !compiledExpression.test(new double[propertyKeys.size()])) {
+            return Optional.empty();
+        }
+        // Each cursor needs its own copy, since compiled expressions are not thread-safe.
+        Supplier<CompiledExpression> relationshipFilter = compiledExpression.isConstant()
+            ? null
+            : () -> ExpressionCompiler.compileForRelationships(expression, relType, propertyIndices, parameterMap);
+
+        var inputGraph = hugeGraph(relType, Optional.empty());
+        var inputTopology = inputGraph.relationshipTopology();
+
+        var adjacency = new SubgraphAdjacency(
+            inputTopology.adjacencyList(),
+            propertyKeys
+                .stream()
+                .map(key -> inputGraphStore.relationshipPropertyValues(relType, key).values().propertiesList())
+                .toArray(AdjacencyProperties[]::new),
+            idMap,
+            relationshipFilter
+        );
+        adjacency.computeDegrees(concurrency, executorService, progressTracker);
+
+        // Drop relationship types that have been completely filtered out.
+        if (adjacency.relationshipCount() == 0) {
+            return Optional.empty();
+        }
+
+        var relationships = SingleTypeRelationships.builder()
+            .relationshipSchemaEntry(MutableRelationshipSchemaEntry.from(
+                inputGraphStore.schema().relationshipSchema().get(relType)
+            ))
+            .topology(topology(adjacency, inputTopology))
+            .properties(propertyStore(relType, propertyKeys, adjacency));
+
+        if (inputGraphStore.inverseIndexedRelationshipTypes().contains(relType)) {
+            var inverseTopology = inputGraph.inverseRelationshipTopology().orElseThrow();
+            var inverseAdjacency = new SubgraphAdjacency(
+                inverseTopology.adjacencyList(),
+                propertyKeys
+                    .stream()
+                    .map(key -> hugeGraph(relType, Optional.of(key))
+                        .inverseRelationshipProperties()
+                        .orElseThrow()
+                        .propertiesList())
+                    .toArray(AdjacencyProperties[]::new),
+                idMap,
+                relationshipFilter
+            );
+            inverseAdjacency.computeDegrees(concurrency, executorService, ProgressTracker.NULL_TRACKER);
+
+            relationships
+                .inverseTopology(topology(inverseAdjacency, inverseTopology))
+                .inverseProperties(propertyStore(relType, propertyKeys, inverseAdjacency));
+        }
+
+        return Optional.of(relationships.build());
+    }
+
+    private HugeGraph hugeGraph(RelationshipType relType, Optional<String> propertyKey) {
+        var graph = inputGraphStore.getGraph(relType, propertyKey);
+        if (!(graph instanceof HugeGraph)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Filtering graphs of type `%s` as a view is not supported.",
+                graph.getClass().getSimpleName()
+            ));
+        }
+        return (HugeGraph) graph;
+    }
+
+    private static Topology topology(SubgraphAdjacency adjacency, Topology inputTopology) {
+        return ImmutableTopology.builder()
+            .adjacencyList(adjacency)
+            .elementCount(adjacency.relationshipCount())
+            .isMultiGraph(inputTopology.isMultiGraph())
+            .build();
+    }
+
+    private RelationshipPropertyStore propertyStore(
+        RelationshipType relType,
+        List<String> propertyKeys,
+        SubgraphAdjacency adjacency
+    ) {
+        var propertyStore = RelationshipPropertyStore.builder();
+        for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+            var propertyKey = propertyKeys.get(propertyIndex);
+            var inputProperty = inputGraphStore.relationshipPropertyValues(relType, propertyKey);
+
+            var values = ImmutableProperties.builder()
+                .propertiesList(adjacency.properties(propertyIndex))
+                .defaultPropertyValue(inputProperty.values().defaultPropertyValue())
+                .elementCount(adjacency.relationshipCount())
+                .build();
+
+            propertyStore.putRelationshipProperty(
+                propertyKey,
+                ImmutableRelationshipProperty.builder()
+                    .values(values)
+                    .propertySchema(inputProperty.propertySchema())
+                    .build()
+            );
+        }
+        return propertyStore.build();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+/**
+ * An {@link Expression} that has been compiled by the {@link ExpressionCompiler}
+ * for a fixed graph store, relationship type and parameter map.
+ * <p>
+ * Evaluation returns the same encoded values as {@link Expression#evaluate(EvaluationContext)},
+ * i.e. {@link Expression#TRUE} and {@link Expression#FALSE} for predicates and
+ * raw long bits for long-typed values.
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+    /**
+     * @param nodeId     the node to evaluate, ignored for relationship expressions
+     * @param properties the relationship properties, ignored for node expressions
+     */
+    double evaluate(long nodeId, double[] properties);
+
+    /**
+     * Returns true if the result does not depend on the evaluated element.
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
+    default boolean test(long nodeId) {
+        return evaluate(nodeId, null) == Expression.TRUE;
+    }
+
+    default boolean test(double[] properties) {
+        return evaluate(-1, properties) == Expression.TRUE;
+    }
+}
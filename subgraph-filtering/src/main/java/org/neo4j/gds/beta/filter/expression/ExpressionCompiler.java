@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.gds.beta.filter.expression.Expression.VARIABLE;
+
+/**
+ * Turns a validated {@link Expression} tree into a tree of specialised lambdas.
+ * <p>
+ * Everything that does not depend on the evaluated element is resolved once:
+ * property keys are bound to their property values or array index, label and
+ * type checks to the graph store or relationship type, parameters to their value
+ * and degree functions to the filtered graph. Subtrees that only consist of
+ * constants are folded into a single constant.
+ * <p>
+ * Expressions that are not part of the filter language, e.g. custom implementations,
+ * are evaluated through an {@link EvaluationContext}. Compiled expressions might
+ * therefore hold mutable state and must not be shared between threads.
+ */
+public final class ExpressionCompiler {
+
+    private final ElementAccess access;
+    private final Map<String, Object> parameterMap;
+
+    public static CompiledExpression compileForNodes(
+        Expression expression,
+        GraphStore graphStore,
+        Map<String, Object> parameterMap
+    ) {
+        return new ExpressionCompiler(new NodeAccess(graphStore, parameterMap), parameterMap).compile(expression);
+    }
+
+    public static CompiledExpression compileForRelationships(
+        Expression expression,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices,
+        Map<String, Object> parameterMap
+    ) {
+        return new ExpressionCompiler(
+            new RelationshipAccess(relationshipType, propertyIndices, parameterMap),
+            parameterMap
+        ).compile(expression);
+    }
+
+    private ExpressionCompiler(ElementAccess access, Map<String, Object> parameterMap) {
+        this.access = access;
+        this.parameterMap = parameterMap;
+    }
+
+    private CompiledExpression compile(Expression expression) {
+        if (expression instanceof Expression.Literal) {
+            // literals do not read from the context
+            return constant(expression.evaluate(null));
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return constant(VARIABLE);
+        }
+        if (expression instanceof Expression.UnaryExpression.Property property) {
+            return access.property(property.propertyKey(), property.valueType());
+        }
+        if (expression instanceof Expression.UnaryExpression.HasNodeLabels hasNodeLabels) {
+            return access.hasNodeLabels(hasNodeLabels.nodeLabels());
+        }
+        if (expression instanceof Expression.UnaryExpression.HasRelationshipTypes hasRelationshipTypes) {
+            return access.hasRelationshipTypes(hasRelationshipTypes.relationshipTypes());
+        }
+        if (expression instanceof Expression.UnaryExpression.Not not) {
+            return not(compile(not.in()));
+        }
+        if (expression instanceof Expression.UnaryExpression.NewParameter parameter) {
+            return parameter(parameter);
+        }
+        if (expression instanceof Expression.BinaryExpression.And and) {
+            return and(compile(and.lhs()), compile(and.rhs()));
+        }
+        if (expression instanceof Expression.BinaryExpression.Or or) {
+            return or(compile(or.lhs()), compile(or.rhs()));
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor xor) {
+            return xor(compile(xor.lhs()), compile(xor.rhs()));
+        }
+        if (expression instanceof Expression.BinaryExpression.BinaryArithmeticExpression arithmetic) {
+            return arithmetic(arithmetic);
+        }
+        if (expression instanceof Expression.Function.Degree degree) {
+            return access.degree(degree.typeSelection());
+        }
+
+        return access.interpret(expression);
+    }
+
+    private CompiledExpression parameter(Expression.UnaryExpression.NewParameter parameter) {
+        var value = (Number) parameterMap.get(parameter.in().name());
+        if (value == null) {
+            // keep failing the same way as the interpreted expression
+            return access.interpret(parameter);
+        }
+        return constant(value instanceof Long ? value.longValue() : value.doubleValue());
+    }
+
+    private static CompiledExpression arithmetic(
+        Expression.BinaryExpression.BinaryArithmeticExpression arithmetic,
+        CompiledExpression lhs,
+        CompiledExpression rhs
+    ) {
+        // It is sufficient to check one of the input types
+        // as validation made sure that the types are equal.
+        if (arithmetic.lhs().valueType() == ValueType.LONG) {
+            if (arithmetic.rhs().valueType() == ValueType.UNKNOWN) {
+                return (nodeId, properties) -> arithmetic.evaluateLong(
+                    Double.doubleToRawLongBits(lhs.evaluate(nodeId, properties)),
+                    (long) rhs.evaluate(nodeId, properties)
+                );
+            }
+            return (nodeId, properties) -> arithmetic.evaluateLong(
+                Double.doubleToRawLongBits(lhs.evaluate(nodeId, properties)),
+                Double.doubleToRawLongBits(rhs.evaluate(nodeId, properties))
+            );
+        }
+        return (nodeId, properties) -> arithmetic.evaluateDouble(
+            lhs.evaluate(nodeId, properties),
+            rhs.evaluate(nodeId, properties)
+        );
+    }
+
+    private CompiledExpression arithmetic(Expression.BinaryExpression.BinaryArithmeticExpression arithmetic) {
+        var lhs = compile(arithmetic.lhs());
+        var rhs = compile(arithmetic.rhs());
+        return fold(arithmetic(arithmetic, lhs, rhs), lhs, rhs);
+    }
+
+    private static CompiledExpression not(CompiledExpression in) {
+        if (in instanceof Constant constant) {
+            return constant(constant.value == TRUE ? FALSE : TRUE);
+        }
+        return (nodeId, properties) -> in.evaluate(nodeId, properties) == TRUE ? FALSE : TRUE;
+    }
+
+    private static CompiledExpression and(CompiledExpression lhs, CompiledExpression rhs) {
+        if (lhs instanceof Constant constant) {
+            // the right-hand side is never evaluated if the left-hand side is not true
+            return constant.value == TRUE ? predicate(rhs) : constant(FALSE);
+        }
+        if (rhs instanceof Constant constant) {
+            return constant.value == TRUE ? predicate(lhs) : constant(FALSE);
+        }
+        return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE && rhs.evaluate(nodeId, properties) == TRUE
+            ? TRUE
+            : FALSE;
+    }
+
+    private static CompiledExpression or(CompiledExpression lhs, CompiledExpression rhs) {
+        if (lhs instanceof Constant constant) {
+            // the right-hand side is never evaluated if the left-hand side is true
+            return constant.value == TRUE ? constant(TRUE) : predicate(rhs);
+        }
+        if (rhs instanceof Constant constant) {
+            return constant.value == TRUE ? constant(TRUE) : predicate(lhs);
+        }
+        return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE || rhs.evaluate(nodeId, properties) == TRUE
+            ? TRUE
+            : FALSE;
+    }
+
+    private static CompiledExpression xor(CompiledExpression lhs, CompiledExpression rhs) {
+        if (lhs instanceof Constant constant) {
+            return constant.value == TRUE ? not(rhs) : predicate(rhs);
+        }
+        if (rhs instanceof Constant constant) {
+            return constant.value == TRUE ? not(lhs) : predicate(lhs);
+        }
+        return (nodeId, properties) -> lhs.evaluate(nodeId, properties) == TRUE ^ rhs.evaluate(nodeId, properties) == TRUE
+            ? TRUE
+            : FALSE;
+    }
+
+    /**
+     * Normalizes the result of the given expression to {@link Expression#TRUE} or {@link Expression#FALSE}.
+     */
+    private static CompiledExpression predicate(CompiledExpression in) {
+        if (in instanceof Constant constant) {
+            return constant(constant.value == TRUE ? TRUE : FALSE);
+        }
+        return (nodeId, properties) -> in.evaluate(nodeId, properties) == TRUE ? TRUE : FALSE;
+    }
+
+    /**
+     * Evaluates the compiled expression once if all of its inputs are constant.
+     */
+    private static CompiledExpression fold(CompiledExpression compiled, CompiledExpression... inputs) {
+        for (var input : inputs) {
+            if (!(input instanceof Constant)) {
+                return compiled;
+            }
+        }
+        return constant(compiled.evaluate(-1, null));
+    }
+
+    static CompiledExpression constant(double value) {
+        return new Constant(value);
+    }
+
+    static final class Constant implements CompiledExpression {
+        private final double value;
+
+        private Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double evaluate(long nodeId, double[] properties) {
+            return value;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+
+    private interface ElementAccess {
+        CompiledExpression property(String propertyKey, ValueType valueType);
+
+        CompiledExpression hasNodeLabels(List<NodeLabel> nodeLabels);
+
+        CompiledExpression hasRelationshipTypes(List<RelationshipType> relationshipTypes);
+
+        CompiledExpression degree(Collection<RelationshipType> typeSelection);
+
+        CompiledExpression interpret(Expression expression);
+    }
+
+    private static final class NodeAccess implements ElementAccess {
+        private final GraphStore graphStore;
+        private final Map<String, Object> parameterMap;
+
+        NodeAccess(GraphStore graphStore, Map<String, Object> parameterMap) {
+            this.graphStore = graphStore;
+            this.parameterMap = parameterMap;
+        }
+
+        @Override
+        public CompiledExpression property(String propertyKey, ValueType valueType) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+            var values = graphStore.nodeProperty(propertyKey).values();
+            if (valueType == ValueType.LONG) {
+                return (nodeId, properties) -> Double.longBitsToDouble(values.longValue(nodeId));
+            }
+            return (nodeId, properties) -> values.doubleValue(nodeId);
+        }
+
+        @Override
+        public CompiledExpression hasNodeLabels(List<NodeLabel> nodeLabels) {
+            if (nodeLabels.isEmpty()) {
+                return constant(TRUE);
+            }
+            var nodes = graphStore.nodes();
+            var labels = nodeLabels.toArray(NodeLabel[]::new);
+            if (labels.length == 1) {
+                var label = labels[0];
+                return (nodeId, properties) -> nodes.hasLabel(nodeId, label) ? TRUE : FALSE;
+            }
+            return (nodeId, properties) -> {
+                for (var label : labels) {
+                    if (!nodes.hasLabel(nodeId, label)) {
+                        return FALSE;
+                    }
+                }
+                return TRUE;
+            };
+        }
+
+        @Override
+        public CompiledExpression hasRelationshipTypes(List<RelationshipType> relationshipTypes) {
+            return constant(FALSE);
+        }
+
+        @Override
+        public CompiledExpression degree(Collection<RelationshipType> typeSelection) {
+            var graph = typeSelection.isEmpty()
+                ? graphStore.getUnion()
+                : graphStore.getGraph(typeSelection, Optional.empty());
+            return (nodeId, properties) -> Double.longBitsToDouble(graph.degree(nodeId));
+        }
+
+        @Override
+        public CompiledExpression interpret(Expression expression) {
+            var context = new EvaluationContext.NodeEvaluationContext(graphStore, parameterMap);
+            return (nodeId, properties) -> {
+                context.init(nodeId);
+                return expression.evaluate(context);
+            };
+        }
+    }
+
+    private static final class RelationshipAccess implements ElementAccess {
+        private final RelationshipType relationshipType;
+        private final Map<String, Integer> propertyIndices;
+        private final Map<String, Object> parameterMap;
+
+        RelationshipAccess(
+            RelationshipType relationshipType,
+            Map<String, Integer> propertyIndices,
+            Map<String, Object> parameterMap
+        ) {
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+            this.parameterMap = parameterMap;
+        }
+
+        @Override
+        public CompiledExpression property(String propertyKey, ValueType valueType) {
+            // properties that do not exist for this type resolve to the first slot, same as the evaluation context
+            int index = propertyIndices.getOrDefault(propertyKey, 0);
+            return (nodeId, properties) -> properties[index];
+        }
+
+        @Override
+        public CompiledExpression hasNodeLabels(List<NodeLabel> nodeLabels) {
+            return constant(FALSE);
+        }
+
+        @Override
+        public CompiledExpression hasRelationshipTypes(List<RelationshipType> relationshipTypes) {
+            return constant(relationshipTypes.contains(relationshipType) ? TRUE : FALSE);
+        }
+
+        @Override
+        public CompiledExpression degree(Collection<RelationshipType> typeSelection) {
+            return (nodeId, properties) -> {
+                throw new UnsupportedOperationException("Degree is not supported for relationship evaluation context");
+            };
+        }
+
+        @Override
+        public CompiledExpression interpret(Expression expression) {
+            var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
+            return (nodeId, properties) -> {
+                context.init(relationshipType, properties);
+                return expression.evaluate(context);
+            };
+        }
+    }
+}
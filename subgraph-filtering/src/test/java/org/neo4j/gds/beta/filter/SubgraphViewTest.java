@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class SubgraphViewTest {
+
+    private static final String GDL =
+        "  (a:A { p: 1L })" +
+        ", (b:B { p: 2L })" +
+        ", (c:A:B { p: 3L })" +
+        ", (d:C { p: 4L })" +
+        ", (e:A { p: 5L })" +
+        ", (a)-[:REL1 { w: 1.0, x: 10.0 }]->(b)" +
+        ", (a)-[:REL1 { w: 2.0, x: 20.0 }]->(c)" +
+        ", (a)-[:REL1 { w: 3.0, x: 30.0 }]->(e)" +
+        ", (b)-[:REL1 { w: 4.0, x: 40.0 }]->(c)" +
+        ", (c)-[:REL1 { w: 5.0, x: 50.0 }]->(a)" +
+        ", (d)-[:REL1 { w: 6.0, x: 60.0 }]->(e)" +
+        ", (e)-[:REL1 { w: 7.0, x: 70.0 }]->(b)" +
+        ", (a)-[:REL2]->(d)" +
+        ", (c)-[:REL2]->(e)" +
+        ", (e)-[:REL2]->(a)";
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "*;*",
+        "n:A;*",
+        "n.p > 1;r:REL1",
+        "NOT n:C;r.w > 2.0 AND r.x < 70.0",
+        "n:B;r:REL2",
+        "n:A OR n:C;r:REL2 OR r.w < 5.0"
+    }, delimiter = ';')
+    void viewEqualsMaterializedFilter(String nodeFilter, String relationshipFilter) throws Exception {
+        var graphStore = GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(GDL)
+                .graphName("graph")
+                .indexInverse(true)
+                .build())
+            .build()
+            .build();
+
+        var materialized = filter(graphStore, nodeFilter, relationshipFilter, false);
+        var view = filter(graphStore, nodeFilter, relationshipFilter, true);
+
+        assertThat(view.nodeCount()).isEqualTo(materialized.nodeCount());
+        assertThat(view.relationshipTypes()).isEqualTo(materialized.relationshipTypes());
+        assertThat(view.inverseIndexedRelationshipTypes()).isEqualTo(materialized.inverseIndexedRelationshipTypes());
+        assertThat(view.schema()).isEqualTo(materialized.schema());
+
+        assertGraphEquals(materialized.getUnion(), view.getUnion());
+
+        for (var relType : materialized.relationshipTypes()) {
+            assertThat(view.relationshipCount(relType)).isEqualTo(materialized.relationshipCount(relType));
+
+            var propertyKeys = materialized.relationshipPropertyKeys(relType);
+            if (propertyKeys.isEmpty()) {
+                assertInverseEquals(materialized.getGraph(relType), view.getGraph(relType));
+            }
+            for (var propertyKey : propertyKeys) {
+                var expected = materialized.getGraph(relType, Optional.of(propertyKey));
+                var actual = view.getGraph(relType, Optional.of(propertyKey));
+                assertGraphEquals(expected, actual);
+                assertInverseEquals(expected, actual);
+            }
+        }
+    }
+
+    private static GraphStore filter(
+        GraphStore graphStore,
+        String nodeFilter,
+        String relationshipFilter,
+        boolean view
+    ) throws Exception {
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "subgraph",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            ImmutableGraphProjectFromGdlConfig.builder().gdlGraph(GDL).graphName("graph").build(),
+            CypherMapWrapper.create(Map.of("view", view))
+        );
+
+        return GraphStoreFilter.filter(
+            graphStore,
+            config,
+            ExecutorServiceUtil.DEFAULT_SINGLE_THREAD_POOL,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
+    private static void assertInverseEquals(Graph expected, Graph actual) {
+        expected.forEachNode(node -> {
+            var originalNode = expected.toOriginalNodeId(node);
+            var actualNode = actual.toMappedNodeId(originalNode);
+
+            assertThat(actual.degreeInverse(actualNode))
+                .as("inverse degree of %d", originalNode)
+                .isEqualTo(expected.degreeInverse(node));
+            assertThat(inverseRelationships(actual, actualNode))
+                .as("inverse relationships of %d", originalNode)
+                .containsExactlyElementsOf(inverseRelationships(expected, node));
+            return true;
+        });
+    }
+
+    private static List<String> inverseRelationships(Graph graph, long node) {
+        var relationships = new ArrayList<String>();
+        graph.forEachInverseRelationship(node, Double.NaN, (source, target, property) -> {
+            relationships.add(graph.toOriginalNodeId(target) + ":" + property);
+            return true;
+        });
+        return relationships;
+    }
+}
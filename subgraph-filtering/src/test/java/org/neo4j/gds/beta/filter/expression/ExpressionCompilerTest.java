@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: 0.5, p2: -1 })" +
+        ", (a)-[:REL1 { baz: 84.0, qux: 1.0 }]->(b)" +
+        ", (a)-[:REL1 { baz: 21.0, qux: 2.0 }]->(c)" +
+        ", (b)-[:REL2 { baz: 1.0, qux: 3.0 }]->(c)";
+
+    private static final Map<String, Object> PARAMETERS = Map.of("longParam", 42L, "doubleParam", 1000.0D);
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "false",
+        "n:A",
+        "n:A:B",
+        "NOT n:B",
+        "n:A OR n:C",
+        "n:A XOR n:B",
+        "n.p1 > 40.0",
+        "n.p1 >= 1337.0 AND n:B",
+        "n.p2 = 42",
+        "n.p2 <> 42",
+        "n.p2 < 0",
+        "n.p2 <= 1337",
+        "n.p2 = $longParam",
+        "n.p1 > $doubleParam",
+        "degree() > 0",
+        "degree('REL1') = 2",
+        "degree('REL2') >= 1 OR n.p2 < 0",
+        "1 < 2 AND n:C",
+        "1 > 2 OR NOT n:C",
+        "true XOR n:A"
+    })
+    void nodeExpressionsAreEquivalent(String filter) throws ParseException, SemanticErrors {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var compiled = ExpressionCompiler.compileForNodes(expression, graphStore, PARAMETERS);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, PARAMETERS);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(compiled.evaluate(nodeId, null))
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(context));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "r:REL1",
+        "r:REL1:REL2",
+        "NOT r:REL2",
+        "r.baz > 20.0",
+        "r.baz > 20.0 AND r.qux < 2.0",
+        "r.qux = 3.0 OR r:REL1",
+        "r.baz < $doubleParam"
+    })
+    void relationshipExpressionsAreEquivalent(String filter) throws ParseException, SemanticErrors {
+        var validationContext = ValidationContext.forRelationships(graphStore);
+        var expression = ExpressionParser.parse(filter, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var propertyIndices = Map.of("baz", 0, "qux", 1);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, PARAMETERS);
+
+        for (var relType : List.of(RelationshipType.of("REL1"), RelationshipType.of("REL2"))) {
+            var compiled = ExpressionCompiler.compileForRelationships(expression, relType, propertyIndices, PARAMETERS);
+            for (var properties : List.of(new double[]{84.0, 1.0}, new double[]{21.0, 2.0}, new double[]{1.0, 3.0})) {
+                context.init(relType, properties);
+                assertThat(compiled.evaluate(-1, properties))
+                    .as("type %s", relType.name)
+                    .isEqualTo(expression.evaluate(context));
+            }
+        }
+    }
+
+    @Test
+    void foldConstantExpressions() throws ParseException {
+        var expression = ExpressionParser.parse("1 < 2 AND (3.0 > 4.0 OR NOT false)", Map.of());
+
+        var compiled = ExpressionCompiler.compileForNodes(expression, graphStore, Map.of());
+
+        assertThat(compiled).isInstanceOf(ExpressionCompiler.Constant.class);
+        assertThat(compiled.evaluate(0, null)).isEqualTo(Expression.TRUE);
+    }
+
+    @Test
+    void foldRelationshipTypeChecks() throws ParseException {
+        var expression = ExpressionParser.parse("r:REL2", Map.of());
+
+        var compiled = ExpressionCompiler.compileForRelationships(
+            expression,
+            RelationshipType.of("REL1"),
+            Map.of(),
+            Map.of()
+        );
+
+        assertThat(compiled).isInstanceOf(ExpressionCompiler.Constant.class);
+        assertThat(compiled.test(new double[0])).isFalse();
+    }
+
+    @Test
+    void interpretCustomExpressions() {
+        Expression expression = context -> context.hasLabelsOrTypes(List.of("REL1")) ? Expression.TRUE : Expression.FALSE;
+
+        var rel1 = ExpressionCompiler.compileForRelationships(expression, RelationshipType.of("REL1"), Map.of(), Map.of());
+        var rel2 = ExpressionCompiler.compileForRelationships(expression, RelationshipType.of("REL2"), Map.of(), Map.of());
+
+        assertThat(rel1.test(new double[0])).isTrue();
+        assertThat(rel2.test(new double[0])).isFalse();
+    }
+}
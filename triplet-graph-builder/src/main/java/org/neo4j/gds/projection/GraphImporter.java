@@ -31,6 +31,8 @@ import org.neo4j.gds.api.schema.MutableRelationshipSchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
@@ -49,6 +51,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -64,6 +67,7 @@ import static org.neo4j.gds.Orientation.UNDIRECTED;
 public final class GraphImporter {
 
     public static final int NO_TARGET_NODE = -1;
+    public static final int NO_STREAMING = 0;
 
     private final GraphProjectConfig config;
     private final List<String> undirectedRelationshipTypes;
@@ -76,6 +80,7 @@ public final class GraphImporter {
     private final ProgressTracker progressTracker;
 
     private final Map<RelationshipType, RelationshipsBuilder> relImporters;
+    private final @Nullable StreamingRelationshipImporter streamingImporter;
     private final ImmutableMutableGraphSchema.Builder graphSchemaBuilder;
 
     public static Task graphImporterTask(int taskVolume) {
@@ -86,6 +91,14 @@ public final class GraphImporter {
         );
     }
 
+    /**
+     * The number of relationships that are staged per batch in streaming mode,
+     * based on the estimated number of rows of the projection query.
+     */
+    public static int streamingBatchSize(int estimatedRows, Concurrency concurrency) {
+        return StreamingRelationshipImporter.batchSize(estimatedRows, concurrency);
+    }
+
     public GraphImporter(
         GraphProjectConfig config,
         List<String> undirectedRelationshipTypes,
@@ -94,6 +107,35 @@ public final class GraphImporter {
         WriteMode writeMode,
         String query,
         ProgressTracker progressTracker
+    ) {
+        this(
+            config,
+            undirectedRelationshipTypes,
+            inverseIndexedRelationshipTypes,
+            idMapBuilder,
+            writeMode,
+            query,
+            progressTracker,
+            NO_STREAMING
+        );
+    }
+
+    /**
+     * @param streamingBatchSize if positive, relationships are staged in batches of this size and compressed
+     *                           in parallel by the {@link DefaultPool} while rows are still being added.
+     *                           The number of staged batches is bounded by the read concurrency, callers of
+     *                           {@link #update} block if all of them are waiting to be compressed.
+     *                           Use {@link #NO_STREAMING} to compress relationships on the calling thread.
+     */
+    public GraphImporter(
+        GraphProjectConfig config,
+        List<String> undirectedRelationshipTypes,
+        List<String> inverseIndexedRelationshipTypes,
+        LazyIdMapBuilder idMapBuilder,
+        WriteMode writeMode,
+        String query,
+        ProgressTracker progressTracker,
+        int streamingBatchSize
     ) {
         this.config = config;
         this.undirectedRelationshipTypes = undirectedRelationshipTypes;
@@ -103,6 +145,9 @@ public final class GraphImporter {
         this.query = query;
         this.progressTracker = progressTracker;
         this.relImporters = new ConcurrentHashMap<>();
+        this.streamingImporter = streamingBatchSize > NO_STREAMING
+            ? new StreamingRelationshipImporter(streamingBatchSize, config.readConcurrency(), DefaultPool.INSTANCE)
+            : null;
         this.graphSchemaBuilder = MutableGraphSchema.builder();
 
         progressTracker.beginSubTask("Graph aggregation");
@@ -123,33 +168,23 @@ public final class GraphImporter {
         var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
 
         if (targetNode != NO_TARGET_NODE) {
-            RelationshipsBuilder relImporter;
-            // we do the check before to avoid having to create a new lambda instance on every call
-            if (this.relImporters.containsKey(relationshipType)) {
-                relImporter = this.relImporters.get(relationshipType);
-            } else {
-                relImporter = this.relImporters.computeIfAbsent(
-                    relationshipType,
-                    type -> newRelImporter(type, relationshipProperties)
-                );
-            }
+            var relImporter = relImporter(relationshipType, relationshipProperties);
 
             var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
 
-            if (relationshipProperties != null) {
+            if (this.streamingImporter != null) {
+                this.streamingImporter.add(
+                    relationshipType,
+                    intermediateSourceId,
+                    intermediateTargetId,
+                    relationshipProperties
+                );
+            } else if (relationshipProperties != null) {
                 if (relationshipProperties.size() == 1) {
-                    relationshipProperties.forEach((key, value) -> {
-                        var property = RelationshipPropertyExtractor.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
-                        relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, property);
-                    });
+                    var property = singlePropertyValue(relationshipProperties);
+                    relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, property);
                 } else {
-                    var propertyValues = new double[relationshipProperties.size()];
-                    int[] index = {0};
-                    relationshipProperties.forEach((key, value) -> {
-                        var property = RelationshipPropertyExtractor.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
-                        var i = index[0]++;
-                        propertyValues[i] = property;
-                    });
+                    var propertyValues = propertyValues(relationshipProperties);
                     relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValues);
                 }
             } else {
@@ -160,11 +195,140 @@ public final class GraphImporter {
         progressTracker.logProgress();
     }
 
+    /**
+     * Creates an importer with its own node and relationship buffers, e.g. for one worker of a parallel
+     * Cypher runtime. Rows added to different partitions do not contend for shared builders.
+     * A partition must not be used concurrently. Buffered rows are flushed by {@link Partition#flush()},
+     * and at the latest when the graph is built in {@link #result}.
+     */
+    public Partition partition() {
+        return new Partition(this.idMapBuilder.partition());
+    }
+
+    public final class Partition {
+        private final LazyIdMapBuilder.Partition nodes;
+        private final Map<RelationshipType, RelationshipsBuilder.Partition> relationships;
+
+        private Partition(LazyIdMapBuilder.Partition nodes) {
+            this.nodes = nodes;
+            this.relationships = new HashMap<>();
+        }
+
+        public void update(
+            long sourceNode,
+            long targetNode,
+            @Nullable PropertyValues sourceNodePropertyValues,
+            @Nullable PropertyValues targetNodePropertyValues,
+            NodeLabelToken sourceNodeLabels,
+            NodeLabelToken targetNodeLabels,
+            RelationshipType relationshipType,
+            @Nullable PropertyValues relationshipProperties
+        ) {
+            var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
+
+            if (targetNode != NO_TARGET_NODE) {
+                var relationships = relationships(relationshipType, relationshipProperties);
+
+                var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+
+                if (relationships == null) {
+                    streamingImporter.add(
+                        relationshipType,
+                        intermediateSourceId,
+                        intermediateTargetId,
+                        relationshipProperties
+                    );
+                } else if (relationshipProperties != null) {
+                    if (relationshipProperties.size() == 1) {
+                        var property = singlePropertyValue(relationshipProperties);
+                        relationships.addFromInternal(intermediateSourceId, intermediateTargetId, property);
+                    } else {
+                        var propertyValues = propertyValues(relationshipProperties);
+                        relationships.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValues);
+                    }
+                } else {
+                    relationships.addFromInternal(intermediateSourceId, intermediateTargetId);
+                }
+            }
+
+            progressTracker.logProgress();
+        }
+
+        public void flush() {
+            this.nodes.flush();
+            this.relationships.values().forEach(RelationshipsBuilder.Partition::flush);
+        }
+
+        /**
+         * @return the partition of the relationships builder, or {@code null} in streaming mode,
+         *     where relationships are staged in the shared batches of the streaming importer instead.
+         */
+        private @Nullable RelationshipsBuilder.Partition relationships(
+            RelationshipType relationshipType,
+            @Nullable PropertyValues relationshipProperties
+        ) {
+            var relationships = this.relationships.get(relationshipType);
+            if (relationships == null) {
+                var relImporter = relImporter(relationshipType, relationshipProperties);
+                if (streamingImporter != null) {
+                    return null;
+                }
+                relationships = relImporter.partition();
+                this.relationships.put(relationshipType, relationships);
+            }
+            return relationships;
+        }
+
+        private long loadNode(long node, NodeLabelToken nodeLabels, @Nullable PropertyValues nodeProperties) {
+            return nodeProperties == null
+                ? this.nodes.addNode(node, nodeLabels)
+                : this.nodes.addNodeWithProperties(node, nodeProperties, nodeLabels);
+        }
+    }
+
+    private RelationshipsBuilder relImporter(
+        RelationshipType relationshipType,
+        @Nullable PropertyValues relationshipProperties
+    ) {
+        // we do the check before to avoid having to create a new lambda instance on every call
+        var relImporter = this.relImporters.get(relationshipType);
+        if (relImporter != null) {
+            return relImporter;
+        }
+        return this.relImporters.computeIfAbsent(
+            relationshipType,
+            type -> newRelImporter(type, relationshipProperties)
+        );
+    }
+
+    private static double singlePropertyValue(PropertyValues relationshipProperties) {
+        var propertyValue = new double[1];
+        relationshipProperties.forEach((key, value) -> propertyValue[0] = RelationshipPropertyExtractor.extractValue(
+            value,
+            DefaultValue.DOUBLE_DEFAULT_FALLBACK
+        ));
+        return propertyValue[0];
+    }
+
+    private static double[] propertyValues(PropertyValues relationshipProperties) {
+        var propertyValues = new double[relationshipProperties.size()];
+        int[] index = {0};
+        relationshipProperties.forEach((key, value) -> {
+            var property = RelationshipPropertyExtractor.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            var i = index[0]++;
+            propertyValues[i] = property;
+        });
+        return propertyValues;
+    }
+
     public AggregationResult result(
         DatabaseInfo databaseInfo,
         ProgressTimer timer,
         boolean hasSeenArbitraryId
     ) {
+        if (this.streamingImporter != null) {
+            this.streamingImporter.flush();
+        }
         progressTracker.endSubTask("Update aggregation");
         progressTracker.beginSubTask("Build graph store");
         progressTracker.beginSubTask("Nodes");
@@ -272,15 +436,22 @@ public final class GraphImporter {
         .concurrency(this.config.readConcurrency())
         .usePooledBuilderProvider(true);
 
+    int propertyCount = 0;
     if (properties != null) {
         for (String propertyKey : properties.propertyKeys()) {
             relationshipsBuilderBuilder.addPropertyConfig(
                 ImmutablePropertyConfig.builder().propertyKey(propertyKey).build()
             );
+            propertyCount++;
         }
     }
 
-    return relationshipsBuilderBuilder.build();
+    var relationshipsBuilder = relationshipsBuilderBuilder.build();
+    if (this.streamingImporter != null) {
+        this.streamingImporter.register(relType, relationshipsBuilder, propertyCount);
+    }
+
+    return relationshipsBuilder;
 }
 
 /**
@@ -333,20 +504,22 @@ private void buildRelationshipsWithProperties(
     var relationshipImportResultBuilder = RelationshipImportResult.builder();
 
     var relationshipSchema = MutableRelationshipSchema.empty();
-    this.relImporters.forEach((relationshipType, relImporter) -> {
-        var relationships = relImporter.build(
+    // we release the reference to each builder as soon as its relationships are built,
+    // so that its intermediate buffers can be collected before the next type is built.
+    // we are only be called once and don't support double invocations of `result` building
+    var relImporters = this.relImporters.entrySet().iterator();
+    while (relImporters.hasNext()) {
+        var entry = relImporters.next();
+        relImporters.remove();
+        var relationships = entry.getValue().build(
             Optional.of(valueMapper),
             Optional.empty()
         );
         relationshipSchema.set(relationships.relationshipSchemaEntry());
-        relationshipImportResultBuilder.putImportResult(relationshipType, relationships);
-    });
+        relationshipImportResultBuilder.putImportResult(entry.getKey(), relationships);
+    }
 
     graphStoreBuilder.relationshipImportResult(relationshipImportResultBuilder.build());
     this.graphSchemaBuilder.relationshipSchema(relationshipSchema);
-
-    // release all references to the builders
-    // we are only be called once and don't support double invocations of `result` building
-    this.relImporters.clear();
 }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.projection;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.core.concurrency.Concurrency;
+import org.neo4j.gds.core.loading.construction.PropertyValues;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stages relationships in fixed-size batches and compresses full batches into their
+ * {@link RelationshipsBuilder} on the given executor. The threads producing the rows,
+ * i.e. the Cypher runtime, only copy ids and property values into a batch, while the
+ * compression into the adjacency buffers runs in parallel.
+ * <p>
+ * The number of batches is bounded by the concurrency. Once all of them are being flushed,
+ * producers block until a flush task hands a batch back.
+ */
+final class StreamingRelationshipImporter {
+
+    static final int DEFAULT_BATCH_SIZE = 10_000;
+    static final int MIN_BATCH_SIZE = 1_024;
+
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final BlockingQueue<Batch> batchPool;
+    private final AtomicInteger batchCount;
+    private final Map<RelationshipType, Stage> stages;
+    private final AtomicReference<Throwable> failure;
+
+    /**
+     * Splits the estimated rows evenly across the batches that can be in flight at the same time,
+     * so that small queries do not allocate full-size batches.
+     */
+    static int batchSize(int estimatedRows, Concurrency concurrency) {
+        if (estimatedRows < 0) {
+            return DEFAULT_BATCH_SIZE;
+        }
+        var rowsPerBatch = estimatedRows / concurrency.value();
+        return Math.max(MIN_BATCH_SIZE, Math.min(DEFAULT_BATCH_SIZE, rowsPerBatch));
+    }
+
+    StreamingRelationshipImporter(int batchSize, Concurrency concurrency, ExecutorService executor) {
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.batchPool = new LinkedBlockingQueue<>();
+        this.batchCount = new AtomicInteger();
+        this.stages = new ConcurrentHashMap<>();
+        this.failure = new AtomicReference<>();
+
+        for (int i = 0; i < concurrency.value(); i++) {
+            this.batchPool.add(newBatch());
+        }
+    }
+
+    /**
+     * Must be called exactly once per relationship type before relationships of that type are added.
+     */
+    void register(RelationshipType relationshipType, RelationshipsBuilder relationshipsBuilder, int propertyCount) {
+        var batch = newBatch();
+        batch.assign(relationshipsBuilder, propertyCount);
+        this.stages.put(relationshipType, new Stage(relationshipsBuilder, propertyCount, batch));
+    }
+
+    void add(
+        RelationshipType relationshipType,
+        long sourceNode,
+        long targetNode,
+        @Nullable PropertyValues relationshipProperties
+    ) {
+        this.stages.get(relationshipType).add(sourceNode, targetNode, relationshipProperties);
+    }
+
+    /**
+     * Flushes all partially filled batches and waits until every batch has been compressed.
+     */
+    void flush() {
+        this.stages.values().forEach(Stage::flush);
+        this.stages.clear();
+
+        // every batch returns to the pool once its flush task has finished
+        int batchCount = this.batchCount.get();
+        for (int i = 0; i < batchCount; i++) {
+            takeBatch();
+        }
+        this.batchPool.clear();
+
+        rethrowFailure();
+    }
+
+    private Batch newBatch() {
+        this.batchCount.incrementAndGet();
+        return new Batch(this.batchSize);
+    }
+
+    private Batch takeBatch() {
+        try {
+            return this.batchPool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void submit(Batch batch) {
+        Runnable task = () -> {
+            try {
+                if (this.failure.get() == null) {
+                    batch.flush();
+                }
+            } catch (Throwable e) {
+                this.failure.compareAndSet(null, e);
+            } finally {
+                batch.reset();
+                this.batchPool.add(batch);
+            }
+        };
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the batch must make it back into the pool, otherwise `flush` would wait forever
+            task.run();
+        }
+    }
+
+    private void rethrowFailure() {
+        var failure = this.failure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private final class Stage {
+        private final RelationshipsBuilder relationshipsBuilder;
+        private final int propertyCount;
+        private Batch current;
+
+        Stage(RelationshipsBuilder relationshipsBuilder, int propertyCount, Batch current) {
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.propertyCount = propertyCount;
+            this.current = current;
+        }
+
+        synchronized void add(long sourceNode, long targetNode, @Nullable PropertyValues relationshipProperties) {
+            var batch = this.current;
+            batch.add(sourceNode, targetNode, relationshipProperties);
+            if (batch.isFull()) {
+                rethrowFailure();
+                submit(batch);
+                var next = takeBatch();
+                next.assign(this.relationshipsBuilder, this.propertyCount);
+                this.current = next;
+            }
+        }
+
+        synchronized void flush() {
+            var batch = this.current;
+            if (batch.size > 0) {
+                submit(batch);
+            } else {
+                batch.reset();
+                batchPool.add(batch);
+            }
+            this.current = null;
+        }
+    }
+
+    private static final class Batch {
+        private static final double[] NO_PROPERTIES = new double[0];
+
+        private final long[] sources;
+        private final long[] targets;
+        private double[] properties;
+        private @Nullable RelationshipsBuilder relationshipsBuilder;
+        private int propertyCount;
+        private int size;
+
+        Batch(int capacity) {
+            this.sources = new long[capacity];
+            this.targets = new long[capacity];
+            this.properties = NO_PROPERTIES;
+        }
+
+        void assign(RelationshipsBuilder relationshipsBuilder, int propertyCount) {
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.propertyCount = propertyCount;
+            var requiredLength = this.sources.length * propertyCount;
+            if (this.properties.length < requiredLength) {
+                this.properties = new double[requiredLength];
+            }
+        }
+
+        void add(long sourceNode, long targetNode, @Nullable PropertyValues relationshipProperties) {
+            int index = this.size++;
+            this.sources[index] = sourceNode;
+            this.targets[index] = targetNode;
+
+            if (this.propertyCount > 0) {
+                int offset = index * this.propertyCount;
+                int end = offset + this.propertyCount;
+                Arrays.fill(this.properties, offset, end, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                if (relationshipProperties != null) {
+                    int[] position = {offset};
+                    relationshipProperties.forEach((key, value) -> {
+                        if (position[0] < end) {
+                            this.properties[position[0]++] = RelationshipPropertyExtractor.extractValue(
+                                value,
+                                DefaultValue.DOUBLE_DEFAULT_FALLBACK
+                            );
+                        }
+                    });
+                }
+            }
+        }
+
+        boolean isFull() {
+            return this.size == this.sources.length;
+        }
+
+        void flush() {
+            var relationshipsBuilder = this.relationshipsBuilder;
+            int propertyCount = this.propertyCount;
+
+            if (propertyCount == 0) {
+                for (int i = 0; i < this.size; i++) {
+                    relationshipsBuilder.addFromInternal(this.sources[i], this.targets[i]);
+                }
+            } else if (propertyCount == 1) {
+                for (int i = 0; i < this.size; i++) {
+                    relationshipsBuilder.addFromInternal(this.sources[i], this.targets[i], this.properties[i]);
+                }
+            } else {
+                // the local builders copy the values, so we can reuse the array
+                var propertyValues = new double[propertyCount];
+                for (int i = 0; i < this.size; i++) {
+                    System.arraycopy(this.properties, i * propertyCount, propertyValues, 0, propertyCount);
+                    relationshipsBuilder.addFromInternal(this.sources[i], this.targets[i], propertyValues);
+                }
+            }
+        }
+
+        void reset() {
+            this.size = 0;
+            this.relationshipsBuilder = null;
+        }
+    }
+}
@@ -44,8 +44,12 @@ import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.gds.logging.LogAdapter;
 import org.neo4j.gds.values.primitive.PrimitiveValues;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -326,6 +330,140 @@ class GraphImporterTest {
         );
     }
 
+    @Test
+    void shouldImportRelationshipsInStreamingMode() {
+        var importer = new GraphImporter(
+            GraphProjectConfig.emptyWithName("", "g"),
+            List.of(),
+            List.of(),
+            new LazyIdMapBuilderBuilder()
+                .concurrency(new Concurrency(4))
+                .hasLabelInformation(true)
+                .hasProperties(true)
+                .propertyState(PropertyState.REMOTE)
+                .build(),
+            Capabilities.WriteMode.REMOTE,
+            "",
+            ProgressTracker.NULL_TRACKER,
+            // smaller than the number of relationships per type to exercise the hand-over of full batches
+            2
+        );
+
+        for (int i = 0; i < 5; i++) {
+            importer.update(
+                i,
+                i + 1,
+                null,
+                null,
+                NodeLabelTokens.empty(),
+                NodeLabelTokens.empty(),
+                RelationshipType.of("REL"),
+                PropertyValues.of(Map.of("prop", PrimitiveValues.longValue(i)))
+            );
+            importer.update(
+                i + 1,
+                i,
+                null,
+                null,
+                NodeLabelTokens.empty(),
+                NodeLabelTokens.empty(),
+                RelationshipType.of("BACK"),
+                null
+            );
+        }
+
+        var result = importer.result(
+            DatabaseInfo.of(DatabaseId.EMPTY, DatabaseInfo.DatabaseLocation.LOCAL),
+            ProgressTimer.start(),
+            true
+        );
+
+        assertThat(result.nodeCount()).isEqualTo(6);
+        assertThat(result.relationshipCount()).isEqualTo(10);
+        var graphStore = GraphStoreCatalog.get("", "", "g").graphStore();
+        assertGraphEquals(
+            fromGdl("(a)-[:REL {prop: 0}]->(b)-[:REL {prop: 1}]->(c)-[:REL {prop: 2}]->(d)-[:REL {prop: 3}]->(e)-[:REL {prop: 4}]->(f)"),
+            graphStore.getGraph(RelationshipType.of("REL"), Optional.of("prop"))
+        );
+        assertGraphEquals(
+            fromGdl("(a)<-[:BACK]-(b)<-[:BACK]-(c)<-[:BACK]-(d)<-[:BACK]-(e)<-[:BACK]-(f)"),
+            graphStore.getGraph(RelationshipType.of("BACK"))
+        );
+    }
+
+    @Test
+    void shouldMergePartitionsThatAreUsedConcurrently() throws Exception {
+        var importer = new GraphImporter(
+            GraphProjectConfig.emptyWithName("", "g"),
+            List.of(),
+            List.of(),
+            new LazyIdMapBuilderBuilder()
+                .concurrency(new Concurrency(4))
+                .hasLabelInformation(true)
+                .hasProperties(true)
+                .propertyState(PropertyState.REMOTE)
+                .build(),
+            Capabilities.WriteMode.REMOTE,
+            "",
+            ProgressTracker.NULL_TRACKER
+        );
+
+        int partitionCount = 4;
+        int relationshipsPerPartition = 10_000;
+        var executor = Executors.newFixedThreadPool(partitionCount);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int p = 0; p < partitionCount; p++) {
+                long offset = (long) p * relationshipsPerPartition;
+                futures.add(executor.submit(() -> {
+                    var partition = importer.partition();
+                    for (long i = offset; i < offset + relationshipsPerPartition; i++) {
+                        partition.update(
+                            i,
+                            i + 1,
+                            null,
+                            null,
+                            NodeLabelTokens.empty(),
+                            NodeLabelTokens.empty(),
+                            RelationshipType.ALL_RELATIONSHIPS,
+                            PropertyValues.of(Map.of("prop", PrimitiveValues.longValue(i)))
+                        );
+                    }
+                    // leave the last partition to be flushed when building the graph
+                    if (offset > 0) {
+                        partition.flush();
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        var result = importer.result(
+            DatabaseInfo.of(DatabaseId.EMPTY, DatabaseInfo.DatabaseLocation.LOCAL),
+            ProgressTimer.start(),
+            true
+        );
+
+        long relationshipCount = (long) partitionCount * relationshipsPerPartition;
+        assertThat(result.nodeCount()).isEqualTo(relationshipCount + 1);
+        assertThat(result.relationshipCount()).isEqualTo(relationshipCount);
+
+        var graph = GraphStoreCatalog.get("", "", "g").graphStore().getGraph("prop");
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long originalId = graph.toOriginalNodeId(nodeId);
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                assertThat(graph.toOriginalNodeId(target)).isEqualTo(originalId + 1);
+                assertThat(property).isEqualTo((double) originalId);
+                return true;
+            });
+            assertThat(graph.degree(nodeId)).isEqualTo(originalId < relationshipCount ? 1 : 0);
+        }
+    }
+
     @Test
     void shouldFailImportWithUnusedUndirectedRelationshipType() {
         var importer = new GraphImporter(GraphProjectConfig.emptyWithName("", "g"),